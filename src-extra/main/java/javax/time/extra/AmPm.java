@@ -177,6 +177,16 @@ public enum AmPm implements AdjustableDateTime, DateTimeAdjuster {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field == AMPM_OF_DAY) {
+            return true;
+        } else if (field instanceof LocalDateTimeField) {
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field == AMPM_OF_DAY) {
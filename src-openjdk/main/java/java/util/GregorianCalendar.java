@@ -3379,6 +3379,14 @@ public class GregorianCalendar extends Calendar implements DateTime {
         return ZonedDateTime.ofInstant(instant, zone);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return toZonedDateTime().isSupported(field);
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public DateTimeValueRange range(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
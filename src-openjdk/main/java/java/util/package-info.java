@@ -48,7 +48,8 @@
  * {@link javax.time.OffsetDate}, {@link javax.time.OffsetTime}, and
  * {@link javax.time.ZonedDateTime}.
  * GregorianCalendar implements the {@link javax.time.calendrical.DateTime} Interface,
- * so its fields can be accessed with {@link javax.time.calendrical.DateTime#get},
+ * so its fields can be accessed with {@link javax.time.calendrical.DateTime#isSupported},
+ * {@link javax.time.calendrical.DateTime#get},
  * {@link javax.time.calendrical.DateTime#with}, {@link javax.time.calendrical.DateTime#extract}.
  *
  */
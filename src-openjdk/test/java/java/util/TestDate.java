@@ -82,6 +82,9 @@ public class TestDate {
         System.out.println("Success: " + success);
         System.out.println("Failure: " + failure);
         System.out.println("Error:   " + error);
+        if (failure > 0 || error > 0) {
+            System.exit(1);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -47,6 +47,7 @@ import javax.time.OffsetDate;
 import javax.time.OffsetDateTime;
 import javax.time.OffsetTime;
 import javax.time.ZonedDateTime;
+import javax.time.calendrical.LocalDateTimeField;
 
 /**
  * Test java.util.GregorianCalendar additional methods.
@@ -89,6 +90,9 @@ public class TestGregorianCalendar {
         System.out.println("Success: " + success);
         System.out.println("Failure: " + failure);
         System.out.println("Error:   " + error);
+        if (failure > 0 || error > 0) {
+            System.exit(1);
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -685,4 +689,17 @@ public class TestGregorianCalendar {
         }
     }
 
+    public void test_isSupported() {
+        GregorianCalendar gcal = new GregorianCalendar(TimeZone.getTimeZone("Europe/Paris"));
+        ZonedDateTime zdt = gcal.toZonedDateTime();
+        for (LocalDateTimeField field : LocalDateTimeField.values()) {
+            assertEquals(gcal.isSupported(field), zdt.isSupported(field), field.getName());
+            if (gcal.isSupported(field)) {
+                assertEquals(gcal.get(field), zdt.get(field), field.getName());
+            }
+        }
+        assertEquals(gcal.isSupported(LocalDateTimeField.WEEK_OF_MONTH), false);
+        assertEquals(gcal.isSupported(LocalDateTimeField.YEAR), true);
+    }
+
 }
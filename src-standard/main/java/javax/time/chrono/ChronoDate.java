@@ -436,13 +436,24 @@ public abstract class ChronoDate
      * If this occurs, then other fields, typically the day-of-month, will be adjusted to ensure
      * that the result is valid. Typically this will select the last valid day of the month.
      * <p>
+     * The default implementation uses the epoch-day conversions of the chronology,
+     * keeping the month-of-year and selecting the last valid day of the month.
+     * <p>
      * This instance is immutable and unaffected by this method call.
      *
      * @param yearsToAdd  the years to add, may be negative
      * @return a date based on this one with the years added, not null
      * @throws DateTimeException if the result exceeds the supported date range
      */
-    public abstract ChronoDate plusYears(long yearsToAdd);
+    public ChronoDate plusYears(long yearsToAdd) {
+        if (yearsToAdd == 0) {
+            return this;
+        }
+        Chronology chrono = getChronology();
+        long packed = chrono.packedDate(toEpochDay());
+        int year = DateTimes.safeToInt(DateTimes.safeAdd(Chronology.packedYear(packed), yearsToAdd));
+        return resolvePreviousValid(chrono, year, Chronology.packedMonth(packed), Chronology.packedDayOfMonth(packed));
+    }
 
     /**
      * Returns a copy of this date with the specified period in months added.
@@ -452,13 +463,45 @@ public abstract class ChronoDate
      * If this occurs, then other fields, typically the day-of-month, will be adjusted to ensure
      * that the result is valid. Typically this will select the last valid day of the month.
      * <p>
+     * The default implementation uses the epoch-day conversions of the chronology,
+     * selecting the last valid day of the month. Every year is assumed to have
+     * {@link Chronology#monthsPerYear()} months.
+     * <p>
      * This instance is immutable and unaffected by this method call.
      *
      * @param monthsToAdd  the months to add, may be negative
      * @return a date based on this one with the months added, not null
      * @throws DateTimeException if the result exceeds the supported date range
      */
-    public abstract ChronoDate plusMonths(long monthsToAdd);
+    public ChronoDate plusMonths(long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return this;
+        }
+        Chronology chrono = getChronology();
+        long packed = chrono.packedDate(toEpochDay());
+        int monthsInYear = chrono.monthsPerYear();
+        long monthCount = Chronology.packedYear(packed) * (long) monthsInYear + Chronology.packedMonth(packed) - 1;
+        long calcMonths = DateTimes.safeAdd(monthCount, monthsToAdd);
+        int year = DateTimes.safeToInt(DateTimes.floorDiv(calcMonths, monthsInYear));
+        int month = DateTimes.floorMod(calcMonths, monthsInYear) + 1;
+        return resolvePreviousValid(chrono, year, month, Chronology.packedDayOfMonth(packed));
+    }
+
+    /**
+     * Creates a date from the fields, selecting the last valid day of the month
+     * if the day-of-month is too large.
+     *
+     * @param chrono  the chronology, not null
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year
+     * @param dayOfMonth  the day-of-month
+     * @return the date, not null
+     * @throws DateTimeException if the year or month is invalid
+     */
+    private static ChronoDate resolvePreviousValid(Chronology chrono, int prolepticYear, int month, int dayOfMonth) {
+        int day = Math.min(dayOfMonth, chrono.lengthOfMonth(prolepticYear, month));
+        return chrono.dateFromEpochDay(chrono.epochDay(prolepticYear, month, day));
+    }
 
     /**
      * Returns a copy of this date with the specified period in weeks added.
@@ -484,13 +527,20 @@ public abstract class ChronoDate
      * <p>
      * This adds the specified period in days to the date.
      * <p>
+     * The default implementation uses {@link #toEpochDay()} and {@link Chronology#dateFromEpochDay(long)}.
+     * <p>
      * This instance is immutable and unaffected by this method call.
      *
      * @param daysToAdd  the days to add, may be negative
      * @return a date based on this one with the days added, not null
      * @throws DateTimeException if the result exceeds the supported date range
      */
-    public abstract ChronoDate plusDays(long daysToAdd);
+    public ChronoDate plusDays(long daysToAdd) {
+        if (daysToAdd == 0) {
+            return this;
+        }
+        return getChronology().dateFromEpochDay(DateTimes.safeAdd(toEpochDay(), daysToAdd));
+    }
 
     //-----------------------------------------------------------------------
     /**
@@ -684,8 +734,7 @@ public abstract class ChronoDate
      * To compare the underlying local date of two {@code DateTime} instances, use
      * {@link LocalDateTimeField#EPOCH_DAY} as a comparator.
      * <p>
-     * The default implementation uses {@link #getChronology()}, {@link #getEra()},
-     * {@link #getYearOfEra()}, {@link #getMonth()} and {@link #getDayOfMonth()}.
+     * The default implementation uses {@link #getChronology()} and {@link #toEpochDay()}.
      *
      * @param other  the other date to compare to, not null
      * @return the comparator value, negative if less, positive if greater
@@ -697,17 +746,7 @@ public abstract class ChronoDate
             throw new ClassCastException("Cannot compare ChronoDate in two different calendar systems, " +
             		"use the EPOCH_DAY field as a Comparator instead");
         }
-        int cmp = DateTimes.safeCompare(getEra().getValue(), other.getEra().getValue());
-        if (cmp == 0) {
-            cmp = DateTimes.safeCompare(getYearOfEra(), other.getYearOfEra());
-            if (cmp == 0) {
-                cmp = DateTimes.safeCompare(getMonth(), other.getMonth());
-                if (cmp == 0) {
-                    cmp = DateTimes.safeCompare(getDayOfMonth(), other.getDayOfMonth());
-                }
-            }
-        }
-        return cmp;
+        return DateTimes.safeCompare(toEpochDay(), other.toEpochDay());
     }
 
     //-----------------------------------------------------------------------
@@ -31,11 +31,21 @@
  */
 package javax.time.chrono;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.time.Clock;
 import javax.time.DateTimeException;
@@ -68,12 +78,34 @@ import javax.time.calendrical.LocalDateTimeField;
  * <li> {@link #date(javax.time.calendrical.DateTime) date(Calendrical)}
  * <li> {@link #dateFromEpochDay(long) dateFromEpochDay(epochDay)}
  * </ul>
+ * <p>
+ * The {@code Chrono} class also converts between the epoch-day and the proleptic-year,
+ * month-of-year and day-of-month fields without creating dates.
+ * <ul>
+ * <li> {@link #epochDay(int, int, int) epochDay(year, month, day)}
+ * <li> {@link #packedDate(long) packedDate(epochDay)}
+ * <li> {@link #lengthOfMonth(int, int) lengthOfMonth(year, month)}
+ * <li> {@link #monthsPerYear() monthsPerYear()}
+ * </ul>
+ * The generic arithmetic in {@link ChronoDate} is built on these conversions,
+ * as are the bulk conversions between arrays of epoch-days and columns of fields.
+ * <ul>
+ * <li> {@link #epochDaysToFields(long[], int[], int[], int[]) epochDaysToFields(epochDays, years, months, days)}
+ * <li> {@link #fieldsToEpochDays(int[], int[], int[], long[]) fieldsToEpochDays(years, months, days, epochDays)}
+ * </ul>
  *
  * <h4 id="addcalendars">Adding New Calendars</h4>
  * <p>
  * A new calendar system may be defined and registered with this factory.
  * Implementors must provide a subclass of this class and the matching {@code ChronoDate}.
- * The {@link java.util.ServiceLoader} mechanism is then used to register the calendar.
+ * Each instance registers itself when created.
+ * The {@link java.util.ServiceLoader} mechanism is used to find and create calendar systems
+ * that have a public no-argument constructor. The service providers are only loaded when
+ * a calendar system is requested that is not supplied with this library, or when the
+ * available names are requested.
+ * <p>
+ * The calendar systems supplied with this library are initialized when first requested,
+ * thus an application using only the ISO calendar system does not initialize the others.
  * 
  * <h4>Implementation notes</h4>
  * This interface must be implemented with care to ensure other classes operate correctly.
@@ -83,28 +115,15 @@ import javax.time.calendrical.LocalDateTimeField;
 public abstract class Chronology {
 
     /**
-     * Map of available calendars by name.
+     * The names of the calendar systems supplied with this library.
      */
-    private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_NAME;
+    private static final String[] BUILT_IN_NAMES = {
+        "Coptic", "Hijrah", "ISO", "Japanese", "Minguo", "ThaiBuddhist",
+    };
     /**
-     * Map of available calendars by locale id.
+     * The registry of calendar systems that have been created, initially empty.
      */
-    private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_ID;
-    static {
-        // TODO: defer initialization?
-        ConcurrentHashMap<String, Chronology> names = new ConcurrentHashMap<String, Chronology>();
-        ConcurrentHashMap<String, Chronology> ids = new ConcurrentHashMap<String, Chronology>();
-        ServiceLoader<Chronology> loader =  ServiceLoader.load(Chronology.class);
-        for (Chronology chronology : loader) {
-            names.putIfAbsent(chronology.getName(), chronology);
-            String id = chronology.getLocaleId();
-            if (id != null) {
-                ids.putIfAbsent(id, chronology);
-            }
-        }
-        CHRONOS_BY_NAME = names;
-        CHRONOS_BY_ID = ids;
-    }
+    private static final AtomicReference<Registry> REGISTRY = new AtomicReference<>(Registry.EMPTY);
 
     //-----------------------------------------------------------------------
     /**
@@ -146,9 +165,16 @@ public abstract class Chronology {
         } else if ("iso".equals(localeId)) {
             return ISOChronology.INSTANCE;
         } else {
-            Chronology chrono = CHRONOS_BY_ID.get(localeId);
+            Chronology chrono = builtInById(localeId);
+            if (chrono == null) {
+                chrono = REGISTRY.get().byId.get(localeId);
+            }
             if (chrono == null) {
-                throw new DateTimeException("Unknown Chrono calendar system: " + localeId);
+                ServiceProviders.load();
+                chrono = REGISTRY.get().byId.get(localeId);
+            }
+            if (chrono == null) {
+                throw new DateTimeException("Unknown Chrono calendar system: " + localeId, ServiceProviders.FAILURE);
             }
             return chrono;
         }
@@ -169,9 +195,17 @@ public abstract class Chronology {
      * @throws DateTimeException if the named calendar cannot be found
      */
     public static Chronology ofName(String name) {
-        Chronology chrono = CHRONOS_BY_NAME.get(name);
+        DateTimes.checkNotNull(name, "Name must not be null");
+        Chronology chrono = builtInByName(name);
+        if (chrono == null) {
+            chrono = REGISTRY.get().byName.get(name);
+        }
+        if (chrono == null) {
+            ServiceProviders.load();
+            chrono = REGISTRY.get().byName.get(name);
+        }
         if (chrono == null) {
-            throw new DateTimeException("Unknown Chrono calendar system: " + name);
+            throw new DateTimeException("Unknown Chrono calendar system: " + name, ServiceProviders.FAILURE);
         }
         return chrono;
     }
@@ -184,19 +218,207 @@ public abstract class Chronology {
      * @return the independent, modifiable set of the available calendar systems, not null
      */
     public static Set<String> getAvailableNames() {
-        return new HashSet<String>(CHRONOS_BY_NAME.keySet());
+        ServiceProviders.load();
+        Set<String> names = new HashSet<String>(REGISTRY.get().byName.keySet());
+        names.addAll(Arrays.asList(BUILT_IN_NAMES));
+        return names;
+    }
+
+    /**
+     * Gets a calendar system supplied with this library by name.
+     * <p>
+     * Only the class of the matching calendar system is initialized.
+     *
+     * @param name  the calendar system name, not null
+     * @return the calendar system, null if not supplied with this library
+     */
+    private static Chronology builtInByName(String name) {
+        switch (name) {
+            case "Coptic":
+                return CopticChronology.INSTANCE;
+            case "Hijrah":
+                return HijrahChronology.INSTANCE;
+            case "ISO":
+                return ISOChronology.INSTANCE;
+            case "Japanese":
+                return JapaneseChronology.INSTANCE;
+            case "Minguo":
+                return MinguoChronology.INSTANCE;
+            case "ThaiBuddhist":
+                return ThaiBuddhistChronology.INSTANCE;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Gets a calendar system supplied with this library by locale identifier.
+     * <p>
+     * Only the class of the matching calendar system is initialized.
+     *
+     * @param localeId  the locale identifier, not null
+     * @return the calendar system, null if not supplied with this library
+     */
+    private static Chronology builtInById(String localeId) {
+        switch (localeId) {
+            case "coptic":
+                return CopticChronology.INSTANCE;
+            case "islamic":
+                return HijrahChronology.INSTANCE;
+            case "japanese":
+                return JapaneseChronology.INSTANCE;
+            case "roc":
+                return MinguoChronology.INSTANCE;
+            case "buddhist":
+                return ThaiBuddhistChronology.INSTANCE;
+            default:
+                return null;
+        }
     }
 
     //-----------------------------------------------------------------------
     /**
      * Creates an instance.
+     * <p>
+     * The instance is registered by name and locale identifier, unless a calendar
+     * system is already registered with the same name or identifier.
+     * Since this happens during construction, the name and identifier must not
+     * depend on the state of the subclass.
      */
     protected Chronology() {
         // register the subclass
-        CHRONOS_BY_NAME.putIfAbsent(this.getName(), this);
-        String localeId = this.getLocaleId();
-        if (localeId != null) {
-            CHRONOS_BY_ID.putIfAbsent(localeId, this);
+        register(this);
+    }
+
+    /**
+     * Registers the calendar system by name and locale identifier, if not already registered.
+     * <p>
+     * Registration does not lock. A new snapshot of the registry is published atomically,
+     * retrying if another registration was published first.
+     *
+     * @param chrono  the calendar system to register, not null
+     */
+    private static void register(Chronology chrono) {
+        String name = chrono.getName();
+        if (name == null) {
+            return;
+        }
+        String localeId = chrono.getLocaleId();
+        while (true) {
+            Registry current = REGISTRY.get();
+            Registry updated = current.with(name, localeId, chrono);
+            if (updated == current || REGISTRY.compareAndSet(current, updated)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of the registered calendar systems.
+     */
+    private static final class Registry {
+        /** The registry before any registration. */
+        static final Registry EMPTY = new Registry(
+                Collections.<String, Chronology>emptyMap(), Collections.<String, Chronology>emptyMap());
+        /** The calendar systems keyed by name. */
+        final Map<String, Chronology> byName;
+        /** The calendar systems keyed by locale identifier. */
+        final Map<String, Chronology> byId;
+
+        Registry(Map<String, Chronology> byName, Map<String, Chronology> byId) {
+            this.byName = byName;
+            this.byId = byId;
+        }
+
+        /**
+         * Returns a copy of this registry with the calendar system added,
+         * keeping any calendar system already registered with the same name or identifier.
+         *
+         * @return the updated registry, this registry if unchanged
+         */
+        Registry with(String name, String localeId, Chronology chrono) {
+            boolean addName = byName.containsKey(name) == false;
+            boolean addId = localeId != null && byId.containsKey(localeId) == false;
+            if (addName == false && addId == false) {
+                return this;
+            }
+            Map<String, Chronology> names = byName;
+            if (addName) {
+                names = new HashMap<>(byName);
+                names.put(name, chrono);
+            }
+            Map<String, Chronology> ids = byId;
+            if (addId) {
+                ids = new HashMap<>(byId);
+                ids.put(localeId, chrono);
+            }
+            return new Registry(names, ids);
+        }
+    }
+
+    /**
+     * Holder for the calendar systems found by the {@link ServiceLoader}.
+     * <p>
+     * The service providers are loaded when this class is initialized, which happens
+     * the first time a calendar system is requested that is not supplied with this library.
+     * A provider that fails to load is skipped, and the remaining providers are still loaded.
+     * A failure to find the providers stops the loading instead, as the {@code ServiceLoader}
+     * only makes a best effort to move past it and may fail again on every call.
+     * This is any failure of {@code hasNext()}, or a failure of {@code next()} caused by an
+     * {@code IOException} reading the configuration files, which newer loaders defer to {@code next()}.
+     * The failures are reported as the cause when a calendar system cannot be found.
+     */
+    private static final class ServiceProviders {
+        /**
+         * The first provider failure, with any later failures suppressed, null if none.
+         */
+        static final Throwable FAILURE;
+        static {
+            Throwable failure = null;
+            Iterator<Chronology> it = ServiceLoader.load(Chronology.class).iterator();
+            while (true) {
+                try {
+                    if (it.hasNext() == false) {
+                        break;
+                    }
+                } catch (ServiceConfigurationError ex) {
+                    failure = addFailure(failure, ex);
+                    break;
+                }
+                try {
+                    register(it.next());
+                } catch (ServiceConfigurationError ex) {
+                    failure = addFailure(failure, ex);
+                    if (ex.getCause() instanceof IOException) {
+                        break;
+                    }
+                } catch (RuntimeException ex) {
+                    failure = addFailure(failure, ex);
+                }
+            }
+            FAILURE = failure;
+        }
+
+        /**
+         * Combines a provider failure with the earlier failures.
+         *
+         * @param failure  the earlier failures, null if none
+         * @param ex  the new failure, not null
+         * @return the combined failure, not null
+         */
+        private static Throwable addFailure(Throwable failure, Throwable ex) {
+            if (failure == null) {
+                return ex;
+            }
+            failure.addSuppressed(ex);
+            return failure;
+        }
+
+        /**
+         * Ensures the service providers have been loaded.
+         */
+        static void load() {
+            // initializing the class loads the providers
         }
     }
 
@@ -333,6 +555,300 @@ public abstract class Chronology {
         return dateFromEpochDay(LocalDate.now(clock).toEpochDay());
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day from the proleptic-year, month-of-year and day-of-month fields.
+     * <p>
+     * This is the inverse of {@link #packedDate(long)}.
+     * Subclasses should override this to calculate the epoch-day without creating a date.
+     * <p>
+     * The default implementation uses {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the calendar system proleptic-year
+     * @param month  the calendar system month-of-year
+     * @param dayOfMonth  the calendar system day-of-month
+     * @return the epoch day measured from 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        return date(prolepticYear, month, dayOfMonth).toEpochDay();
+    }
+
+    /**
+     * Converts the epoch-day to the proleptic-year, month-of-year and day-of-month fields.
+     * <p>
+     * The three fields are returned packed into a single {@code long} to avoid allocation.
+     * They are extracted using {@link #packedYear(long)}, {@link #packedMonth(long)}
+     * and {@link #packedDayOfMonth(long)}.
+     * Subclasses should override this to calculate the fields without creating a date.
+     * <p>
+     * The default implementation uses {@link #dateFromEpochDay(long)}.
+     *
+     * @param epochDay  the epoch day measured from 1970-01-01 (ISO)
+     * @return the packed date, see {@link #packDate(int, int, int)}
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    public long packedDate(long epochDay) {
+        ChronoDate date = dateFromEpochDay(epochDay);
+        return packDate(prolepticYear(date.getEra(), date.getYearOfEra()), date.getMonth(), date.getDayOfMonth());
+    }
+
+    /**
+     * Gets the length of the specified month in days.
+     * <p>
+     * The default implementation uses {@link #date(int, int, int)}.
+     *
+     * @param prolepticYear  the calendar system proleptic-year
+     * @param month  the calendar system month-of-year
+     * @return the length of the month in days
+     * @throws DateTimeException if the year or month is invalid
+     */
+    public int lengthOfMonth(int prolepticYear, int month) {
+        return date(prolepticYear, month, 1).lengthOfMonth();
+    }
+
+    /**
+     * Gets the number of months in every year of the calendar system.
+     * <p>
+     * This is used by the generic month arithmetic in {@link ChronoDate}.
+     * The default implementation uses the maximum of the month-of-year range.
+     * Implementations should override this to return a constant.
+     *
+     * @return the number of months in a year
+     */
+    public int monthsPerYear() {
+        return (int) range(LocalDateTimeField.MONTH_OF_YEAR).getMaximum();
+    }
+
+    /**
+     * Packs the proleptic-year, month-of-year and day-of-month fields into a {@code long}.
+     * <p>
+     * The year occupies the high 32 bits, the month the next 16 bits and the day the low 16 bits.
+     * Packed dates of the same chronology order in the same way as the dates themselves.
+     *
+     * @param prolepticYear  the proleptic-year
+     * @param month  the month-of-year, from 0 to 65535
+     * @param dayOfMonth  the day-of-month, from 0 to 65535
+     * @return the packed date
+     */
+    public static long packDate(int prolepticYear, int month, int dayOfMonth) {
+        return ((long) prolepticYear << 32) | ((long) month << 16) | dayOfMonth;
+    }
+
+    /**
+     * Extracts the proleptic-year from a packed date.
+     *
+     * @param packedDate  the packed date, from {@link #packDate(int, int, int)}
+     * @return the proleptic-year
+     */
+    public static int packedYear(long packedDate) {
+        return (int) (packedDate >> 32);
+    }
+
+    /**
+     * Extracts the month-of-year from a packed date.
+     *
+     * @param packedDate  the packed date, from {@link #packDate(int, int, int)}
+     * @return the month-of-year
+     */
+    public static int packedMonth(long packedDate) {
+        return ((int) packedDate) >>> 16;
+    }
+
+    /**
+     * Extracts the day-of-month from a packed date.
+     *
+     * @param packedDate  the packed date, from {@link #packDate(int, int, int)}
+     * @return the day-of-month
+     */
+    public static int packedDayOfMonth(long packedDate) {
+        return ((int) packedDate) & 0xFFFF;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Converts an array of epoch-days to columns of proleptic-year, month-of-year and day-of-month.
+     * <p>
+     * Element {@code i} of each column is set from element {@code i} of the epoch-days,
+     * using {@link #packedDate(long)} without creating any dates.
+     * If an exception is thrown the columns may have been partly filled.
+     *
+     * @param epochDays  the epoch days measured from 1970-01-01 (ISO), not null
+     * @param years  the column to fill with the proleptic-years, not null
+     * @param months  the column to fill with the months-of-year, not null
+     * @param daysOfMonth  the column to fill with the days-of-month, not null
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    public void epochDaysToFields(long[] epochDays, int[] years, int[] months, int[] daysOfMonth) {
+        checkColumns(epochDays, years, months, daysOfMonth);
+        BulkTask.toFields(this, epochDays, years, months, daysOfMonth, 0, epochDays.length);
+    }
+
+    /**
+     * Converts an array of epoch-days to columns of fields, splitting large arrays across threads.
+     * <p>
+     * This produces the same result as {@link #epochDaysToFields(long[], int[], int[], int[])}.
+     * Large arrays are converted in parallel, using a pool shared by all calls with one thread
+     * per available processor. This method blocks until all the elements are converted.
+     *
+     * @param epochDays  the epoch days measured from 1970-01-01 (ISO), not null
+     * @param years  the column to fill with the proleptic-years, not null
+     * @param months  the column to fill with the months-of-year, not null
+     * @param daysOfMonth  the column to fill with the days-of-month, not null
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     * @throws DateTimeException if an epoch-day is outside the supported range
+     */
+    public void epochDaysToFieldsParallel(long[] epochDays, int[] years, int[] months, int[] daysOfMonth) {
+        checkColumns(epochDays, years, months, daysOfMonth);
+        BulkTask.invoke(new BulkTask(this, true, epochDays, years, months, daysOfMonth, 0, epochDays.length));
+    }
+
+    /**
+     * Converts columns of proleptic-year, month-of-year and day-of-month to an array of epoch-days.
+     * <p>
+     * Element {@code i} of the epoch-days is set from element {@code i} of each column,
+     * using {@link #epochDay(int, int, int)} without creating any dates.
+     * If an exception is thrown the epoch-days may have been partly filled.
+     *
+     * @param years  the proleptic-years, not null
+     * @param months  the months-of-year, not null
+     * @param daysOfMonth  the days-of-month, not null
+     * @param epochDays  the array to fill with the epoch days measured from 1970-01-01 (ISO), not null
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     * @throws DateTimeException if any date is invalid
+     */
+    public void fieldsToEpochDays(int[] years, int[] months, int[] daysOfMonth, long[] epochDays) {
+        checkColumns(epochDays, years, months, daysOfMonth);
+        BulkTask.toEpochDays(this, epochDays, years, months, daysOfMonth, 0, epochDays.length);
+    }
+
+    /**
+     * Converts columns of fields to an array of epoch-days, splitting large arrays across threads.
+     * <p>
+     * This produces the same result as {@link #fieldsToEpochDays(int[], int[], int[], long[])}.
+     * Large arrays are converted in parallel, using a pool shared by all calls with one thread
+     * per available processor. This method blocks until all the elements are converted.
+     *
+     * @param years  the proleptic-years, not null
+     * @param months  the months-of-year, not null
+     * @param daysOfMonth  the days-of-month, not null
+     * @param epochDays  the array to fill with the epoch days measured from 1970-01-01 (ISO), not null
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     * @throws DateTimeException if any date is invalid
+     */
+    public void fieldsToEpochDaysParallel(int[] years, int[] months, int[] daysOfMonth, long[] epochDays) {
+        checkColumns(epochDays, years, months, daysOfMonth);
+        BulkTask.invoke(new BulkTask(this, false, epochDays, years, months, daysOfMonth, 0, epochDays.length));
+    }
+
+    /**
+     * Checks that the epoch-days and the columns of fields are not null and the same length.
+     */
+    private static void checkColumns(long[] epochDays, int[] years, int[] months, int[] daysOfMonth) {
+        DateTimes.checkNotNull(epochDays, "Epoch days must not be null");
+        DateTimes.checkNotNull(years, "Years must not be null");
+        DateTimes.checkNotNull(months, "Months must not be null");
+        DateTimes.checkNotNull(daysOfMonth, "Days of month must not be null");
+        int length = epochDays.length;
+        if (years.length != length || months.length != length || daysOfMonth.length != length) {
+            throw new IllegalArgumentException("Arrays must be the same length: " + length + ", " +
+                    years.length + ", " + months.length + ", " + daysOfMonth.length);
+        }
+    }
+
+    /**
+     * Holder for the pool used by the parallel bulk conversions.
+     * <p>
+     * The pool is created the first time a large array is converted in parallel.
+     * It has one daemon thread per available processor and is never shut down.
+     */
+    private static final class SharedPool {
+        static final ForkJoinPool POOL = new ForkJoinPool();
+    }
+
+    /**
+     * Task to convert a range of elements in either direction, split until small enough.
+     */
+    private static final class BulkTask extends RecursiveAction {
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The number of elements below which the range is converted directly. */
+        static final int THRESHOLD = 8192;
+        /** The chronology. */
+        private final Chronology chrono;
+        /** True to convert epoch-days to fields, false for the reverse. */
+        private final boolean toFields;
+        /** The epoch-days. */
+        private final long[] epochDays;
+        /** The proleptic-years. */
+        private final int[] years;
+        /** The months-of-year. */
+        private final int[] months;
+        /** The days-of-month. */
+        private final int[] daysOfMonth;
+        /** The start index, inclusive. */
+        private final int start;
+        /** The end index, exclusive. */
+        private final int end;
+
+        BulkTask(Chronology chrono, boolean toFields, long[] epochDays, int[] years, int[] months, int[] daysOfMonth, int start, int end) {
+            this.chrono = chrono;
+            this.toFields = toFields;
+            this.epochDays = epochDays;
+            this.years = years;
+            this.months = months;
+            this.daysOfMonth = daysOfMonth;
+            this.start = start;
+            this.end = end;
+        }
+
+        static void invoke(BulkTask task) {
+            int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), (task.end - task.start) / THRESHOLD);
+            if (parallelism <= 1) {
+                task.convert();
+            } else if (ForkJoinTask.inForkJoinPool()) {
+                task.invoke();  // already in a pool, so split across its threads
+            } else {
+                SharedPool.POOL.invoke(task);
+            }
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= THRESHOLD) {
+                convert();
+            } else {
+                int mid = (start + end) >>> 1;
+                invokeAll(new BulkTask(chrono, toFields, epochDays, years, months, daysOfMonth, start, mid),
+                        new BulkTask(chrono, toFields, epochDays, years, months, daysOfMonth, mid, end));
+            }
+        }
+
+        private void convert() {
+            if (toFields) {
+                toFields(chrono, epochDays, years, months, daysOfMonth, start, end);
+            } else {
+                toEpochDays(chrono, epochDays, years, months, daysOfMonth, start, end);
+            }
+        }
+
+        static void toFields(Chronology chrono, long[] epochDays, int[] years, int[] months, int[] daysOfMonth, int start, int end) {
+            for (int i = start; i < end; i++) {
+                long packed = chrono.packedDate(epochDays[i]);
+                years[i] = packedYear(packed);
+                months[i] = packedMonth(packed);
+                daysOfMonth[i] = packedDayOfMonth(packed);
+            }
+        }
+
+        static void toEpochDays(Chronology chrono, long[] epochDays, int[] years, int[] months, int[] daysOfMonth, int start, int end) {
+            for (int i = start; i < end; i++) {
+                epochDays[i] = chrono.epochDay(years[i], months[i], daysOfMonth[i]);
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the specified year is a leap year.
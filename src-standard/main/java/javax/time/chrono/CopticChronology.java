@@ -146,6 +146,29 @@ public final class CopticChronology extends Chronology implements Serializable {
         return CopticDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        CopticDate.checkValidDate(prolepticYear, month, dayOfMonth);
+        return CopticDate.toEpochDay(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public long packedDate(long epochDay) {
+        return CopticDate.toPackedDate(epochDay);
+    }
+
+    @Override
+    public int lengthOfMonth(int prolepticYear, int month) {
+        MOY_RANGE.checkValidValue(month, LocalDateTimeField.MONTH_OF_YEAR);
+        return CopticDate.lengthOfMonth(prolepticYear, month);
+    }
+
+    @Override
+    public int monthsPerYear() {
+        return 13;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the specified year is a leap year.
@@ -181,7 +204,7 @@ public final class CopticChronology extends Chronology implements Serializable {
         switch (field) {
             case DAY_OF_MONTH: return DateTimeValueRange.of(1, 5, 30);
             case ALIGNED_WEEK_OF_MONTH: return DateTimeValueRange.of(1, 1, 5);
-            case MONTH_OF_YEAR: return DateTimeValueRange.of(1, 13);
+            case MONTH_OF_YEAR: return MOY_RANGE;
             case EPOCH_MONTH: return DateTimeValueRange.of(-1000, 1000);  // TODO
             case YEAR_OF_ERA: return DateTimeValueRange.of(1, 999, 1000);  // TODO
             case YEAR: return DateTimeValueRange.of(-1000, 1000);  // TODO
@@ -89,17 +89,53 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @throws DateTimeException if the date is invalid
      */
     static CopticDate ofEpochDay(long epochDay) {
+        long packed = toPackedDate(epochDay);
+        return new CopticDate(Chronology.packedYear(packed), Chronology.packedMonth(packed), Chronology.packedDayOfMonth(packed));
+    }
+
+    /**
+     * Converts an epoch-day to the Coptic fields.
+     *
+     * @param epochDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date, see {@link Chronology#packDate(int, int, int)}
+     */
+    static long toPackedDate(long epochDay) {
         // TODO: validate
 //        if (epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY) {
 //            throw new CalendricalRuleException("Date exceeds supported range for CopticDate", CopticChronology.YEAR);
 //        }
         epochDay += EPOCH_DAY_DIFFERENCE;
-        int prolepticYear = (int) (((epochDay * 4) + 1463) / 1461);
-        int startYearEpochDay = (prolepticYear - 1) * 365 + (prolepticYear / 4);
+        long prolepticYear = DateTimes.floorDiv((epochDay * 4) + 1463, 1461);
+        long startYearEpochDay = (prolepticYear - 1) * 365 + DateTimes.floorDiv(prolepticYear, 4);
         int doy0 = (int) (epochDay - startYearEpochDay);
         int month = doy0 / 30 + 1;
         int dom = doy0 % 30 + 1;
-        return new CopticDate(prolepticYear, month, dom);
+        return Chronology.packDate((int) prolepticYear, month, dom);
+    }
+
+    /**
+     * Converts the Coptic fields to an epoch-day.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month, validated from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, validated
+     * @return the epoch day based on 1970-01-01 (ISO)
+     */
+    static long toEpochDay(int prolepticYear, int month, int dayOfMonth) {
+        long year = (long) prolepticYear;
+        long copticEpochDay = ((year - 1) * 365) + DateTimes.floorDiv(year, 4) + (month - 1) * 30 + (dayOfMonth - 1);
+        return copticEpochDay - EPOCH_DAY_DIFFERENCE;
+    }
+
+    /**
+     * Gets the length of a Coptic month.
+     *
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month, validated from 1 to 13
+     * @return the length of the month in days
+     */
+    static int lengthOfMonth(int prolepticYear, int month) {
+        return (month == 13 ? (CopticChronology.INSTANCE.isLeapYear(prolepticYear) ? 6 : 5) : 30);
     }
 
     private static CopticDate resolvePreviousValid(int prolepticYear, int month, int day) {
@@ -119,6 +155,21 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @throws DateTimeException if the date is invalid
      */
     CopticDate(int prolepticYear, int month, int dayOfMonth) {
+        checkValidDate(prolepticYear, month, dayOfMonth);
+        this.prolepticYear = prolepticYear;
+        this.month = (short) month;
+        this.day = (short) dayOfMonth;
+    }
+
+    /**
+     * Validates the Coptic fields.
+     * 
+     * @param prolepticYear  the Coptic proleptic-year
+     * @param month  the Coptic month, from 1 to 13
+     * @param dayOfMonth  the Coptic day-of-month, from 1 to 30
+     * @throws DateTimeException if the date is invalid
+     */
+    static void checkValidDate(int prolepticYear, int month, int dayOfMonth) {
         CopticChronology.MOY_RANGE.checkValidValue(month, MONTH_OF_YEAR);
         DateTimeValueRange range;
         if (month == 13) {
@@ -127,10 +178,6 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
             range = CopticChronology.DOM_RANGE;
         }
         range.checkValidValue(dayOfMonth, DAY_OF_MONTH);
-        
-        this.prolepticYear = prolepticYear;
-        this.month = (short) month;
-        this.day = (short) dayOfMonth;
     }
 
     /**
@@ -152,12 +199,7 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     //-----------------------------------------------------------------------
     @Override
     public int lengthOfMonth() {
-        switch (month) {
-            case 13:
-                return (isLeapYear() ? 6 : 5);
-            default:
-                return 30;
-        }
+        return lengthOfMonth(prolepticYear, month);
     }
 
     @Override
@@ -176,6 +218,29 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            switch ((LocalDateTimeField) field) {
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                case DAY_OF_MONTH:
+                case DAY_OF_YEAR:
+                case EPOCH_DAY:
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                case MONTH_OF_YEAR:
+                case YEAR_OF_ERA:
+                case YEAR:
+                case ERA:
+                    return true;
+            }
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -224,23 +289,6 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    public CopticDate plusYears(long years) {
-        return plusMonths(DateTimes.safeMultiply(years, 13));
-    }
-
-    @Override
-    public CopticDate plusMonths(long months) {
-        if (months == 0) {
-            return this;
-        }
-        long curEm = prolepticYear * 13L + (month - 1);
-        long calcEm = DateTimes.safeAdd(curEm, months);
-        int newYear = DateTimes.safeToInt(DateTimes.floorDiv(calcEm, 13));
-        int newMonth = DateTimes.floorMod(calcEm, 13) + 1;
-        return resolvePreviousValid(newYear, newMonth, day);
-    }
-
     @Override
     public CopticDate plusDays(long days) {
         if (days == 0) {
@@ -252,9 +300,7 @@ final class CopticDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     //-----------------------------------------------------------------------
     @Override
     public long toEpochDay() {
-        long year = (long) prolepticYear;
-        long copticEpochDay = ((year - 1) * 365) + DateTimes.floorDiv(year, 4) + (getDayOfYear() - 1);
-        return copticEpochDay - EPOCH_DAY_DIFFERENCE;
+        return toEpochDay(prolepticYear, month, day);
     }
 
 }
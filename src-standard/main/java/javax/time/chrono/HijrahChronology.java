@@ -149,6 +149,10 @@ public final class HijrahChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * Range of months.
+     */
+    private static final DateTimeValueRange MOY_RANGE = DateTimeValueRange.of(1, 12);
     /**
      * Narrow names for eras.
      */
@@ -232,6 +236,27 @@ public final class HijrahChronology extends Chronology implements Serializable {
         return HijrahDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        return HijrahDate.toEpochDay(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public long packedDate(long epochDay) {
+        return HijrahDate.toPackedDate(epochDay);
+    }
+
+    @Override
+    public int lengthOfMonth(int prolepticYear, int month) {
+        return HijrahDate.lengthOfMonth(prolepticYear, month);
+    }
+
+    @Override
+    public int monthsPerYear() {
+        return 12;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isLeapYear(long prolepticYear) {
@@ -261,6 +286,14 @@ public final class HijrahChronology extends Chronology implements Serializable {
     //-----------------------------------------------------------------------
     @Override
     public DateTimeValueRange range(LocalDateTimeField field) {
+        switch (field) {
+            case MONTH_OF_YEAR:
+                return MOY_RANGE;
+            case DAY_OF_MONTH:
+                return DateTimeValueRange.of(1, 1, HijrahDate.getSmallestMaximumDayOfMonth(), HijrahDate.getMaximumDayOfMonth());
+            case DAY_OF_YEAR:
+                return DateTimeValueRange.of(1, 1, HijrahDate.getSmallestMaximumDayOfYear(), HijrahDate.getMaximumDayOfYear());
+        }
         throw new UnsupportedOperationException("TODO");
     }
 
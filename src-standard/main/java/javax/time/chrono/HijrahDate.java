@@ -44,7 +44,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Serializable;
 import java.text.ParseException;
-import java.util.HashMap;
 import java.util.StringTokenizer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -114,16 +113,10 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      */
     public static final int MAX_YEAR_OF_ERA = 9999;
     /**
-     * 0-based, for number of day-of-year in the beginning of month in normal
-     * year.
+     * 0-based, for number of day-of-year in the beginning of month.
      */
     private static final int NUM_DAYS[] =
         {0, 30, 59, 89, 118, 148, 177, 207, 236, 266, 295, 325};
-    /**
-     * 0-based, for number of day-of-year in the beginning of month in leap year.
-     */
-    private static final int LEAP_NUM_DAYS[] =
-        {0, 30, 59, 89, 118, 148, 177, 207, 236, 266, 295, 325};
     /**
      * 0-based, for day-of-month in normal year.
      */
@@ -134,106 +127,19 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      */
     private static final int LEAP_MONTH_LENGTH[] =
         {30, 29, 30, 29, 30, 29, 30, 29, 30, 29, 30, 30};
-
     /**
-     * <pre>
-     *                            Greatest       Least
-     * Field name        Minimum   Minimum     Maximum     Maximum
-     * ----------        -------   -------     -------     -------
-     * ERA                     0         0           1           1
-     * YEAR_OF_ERA             1         1        9999        9999
-     * MONTH_OF_YEAR           1         1          12          12
-     * DAY_OF_MONTH            1         1          29          30
-     * DAY_OF_YEAR             1         1         354         355
-     * </pre>
-     *
-     * Minimum values.
-     */
-    private static final int MIN_VALUES[] =
-        {
-        0,
-        MIN_YEAR_OF_ERA,
-        0,
-        1,
-        0,
-        1,
-        1
-        };
-
-    /**
-     * Least maximum values.
-     */
-    private static final int LEAST_MAX_VALUES[] =
-        {
-        1,
-        MAX_YEAR_OF_ERA,
-        11,
-        51,
-        5,
-        29,
-        354
-        };
-
-    /**
-     * Maximum values.
-     */
-    private static final int MAX_VALUES[] =
-        {
-        1,
-        MAX_YEAR_OF_ERA,
-        11,
-        52,
-        6,
-        30,
-        355
-        };
-
-   /**
-     * Position of day-of-month. This value is used to get the min/max value
-     * from an array.
-     */
-    private static final int POSITION_DAY_OF_MONTH = 5;
-    /**
-     * Position of day-of-year. This value is used to get the min/max value from
-     * an array.
-     */
-    private static final int POSITION_DAY_OF_YEAR = 6;
-    /**
-     * Zero-based start date of cycle year.
-     */
-    private static final int CYCLEYEAR_START_DATE[] =
-        {
-        0,
-        354,
-        709,
-        1063,
-        1417,
-        1772,
-        2126,
-        2481,
-        2835,
-        3189,
-        3544,
-        3898,
-        4252,
-        4607,
-        4961,
-        5315,
-        5670,
-        6024,
-        6379,
-        6733,
-        7087,
-        7442,
-        7796,
-        8150,
-        8505,
-        8859,
-        9214,
-        9568,
-        9922,
-        10277
-        };
+     * Number of days in a 30 year cycle.
+     */
+    private static final int CYCLE_DAYS = 10631;
+    /**
+     * Number of months in a 30 year cycle.
+     */
+    private static final int CYCLE_MONTHS = 360;
+    /**
+     * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
+     * of Hijrah calendar.
+     */
+    private static final int HIJRAH_JAN_1_1_GREGORIAN_DAY = -492148;
 
     /**
      * File separator.
@@ -252,120 +158,65 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      */
     private static final String DEFAULT_CONFIG_PATH = "javax" + FILE_SEP + "time" + FILE_SEP + "chrono";
     /**
-     * Holding the adjusted month days in year. The key is a year (Integer) and
-     * the value is the all the month days in year (Integer[]).
-     */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_DAYS = new HashMap<>();
-    /**
-     * Holding the adjusted month length in year. The key is a year (Integer)
-     * and the value is the all the month length in year (Integer[]).
+     * The epoch-day of the first day of each month of the Hijrah era, indexed by
+     * {@code (yearOfEra - 1) * 12 + monthOfYear - 1}, followed by the epoch-day of the
+     * first day after the maximum year.
+     * The deviation configuration is applied to this table during class initialization,
+     * after which it is never changed.
      */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_MONTH_LENGTHS = new HashMap<>();
+    private static final int[] MONTH_STARTS = new int[MAX_YEAR_OF_ERA * 12 + 1];
     /**
-     * Holding the adjusted days in the 30 year cycle. The key is a cycle number
-     * (Integer) and the value is the all the starting days of the year in the
-     * cycle (Integer[]).
+     * The maximum length of a month.
      */
-    private static final HashMap<Integer, Integer[]> ADJUSTED_CYCLE_YEARS = new HashMap<>();
+    private static final int MAX_DAY_OF_MONTH;
     /**
-     * Holding the adjusted cycle in the 1 - 30000 year. The key is the cycle
-     * number (Integer) and the value is the starting days in the cycle in the
-     * term.
+     * The smallest maximum length of a month.
      */
-    private static final Long[] ADJUSTED_CYCLES;
+    private static final int LEAST_MAX_DAY_OF_MONTH;
     /**
-     * Holding the adjusted min values.
+     * The maximum length of a year.
      */
-    private static final Integer[] ADJUSTED_MIN_VALUES;
+    private static final int MAX_DAY_OF_YEAR;
     /**
-     * Holding the adjusted max least max values.
+     * The smallest maximum length of a year.
      */
-    private static final Integer[] ADJUSTED_LEAST_MAX_VALUES;
-    /**
-     * Holding adjusted max values.
-     */
-    private static final Integer[] ADJUSTED_MAX_VALUES;
-    /**
-     * Holding the non-adjusted month days in year for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month days in year for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_DAYS;
-    /**
-     * Holding the non-adjusted month length for non leap year.
-     */
-    private static final Integer[] DEFAULT_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted month length for leap year.
-     */
-    private static final Integer[] DEFAULT_LEAP_MONTH_LENGTHS;
-    /**
-     * Holding the non-adjusted 30 year cycle starting day.
-     */
-    private static final Integer[] DEFAULT_CYCLE_YEARS;
-    /**
-     * number of 30-year cycles to hold the deviation data.
-     */
-    private static final int MAX_ADJUSTED_CYCLE = 334; // to support year 9999
-
-    static { // Initialize the static integer array;
-
-        DEFAULT_MONTH_DAYS = new Integer[NUM_DAYS.length];
-        for (int i = 0; i < NUM_DAYS.length; i++) {
-            DEFAULT_MONTH_DAYS[i] = new Integer(NUM_DAYS[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_DAYS = new Integer[LEAP_NUM_DAYS.length];
-        for (int i = 0; i < LEAP_NUM_DAYS.length; i++) {
-            DEFAULT_LEAP_MONTH_DAYS[i] = new Integer(LEAP_NUM_DAYS[i]);
-        }
-
-        DEFAULT_MONTH_LENGTHS = new Integer[MONTH_LENGTH.length];
-        for (int i = 0; i < MONTH_LENGTH.length; i++) {
-            DEFAULT_MONTH_LENGTHS[i] = new Integer(MONTH_LENGTH[i]);
-        }
-
-        DEFAULT_LEAP_MONTH_LENGTHS = new Integer[LEAP_MONTH_LENGTH.length];
-        for (int i = 0; i < LEAP_MONTH_LENGTH.length; i++) {
-            DEFAULT_LEAP_MONTH_LENGTHS[i] = new Integer(LEAP_MONTH_LENGTH[i]);
-        }
+    private static final int LEAST_MAX_DAY_OF_YEAR;
 
-        DEFAULT_CYCLE_YEARS = new Integer[CYCLEYEAR_START_DATE.length];
-        for (int i = 0; i < CYCLEYEAR_START_DATE.length; i++) {
-            DEFAULT_CYCLE_YEARS[i] = new Integer(CYCLEYEAR_START_DATE[i]);
-        }
-
-        ADJUSTED_CYCLES = new Long[MAX_ADJUSTED_CYCLE];
-        for (int i = 0; i < ADJUSTED_CYCLES.length; i++) {
-            ADJUSTED_CYCLES[i] = new Long(10631 * i);
-        }
-        // Initialize min values, least max values and max values.
-        ADJUSTED_MIN_VALUES = new Integer[MIN_VALUES.length];
-        for (int i = 0; i < MIN_VALUES.length; i++) {
-            ADJUSTED_MIN_VALUES[i] = new Integer(MIN_VALUES[i]);
-        }
-        ADJUSTED_LEAST_MAX_VALUES = new Integer[LEAST_MAX_VALUES.length];
-        for (int i = 0; i < LEAST_MAX_VALUES.length; i++) {
-            ADJUSTED_LEAST_MAX_VALUES[i] = new Integer(LEAST_MAX_VALUES[i]);
-        }
-        ADJUSTED_MAX_VALUES = new Integer[MAX_VALUES.length];
-        for (int i = 0; i < MAX_VALUES.length; i++) {
-            ADJUSTED_MAX_VALUES[i] = new Integer(MAX_VALUES[i]);
+    static {
+        int index = 0;
+        for (int year = MIN_YEAR_OF_ERA; year <= MAX_YEAR_OF_ERA; year++) {
+            int yearStart = HIJRAH_JAN_1_1_GREGORIAN_DAY + getYearOffset(year);
+            for (int month = 0; month < 12; month++) {
+                MONTH_STARTS[index++] = yearStart + NUM_DAYS[month];
+            }
         }
+        MONTH_STARTS[index] = HIJRAH_JAN_1_1_GREGORIAN_DAY + getYearOffset(MAX_YEAR_OF_ERA + 1);
         try {
             readDeviationConfig();
         } catch (IOException | ParseException e) {
             // do nothing. Ignore deviation config.
             // e.printStackTrace();
         }
+        // the lengths include any deviations
+        int maxMonth = 0;
+        int leastMaxMonth = Integer.MAX_VALUE;
+        for (int i = 0; i < MONTH_STARTS.length - 1; i++) {
+            int length = MONTH_STARTS[i + 1] - MONTH_STARTS[i];
+            maxMonth = Math.max(maxMonth, length);
+            leastMaxMonth = Math.min(leastMaxMonth, length);
+        }
+        int maxYear = 0;
+        int leastMaxYear = Integer.MAX_VALUE;
+        for (int i = 0; i < MONTH_STARTS.length - 1; i += 12) {
+            int length = MONTH_STARTS[i + 12] - MONTH_STARTS[i];
+            maxYear = Math.max(maxYear, length);
+            leastMaxYear = Math.min(leastMaxYear, length);
+        }
+        MAX_DAY_OF_MONTH = maxMonth;
+        LEAST_MAX_DAY_OF_MONTH = leastMaxMonth;
+        MAX_DAY_OF_YEAR = maxYear;
+        LEAST_MAX_DAY_OF_YEAR = leastMaxYear;
     }
-    /**
-     * Number of Gregorian day of July 19, year 622 (Gregorian), which is epoch day
-     * of Hijrah calendar.
-     */
-    private static final int HIJRAH_JAN_1_1_GREGORIAN_DAY = -492148;
 
     /**
      * The era.
@@ -494,23 +345,79 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @param gregorianDay  the number of days from 0001/01/01 (Gregorian), caller calculated
      */
     private HijrahDate(long gregorianDay) {
-        int[] dateInfo = getHijrahDateInfo(gregorianDay);
-        
-        checkValidYearOfEra(dateInfo[1]);
-        checkValidMonth(dateInfo[2]);
-        checkValidDayOfMonth(dateInfo[3]);
-        checkValidDayOfYear(dateInfo[4]);
-        
-        this.era = HijrahEra.of(dateInfo[0]);
-        this.yearOfEra = dateInfo[1];
-        this.monthOfYear = dateInfo[2];
-        this.dayOfMonth = dateInfo[3];
-        this.dayOfYear = dateInfo[4];
-        this.dayOfWeek = DayOfWeek.of(dateInfo[5]);
+        long packed = toPackedDate(gregorianDay);
+        int prolepticYear = Chronology.packedYear(packed);
+        this.era = (prolepticYear >= 1 ? HijrahEra.HIJRAH : HijrahEra.BEFORE_HIJRAH);
+        this.yearOfEra = (prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+        this.monthOfYear = Chronology.packedMonth(packed);
+        this.dayOfMonth = Chronology.packedDayOfMonth(packed);
+        this.dayOfYear = (int) (gregorianDay - getGregorianEpochDay(era.getValue(), yearOfEra, 1, 1)) + 1;
+        this.dayOfWeek = DayOfWeek.of(DateTimes.floorMod(gregorianDay + 3, 7) + 1);
         this.gregorianEpochDay = gregorianDay;
         this.isLeapYear = isLeapYear(this.yearOfEra);
     }
 
+    /**
+     * Converts an epoch-day to the Hijrah fields.
+     *
+     * @param gregorianDay  the epoch day to convert based on 1970-01-01 (ISO)
+     * @return the packed date, see {@link Chronology#packDate(int, int, int)}
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    static long toPackedDate(long gregorianDay) {
+        if (gregorianDay >= MONTH_STARTS[0]) {
+            if (gregorianDay >= MONTH_STARTS[MONTH_STARTS.length - 1]) {
+                throw new DateTimeException("Invalid year of Hijrah Era");
+            }
+            int day = (int) gregorianDay;
+            int index = getMonthIndex(day);
+            return Chronology.packDate(index / 12 + 1, index % 12 + 1, day - MONTH_STARTS[index] + 1);
+        }
+        // years before the Hijrah era mirror the lengths of the years after it
+        long daysBefore = HIJRAH_JAN_1_1_GREGORIAN_DAY - gregorianDay;
+        if (daysBefore > getYearOffset(MAX_YEAR_OF_ERA + 1)) {
+            throw new DateTimeException("Invalid year of Hijrah Era");
+        }
+        int year = getBeforeHijrahYear((int) daysBefore);
+        int day = getYearOffset(year + 1) - (int) daysBefore;  // 0-based
+        int month = getMonthOfYear(day);  // 0-based
+        return Chronology.packDate(1 - year, month + 1, day - NUM_DAYS[month] + 1);
+    }
+
+    /**
+     * Converts the Hijrah fields to an epoch-day.
+     *
+     * @param prolepticYear  the Hijrah proleptic-year
+     * @param monthOfYear  the Hijrah month-of-year, from 1 to 12
+     * @param dayOfMonth  the Hijrah day-of-month, from 1 to the length of the month
+     * @return the epoch day based on 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    static long toEpochDay(int prolepticYear, int monthOfYear, int dayOfMonth) {
+        int monthLength = lengthOfMonth(prolepticYear, monthOfYear);
+        if (dayOfMonth < 1 || dayOfMonth > monthLength) {
+            throw new DateTimeException("Invalid day of month of Hijrah date");
+        }
+        if (prolepticYear >= 1) {
+            return getGregorianEpochDay(HijrahEra.HIJRAH.getValue(), prolepticYear, monthOfYear, dayOfMonth);
+        }
+        return getGregorianEpochDay(HijrahEra.BEFORE_HIJRAH.getValue(), 1 - prolepticYear, monthOfYear, dayOfMonth);
+    }
+
+    /**
+     * Gets the length of a Hijrah month.
+     *
+     * @param prolepticYear  the Hijrah proleptic-year
+     * @param monthOfYear  the Hijrah month-of-year, from 1 to 12
+     * @return the length of the month in days
+     * @throws DateTimeException if the year or month is invalid
+     */
+    static int lengthOfMonth(int prolepticYear, int monthOfYear) {
+        checkValidYearOfEra(prolepticYear >= 1 ? prolepticYear : 1 - prolepticYear);
+        checkValidMonth(monthOfYear);
+        return getMonthLength(monthOfYear - 1, prolepticYear);
+    }
+
     /**
      * Replaces the date instance from the stream with a valid one.
      *
@@ -546,6 +453,29 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            switch ((LocalDateTimeField) field) {
+                case DAY_OF_WEEK:
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                case DAY_OF_MONTH:
+                case DAY_OF_YEAR:
+                case EPOCH_DAY:
+                case ALIGNED_WEEK_OF_MONTH:
+                case ALIGNED_WEEK_OF_YEAR:
+                case MONTH_OF_YEAR:
+                case YEAR_OF_ERA:
+                case YEAR:
+                case ERA:
+                    return true;
+            }
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -593,12 +523,14 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return field.doSet(this, newValue);
     }
 
-    private static HijrahDate resolvePreviousValid(int yearOfEra, int month, int day) {
-        int monthDays = getMonthDays(month - 1, yearOfEra);
-        if (day > monthDays) {
-            day = monthDays;
+    private static HijrahDate resolvePreviousValid(int prolepticYear, int month, int day) {
+        if (month >= 1 && month <= 12) {
+            int monthLength = getMonthLength(month - 1, prolepticYear);
+            if (day > monthLength) {
+                day = monthLength;
+            }
         }
-        return HijrahDate.of(yearOfEra, month, day);
+        return HijrahDate.of(prolepticYear, month, day);
     }
 
     //-----------------------------------------------------------------------
@@ -770,32 +702,6 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    public HijrahDate plusYears(long years) {
-        if (years == 0) {
-            return this;
-        }
-        int newYear = DateTimes.safeAdd(this.yearOfEra, (int)years);
-        return HijrahDate.of(this.era, newYear, this.monthOfYear, this.dayOfMonth);
-    }
-
-    @Override
-    public HijrahDate plusMonths(long months) {
-        if (months == 0) {
-            return this;
-        }
-        int newMonth = this.monthOfYear - 1;
-        newMonth = newMonth + (int)months;
-        int years = newMonth / 12;
-        newMonth = newMonth % 12;
-        while (newMonth < 0) {
-            newMonth += 12;
-            years = DateTimes.safeSubtract(years, 1);
-        }
-        int newYear = DateTimes.safeAdd(this.yearOfEra, years);
-        return HijrahDate.of(this.era, newYear, newMonth + 1, this.dayOfMonth);
-    }
-
     @Override
     public HijrahDate plusDays(long days) {
         return new HijrahDate(this.gregorianEpochDay + days);
@@ -813,22 +719,9 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return LocalDate.ofEpochDay(this.gregorianEpochDay);
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Compares this date to another date.
-     * <p>
-     * The comparison is based on the time-line position of the dates.
-     *
-     * @param other  the other date to compare to, not null
-     * @return the comparator value, negative if less, positive if greater
-     */
     @Override
-    public int compareTo(ChronoDate other) {
-        if (getChronology().equals(other.getChronology()) == false) {
-            throw new ClassCastException("Cannot compare ChronoDate in two different calendar systems, " +
-                    "try using EPOCH_DAY field as a comparator");
-        }
-        return DateTimes.safeCompare(this.gregorianEpochDay, ((HijrahDate) other).gregorianEpochDay);
+    public long toEpochDay() {
+        return this.gregorianEpochDay;
     }
 
     //-----------------------------------------------------------------------
@@ -863,337 +756,83 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     }
 
     //-----------------------------------------------------------------------
-    /**
-     * Returns the int array containing the following field from the julian day.
-     *
-     * int[0] = ERA
-     * int[1] = YEAR
-     * int[2] = MONTH
-     * int[3] = DATE
-     * int[4] = DAY_OF_YEAR
-     * int[5] = DAY_OF_WEEK
-     *
-     * @param julianDay  a julian day.
-     */
-    private static int[] getHijrahDateInfo(long gregorianDays) {
-        int era, year, month, date, dayOfWeek, dayOfYear;
-
-        int cycleNumber, yearInCycle, dayOfCycle;
-
-        long epochDay = gregorianDays - HIJRAH_JAN_1_1_GREGORIAN_DAY;
-
-        if (epochDay >= 0) {
-            cycleNumber = getCycleNumber(epochDay); // 0 - 99.
-            dayOfCycle = getDayOfCycle(epochDay, cycleNumber); // 0 - 10631.
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            // 0 - 354/355
-            year = cycleNumber * 30 + yearInCycle + 1; // 1-based year.
-            month = getMonthOfYear(dayOfYear, year); // 0-based month-of-year
-            date = getDayOfMonth(dayOfYear, month, year); // 0-based date
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.HIJRAH.getValue();
-        } else {
-            cycleNumber = (int) epochDay / 10631; // 0 or negative number.
-            dayOfCycle = (int) epochDay % 10631; // -10630 - 0.
-            if (dayOfCycle == 0) {
-                dayOfCycle = -10631;
-                cycleNumber++;
-            }
-            yearInCycle = getYearInCycle(cycleNumber, dayOfCycle); // 0 - 29.
-            dayOfYear = getDayOfYear(cycleNumber, dayOfCycle, yearInCycle);
-            year = cycleNumber * 30 - yearInCycle; // negative number.
-            year = 1 - year;
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            month = getMonthOfYear(dayOfYear, year);
-            date = getDayOfMonth(dayOfYear, month, year);
-            ++date; // Convert from 0-based to 1-based
-            era = HijrahEra.BEFORE_HIJRAH.getValue();
-        }
-        // Hijrah day zero is a Friday
-        dayOfWeek = (int) ((epochDay + 5) % 7);
-        dayOfWeek += (dayOfWeek <= 0) ? 7 : 0;
-
-        int dateInfo[] = new int[6];
-        dateInfo[0] = era;
-        dateInfo[1] = year;
-        dateInfo[2] = month + 1; // change to 1-based.
-        dateInfo[3] = date;
-        dateInfo[4] = dayOfYear + 1; // change to 1-based.
-        dateInfo[5] = dayOfWeek;
-        return dateInfo;
-    }
-
     /**
      * Return Gregorian epoch day from Hijrah year, month, and day.
      *
      * @param era  the era to represent, caller calculated
-     * @param year  the year to represent, caller calculated
+     * @param yearOfEra  the year-of-era to represent, caller calculated
      * @param monthOfYear  the month-of-year to represent, caller calculated
      * @param dayOfMonth  the day-of-month to represent, caller calculated
-     * @return a julian day
-     */
-    private static long getGregorianEpochDay(int era, int year, int monthOfYear, int dayOfMonth) {
-        long day = yearToGregorianEpochDay(era, year);
-        day += getMonthDays(monthOfYear - 1, year);
-        day += dayOfMonth;
-        return day;
-    }
-
-    /**
-     * Returns the Gregorian epoch day from the year.
-     *
-     * @param era  the era to represent
-     * @param year  the year to represent
-     * @return a julian day
+     * @return the epoch day
      */
-    private static long yearToGregorianEpochDay(int era, int year) {
-
-        if (era == HijrahEra.BEFORE_HIJRAH.getValue()) {
-            year = 1 - year;
-        }
-
-        int cycleNumber = (year - 1) / 30; // 0-based.
-        int yearInCycle = (year - 1) % 30; // 0-based.
-
-        int dayInCycle = getAdjustedCycle(cycleNumber)[Math.abs(yearInCycle)]
-                .intValue();
-
-        if (yearInCycle < 0) {
-            dayInCycle = -dayInCycle;
-        }
-
-        Long cycleDays;
-
-        try {
-            cycleDays = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleDays = null;
-        }
-
-        if (cycleDays == null) {
-            cycleDays = new Long(cycleNumber * 10631);
-        }
-
-        return (cycleDays.longValue() + dayInCycle + HIJRAH_JAN_1_1_GREGORIAN_DAY - 1);
-    }
-
-    /**
-     * Returns the 30 year cycle number from the epoch day.
-     *
-     * @param epochDay  an epoch day
-     * @return a cycle number
-     */
-    private static int getCycleNumber(long epochDay) {
-        Long[] days = ADJUSTED_CYCLES;
-        int cycleNumber;
-        try {
-            for (int i = 0; i < days.length; i++) {
-                if (epochDay < days[i].longValue()) {
-                    return i - 1;
-                }
-            }
-            cycleNumber = (int) epochDay / 10631;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleNumber = (int) epochDay / 10631;
-        }
-        return cycleNumber;
-    }
-
-    /**
-     * Returns day of cycle from the epoch day and cycle number.
-     *
-     * @param epochDay  an epoch day
-     * @param cycleNumber  a cycle number
-     * @return a day of cycle
-     */
-    private static int getDayOfCycle(long epochDay, int cycleNumber) {
-        Long day;
-
-        try {
-            day = ADJUSTED_CYCLES[cycleNumber];
-        } catch (ArrayIndexOutOfBoundsException e) {
-            day = null;
-        }
-        if (day == null) {
-            day = new Long(cycleNumber * 10631);
-        }
-        return (int) (epochDay - day.longValue());
-    }
-
-    /**
-     * Returns the year in cycle from the cycle number and day of cycle.
-     *
-     * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
-     * @return a year in cycle
-     */
-    private static int getYearInCycle(int cycleNumber, long dayOfCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-        if (dayOfCycle == 0) {
-            return 0;
-        }
-
-        if (dayOfCycle > 0) {
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle < cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
-        } else {
-            dayOfCycle = -dayOfCycle;
-            for (int i = 0; i < cycles.length; i++) {
-                if (dayOfCycle <= cycles[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 29;
+    private static long getGregorianEpochDay(int era, int yearOfEra, int monthOfYear, int dayOfMonth) {
+        if (era == HijrahEra.HIJRAH.getValue()) {
+            return MONTH_STARTS[(yearOfEra - 1) * 12 + monthOfYear - 1] + dayOfMonth - 1L;
         }
+        return HIJRAH_JAN_1_1_GREGORIAN_DAY - getYearOffset(yearOfEra + 1) + NUM_DAYS[monthOfYear - 1] + dayOfMonth - 1L;
     }
 
     /**
-     * Returns adjusted 30 year cycle startind day as Integer array from the
-     * cycle number specified.
+     * Returns the number of days from the Hijrah epoch to the start of the year,
+     * ignoring any deviation.
      *
-     * @param cycleNumber  a cycle number
-     * @return an Integer array
+     * @param year  the year, from 1 to 10000
+     * @return the number of days before the year
      */
-    private static Integer[] getAdjustedCycle(int cycleNumber) {
-        Integer[] cycles;
-        try {
-            cycles = ADJUSTED_CYCLE_YEARS.get(new Integer(cycleNumber));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycles = null;
-        }
-        if (cycles == null) {
-            cycles = DEFAULT_CYCLE_YEARS;
-        }
-        return cycles;
+    private static int getYearOffset(int year) {
+        return 354 * (year - 1) + (3 + 11 * year) / 30;
     }
 
     /**
-     * Returns adjusted month days as Integer array form the year specified.
+     * Returns the index of the month containing the epoch day.
+     * <p>
+     * The search starts at the mean length of a month, which is within a month
+     * or two of the answer even after deviations have been applied.
      *
-     * @param year  a year
-     * @return an Integer array
+     * @param epochDay  the epoch day, within the table
+     * @return the index in the table of month starts
      */
-    private static Integer[] getAdjustedMonthDays(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_DAYS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
+    private static int getMonthIndex(int epochDay) {
+        int index = (int) ((epochDay - MONTH_STARTS[0]) * (long) CYCLE_MONTHS / CYCLE_DAYS);
+        index = Math.min(index, MONTH_STARTS.length - 2);
+        while (MONTH_STARTS[index] > epochDay) {
+            index--;
         }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_DAYS;
-            } else {
-                newMonths = DEFAULT_MONTH_DAYS;
-            }
+        while (MONTH_STARTS[index + 1] <= epochDay) {
+            index++;
         }
-        return newMonths;
+        return index;
     }
 
     /**
-     * Returns adjusted month length as Integer array form the year specified.
+     * Returns the year-of-era before the Hijrah era containing the day.
      *
-     * @param year  a year
-     * @return an Integer array
+     * @param daysBefore  the number of days before the Hijrah epoch, one or greater
+     * @return the year-of-era, from 1
      */
-    private static Integer[] getAdjustedMonthLength(int year) {
-        Integer[] newMonths;
-        try {
-            newMonths = ADJUSTED_MONTH_LENGTHS.get(new Integer(year));
-        } catch (ArrayIndexOutOfBoundsException e) {
-            newMonths = null;
+    private static int getBeforeHijrahYear(int daysBefore) {
+        int year = Math.max((int) (daysBefore * 30L / CYCLE_DAYS), 1);
+        while (getYearOffset(year + 1) < daysBefore) {
+            year++;
         }
-        if (newMonths == null) {
-            if (isLeapYear(year)) {
-                newMonths = DEFAULT_LEAP_MONTH_LENGTHS;
-            } else {
-                newMonths = DEFAULT_MONTH_LENGTHS;
-            }
+        while (year > 1 && getYearOffset(year) >= daysBefore) {
+            year--;
         }
-        return newMonths;
+        return year;
     }
 
     /**
-     * Returns day-of-year.
+     * Returns month-of-year, ignoring any deviation. 0-based.
      *
-     * @param cycleNumber  a cycle number
-     * @param dayOfCycle  day of cycle
-     * @param yearInCycle  year in cycle
-     * @return day-of-year
-     */
-    private static int getDayOfYear(int cycleNumber, int dayOfCycle, int yearInCycle) {
-        Integer[] cycles = getAdjustedCycle(cycleNumber);
-
-        if (dayOfCycle > 0) {
-            return dayOfCycle - cycles[yearInCycle].intValue();
-        } else {
-            return cycles[yearInCycle].intValue() + dayOfCycle;
-        }
-    }
-
-    /**
-     * Returns month-of-year. 0-based.
-     *
-     * @param dayOfYear  day-of-year
-     * @param year  a year
+     * @param dayOfYear  day-of-year, 0-based
      * @return month-of-year
      */
-    private static int getMonthOfYear(int dayOfYear, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        } else {
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            for (int i = 0; i < newMonths.length; i++) {
-                if (dayOfYear < newMonths[i].intValue()) {
-                    return i - 1;
-                }
-            }
-            return 11;
-        }
-    }
-
-    /**
-     * Returns day-of-month.
-     *
-     * @param dayOfYear  day of  year
-     * @param month  month
-     * @param year  year
-     * @return day-of-month
-     */
-    private static int getDayOfMonth(int dayOfYear, int month, int year) {
-
-        Integer[] newMonths = getAdjustedMonthDays(year);
-
-        if (dayOfYear >= 0) {
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
-        } else {
-            dayOfYear = (isLeapYear(year) ? (dayOfYear + 355)
-                    : (dayOfYear + 354));
-            if (month > 0) {
-                return dayOfYear - newMonths[month].intValue();
-            } else {
-                return dayOfYear;
-            }
+    private static int getMonthOfYear(int dayOfYear) {
+        int month = 11;
+        while (dayOfYear < NUM_DAYS[month]) {
+            month--;
         }
+        return month;
     }
 
     /**
@@ -1206,67 +845,42 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return (14 + 11 * (year > 0 ? year : -year)) % 30 < 11;
     }
 
-    /**
-     * Returns month days from the beginning of year.
-     *
-     * @param month  month (0-based)
-     * @parma year  year
-     * @return month days from the beginning of year
-     */
-    private static int getMonthDays(int month, int year) {
-        Integer[] newMonths = getAdjustedMonthDays(year);
-        return newMonths[month].intValue();
-    }
-    
     /**
      * Returns month length.
      *
      * @param month  month (0-based)
-     * @param year  year
+     * @param year  the proleptic year
      * @return month length
      */
     static int getMonthLength(int month, int year) {
-      Integer[] newMonths = getAdjustedMonthLength(year);
-      return newMonths[month].intValue();
+        if (year >= MIN_YEAR_OF_ERA && year <= MAX_YEAR_OF_ERA) {
+            int index = (year - 1) * 12 + month;
+            return MONTH_STARTS[index + 1] - MONTH_STARTS[index];
+        }
+        return (isLeapYear(year < 1 ? 1 - year : year) ? LEAP_MONTH_LENGTH[month] : MONTH_LENGTH[month]);
     }
 
     @Override
     public int lengthOfMonth() {
-        return getMonthLength(monthOfYear, yearOfEra);
+        return getMonthLength(monthOfYear - 1, era == HijrahEra.HIJRAH ? yearOfEra : 1 - yearOfEra);
     }
 
     /**
      * Returns year length.
      *
-     * @param year  year
+     * @param year  the proleptic year
      * @return year length
      */
     static int getYearLength(int year) {
-
-        int cycleNumber = (year - 1) / 30;
-        Integer[] cycleYears;
-        try {
-            cycleYears = ADJUSTED_CYCLE_YEARS.get(cycleNumber);
-        } catch (ArrayIndexOutOfBoundsException e) {
-            cycleYears = null;
-        }
-        if (cycleYears != null) {
-            int yearInCycle = (year - 1) % 30;
-            if (yearInCycle == 29) {
-                return ADJUSTED_CYCLES[cycleNumber + 1].intValue()
-                        - ADJUSTED_CYCLES[cycleNumber].intValue()
-                        - cycleYears[yearInCycle].intValue();
-            }
-            return cycleYears[yearInCycle + 1].intValue()
-                    - cycleYears[yearInCycle].intValue();
-        } else {
-            return isLeapYear(year) ? 355 : 354;
+        if (year >= MIN_YEAR_OF_ERA && year <= MAX_YEAR_OF_ERA) {
+            return MONTH_STARTS[year * 12] - MONTH_STARTS[(year - 1) * 12];
         }
+        return isLeapYear(year < 1 ? 1 - year : year) ? 355 : 354;
     }
 
     @Override
     public int lengthOfYear() {
-        return getYearLength(yearOfEra);  // TODO: proleptic year
+        return getYearLength(era == HijrahEra.HIJRAH ? yearOfEra : 1 - yearOfEra);
     }
 
     /**
@@ -1275,7 +889,7 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @return maximum day-of-month
      */
     static int getMaximumDayOfMonth() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return MAX_DAY_OF_MONTH;
     }
 
     /**
@@ -1284,7 +898,7 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @return smallest maximum day-of-month
      */
     static int getSmallestMaximumDayOfMonth() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH];
+        return LEAST_MAX_DAY_OF_MONTH;
     }
 
     /**
@@ -1293,7 +907,7 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @return maximum day-of-year
      */
     static int getMaximumDayOfYear() {
-        return ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return MAX_DAY_OF_YEAR;
     }
 
     /**
@@ -1302,7 +916,7 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
      * @return smallest maximum day-of-year
      */
     static int getSmallestMaximumDayOfYear() {
-        return ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR];
+        return LEAST_MAX_DAY_OF_YEAR;
     }
 
     // ----- Deviation handling -----//
@@ -1349,255 +963,13 @@ final class HijrahDate extends ChronoDate implements Comparable<ChronoDate>, Ser
                     "startYear == endYear && endMonth < startMonth");
         }
 
-        // Adjusting start year.
-        boolean isStartYLeap = isLeapYear(startYear);
-
-        // Adjusting the number of month.
-        Integer[] orgStartMonthNums = ADJUSTED_MONTH_DAYS.get(new Integer(
-                startYear));
-        if (orgStartMonthNums == null) {
-            if (isStartYLeap) {
-                orgStartMonthNums = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgStartMonthNums = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgStartMonthNums[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
-        }
-
-        Integer[] newStartMonthNums = new Integer[orgStartMonthNums.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > startMonth) {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue()
-                        - offset);
-            } else {
-                newStartMonthNums[month] = new Integer(orgStartMonthNums[month]
-                        .intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(startYear), newStartMonthNums);
-
-        // Adjusting the days of month.
-
-        Integer[] orgStartMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        if (orgStartMonthLengths == null) {
-            if (isStartYLeap) {
-                orgStartMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgStartMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgStartMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
-                }
-            }
-        }
-
-        Integer[] newStartMonthLengths = new Integer[orgStartMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == startMonth) {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue() - offset);
-            } else {
-                newStartMonthLengths[month] = new Integer(
-                        orgStartMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(startYear), newStartMonthLengths);
-
-        if (startYear != endYear) {
-            // System.out.println("over year");
-            // Adjusting starting 30 year cycle.
-            int sCycleNumber = (startYear - 1) / 30;
-            int sYearInCycle = (startYear - 1) % 30; // 0-based.
-            Integer[] startCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    sCycleNumber));
-            if (startCycles == null) {
-                startCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < startCycles.length; j++) {
-                    startCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-
-            for (int j = sYearInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                startCycles[j] = new Integer(startCycles[j].intValue() - offset);
-            }
-
-            // System.out.println(sCycleNumber + ":" + sYearInCycle);
-            ADJUSTED_CYCLE_YEARS.put(new Integer(sCycleNumber), startCycles);
-
-            int sYearInMaxY = (startYear - 1) / 30;
-            int sEndInMaxY = (endYear - 1) / 30;
-
-            if (sYearInMaxY != sEndInMaxY) {
-                // System.out.println("over 30");
-                // Adjusting starting 30 * MAX_ADJUSTED_CYCLE year cycle.
-                // System.out.println(sYearInMaxY);
-
-                for (int j = sYearInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            - offset);
-                }
-
-                // Adjusting ending 30 * MAX_ADJUSTED_CYCLE year cycles.
-                for (int j = sEndInMaxY + 1; j < ADJUSTED_CYCLES.length; j++) {
-                    ADJUSTED_CYCLES[j] = new Long(ADJUSTED_CYCLES[j].longValue()
-                            + offset);
-                }
-            }
-
-            // Adjusting ending 30 year cycle.
-            int eCycleNumber = (endYear - 1) / 30;
-            int sEndInCycle = (endYear - 1) % 30; // 0-based.
-            Integer[] endCycles = ADJUSTED_CYCLE_YEARS.get(new Integer(
-                    eCycleNumber));
-            if (endCycles == null) {
-                endCycles = new Integer[CYCLEYEAR_START_DATE.length];
-                for (int j = 0; j < endCycles.length; j++) {
-                    endCycles[j] = new Integer(CYCLEYEAR_START_DATE[j]);
-                }
-            }
-            for (int j = sEndInCycle + 1; j < CYCLEYEAR_START_DATE.length; j++) {
-                endCycles[j] = new Integer(endCycles[j].intValue() + offset);
-            }
-            ADJUSTED_CYCLE_YEARS.put(new Integer(eCycleNumber), endCycles);
-        }
-
-        // Adjusting ending year.
-        boolean isEndYLeap = isLeapYear(endYear);
-
-        Integer[] orgEndMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        if (orgEndMonthDays == null) {
-            if (isEndYLeap) {
-                orgEndMonthDays = new Integer[LEAP_NUM_DAYS.length];
-                for (int l = 0; l < LEAP_NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(LEAP_NUM_DAYS[l]);
-                }
-            } else {
-                orgEndMonthDays = new Integer[NUM_DAYS.length];
-                for (int l = 0; l < NUM_DAYS.length; l++) {
-                    orgEndMonthDays[l] = new Integer(NUM_DAYS[l]);
-                }
-            }
-        }
-
-        Integer[] newEndMonthDays = new Integer[orgEndMonthDays.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month > endMonth) {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue()
-                        + offset);
-            } else {
-                newEndMonthDays[month] = new Integer(orgEndMonthDays[month]
-                        .intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_DAYS.put(new Integer(endYear), newEndMonthDays);
-
-        // Adjusting the days of month.
-        Integer[] orgEndMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-
-        if (orgEndMonthLengths == null) {
-            if (isEndYLeap) {
-                orgEndMonthLengths = new Integer[LEAP_MONTH_LENGTH.length];
-                for (int l = 0; l < LEAP_MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(LEAP_MONTH_LENGTH[l]);
-                }
-            } else {
-                orgEndMonthLengths = new Integer[MONTH_LENGTH.length];
-                for (int l = 0; l < MONTH_LENGTH.length; l++) {
-                    orgEndMonthLengths[l] = new Integer(MONTH_LENGTH[l]);
-                }
-            }
-        }
-
-        Integer[] newEndMonthLengths = new Integer[orgEndMonthLengths.length];
-
-        for (int month = 0; month < 12; month++) {
-            if (month == endMonth) {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue() + offset);
-            } else {
-                newEndMonthLengths[month] = new Integer(
-                        orgEndMonthLengths[month].intValue());
-            }
-        }
-
-        ADJUSTED_MONTH_LENGTHS.put(new Integer(endYear), newEndMonthLengths);
-
-        Integer[] startMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                startYear));
-        Integer[] endMonthLengths = ADJUSTED_MONTH_LENGTHS.get(new Integer(
-                endYear));
-        Integer[] startMonthDays = ADJUSTED_MONTH_DAYS
-                .get(new Integer(startYear));
-        Integer[] endMonthDays = ADJUSTED_MONTH_DAYS.get(new Integer(endYear));
-
-        int startMonthLength = startMonthLengths[startMonth].intValue();
-        int endMonthLength = endMonthLengths[endMonth].intValue();
-        int startMonthDay = startMonthDays[11].intValue()
-                + startMonthLengths[11].intValue();
-        int endMonthDay = endMonthDays[11].intValue()
-                + endMonthLengths[11].intValue();
-
-        int maxMonthLength = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-        int leastMaxMonthLength = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH]
-                .intValue();
-
-        if (maxMonthLength < startMonthLength) {
-            maxMonthLength = startMonthLength;
-        }
-        if (maxMonthLength < endMonthLength) {
-            maxMonthLength = endMonthLength;
-        }
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(maxMonthLength);
-
-        if (leastMaxMonthLength > startMonthLength) {
-            leastMaxMonthLength = startMonthLength;
-        }
-        if (leastMaxMonthLength > endMonthLength) {
-            leastMaxMonthLength = endMonthLength;
-        }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_MONTH] = new Integer(
-                leastMaxMonthLength);
-
-        int maxMonthDay = ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR].intValue();
-        int leastMaxMonthDay = ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR]
-                .intValue();
-
-        if (maxMonthDay < startMonthDay) {
-            maxMonthDay = startMonthDay;
-        }
-        if (maxMonthDay < endMonthDay) {
-            maxMonthDay = endMonthDay;
-        }
-
-        ADJUSTED_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(maxMonthDay);
-
-        if (leastMaxMonthDay > startMonthDay) {
-            leastMaxMonthDay = startMonthDay;
-        }
-        if (leastMaxMonthDay > endMonthDay) {
-            leastMaxMonthDay = endMonthDay;
+        // the start month is shortened and the end month lengthened,
+        // moving the months in between by the offset
+        int startIndex = (startYear - 1) * 12 + startMonth;
+        int endIndex = (endYear - 1) * 12 + endMonth;
+        for (int index = startIndex + 1; index <= endIndex; index++) {
+            MONTH_STARTS[index] -= offset;
         }
-        ADJUSTED_LEAST_MAX_VALUES[POSITION_DAY_OF_YEAR] = new Integer(
-                leastMaxMonthDay);
     }
 
     /**
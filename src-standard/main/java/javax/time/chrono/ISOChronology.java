@@ -31,6 +31,10 @@
  */
 package javax.time.chrono;
 
+import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
+import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
+import static javax.time.calendrical.LocalDateTimeField.YEAR;
+
 import java.io.Serializable;
 
 import javax.time.DateTimeException;
@@ -77,6 +81,16 @@ public final class ISOChronology extends Chronology implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
+    /**
+     * The number of days in a 400 year cycle.
+     */
+    private static final int DAYS_PER_CYCLE = 146097;
+    /**
+     * The number of days from year zero to year 1970.
+     * There are five 400 year cycles from year zero to 2000.
+     * There are 7 leap years from 1970 to 2000.
+     */
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
 
     /**
      * Restricted constructor.
@@ -131,6 +145,121 @@ public final class ISOChronology extends Chronology implements Serializable {
         return new ISODate(LocalDate.ofEpochDay(epochDay));
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the epoch-day from the proleptic-year, month-of-year and day-of-month fields.
+     * <p>
+     * This uses the same algorithm as {@link LocalDate#toEpochDay()} without creating a date.
+     * The chronologies that share the ISO months and days use this to implement their conversions.
+     *
+     * @param prolepticYear  the ISO proleptic-year
+     * @param month  the ISO month-of-year
+     * @param dayOfMonth  the ISO day-of-month
+     * @return the epoch day measured from 1970-01-01 (ISO)
+     * @throws DateTimeException if the date is invalid
+     */
+    @Override
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        YEAR.checkValidValue(prolepticYear);
+        MONTH_OF_YEAR.checkValidValue(month);
+        DAY_OF_MONTH.checkValidValue(dayOfMonth);
+        if (dayOfMonth > 28 && dayOfMonth > isoLengthOfMonth(prolepticYear, month)) {
+            throw new DateTimeException("Invalid date: " + prolepticYear + "-" + month + "-" + dayOfMonth);
+        }
+        long y = prolepticYear;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * month - 362) / 12);
+        total += dayOfMonth - 1;
+        if (month > 2) {
+            total--;
+            if (DateTimes.isLeapYear(y) == false) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Converts the epoch-day to the ISO proleptic-year, month-of-year and day-of-month fields.
+     * <p>
+     * This uses the same algorithm as {@link LocalDate#ofEpochDay(long)} without creating a date.
+     * The chronologies that share the ISO months and days use this to implement their conversions.
+     *
+     * @param epochDay  the epoch day measured from 1970-01-01 (ISO)
+     * @return the packed date, see {@link Chronology#packDate(int, int, int)}
+     * @throws DateTimeException if the epoch-day is outside the supported range
+     */
+    @Override
+    public long packedDate(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        int month = (marchMonth0 + 2) % 12 + 1;
+        int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        yearEst += marchMonth0 / 10;
+
+        // check year now we are certain it is correct
+        int year = YEAR.checkValidIntValue(yearEst);
+        return packDate(year, month, dom);
+    }
+
+    @Override
+    public int lengthOfMonth(int prolepticYear, int month) {
+        YEAR.checkValidValue(prolepticYear);
+        MONTH_OF_YEAR.checkValidValue(month);
+        return isoLengthOfMonth(prolepticYear, month);
+    }
+
+    @Override
+    public int monthsPerYear() {
+        return 12;
+    }
+
+    /**
+     * Gets the length of an ISO month.
+     *
+     * @param prolepticYear  the proleptic-year, not validated
+     * @param month  the month-of-year, validated from 1 to 12
+     * @return the length of the month in days
+     */
+    private static int isoLengthOfMonth(long prolepticYear, int month) {
+        switch (month) {
+            case 2:
+                return (DateTimes.isLeapYear(prolepticYear) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the specified year is a leap year.
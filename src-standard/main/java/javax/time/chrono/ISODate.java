@@ -91,6 +91,14 @@ final class ISODate extends ChronoDate implements Comparable<ChronoDate>, Serial
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return isoDate.isSupported(field);
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -32,9 +32,7 @@
 package javax.time.chrono;
 
 import java.io.Serializable;
-import java.util.Calendar;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 import javax.time.DateTimeException;
@@ -44,9 +42,6 @@ import javax.time.calendrical.DateTime;
 import javax.time.calendrical.DateTimeValueRange;
 import javax.time.calendrical.LocalDateTimeField;
 
-import sun.util.calendar.CalendarSystem;
-import sun.util.calendar.LocalGregorianCalendar;
-
 /**
  * The Japanese Imperial calendar system.
  * <p>
@@ -55,8 +50,9 @@ import sun.util.calendar.LocalGregorianCalendar;
  * The Japanese Imperial calendar system is the same as the ISO calendar system
  * apart from the era-based year numbering.
  * <p>
- * Only Meiji (1865-04-07 - 1868-09-07) and later eras are supported.
+ * Only Meiji (1868-01-01 - 1912-07-29) and later eras are supported.
  * Older eras are handled as an unknown era where the year-of-era is the ISO year.
+ * The eras are defined by {@link JapaneseEra}, which allows later eras to be added.
  *
  * <h4>Implementation notes</h4>
  * This class is immutable and thread-safe.
@@ -64,12 +60,6 @@ import sun.util.calendar.LocalGregorianCalendar;
 public final class JapaneseChronology extends Chronology implements Serializable {
     // TODO: definition for unknown era may break requirement that year-of-era >= 1
 
-    static final LocalGregorianCalendar JCAL
-        = (LocalGregorianCalendar) CalendarSystem.forName("japanese");
-
-    // Locale for creating a JapaneseImpericalCalendar.
-    static final Locale LOCALE = Locale.forLanguageTag("ja-JP-u-ca-japanese");
-
     /**
      * Singleton instance.
      */
@@ -106,13 +96,13 @@ public final class JapaneseChronology extends Chronology implements Serializable
      */
     // TODO: replace all the hard-coded Maps with locale resources
     static {
-        ERA_NARROW_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H"});
-        ERA_NARROW_NAMES.put(TARGET_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H"});
-        ERA_SHORT_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H"});
-        ERA_SHORT_NAMES.put(TARGET_LANGUAGE, new String[]{"Unknown", "\u6176", "\u660e", "\u5927", "\u662d", "\u5e73"});
-        ERA_FULL_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "Keio", "Meiji", "Taisho", "Showa", "Heisei"});
+        ERA_NARROW_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H", "R"});
+        ERA_NARROW_NAMES.put(TARGET_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H", "R"});
+        ERA_SHORT_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "K", "M", "T", "S", "H", "R"});
+        ERA_SHORT_NAMES.put(TARGET_LANGUAGE, new String[]{"Unknown", "\u6176", "\u660e", "\u5927", "\u662d", "\u5e73", "\u4ee4"});
+        ERA_FULL_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Unknown", "Keio", "Meiji", "Taisho", "Showa", "Heisei", "Reiwa"});
         ERA_FULL_NAMES.put(TARGET_LANGUAGE,
-                new String[]{"Unknown", "\u6176\u5fdc", "\u660e\u6cbb", "\u5927\u6b63", "\u662d\u548c", "\u5e73\u6210"});
+                new String[]{"Unknown", "\u6176\u5fdc", "\u660e\u6cbb", "\u5927\u6b63", "\u662d\u548c", "\u5e73\u6210", "\u4ee4\u548c"});
     }
 
     //-----------------------------------------------------------------------
@@ -178,6 +168,27 @@ public final class JapaneseChronology extends Chronology implements Serializable
         return new JapaneseDate(LocalDate.ofEpochDay(epochDay));
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        return ISOChronology.INSTANCE.epochDay(prolepticYear, month, dayOfMonth);
+    }
+
+    @Override
+    public long packedDate(long epochDay) {
+        return ISOChronology.INSTANCE.packedDate(epochDay);
+    }
+
+    @Override
+    public int lengthOfMonth(int prolepticYear, int month) {
+        return ISOChronology.INSTANCE.lengthOfMonth(prolepticYear, month);
+    }
+
+    @Override
+    public int monthsPerYear() {
+        return 12;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if the specified year is a leap year.
@@ -199,18 +210,11 @@ public final class JapaneseChronology extends Chronology implements Serializable
         if (era instanceof JapaneseEra == false) {
             throw new DateTimeException("Era must be JapaneseEra");
         }
-        JapaneseEra jera = (JapaneseEra) era;
-        int gregorianYear = jera.getPrivateEra().getSinceDate().getYear() + yearOfEra - 1;
-        if (yearOfEra == 1) {
-            return gregorianYear;
-        }
-        LocalGregorianCalendar.Date jdate = JCAL.newCalendarDate(null);
-        jdate.setEra(jera.getPrivateEra()).setDate(yearOfEra, 1, 1);
-        JCAL.normalize(jdate);
-        if (jdate.getNormalizedYear() == gregorianYear) {
-            return gregorianYear;
+        if (era == JapaneseEra.SEIREKI) {
+            return yearOfEra;
         }
-        throw new DateTimeException("invalid yearOfEra value");
+        JapaneseEra jera = (JapaneseEra) era;
+        return DateTimes.safeAdd(jera.getSince().getYear(), yearOfEra - 1);
     }
 
     /**
@@ -250,32 +254,64 @@ public final class JapaneseChronology extends Chronology implements Serializable
             case EPOCH_MONTH:
                 return field.range();
         }
-        Calendar jcal = Calendar.getInstance(LOCALE);
-        int fieldIndex;
         switch (field) {
-            case ERA:
-                return DateTimeValueRange.of(jcal.getMinimum(Calendar.ERA) - JapaneseEra.ERA_OFFSET,
-                                             jcal.getMaximum(Calendar.ERA) - JapaneseEra.ERA_OFFSET);
+            case ERA: {
+                JapaneseEra[] eras = JapaneseEra.knownEras();
+                return DateTimeValueRange.of(JapaneseEra.SEIREKI.getValue(), eras[eras.length - 1].getValue());
+            }
             case YEAR:
             case YEAR_OF_ERA:
-                return DateTimeValueRange.of(DateTimes.MIN_YEAR, jcal.getGreatestMinimum(Calendar.YEAR),
-                                             jcal.getLeastMaximum(Calendar.YEAR), DateTimes.MAX_YEAR);
+                return DateTimeValueRange.of(DateTimes.MIN_YEAR, 1, leastMaximum(field), DateTimes.MAX_YEAR);
             case MONTH_OF_YEAR:
-                return DateTimeValueRange.of(jcal.getMinimum(Calendar.MONTH) + 1, jcal.getGreatestMinimum(Calendar.MONTH) + 1,
-                                             jcal.getLeastMaximum(Calendar.MONTH) + 1, jcal.getMaximum(Calendar.MONTH) + 1);
+                return DateTimeValueRange.of(1, 1, leastMaximum(field), 12);
+            case DAY_OF_YEAR:
+                return DateTimeValueRange.of(1, 1, leastMaximum(field), 366);
             case WEEK_OF_YEAR:
                 // TODO: revisit this when the week definition gets clear
-                fieldIndex = Calendar.WEEK_OF_YEAR;
-                break;
-            case DAY_OF_YEAR:
-                fieldIndex = Calendar.DAY_OF_YEAR;
-                break;
+                return field.range();
             default:
                  // TODO: review the remaining fields
                 throw new UnsupportedOperationException("Unimplementable field: " + field);
         }
-        return DateTimeValueRange.of(jcal.getMinimum(fieldIndex), jcal.getGreatestMinimum(fieldIndex),
-                                     jcal.getLeastMaximum(fieldIndex), jcal.getMaximum(fieldIndex));
+    }
+
+    /**
+     * Calculates the least maximum of a field over the eras in the era table.
+     * <p>
+     * The year-of-era and month-of-year are limited by the last date of each completed era,
+     * while the day-of-year is limited by the parts of a year either side of each era change.
+     * The last year of an era is only counted when the era ends on its last day.
+     *
+     * @param field  the field, one of year, year-of-era, month-of-year or day-of-year
+     * @return the least maximum value
+     */
+    private static int leastMaximum(LocalDateTimeField field) {
+        JapaneseEra[] eras = JapaneseEra.knownEras();
+        int leastMax = (int) field.range().getMaximum();
+        for (int i = 1; i < eras.length; i++) {
+            LocalDate since = eras[i].getSince();
+            int value;
+            if (field == LocalDateTimeField.DAY_OF_YEAR) {
+                value = since.lengthOfYear() - since.getDayOfYear() + 1;
+                if (since.getDayOfYear() > 1) {
+                    value = Math.min(value, since.getDayOfYear() - 1);
+                }
+            } else if (i + 1 < eras.length) {
+                LocalDate lastDate = eras[i + 1].getSince().minusDays(1);
+                if (field == LocalDateTimeField.MONTH_OF_YEAR) {
+                    value = lastDate.getMonthValue();
+                } else {
+                    value = lastDate.getYear() - since.getYear() + 1;
+                    if (lastDate.getMonthValue() != 12 || lastDate.getDayOfMonth() != 31) {
+                        value--;
+                    }
+                }
+            } else {
+                continue;
+            }
+            leastMax = Math.min(leastMax, value);
+        }
+        return leastMax;
     }
 
 }
@@ -34,7 +34,6 @@ package javax.time.chrono;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Calendar;
 
 import javax.time.DateTimeException;
 import javax.time.DateTimes;
@@ -43,13 +42,14 @@ import javax.time.calendrical.DateTimeField;
 import javax.time.calendrical.DateTimeValueRange;
 import javax.time.calendrical.LocalDateTimeField;
 
-import sun.util.calendar.LocalGregorianCalendar;
-
 /**
  * A date in the Japanese Imperial calendar system.
  * <p>
  * This implements {@code ChronoDate} for the
  * {@linkplain JapaneseChronology Japanese Imperial calendar}.
+ * <p>
+ * The date is held as the equivalent ISO date together with the era containing it.
+ * The era and year-of-era are derived from the era table when the date is created.
  *
  * <h4>Implementation notes</h4>
  * This class is immutable and thread-safe.
@@ -103,16 +103,16 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
      * @param dayOfMonth  the day-of-month to represent, from 1 to 31
      * @return the Japanese date, never null
      * @throws DateTimeException if the value of any field is out of range, or
-     *                           if the day-of-month is invalid for the month-year
+     *                           if the day-of-month is invalid for the month-year, or
+     *                           if the date is not within the era
      */
     static JapaneseDate of(JapaneseEra era, int yearOfEra, int month, int dayOfMonth) {
         DateTimes.checkNotNull(era, "era must not be null");
-        LocalGregorianCalendar.Date jdate = JapaneseChronology.JCAL.newCalendarDate(null);
-        jdate.setEra(era.getPrivateEra()).setDate(yearOfEra, month, dayOfMonth);
-        if (!JapaneseChronology.JCAL.validate(jdate)) {
-            throw new IllegalArgumentException();
+        int prolepticYear = JapaneseChronology.INSTANCE.prolepticYear(era, yearOfEra);
+        LocalDate date = LocalDate.of(prolepticYear, month, dayOfMonth);
+        if (JapaneseEra.from(date) != era) {
+            throw new DateTimeException("Date is not within the era: " + date);
         }
-        LocalDate date = LocalDate.of(jdate.getNormalizedYear(), month, dayOfMonth);
         return new JapaneseDate(era, yearOfEra, date);
     }
 
@@ -123,9 +123,8 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
      * @param isoDate  the standard local date, validated not null
      */
     JapaneseDate(LocalDate isoDate) {
-        LocalGregorianCalendar.Date jdate = toPrivateJapaneseDate(isoDate);
-        this.era = JapaneseEra.toJapaneseEra(jdate.getEra());
-        this.yearOfEra = jdate.getYear();
+        this.era = JapaneseEra.from(isoDate);
+        this.yearOfEra = yearOfEra(era, isoDate);
         this.isoDate = isoDate;
     }
 
@@ -150,9 +149,22 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
      */
     private void readObject(ObjectInputStream stream) throws IOException, ClassNotFoundException {
         stream.defaultReadObject();
-        LocalGregorianCalendar.Date jdate = toPrivateJapaneseDate(isoDate);
-        this.era = JapaneseEra.toJapaneseEra(jdate.getEra());
-        this.yearOfEra = jdate.getYear();
+        this.era = JapaneseEra.from(isoDate);
+        this.yearOfEra = yearOfEra(era, isoDate);
+    }
+
+    /**
+     * Calculates the year-of-era of a date within an era.
+     *
+     * @param era  the era containing the date, not null
+     * @param isoDate  the standard local date, not null
+     * @return the year-of-era, the ISO year for {@code SEIREKI}
+     */
+    private static int yearOfEra(JapaneseEra era, LocalDate isoDate) {
+        if (era == JapaneseEra.SEIREKI) {
+            return isoDate.getYear();
+        }
+        return isoDate.getYear() - era.getSince().getYear() + 1;
     }
 
     //-----------------------------------------------------------------------
@@ -225,21 +237,89 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
             LocalDateTimeField f = (LocalDateTimeField) field;
             switch (f) {
                 case DAY_OF_YEAR:
-                    return actualRange(Calendar.DAY_OF_YEAR);
+                    return actualRangeDayOfYear();
                 case YEAR_OF_ERA:
-                    return actualRange(Calendar.YEAR);
+                    return actualRangeYearOfEra();
             }
             return getChronology().range(f);
         }
         return field.doRange(this);
     }
 
-    private DateTimeValueRange actualRange(int calendarField) {
-        Calendar jcal = Calendar.getInstance(JapaneseChronology.LOCALE);
-        jcal.set(Calendar.ERA, era.getValue() + JapaneseEra.ERA_OFFSET);
-        jcal.set(yearOfEra, isoDate.getMonthValue() - 1, isoDate.getDayOfMonth());
-        return DateTimeValueRange.of(jcal.getActualMinimum(calendarField),
-                                     jcal.getActualMaximum(calendarField));
+    /**
+     * Calculates the range of the day-of-year within the era-year of this date.
+     * <p>
+     * The era-year is the part of the ISO year within the era of this date,
+     * which is shorter than the ISO year when an era starts or ends within the year.
+     *
+     * @return the range of the day-of-year, not null
+     */
+    private DateTimeValueRange actualRangeDayOfYear() {
+        int year = isoDate.getYear();
+        int firstDay = 1;
+        int lastDay = isoDate.lengthOfYear();
+        LocalDate since = era.getSince();
+        if (since.getYear() == year) {
+            firstDay = since.getDayOfYear();
+        }
+        JapaneseEra next = nextEra();
+        if (next != null && next.getSince().getYear() == year) {
+            lastDay = next.getSince().getDayOfYear() - 1;
+        }
+        return DateTimeValueRange.of(1, lastDay - firstDay + 1);
+    }
+
+    /**
+     * Calculates the range of the year-of-era for the month and day of this date.
+     * <p>
+     * The first and last years of an era only contain the month-days from the
+     * first day of the era and up to the last day of the era respectively.
+     *
+     * @return the range of the year-of-era, not null
+     */
+    private DateTimeValueRange actualRangeYearOfEra() {
+        int monthDay = monthDay(isoDate);
+        int min;
+        int max;
+        if (era == JapaneseEra.SEIREKI) {
+            min = DateTimes.MIN_YEAR;
+        } else {
+            min = (monthDay < monthDay(era.getSince()) ? 2 : 1);
+        }
+        JapaneseEra next = nextEra();
+        if (next != null) {
+            LocalDate lastDate = next.getSince().minusDays(1);
+            max = yearOfEra(era, lastDate);
+            if (monthDay > monthDay(lastDate)) {
+                max--;
+            }
+        } else {
+            max = yearOfEra(era, LocalDate.MAX_DATE);
+        }
+        return DateTimeValueRange.of(min, max);
+    }
+
+    private static int monthDay(LocalDate date) {
+        return date.getMonthValue() * 32 + date.getDayOfMonth();
+    }
+
+    /**
+     * Gets the era following the era of this date.
+     *
+     * @return the next era, null if this date is in the latest known era
+     */
+    private JapaneseEra nextEra() {
+        JapaneseEra[] eras = JapaneseEra.knownEras();
+        int index = era.getValue() + JapaneseEra.ERA_OFFSET + 1;
+        return (index < eras.length ? eras[index] : null);
+    }
+
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return isoDate.isSupported(field);
+        }
+        return field.doIsSupported(this);
     }
 
     @Override
@@ -250,10 +330,6 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
                     return yearOfEra;
                 case ERA:
                     return era.getValue();
-                case DAY_OF_YEAR: {
-                    LocalGregorianCalendar.Date jdate = toPrivateJapaneseDate(isoDate);
-                    return JapaneseChronology.JCAL.getDayOfYear(jdate);
-                }
                 case WEEK_OF_YEAR:
                     // TODO: need to resolve week of yearOfEra issues with Japanese calendar.
                     break;
@@ -264,24 +340,6 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
         return field.doGet(this);
     }
 
-    /**
-     * Returns a {@code LocalGregorianCalendar.Date} converted from the given {@code isoDate}.
-     *
-     * @param isoDate  the local date, not null
-     * @return a {@code LocalGregorianCalendar.Date}, not null
-     */
-    private static LocalGregorianCalendar.Date toPrivateJapaneseDate(LocalDate isoDate) {
-        LocalGregorianCalendar.Date jdate = JapaneseChronology.JCAL.newCalendarDate(null);
-        sun.util.calendar.Era sunEra = JapaneseEra.privateEraFrom(isoDate);
-        int year = isoDate.getYear();
-        if (sunEra != null) {
-            year -= sunEra.getSinceDate().getYear() - 1;
-        }
-        jdate.setEra(sunEra).setYear(year).setMonth(isoDate.getMonthValue()).setDayOfMonth(isoDate.getDayOfMonth());
-        JapaneseChronology.JCAL.normalize(jdate);
-        return jdate;
-    }
-
     //-----------------------------------------------------------------------
     @Override
     public JapaneseDate with(DateTimeField field, long newValue) {
@@ -349,16 +407,6 @@ final class JapaneseDate extends ChronoDate implements Comparable<ChronoDate>, S
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    public JapaneseDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    public JapaneseDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
     @Override
     public JapaneseDate plusDays(long days) {
         return with(isoDate.plusDays(days));
@@ -31,23 +31,43 @@
  */
 package javax.time.chrono;
 
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.time.DateTimeException;
+import javax.time.DateTimes;
 import javax.time.LocalDate;
 
-import sun.util.calendar.CalendarDate;
-
 /**
  * Defines the valid eras for the Japanese Imperial calendar system.
- * Only Meiji (1868-09-08 - 1912-07-29) and later eras are supported.
+ * Only Meiji (1868-01-01 - 1912-07-29) and later eras are supported.
  * Japan introduced the Gregorian calendar since Meiji 6. The dates
  * between Meiji 1 - 5 are not historically correct.
  * The older eras are recognized as Seireki (Western calendar) era,
  * and the year of era of Seireki is proleptic Gregorian year.
  * (The Julian to Gregorian transition is not supported.)
+ * <p>
+ * The eras are held in a table ordered by the date each era starts.
+ * Eras later than those defined as constants may be added, either by
+ * {@link #registerEra(LocalDate, String, String) registration} or by a
+ * configuration file read when this class is initialized.
+ * The default location of the configuration file is:
+ * <pre>
+ *   $CLASSPATH/javax/time/chrono/japanese_era.cfg</pre>
+ * The location can be overridden by setting the system property
+ * {@code javax.time.chrono.JapaneseEra.configFile} to the path of a file.
+ * Each line of the file defines one era as {@code since,name,abbreviation},
+ * such as {@code 2019-05-01,Reiwa,R}, in ascending order of the first date.
+ * Blank lines and lines starting with '#' are ignored.
  *
  * <h4>Implementation notes</h4>
  * This class is immutable and thread-safe.
@@ -57,64 +77,65 @@ public final class JapaneseEra implements Era, Serializable {
     // i.e., getValue() + ERA_OFFSET == 0-based index
     static final int ERA_OFFSET = 2;
 
-    static final sun.util.calendar.Era[] ERA_CONFIG;
-
     /**
-     * The singleton instance for the before Meiji era ( - 1868-09-07)
+     * The singleton instance for the before Meiji era ( - 1867-12-31)
      * which has the value -2.
      */
-    public static final JapaneseEra SEIREKI = new JapaneseEra(-2, LocalDate.MIN_DATE);
+    public static final JapaneseEra SEIREKI = new JapaneseEra(-2, LocalDate.MIN_DATE, "Seireki", "");
     /**
-     * The singleton instance for the Meiji era (1868-09-08 - 1912-07-29)
+     * The singleton instance for the Meiji era (1868-01-01 - 1912-07-29)
      * which has the value -1.
      */
-    public static final JapaneseEra MEIJI = new JapaneseEra(-1, LocalDate.of(1868, 9, 8));
+    public static final JapaneseEra MEIJI = new JapaneseEra(-1, LocalDate.of(1868, 1, 1), "Meiji", "M");
     /**
      * The singleton instance for the Taisho era (1912-07-30 - 1926-12-24)
      * which has the value 0.
      */
-    public static final JapaneseEra TAISHO = new JapaneseEra(0, LocalDate.of(1912, 7, 30));
+    public static final JapaneseEra TAISHO = new JapaneseEra(0, LocalDate.of(1912, 7, 30), "Taisho", "T");
     /**
      * The singleton instance for the Showa era (1926-12-25 - 1989-01-07)
      * which has the value 1.
      */
-    public static final JapaneseEra SHOWA = new JapaneseEra(1, LocalDate.of(1926, 12, 25));
+    public static final JapaneseEra SHOWA = new JapaneseEra(1, LocalDate.of(1926, 12, 25), "Showa", "S");
     /**
-     * The singleton instance for the Heisei era (1989-01-08 - current)
+     * The singleton instance for the Heisei era (1989-01-08 - 2019-04-30)
      * which has the value 2.
      */
-    public static final JapaneseEra HEISEI = new JapaneseEra(2, LocalDate.of(1989, 1, 8));
-
-    // the number of defined JapaneseEra constants.
-    // There could be an extra era defined in its configuration.
-    private static final int N_ERA_CONSTANTS = HEISEI.getValue() + ERA_OFFSET + 1;
+    public static final JapaneseEra HEISEI = new JapaneseEra(2, LocalDate.of(1989, 1, 8), "Heisei", "H");
+    /**
+     * The singleton instance for the Reiwa era (2019-05-01 - current)
+     * which has the value 3.
+     */
+    public static final JapaneseEra REIWA = new JapaneseEra(3, LocalDate.of(2019, 5, 1), "Reiwa", "R");
 
     /**
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
 
-    // array for the singleton JapaneseEra instances
-    private static final JapaneseEra[] KNOWN_ERAS;
+    /**
+     * The system property naming the era configuration file.
+     */
+    private static final String CONFIG_FILE_PROPERTY = "javax.time.chrono.JapaneseEra.configFile";
+    /**
+     * The classpath location of the default era configuration file.
+     */
+    private static final String DEFAULT_CONFIG_RESOURCE = "/javax/time/chrono/japanese_era.cfg";
+
+    /**
+     * The singleton instances, indexed by era value plus {@code ERA_OFFSET}.
+     * The array is never modified once published, registration replaces it.
+     */
+    private static final AtomicReference<JapaneseEra[]> KNOWN_ERAS = new AtomicReference<JapaneseEra[]>(
+            new JapaneseEra[] {SEIREKI, MEIJI, TAISHO, SHOWA, HEISEI, REIWA});
 
     static {
-        sun.util.calendar.Era[] sunEras = JapaneseChronology.JCAL.getEras();
-        ERA_CONFIG = new sun.util.calendar.Era[sunEras.length + 1];
-        for (int i = 1; i < ERA_CONFIG.length; i++) {
-            ERA_CONFIG[i] = sunEras[i - 1];
-        }
-        KNOWN_ERAS = new JapaneseEra[ERA_CONFIG.length];
-        KNOWN_ERAS[0] = SEIREKI;
-        KNOWN_ERAS[1] = MEIJI;
-        KNOWN_ERAS[2] = TAISHO;
-        KNOWN_ERAS[3] = SHOWA;
-        KNOWN_ERAS[4] = HEISEI;
-        for (int i = N_ERA_CONSTANTS; i < ERA_CONFIG.length; i++) {
-            CalendarDate date = ERA_CONFIG[i].getSinceDate();
-            LocalDate isoDate = LocalDate.of(date.getYear(), date.getMonth(), date.getDayOfMonth());
-            KNOWN_ERAS[i] = new JapaneseEra(i - ERA_OFFSET, isoDate);
+        try {
+            readEraConfig();
+        } catch (IOException | ParseException | DateTimeException e) {
+            // do nothing. Ignore the remainder of the era config.
         }
-    };
+    }
 
     /**
      * The era value.
@@ -124,16 +145,24 @@ public final class JapaneseEra implements Era, Serializable {
 
     // the first day of the era
     private final transient LocalDate since;
+    // the name of the era
+    private final transient String name;
+    // the abbreviation of the era, used in the text form of dates
+    private final transient String abbreviation;
 
     /**
      * Creates an instance.
      * 
      * @param eraValue  the era value, validated
      * @param since  the date representing the first date of the era, validated not null
+     * @param name  the name of the era, validated not null
+     * @param abbreviation  the abbreviation of the era, validated not null
      */
-    private JapaneseEra(int eraValue, LocalDate since) {
+    private JapaneseEra(int eraValue, LocalDate since, String name, String abbreviation) {
         this.eraValue = eraValue;
         this.since = since;
+        this.name = name;
+        this.abbreviation = abbreviation;
     }
 
     /**
@@ -154,24 +183,13 @@ public final class JapaneseEra implements Era, Serializable {
         }
     }
 
-    //-----------------------------------------------------------------------
-    /**
-     * Returns the Sun private Era instance corresponding to this {@code JapaneseEra}.
-     * SEIREKI doesn't have its corresponding one.
-     *
-     * @return the Sun private Era instance for this {@code JapaneseEra},
-     *         or null for SEIREKI.
-     */
-    sun.util.calendar.Era getPrivateEra() {
-        return ERA_CONFIG[eraValue + ERA_OFFSET];
-    }
-
     //-----------------------------------------------------------------------
     /**
      * Obtains an instance of {@code JapaneseEra} from a value.
      * <p>
      * The {@link #SHOWA} era that contains 1970-01-01 (ISO calendar system) has the value 1
-     * Later era is numbered 2 ({@link #HEISEI}). Earlier eras are numbered 0 ({@link #TAISHO}),
+     * Later eras are numbered 2 ({@link #HEISEI}) and 3 ({@link #REIWA}), followed by any
+     * registered eras. Earlier eras are numbered 0 ({@link #TAISHO}),
      * -1 ({@link #MEIJI}), only Meiji and later eras are supported. The prior to Meiji,
      * {@link #SEIREKI} is used.
      *
@@ -180,11 +198,57 @@ public final class JapaneseEra implements Era, Serializable {
      * @throws DateTimeException if {@code japaneseEra} is invalid
      */
     public static JapaneseEra of(int japaneseEra) {
+        JapaneseEra[] eras = KNOWN_ERAS.get();
         int index = japaneseEra + ERA_OFFSET;
-        if (index < 0 || index >= KNOWN_ERAS.length) {
+        if (index < 0 || index >= eras.length) {
             throw new DateTimeException("japaneseEra is invalid");
         }
-        return KNOWN_ERAS[index];
+        return eras[index];
+    }
+
+    /**
+     * Registers a new era starting after the latest known era.
+     * <p>
+     * The new era takes the value one greater than the latest known era, and
+     * ends the latest known era on the day before {@code since}.
+     * Dates created before the registration keep the era they were created with.
+     * <p>
+     * Registration does not lock. A new snapshot of the era table is created
+     * and published atomically, retrying if another registration was published first.
+     *
+     * @param since  the first date of the new era, not null
+     * @param name  the name of the new era, not null
+     * @param abbreviation  the abbreviation of the new era, used in the text form of dates, not null
+     * @return the registered era, not null
+     * @throws DateTimeException if {@code since} is not after the first date of the latest known era
+     */
+    public static JapaneseEra registerEra(LocalDate since, String name, String abbreviation) {
+        DateTimes.checkNotNull(since, "Since date must not be null");
+        DateTimes.checkNotNull(name, "Name must not be null");
+        DateTimes.checkNotNull(abbreviation, "Abbreviation must not be null");
+        while (true) {
+            JapaneseEra[] current = KNOWN_ERAS.get();
+            JapaneseEra latest = current[current.length - 1];
+            if (since.isAfter(latest.since) == false) {
+                throw new DateTimeException("Era must start after " + latest.since + ": " + since);
+            }
+            JapaneseEra era = new JapaneseEra(latest.eraValue + 1, since, name, abbreviation);
+            JapaneseEra[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = era;
+            if (KNOWN_ERAS.compareAndSet(current, updated)) {
+                return era;
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the known eras, ordered by era value.
+     * The returned array must not be modified.
+     *
+     * @return the known eras, starting with {@link #SEIREKI}, not null
+     */
+    static JapaneseEra[] knownEras() {
+        return KNOWN_ERAS.get();
     }
 
     //-----------------------------------------------------------------------
@@ -195,8 +259,9 @@ public final class JapaneseEra implements Era, Serializable {
      * @return the Era singleton, never null
      */
     static JapaneseEra from(LocalDate date) {
-        for (int i = KNOWN_ERAS.length - 1; i > 0; i--) {
-            JapaneseEra era = KNOWN_ERAS[i];
+        JapaneseEra[] eras = KNOWN_ERAS.get();
+        for (int i = eras.length - 1; i > 0; i--) {
+            JapaneseEra era = eras[i];
             if (date.compareTo(era.since) >= 0) {
                 return era;
             }
@@ -204,23 +269,45 @@ public final class JapaneseEra implements Era, Serializable {
         return SEIREKI;
     }
 
-    static JapaneseEra toJapaneseEra(sun.util.calendar.Era privateEra) {
-        for (int i = ERA_CONFIG.length - 1; i > 0; i--) {
-            if (ERA_CONFIG[i].equals(privateEra)) {
-                return KNOWN_ERAS[i];
+    /**
+     * Reads the era configuration file, registering each era in turn.
+     *
+     * @throws IOException if the file cannot be read
+     * @throws ParseException if a line does not have three fields
+     * @throws DateTimeException if a date is invalid or out of order
+     */
+    private static void readEraConfig() throws IOException, ParseException {
+        InputStream is;
+        String fileName = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (fileName != null) {
+            is = new FileInputStream(fileName);
+        } else {
+            is = JapaneseEra.class.getResourceAsStream(DEFAULT_CONFIG_RESOURCE);
+            if (is == null) {
+                return;
             }
         }
-        return SEIREKI;
-    }
-
-    static sun.util.calendar.Era privateEraFrom(LocalDate isoDate) {
-        for (int i = KNOWN_ERAS.length - 1; i > 0; i--) {
-            JapaneseEra era = KNOWN_ERAS[i];
-            if (isoDate.compareTo(era.since) >= 0) {
-                return ERA_CONFIG[i];
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(is, "UTF-8"))) {
+            String line;
+            int num = 0;
+            while ((line = br.readLine()) != null) {
+                num++;
+                line = line.trim();
+                if (line.length() == 0 || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                if (fields.length != 3) {
+                    throw new ParseException("Era has incorrect format at line " + num + ".", num);
+                }
+                LocalDate since = LocalDate.parse(fields[0].trim());
+                JapaneseEra[] eras = KNOWN_ERAS.get();
+                // eras already known, such as those defined as constants, are skipped
+                if (since.isAfter(eras[eras.length - 1].since)) {
+                    registerEra(since, fields[1].trim(), fields[2].trim());
+                }
             }
         }
-        return null;
     }
 
     //-----------------------------------------------------------------------
@@ -238,12 +325,28 @@ public final class JapaneseEra implements Era, Serializable {
         return eraValue;
     }
 
+    /**
+     * Gets the first date of this era.
+     *
+     * @return the first date, {@code LocalDate.MIN_DATE} for {@link #SEIREKI}, not null
+     */
+    LocalDate getSince() {
+        return since;
+    }
+
     String getAbbreviation() {
-        int index = getValue() + ERA_OFFSET;
-        if (index == 0) {
-            return "";
-        }
-        return ERA_CONFIG[index].getAbbreviation();
+        return abbreviation;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Outputs this era as a {@code String}, using the name of the era.
+     *
+     * @return the name of the era, not null
+     */
+    @Override
+    public String toString() {
+        return name;
     }
 
 }
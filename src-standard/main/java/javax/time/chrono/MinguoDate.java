@@ -106,6 +106,14 @@ final class MinguoDate extends ChronoDate implements Comparable<ChronoDate>, Ser
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return isoDate.isSupported(field);
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -150,16 +158,6 @@ final class MinguoDate extends ChronoDate implements Comparable<ChronoDate>, Ser
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    public MinguoDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    public MinguoDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
     @Override
     public MinguoDate plusDays(long days) {
         return with(isoDate.plusDays(days));
@@ -158,6 +158,28 @@ public final class ThaiBuddhistChronology extends Chronology implements Serializ
         return ThaiBuddhistDate.ofEpochDay(epochDay);
     }
 
+    //-----------------------------------------------------------------------
+    @Override
+    public long epochDay(int prolepticYear, int month, int dayOfMonth) {
+        return ISOChronology.INSTANCE.epochDay(prolepticYear - YEARS_DIFFERENCE, month, dayOfMonth);
+    }
+
+    @Override
+    public long packedDate(long epochDay) {
+        long isoPacked = ISOChronology.INSTANCE.packedDate(epochDay);
+        return packDate(packedYear(isoPacked) + YEARS_DIFFERENCE, packedMonth(isoPacked), packedDayOfMonth(isoPacked));
+    }
+
+    @Override
+    public int lengthOfMonth(int prolepticYear, int month) {
+        return ISOChronology.INSTANCE.lengthOfMonth(prolepticYear - YEARS_DIFFERENCE, month);
+    }
+
+    @Override
+    public int monthsPerYear() {
+        return 12;
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isLeapYear(long prolepticYear) {
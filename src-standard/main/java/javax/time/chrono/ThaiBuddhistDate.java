@@ -171,6 +171,14 @@ final class ThaiBuddhistDate extends ChronoDate implements Comparable<ChronoDate
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return isoDate.isSupported(field);
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -239,16 +247,6 @@ final class ThaiBuddhistDate extends ChronoDate implements Comparable<ChronoDate
     }
 
     //-----------------------------------------------------------------------
-    @Override
-    public ThaiBuddhistDate plusYears(long years) {
-        return with(isoDate.plusYears(years));
-    }
-
-    @Override
-    public ThaiBuddhistDate plusMonths(long months) {
-        return with(isoDate.plusMonths(months));
-    }
-
     @Override
     public ThaiBuddhistDate plusDays(long days) {
         return with(isoDate.plusDays(days));
@@ -36,11 +36,20 @@ import static javax.time.calendrical.LocalDateTimeField.MINUTE_OF_HOUR;
 import static javax.time.calendrical.LocalDateTimeField.SECOND_OF_MINUTE;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParsePosition;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,6 +62,12 @@ import java.util.SortedMap;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.jar.JarFile;
 import java.util.jar.JarOutputStream;
 import java.util.zip.ZipEntry;
 
@@ -73,9 +88,17 @@ import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 
 /**
  * A builder that can read the TZDB time-zone files and build {@code ZoneRules} instances.
+ * <p>
+ * When run from the command line, each version is compiled concurrently on a fork-join pool,
+ * with the zones of each version also built concurrently.
+ * The jar file output for each version records a checksum of the source files it was
+ * compiled from. A version whose sources match the checksum of the existing jar file
+ * is loaded from that file rather than being recompiled.
  * 
  * <h4>Implementation notes</h4>
  * This class is a mutable builder. A new instance must be created for each compile.
+ * A single compile is not thread-safe, however multiple instances may share a
+ * deduplication map and be compiled concurrently.
  */
 final class TZDBZoneRulesCompiler {
 
@@ -94,6 +117,23 @@ final class TZDBZoneRulesCompiler {
      * Constant for MJD 1972-01-01.
      */
     private static final long MJD_1972_01_01 = 41317L;
+    /**
+     * Constant for MJD 1970-01-01.
+     */
+    private static final long MJD_1970_01_01 = 40587L;
+    /**
+     * The name of the zone rules entry in the jar file.
+     */
+    private static final String ZONE_RULES_ENTRY = "javax/time/calendar/zone/ZoneRules.dat";
+    /**
+     * The name of the leap second entry in the jar file.
+     */
+    private static final String LEAP_SECONDS_ENTRY = "javax/time/LeapSecondRules.dat";
+    /**
+     * The prefix of the jar file comment holding the source checksum.
+     * This must be changed whenever the output format changes, invalidating cached output.
+     */
+    private static final String CHECKSUM_PREFIX = "TZDB-SHA1-v2:";
 
     /**
      * Reads a set of TZDB files and builds a single combined data file.
@@ -111,6 +151,7 @@ final class TZDBZoneRulesCompiler {
         File baseSrcDir = null;
         File dstDir = null;
         boolean verbose = false;
+        boolean force = false;
         
         // parse options
         int i;
@@ -139,6 +180,11 @@ final class TZDBZoneRulesCompiler {
                     verbose = true;
                     continue;
                 }
+            } else if ("-force".equals(arg)) {
+                if (force == false) {
+                    force = true;
+                    continue;
+                }
             } else if ("-help".equals(arg) == false) {
                 System.out.println("Unrecognised option: " + arg);
             }
@@ -197,7 +243,7 @@ final class TZDBZoneRulesCompiler {
             System.out.println("Destination is not a directory: " + dstDir);
             return;
         }
-        process(srcDirs, srcFileNames, dstDir, verbose);
+        process(srcDirs, srcFileNames, dstDir, force, verbose);
         System.exit(0);
     }
 
@@ -212,25 +258,29 @@ final class TZDBZoneRulesCompiler {
         System.out.println("   -version <version>    Specify the version, such as 2009a (optional)");
         System.out.println("   -help                 Print this usage message");
         System.out.println("   -verbose              Output verbose information during compilation");
+        System.out.println("   -force                Recompile all versions, ignoring existing version jar files");
         System.out.println(" There must be one directory for each version in srcdir");
         System.out.println(" Each directory must have the name of the version, such as 2009a");
         System.out.println(" Each directory must contain the unpacked tzdb files, such as asia or europe");
         System.out.println(" Directories must match the regex [12][0-9][0-9][0-9][A-Za-z0-9._-]+");
         System.out.println(" There will be one jar file for each version and one combined jar in dstdir");
         System.out.println(" If the version is specified, only that version is processed");
+        System.out.println(" A version whose source files are unchanged since its jar file was output is not recompiled");
     }
 
     /**
      * Process to create the jar files.
      */
-    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean verbose) {
+    private static void process(List<File> srcDirs, List<String> srcFileNames, File dstDir, boolean force, boolean verbose) {
         // build actual jar files
-        Map<Object, Object> deduplicateMap = new HashMap<>();
+        ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<>();
         Map<String, SortedMap<String, ZoneRules>> allBuiltZones = new TreeMap<>();
         Set<String> allRegionIds = new TreeSet<String>();
         Set<ZoneRules> allRules = new HashSet<ZoneRules>();
         SortedMap<LocalDate, Byte> bestLeapSeconds = null;
         
+        // start a task for each version
+        List<VersionTask> tasks = new ArrayList<>();
         for (File srcDir : srcDirs) {
             // source files in this directory
             List<File> srcFiles = new ArrayList<>();
@@ -248,26 +298,25 @@ final class TZDBZoneRulesCompiler {
                 System.out.println("Version " + srcDir.getName() + " does not include leap seconds information.");
                 leapSecondsFile = null;
             }
-            
-            // compile
             String loopVersion = srcDir.getName();
             TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler(loopVersion, srcFiles, leapSecondsFile, verbose);
             compiler.setDeduplicateMap(deduplicateMap);
-            try {
-                // compile
-                compiler.compile();
+            File dstFile = new File(dstDir, "jsr-310-TZDB-" + loopVersion + ".jar");
+            tasks.add(new VersionTask(compiler, dstFile, force));
+        }
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            for (VersionTask task : tasks) {
+                pool.execute(task);
+            }
+            // combine results in version order
+            for (VersionTask task : tasks) {
+                TZDBZoneRulesCompiler compiler = task.join();
                 SortedMap<String, ZoneRules> builtZones = compiler.getZones();
                 SortedMap<LocalDate, Byte> parsedLeapSeconds = compiler.getLeapSeconds();
                 
-                // output version-specific file
-                File dstFile = new File(dstDir, "jsr-310-TZDB-" + loopVersion + ".jar");
-                if (verbose) {
-                    System.out.println("Outputting file: " + dstFile);
-                }
-                outputFile(dstFile, loopVersion, builtZones, parsedLeapSeconds);
-                
                 // create totals
-                allBuiltZones.put(loopVersion, builtZones);
+                allBuiltZones.put(compiler.version, builtZones);
                 allRegionIds.addAll(builtZones.keySet());
                 allRules.addAll(builtZones.values());
                 
@@ -279,11 +328,13 @@ final class TZDBZoneRulesCompiler {
                         bestLeapSeconds = parsedLeapSeconds;
                     }
                 }
-            } catch (Exception ex) {
-                System.out.println("Failed: " + ex.toString());
-                ex.printStackTrace();
-                System.exit(1);
             }
+        } catch (RuntimeException ex) {
+            System.out.println("Failed: " + ex.toString());
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            pool.shutdown();
         }
         
         // output merged file
@@ -291,28 +342,69 @@ final class TZDBZoneRulesCompiler {
         if (verbose) {
             System.out.println("Outputting combined file: " + dstFile);
         }
-        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds);
+        outputFile(dstFile, allBuiltZones, allRegionIds, allRules, bestLeapSeconds, null);
+    }
+
+    /**
+     * Task to compile a single version, or load it from the existing jar file.
+     */
+    static final class VersionTask extends RecursiveTask<TZDBZoneRulesCompiler> {
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The compiler. */
+        private final TZDBZoneRulesCompiler compiler;
+        /** The version jar file. */
+        private final File dstFile;
+        /** Whether to ignore the existing jar file. */
+        private final boolean force;
+
+        VersionTask(TZDBZoneRulesCompiler compiler, File dstFile, boolean force) {
+            this.compiler = compiler;
+            this.dstFile = dstFile;
+            this.force = force;
+        }
+
+        @Override
+        protected TZDBZoneRulesCompiler compute() {
+            try {
+                String checksum = compiler.checksum();
+                if (force == false && compiler.loadCompiled(dstFile, checksum)) {
+                    compiler.printVerbose("Loaded unchanged TZDB version " + compiler.version + " from " + dstFile);
+                    return compiler;
+                }
+                compiler.compile();
+                compiler.printVerbose("Outputting file: " + dstFile);
+                outputFile(dstFile, compiler.version, compiler.getZones(), compiler.getLeapSeconds(), checksum);
+                return compiler;
+            } catch (Exception ex) {
+                throw new IllegalStateException("Unable to compile TZDB version " + compiler.version, ex);
+            }
+        }
     }
 
     /**
      * Outputs the file.
      */
-    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones, SortedMap<LocalDate, Byte> leapSeconds) {
+    private static void outputFile(File dstFile, String version, SortedMap<String, ZoneRules> builtZones,
+            SortedMap<LocalDate, Byte> leapSeconds, String checksum) {
         Map<String, SortedMap<String, ZoneRules>> loopAllBuiltZones = new TreeMap<>();
         loopAllBuiltZones.put(version, builtZones);
         Set<String> loopAllRegionIds = new TreeSet<String>(builtZones.keySet());
         Set<ZoneRules> loopAllRules = new HashSet<ZoneRules>(builtZones.values());
-        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds);
+        outputFile(dstFile, loopAllBuiltZones, loopAllRegionIds, loopAllRules, leapSeconds, checksum);
     }
 
     /**
      * Outputs the file.
      */
     private static void outputFile(File dstFile, Map<String, SortedMap<String, ZoneRules>> allBuiltZones,
-            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds) {
+            Set<String> allRegionIds, Set<ZoneRules> allRules, SortedMap<LocalDate, Byte> leapSeconds, String checksum) {
         try (JarOutputStream jos = new JarOutputStream(new FileOutputStream(dstFile))) {
             outputTZEntry(jos, allBuiltZones, allRegionIds, allRules);
             outputLeapSecondEntry(jos, leapSeconds);
+            if (checksum != null) {
+                jos.setComment(CHECKSUM_PREFIX + checksum);
+            }
         } catch (Exception ex) {
             System.out.println("Failed: " + ex.toString());
             ex.printStackTrace();
@@ -328,47 +420,59 @@ final class TZDBZoneRulesCompiler {
             Set<String> allRegionIds, Set<ZoneRules> allRules) {
         // this format is not publicly specified
         try {
-            jos.putNextEntry(new ZipEntry("javax/time/calendar/zone/ZoneRules.dat"));
+            jos.putNextEntry(new ZipEntry(ZONE_RULES_ENTRY));
             DataOutputStream out = new DataOutputStream(jos);
             
-            // file version
-            out.writeByte(1);
-            // group
-            out.writeUTF("TZDB");
             // all versions and regions
             String[] versionArray = allBuiltZones.keySet().toArray(new String[allBuiltZones.size()]);
-            out.writeShort(versionArray.length);
-            for (String version : versionArray) {
-                out.writeUTF(version);
-            }
             String[] regionArray = allRegionIds.toArray(new String[allRegionIds.size()]);
-            out.writeShort(regionArray.length);
-            for (String regionId : regionArray) {
-                out.writeUTF(regionId);
+            // order the rules by first use, choosing a base rule of the same region to share transitions with
+            List<StandardZoneRules> rulesList = new ArrayList<>(allRules.size());
+            List<Integer> baseList = new ArrayList<>(allRules.size());
+            Map<ZoneRules, Integer> rulesIndices = new HashMap<>();
+            Map<String, List<Integer>> regionBases = new HashMap<>();
+            for (String version : versionArray) {
+                for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
+                    StandardZoneRules rules = (StandardZoneRules) entry.getValue();
+                    if (rulesIndices.containsKey(rules) == false) {
+                        List<Integer> bases = regionBases.get(entry.getKey());
+                        if (bases == null) {
+                            bases = new ArrayList<>();
+                            regionBases.put(entry.getKey(), bases);
+                        }
+                        int baseIndex = findBaseRule(rules, rulesList, bases);
+                        if (baseIndex < 0) {
+                            bases.add(rulesList.size());
+                        }
+                        rulesIndices.put(rules, rulesList.size());
+                        rulesList.add(rules);
+                        baseList.add(baseIndex);
+                    }
+                }
             }
             // link version-region-rules
-            List<ZoneRules> rulesList = new ArrayList<>(allRules);
-            for (String version : allBuiltZones.keySet()) {
-                out.writeShort(allBuiltZones.get(version).size());
-                for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(version).entrySet()) {
+            short[][] links = new short[versionArray.length][regionArray.length];
+            for (int i = 0; i < versionArray.length; i++) {
+                Arrays.fill(links[i], (short) -1);
+                for (Map.Entry<String, ZoneRules> entry : allBuiltZones.get(versionArray[i]).entrySet()) {
                      int regionIndex = Arrays.binarySearch(regionArray, entry.getKey());
-                     int rulesIndex = rulesList.indexOf(entry.getValue());
-                     out.writeShort(regionIndex);
-                     out.writeShort(rulesIndex);
+                     int rulesIndex = rulesIndices.get(entry.getValue());
+                     links[i][regionIndex] = (short) rulesIndex;
                 }
             }
             // rules
-            out.writeShort(rulesList.size());
+            byte[][] rulesBytes = new byte[rulesList.size()][];
             ByteArrayOutputStream baos = new ByteArrayOutputStream(1024);
-            for (ZoneRules rules : rulesList) {
+            for (int i = 0; i < rulesBytes.length; i++) {
                 baos.reset();
                 DataOutputStream dataos = new DataOutputStream(baos);
-                Ser.write(rules, dataos);
+                int baseIndex = baseList.get(i);
+                ZoneRulesDataFormat.writeRule(dataos, rulesList.get(i), baseIndex, baseIndex >= 0 ? rulesList.get(baseIndex) : null);
                 dataos.close();
-                byte[] bytes = baos.toByteArray();
-                out.writeShort(bytes.length);
-                out.write(bytes);
+                rulesBytes[i] = baos.toByteArray();
             }
+            // file in version 3 format
+            ZoneRulesDataFormat.write(out, ZoneRulesDataFormat.VERSION_3, "TZDB", versionArray, regionArray, links, rulesBytes);
             
             out.flush();
             jos.closeEntry();
@@ -379,6 +483,31 @@ final class TZDBZoneRulesCompiler {
         }
     }
 
+    /**
+     * Finds the base rule that shares the most transitions with the specified rules.
+     * <p>
+     * A base rule is only used if it shares at least half the transitions.
+     * Otherwise, the rules become a new base rule for the region.
+     *
+     * @param rules  the rules to find a base for, not null
+     * @param rulesList  the rules output so far, not null
+     * @param bases  the indices of the base rules of the region, not null
+     * @return the index of the base rule, -1 if none
+     */
+    private static int findBaseRule(StandardZoneRules rules, List<StandardZoneRules> rulesList, List<Integer> bases) {
+        int total = rules.countSharedTransitions(rules);
+        int bestIndex = -1;
+        int bestShared = 0;
+        for (int baseIndex : bases) {
+            int shared = rules.countSharedTransitions(rulesList.get(baseIndex));
+            if (shared > bestShared) {
+                bestIndex = baseIndex;
+                bestShared = shared;
+            }
+        }
+        return (bestShared * 2 >= total ? bestIndex : -1);
+    }
+
     /**
      * Outputs the leap second entries in the JAR file.
      */
@@ -386,7 +515,7 @@ final class TZDBZoneRulesCompiler {
             JarOutputStream jos, SortedMap<LocalDate, Byte> leapSeconds) {
         // this format is not publicly specified
         try {
-            jos.putNextEntry(new ZipEntry("javax/time/LeapSecondRules.dat"));
+            jos.putNextEntry(new ZipEntry(LEAP_SECONDS_ENTRY));
             DataOutputStream out = new DataOutputStream(jos);
             
             // file version
@@ -424,7 +553,7 @@ final class TZDBZoneRulesCompiler {
     /** The built zones. */
     private final SortedMap<String, ZoneRules> builtZones = new TreeMap<>();
     /** A map to deduplicate object instances. */
-    private Map<Object, Object> deduplicateMap = new HashMap<>();
+    private ConcurrentMap<Object, Object> deduplicateMap = new ConcurrentHashMap<>();
     /** Sorted collection of LeapSecondRules. */
     private final SortedMap<LocalDate, Byte> leapSeconds = new TreeMap<>();
 
@@ -495,13 +624,167 @@ final class TZDBZoneRulesCompiler {
 
     /**
      * Sets the deduplication map.
+     * <p>
+     * The map may be shared between compilers running concurrently.
      *
      * @param deduplicateMap  the map to deduplicate items
      */
-    void setDeduplicateMap(Map<Object, Object> deduplicateMap) {
+    void setDeduplicateMap(ConcurrentMap<Object, Object> deduplicateMap) {
         this.deduplicateMap = deduplicateMap;
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Calculates the checksum of the source files.
+     * <p>
+     * The checksum covers the name and content of each source file and the leap seconds file.
+     *
+     * @return the checksum, as hexadecimal, not null
+     * @throws IOException if an error occurs
+     */
+    String checksum() throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        List<File> files = new ArrayList<>(sourceFiles);
+        if (leapSecondsFile != null) {
+            files.add(leapSecondsFile);
+        }
+        for (File file : files) {
+            digest.update(file.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            byte[] content = Files.readAllBytes(file.toPath());
+            digest.update(ByteBuffer.allocate(4).putInt(content.length).array());
+            digest.update(content);
+        }
+        StringBuilder buf = new StringBuilder();
+        for (byte b : digest.digest()) {
+            buf.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Loads the zones and leap seconds from a previously output version jar file.
+     * <p>
+     * The file is only loaded if it was output from source files with the same checksum.
+     * If loaded, {@link #getZones()} and {@link #getLeapSeconds()} return the loaded data.
+     *
+     * @param jarFile  the version jar file, not null
+     * @param checksum  the checksum of the source files, not null
+     * @return true if loaded, false if the file is missing, changed or unreadable
+     */
+    boolean loadCompiled(File jarFile, String checksum) {
+        if (jarFile.isFile() == false) {
+            return false;
+        }
+        try (JarFile jar = new JarFile(jarFile)) {
+            if ((CHECKSUM_PREFIX + checksum).equals(jar.getComment()) == false) {
+                return false;
+            }
+            ZipEntry rulesEntry = jar.getEntry(ZONE_RULES_ENTRY);
+            ZipEntry leapEntry = jar.getEntry(LEAP_SECONDS_ENTRY);
+            if (rulesEntry == null || leapEntry == null) {
+                return false;
+            }
+            SortedMap<String, ZoneRules> loadedZones = loadZones(readFully(jar.getInputStream(rulesEntry)));
+            SortedMap<LocalDate, Byte> loadedLeapSeconds = loadLeapSeconds(readFully(jar.getInputStream(leapEntry)));
+            if (loadedZones == null || loadedLeapSeconds == null) {
+                return false;
+            }
+            builtZones.putAll(loadedZones);
+            leapSeconds.putAll(loadedLeapSeconds);
+            return true;
+        } catch (Exception ex) {
+            printVerbose("Unable to load " + jarFile + ", recompiling: " + ex);
+            return false;
+        }
+    }
+
+    /**
+     * Loads the zones of this version from the zone rules entry.
+     *
+     * @param bytes  the bytes of the entry, not null
+     * @return the zones, null if the entry is not for this version
+     */
+    private SortedMap<String, ZoneRules> loadZones(final byte[] bytes) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final ZoneRulesDataFormat format = ZoneRulesDataFormat.read(buffer);
+        String[] versionIDs = format.getVersionIDs();
+        if (versionIDs.length != 1 || versionIDs[0].equals(version) == false) {
+            return null;
+        }
+        String[] regionIDs = format.getRegionIDs();
+        final ZoneRules[] loaded = new ZoneRules[format.getRuleCount()];
+        ZoneRulesDataFormat.RuleLoader loader = new ZoneRulesDataFormat.RuleLoader() {
+            @Override
+            public ZoneRules loadRule(int index) throws Exception {
+                if (loaded[index] == null) {
+                    DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                            bytes, format.getRulePosition(index), format.getRuleLength(index)));
+                    ZoneRules rules = (format.getFormatVersion() == ZoneRulesDataFormat.VERSION_3 ?
+                            ZoneRulesDataFormat.readRule(in, this) : (ZoneRules) Ser.read(in));
+                    loaded[index] = deduplicate(rules);
+                }
+                return loaded[index];
+            }
+        };
+        SortedMap<String, ZoneRules> zones = new TreeMap<>();
+        int linkPosition = format.getLinkPosition(0);
+        for (int i = 0; i < regionIDs.length; i++) {
+            int ruleIndex = buffer.getShort(linkPosition + 2 * i);
+            if (ruleIndex >= 0) {
+                zones.put(deduplicate(regionIDs[i]), loader.loadRule(ruleIndex));
+            }
+        }
+        return zones;
+    }
+
+    /**
+     * Loads the leap seconds from the leap second entry.
+     *
+     * @param bytes  the bytes of the entry, not null
+     * @return the leap seconds, null if the format is not recognised
+     */
+    private static SortedMap<LocalDate, Byte> loadLeapSeconds(byte[] bytes) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readByte() != 1) {
+            return null;
+        }
+        int count = in.readInt();
+        SortedMap<LocalDate, Byte> leaps = new TreeMap<>();
+        in.readLong();
+        int offset = in.readInt();
+        for (int i = 1; i < count; i++) {
+            LocalDate date = LocalDate.ofEpochDay(in.readLong() - MJD_1970_01_01);
+            int newOffset = in.readInt();
+            leaps.put(date, (byte) (newOffset - offset));
+            offset = newOffset;
+        }
+        return leaps;
+    }
+
+    /**
+     * Reads the stream fully, closing it.
+     *
+     * @param stream  the stream to read, not null
+     * @return the bytes, not null
+     */
+    private static byte[] readFully(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream(16 * 1024);
+            byte[] buf = new byte[8192];
+            int read;
+            while ((read = in.read(buf)) >= 0) {
+                baos.write(buf, 0, read);
+            }
+            return baos.toByteArray();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Parses the source files.
@@ -513,6 +796,12 @@ final class TZDBZoneRulesCompiler {
             printVerbose("Parsing file: " + file);
             parseFile(file);
         }
+        // adjust the rules now, as they are shared between zones built concurrently
+        for (List<TZDBRule> ruleList : rules.values()) {
+            for (TZDBRule rule : ruleList) {
+                rule.adjustToFowards(2004);  // irrelevant, treat as leap year
+            }
+        }
     }
 
     /**
@@ -877,17 +1166,20 @@ final class TZDBZoneRulesCompiler {
      * @throws Exception if an error occurs
      */
     private void buildZoneRules() throws Exception {
-        // build zones
+        // build zones, concurrently if running in a fork-join pool
+        List<ZoneTask> tasks = new ArrayList<>();
         for (String zoneId : zones.keySet()) {
-            printVerbose("Building zone " + zoneId);
-            zoneId = deduplicate(zoneId);
-            List<TZDBZone> tzdbZones = zones.get(zoneId);
-            ZoneRulesBuilder bld = new ZoneRulesBuilder();
-            for (TZDBZone tzdbZone : tzdbZones) {
-                bld = tzdbZone.addToBuilder(bld, rules);
+            tasks.add(new ZoneTask(deduplicate(zoneId)));
+        }
+        if (ForkJoinTask.inForkJoinPool()) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            for (ZoneTask task : tasks) {
+                task.invoke();
             }
-            ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
-            builtZones.put(zoneId, deduplicate(buildRules));
+        }
+        for (ZoneTask task : tasks) {
+            builtZones.put(task.zoneId, task.join());
         }
         
         // build aliases
@@ -912,9 +1204,37 @@ final class TZDBZoneRulesCompiler {
         builtZones.remove("GMT");
     }
 
+    /**
+     * Task to build the rules of a single zone.
+     */
+    final class ZoneTask extends RecursiveTask<ZoneRules> {
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The zone ID. */
+        private final String zoneId;
+
+        ZoneTask(String zoneId) {
+            this.zoneId = zoneId;
+        }
+
+        @Override
+        protected ZoneRules compute() {
+            printVerbose("Building zone " + zoneId);
+            List<TZDBZone> tzdbZones = zones.get(zoneId);
+            ZoneRulesBuilder bld = new ZoneRulesBuilder();
+            for (TZDBZone tzdbZone : tzdbZones) {
+                bld = tzdbZone.addToBuilder(bld, rules);
+            }
+            ZoneRules buildRules = bld.toRules(zoneId, deduplicateMap);
+            return deduplicate(buildRules);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Deduplicates an object instance.
+     * <p>
+     * This is thread-safe, as the map may be shared between compilers.
      *
      * @param <T> the generic type
      * @param object  the object to deduplicate
@@ -922,10 +1242,8 @@ final class TZDBZoneRulesCompiler {
      */
     @SuppressWarnings("unchecked")
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        Object existing = deduplicateMap.putIfAbsent(object, object);
+        return (existing != null ? (T) existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.chrono;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+
+import javax.time.DateTimes;
+
+import org.testng.Assert;
+
+/**
+ * Runs checks in a separate class loader that has its own copy of the library.
+ * <p>
+ * This allows tests to change static state, such as the calendar system registry
+ * or the Japanese era table, without affecting other tests.
+ */
+final class IsolatedClassLoaderTests {
+
+    /**
+     * Restricted constructor.
+     */
+    private IsolatedClassLoaderTests() {
+    }
+
+    /**
+     * Runs a check in a class loader that has its own copy of the library.
+     * <p>
+     * The context class loader is switched while the check runs,
+     * so that service providers are found by the same class loader.
+     *
+     * @param check  the check to run, public with a public no-argument constructor
+     * @param extraUrls  additional locations for the class loader, searched first
+     * @throws Exception if the check cannot be loaded
+     */
+    static void run(Class<? extends IsolatedCheck> check, URL... extraUrls) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(urls(check, extraUrls), ClassLoader.getSystemClassLoader().getParent())) {
+            run(check, loader);
+        }
+    }
+
+    /**
+     * Runs a check in a class loader that has its own copy of the library,
+     * and that fails with an {@code IOException} when service configuration files are located.
+     *
+     * @param check  the check to run, public with a public no-argument constructor
+     * @throws Exception if the check cannot be loaded
+     */
+    static void runWithFailingServiceLookup(Class<? extends IsolatedCheck> check) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(urls(check), ClassLoader.getSystemClassLoader().getParent()) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (name.startsWith("META-INF/services/")) {
+                    throw new IOException("Service lookup failed");
+                }
+                return super.getResources(name);
+            }
+        }) {
+            run(check, loader);
+        }
+    }
+
+    /**
+     * Gets the locations of the library and the check.
+     *
+     * @param check  the check to run, not null
+     * @param extraUrls  additional locations, searched first
+     * @return the locations for the class loader, not null
+     */
+    private static URL[] urls(Class<? extends IsolatedCheck> check, URL... extraUrls) {
+        List<URL> urls = new ArrayList<>(Arrays.asList(extraUrls));
+        urls.add(DateTimes.class.getProtectionDomain().getCodeSource().getLocation());
+        urls.add(Chronology.class.getProtectionDomain().getCodeSource().getLocation());
+        urls.add(check.getProtectionDomain().getCodeSource().getLocation());
+        return urls.toArray(new URL[urls.size()]);
+    }
+
+    /**
+     * Runs a check in the specified class loader.
+     *
+     * @param check  the check to run, public with a public no-argument constructor
+     * @param loader  the class loader, which is also used as the context class loader, not null
+     * @throws Exception if the check cannot be loaded
+     */
+    private static void run(Class<? extends IsolatedCheck> check, ClassLoader loader) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try {
+            Class<?> cls = Class.forName(check.getName(), true, loader);
+            Assert.assertNotSame(cls, check);
+            thread.setContextClassLoader(loader);
+            ((Runnable) cls.newInstance()).run();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * Base class for a check run by {@link IsolatedClassLoaderTests#run(Class, URL...)}.
+     * This cannot use TestNG, which is not visible to the isolated class loader.
+     */
+    abstract static class IsolatedCheck implements Runnable {
+        static void check(Object actual, Object expected) {
+            if (expected.equals(actual) == false) {
+                throw new AssertionError("expected:<" + expected + "> but was:<" + actual + ">");
+            }
+        }
+    }
+
+}
@@ -33,11 +33,24 @@ package javax.time.chrono;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Locale;
+import java.util.ServiceConfigurationError;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.time.DateTimeException;
+import javax.time.LocalDate;
+import javax.time.calendrical.DateTimeValueRange;
+import javax.time.calendrical.LocalDateTimeField;
+import javax.time.chrono.IsolatedClassLoaderTests.IsolatedCheck;
 
 import org.testng.Assert;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -47,19 +60,6 @@ import org.testng.annotations.Test;
 @Test
 public class TestChronology {
 
-    @BeforeMethod
-    public void setUp() {
-        // Ensure each of the classes are initialized (until initialization is fixed)
-        Chronology c;
-        c = CopticChronology.INSTANCE;
-        c = HijrahChronology.INSTANCE;
-        c = ISOChronology.INSTANCE;
-        c = JapaneseChronology.INSTANCE;
-        c = MinguoChronology.INSTANCE;
-        c = ThaiBuddhistChronology.INSTANCE;
-        c.toString();  // avoids variable being marked as unused
-    }
-
     //-----------------------------------------------------------------------
     // regular data factory for names and descriptions of available calendars
     //-----------------------------------------------------------------------
@@ -98,6 +98,237 @@ public class TestChronology {
         Assert.assertEquals(names.size(), 6, "Required list of calendars too short");
     }
 
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_ofName_unknown() {
+        Chronology.ofName("Unknown");
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_ofName_null() {
+        Chronology.ofName(null);
+    }
+
+    //-----------------------------------------------------------------------
+    // registration, each run against a separate copy of the registry
+    //-----------------------------------------------------------------------
+    @Test
+    public void test_register() throws Exception {
+        IsolatedClassLoaderTests.run(RegisterCheck.class);
+        assertEquals(Chronology.getAvailableNames().contains("TestRegister"), false);
+    }
+
+    @Test
+    public void test_register_firstRegisteredWins() throws Exception {
+        IsolatedClassLoaderTests.run(FirstRegisteredWinsCheck.class);
+        assertEquals(Chronology.getAvailableNames().contains("TestFirst"), false);
+    }
+
+    @Test
+    public void test_register_builtInNotReplaced() throws Exception {
+        IsolatedClassLoaderTests.run(BuiltInNotReplacedCheck.class);
+    }
+
+    @Test
+    public void test_serviceProviders_brokenProviderSkipped() throws Exception {
+        File dir = Files.createTempDirectory("chrono").toFile();
+        File services = new File(dir, "META-INF/services");
+        services.mkdirs();
+        File file = new File(services, Chronology.class.getName());
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+            out.write(TestChronology.class.getName() + "$MissingChronology\n");
+            out.write(TestChronology.class.getName() + "$BrokenChronology\n");
+            out.write(ProviderChronology.class.getName() + "\n");
+        }
+        try {
+            IsolatedClassLoaderTests.run(ServiceProvidersCheck.class, dir.toURI().toURL());
+        } finally {
+            file.delete();
+            services.delete();
+            services.getParentFile().delete();
+            dir.delete();
+        }
+    }
+
+    @Test(timeOut = 20000)
+    public void test_serviceProviders_lookupFailureStopsLoading() throws Exception {
+        IsolatedClassLoaderTests.runWithFailingServiceLookup(ServiceLookupFailureCheck.class);
+    }
+
+    /**
+     * Registers a calendar system, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class RegisterCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            Chronology chrono = new DelegatingChronology() {
+                @Override
+                public String getName() {
+                    return "TestRegister";
+                }
+                @Override
+                protected String getLocaleId() {
+                    return "testreg";
+                }
+            };
+            check(Chronology.ofName("TestRegister"), chrono);
+            check(Chronology.getAvailableNames().contains("TestRegister"), true);
+            Locale locale = new Locale.Builder().setLanguage("en").setUnicodeLocaleKeyword("ca", "testreg").build();
+            check(Chronology.ofLocale(locale), chrono);
+        }
+    }
+
+    /**
+     * Registers the same name twice, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class FirstRegisteredWinsCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            Chronology first = new FirstChronology();
+            Chronology second = new FirstChronology();
+            check(Chronology.ofName("TestFirst") == first, true);
+            check(Chronology.ofName("TestFirst") == second, false);
+        }
+    }
+
+    /**
+     * Registers the name of a built-in calendar system, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class BuiltInNotReplacedCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            new DelegatingChronology() {
+                @Override
+                public String getName() {
+                    return "Coptic";
+                }
+                @Override
+                protected String getLocaleId() {
+                    return "coptic";
+                }
+            };
+            check(Chronology.ofName("Coptic"), CopticChronology.INSTANCE);
+            Locale locale = new Locale.Builder().setLanguage("en").setUnicodeLocaleKeyword("ca", "coptic").build();
+            check(Chronology.ofLocale(locale), CopticChronology.INSTANCE);
+        }
+    }
+
+    /**
+     * Loads service providers where some are broken, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class ServiceProvidersCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            check(Chronology.ofName("TestProvider").getClass().getName(), ProviderChronology.class.getName());
+            check(Chronology.getAvailableNames().size(), 7);
+            try {
+                Chronology.ofName("Unknown");
+                throw new AssertionError("expected DateTimeException");
+            } catch (DateTimeException ex) {
+                check(ex.getCause() instanceof ServiceConfigurationError, true);
+                check(ex.getCause().getSuppressed().length, 1);
+            }
+        }
+    }
+
+    /**
+     * Loads service providers where the lookup fails, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class ServiceLookupFailureCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            try {
+                Chronology.ofName("Unknown");
+                throw new AssertionError("expected DateTimeException");
+            } catch (DateTimeException ex) {
+                check(ex.getCause() instanceof ServiceConfigurationError, true);
+                check(ex.getCause().getSuppressed().length, 0);
+            }
+            check(Chronology.ofName("Coptic").getName(), "Coptic");
+            check(Chronology.getAvailableNames().size(), 6);
+        }
+    }
+
+    /**
+     * A service provider whose class cannot be initialized.
+     */
+    public static final class BrokenChronology extends DelegatingChronology {
+        static {
+            if (Boolean.TRUE) {
+                throw new IllegalStateException("Broken provider");
+            }
+        }
+        @Override
+        public String getName() {
+            return "TestBroken";
+        }
+        @Override
+        protected String getLocaleId() {
+            return null;
+        }
+    }
+
+    /**
+     * A service provider named "TestProvider", listed after the broken providers.
+     */
+    public static final class ProviderChronology extends DelegatingChronology {
+        @Override
+        public String getName() {
+            return "TestProvider";
+        }
+        @Override
+        protected String getLocaleId() {
+            return null;
+        }
+    }
+
+    /**
+     * A calendar system named "TestFirst".
+     */
+    static final class FirstChronology extends DelegatingChronology {
+        @Override
+        public String getName() {
+            return "TestFirst";
+        }
+        @Override
+        protected String getLocaleId() {
+            return null;
+        }
+    }
+
+    /**
+     * A calendar system delegating to ISO, leaving the name to subclasses.
+     */
+    abstract static class DelegatingChronology extends Chronology {
+        @Override
+        public ChronoDate date(int prolepticYear, int month, int dayOfMonth) {
+            return ISOChronology.INSTANCE.date(prolepticYear, month, dayOfMonth);
+        }
+        @Override
+        public ChronoDate dateFromYearDay(int prolepticYear, int dayOfYear) {
+            return ISOChronology.INSTANCE.dateFromYearDay(prolepticYear, dayOfYear);
+        }
+        @Override
+        public ChronoDate dateFromEpochDay(long epochDay) {
+            return ISOChronology.INSTANCE.dateFromEpochDay(epochDay);
+        }
+        @Override
+        public boolean isLeapYear(long prolepticYear) {
+            return ISOChronology.INSTANCE.isLeapYear(prolepticYear);
+        }
+        @Override
+        public int prolepticYear(Era era, int yearOfEra) {
+            return ISOChronology.INSTANCE.prolepticYear(era, yearOfEra);
+        }
+        @Override
+        public Era createEra(int eraValue) {
+            return ISOChronology.INSTANCE.createEra(eraValue);
+        }
+        @Override
+        public DateTimeValueRange range(LocalDateTimeField field) {
+            return ISOChronology.INSTANCE.range(field);
+        }
+    }
+
     /**
      * Compute the number of days from the Epoch and compute the date from the number of days.
      */
@@ -112,6 +343,260 @@ public class TestChronology {
         Assert.assertEquals(epoch1, epoch2, "Epoch day not the same: " + epoch1 + " != " + epoch2);
     }
 
+    //-----------------------------------------------------------------------
+    // epoch-day codec
+    //-----------------------------------------------------------------------
+    @DataProvider(name = "chronos")
+    Object[][] data_chronos() {
+        return new Object[][] {
+            {CopticChronology.INSTANCE},
+            {HijrahChronology.INSTANCE},
+            {ISOChronology.INSTANCE},
+            {JapaneseChronology.INSTANCE},
+            {MinguoChronology.INSTANCE},
+            {ThaiBuddhistChronology.INSTANCE},
+        };
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_codec_matchesDates(Chronology chrono) {
+        long start = -200000;  // 1422-06-24 ISO
+        for (long epochDay = start; epochDay < start + 400000; epochDay += 37) {
+            ChronoDate date = chrono.dateFromEpochDay(epochDay);
+            int year = chrono.prolepticYear(date.getEra(), date.getYearOfEra());
+            long packed = chrono.packedDate(epochDay);
+            assertEquals(Chronology.packedYear(packed), year, "year for " + date);
+            assertEquals(Chronology.packedMonth(packed), date.getMonth(), "month for " + date);
+            assertEquals(Chronology.packedDayOfMonth(packed), date.getDayOfMonth(), "day for " + date);
+            assertEquals(chrono.epochDay(year, date.getMonth(), date.getDayOfMonth()), epochDay);
+            assertEquals(chrono.lengthOfMonth(year, date.getMonth()), date.lengthOfMonth());
+        }
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_codec_arithmeticMatchesDates(Chronology chrono) {
+        ChronoDate date = chrono.dateFromEpochDay(4321);
+        for (int months = -40; months <= 40; months++) {
+            ChronoDate test = date.plusMonths(months);
+            int year = chrono.prolepticYear(test.getEra(), test.getYearOfEra());
+            int expected = Math.min(date.getDayOfMonth(), chrono.lengthOfMonth(year, test.getMonth()));
+            assertEquals(test.getDayOfMonth(), expected);
+            assertEquals(test.minusMonths(months).getDayOfMonth() <= date.getDayOfMonth(), true);
+            assertEquals(Long.signum(test.compareTo(date)), Integer.signum(months));
+        }
+        assertEquals(date.plusDays(1000).toEpochDay(), 5321);
+        assertEquals(date.plusYears(3).get(LocalDateTimeField.MONTH_OF_YEAR), date.getMonth());
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_codec_monthsPerYear(Chronology chrono) {
+        assertEquals(chrono.monthsPerYear(), chrono.range(LocalDateTimeField.MONTH_OF_YEAR).getMaximum());
+    }
+
+    @DataProvider(name = "isoBased")
+    Object[][] data_isoBased() {
+        return new Object[][] {
+            {JapaneseChronology.INSTANCE},
+            {MinguoChronology.INSTANCE},
+            {ThaiBuddhistChronology.INSTANCE},
+        };
+    }
+
+    @Test(dataProvider = "isoBased")
+    public void test_codec_arithmeticMatchesISO(Chronology chrono) {
+        LocalDate base = LocalDate.of(1996, 1, 31);
+        ChronoDate date = chrono.date(base);
+        for (int amount = -30; amount <= 30; amount++) {
+            assertEquals(date.plusMonths(amount).toLocalDate(), base.plusMonths(amount));
+            assertEquals(date.plusYears(amount).plusMonths(1).toLocalDate(), base.plusYears(amount).plusMonths(1));
+            assertEquals(date.plusDays(amount * 17).toLocalDate(), base.plusDays(amount * 17));
+        }
+    }
+
+    @DataProvider(name = "isoCodec")
+    Object[][] data_isoCodec() {
+        return new Object[][] {
+            {ISOChronology.INSTANCE, 0},
+            {JapaneseChronology.INSTANCE, 0},
+            {MinguoChronology.INSTANCE, 1911},
+            {ThaiBuddhistChronology.INSTANCE, -543},
+        };
+    }
+
+    @Test(dataProvider = "isoCodec")
+    public void test_codec_matchesLocalDate(Chronology chrono, int isoYearOffset) {
+        long[] epochDays = {
+            LocalDate.MIN_DATE.toEpochDay() + 1000, -719528, -719469, -1, 0, 59, 10956, 11016,
+            LocalDate.MAX_DATE.toEpochDay() - 1000,
+        };
+        for (long epochDay : epochDays) {
+            assertCodecMatchesLocalDate(chrono, isoYearOffset, epochDay);
+        }
+        for (long epochDay = -300000; epochDay < 300000; epochDay += 19) {
+            assertCodecMatchesLocalDate(chrono, isoYearOffset, epochDay);
+        }
+    }
+
+    private void assertCodecMatchesLocalDate(Chronology chrono, int isoYearOffset, long epochDay) {
+        LocalDate expected = LocalDate.ofEpochDay(epochDay);
+        long packed = chrono.packedDate(epochDay);
+        assertEquals(Chronology.packedYear(packed) + isoYearOffset, expected.getYear(), "year for " + expected);
+        assertEquals(Chronology.packedMonth(packed), expected.getMonthValue(), "month for " + expected);
+        assertEquals(Chronology.packedDayOfMonth(packed), expected.getDayOfMonth(), "day for " + expected);
+        assertEquals(chrono.epochDay(expected.getYear() - isoYearOffset, expected.getMonthValue(), expected.getDayOfMonth()), epochDay);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_codec_epochDay_invalidLeapDay() {
+        ISOChronology.INSTANCE.epochDay(2001, 2, 29);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = DateTimeException.class)
+    public void test_codec_epochDay_invalidDay(Chronology chrono) {
+        chrono.epochDay(2000, 1, 32);
+    }
+
+    @Test(dataProvider = "chronos", expectedExceptions = DateTimeException.class)
+    public void test_codec_epochDay_invalidMonth(Chronology chrono) {
+        chrono.epochDay(2000, 14, 1);
+    }
+
+    @DataProvider(name = "packing")
+    Object[][] data_packing() {
+        return new Object[][] {
+            {1970, 1, 1},
+            {-1, 12, 31},
+            {-999999999, 1, 1},
+            {999999999, 13, 30},
+            {0, 2, 29},
+        };
+    }
+
+    @Test(dataProvider = "packing")
+    public void test_packDate(int year, int month, int dayOfMonth) {
+        long packed = Chronology.packDate(year, month, dayOfMonth);
+        assertEquals(Chronology.packedYear(packed), year);
+        assertEquals(Chronology.packedMonth(packed), month);
+        assertEquals(Chronology.packedDayOfMonth(packed), dayOfMonth);
+    }
+
+    //-----------------------------------------------------------------------
+    // bulk conversion
+    //-----------------------------------------------------------------------
+    @Test(dataProvider = "chronos")
+    public void test_bulk_roundTrip(Chronology chrono) {
+        long[] epochDays = new long[1000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -150000 + i * 263L;
+        }
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        chrono.epochDaysToFields(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            long packed = chrono.packedDate(epochDays[i]);
+            assertEquals(years[i], Chronology.packedYear(packed));
+            assertEquals(months[i], Chronology.packedMonth(packed));
+            assertEquals(days[i], Chronology.packedDayOfMonth(packed));
+        }
+        long[] result = new long[epochDays.length];
+        chrono.fieldsToEpochDays(years, months, days, result);
+        assertEquals(Arrays.equals(result, epochDays), true);
+    }
+
+    @Test(dataProvider = "isoCodec")
+    public void test_bulk_matchesDates(Chronology chrono, int isoYearOffset) {
+        long[] epochDays = new long[1000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -150000 + i * 263L;
+        }
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        chrono.epochDaysToFields(epochDays, years, months, days);
+        long[] result = new long[epochDays.length];
+        chrono.fieldsToEpochDays(years, months, days, result);
+        for (int i = 0; i < epochDays.length; i++) {
+            ChronoDate date = chrono.date(years[i], months[i], days[i]);
+            assertEquals(date.toEpochDay(), epochDays[i]);
+            assertEquals(date.getMonth(), months[i]);
+            assertEquals(date.getDayOfMonth(), days[i]);
+            assertEquals(date.toLocalDate().getYear(), years[i] + isoYearOffset);
+            assertEquals(result[i], chrono.dateFromEpochDay(epochDays[i]).toEpochDay());
+        }
+    }
+
+    @Test(dataProvider = "chronos")
+    public void test_bulk_parallelMatchesSequential(Chronology chrono) {
+        long[] epochDays = new long[100000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -50000 + i;
+        }
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        chrono.epochDaysToFields(epochDays, years, months, days);
+        int[] parallelYears = new int[epochDays.length];
+        int[] parallelMonths = new int[epochDays.length];
+        int[] parallelDays = new int[epochDays.length];
+        chrono.epochDaysToFieldsParallel(epochDays, parallelYears, parallelMonths, parallelDays);
+        assertEquals(Arrays.equals(parallelYears, years), true);
+        assertEquals(Arrays.equals(parallelMonths, months), true);
+        assertEquals(Arrays.equals(parallelDays, days), true);
+        long[] result = new long[epochDays.length];
+        chrono.fieldsToEpochDaysParallel(years, months, days, result);
+        assertEquals(Arrays.equals(result, epochDays), true);
+    }
+
+    @Test
+    public void test_bulk_parallel_insidePool() throws Exception {
+        final long[] epochDays = new long[100000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = -50000 + i;
+        }
+        final int[] years = new int[epochDays.length];
+        final int[] months = new int[epochDays.length];
+        final int[] days = new int[epochDays.length];
+        final long[] result = new long[epochDays.length];
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            pool.submit(new Runnable() {
+                @Override
+                public void run() {
+                    ISOChronology.INSTANCE.epochDaysToFieldsParallel(epochDays, years, months, days);
+                    ISOChronology.INSTANCE.fieldsToEpochDaysParallel(years, months, days, result);
+                }
+            }).get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(LocalDate.of(years[0], months[0], days[0]), LocalDate.ofEpochDay(-50000));
+        assertEquals(Arrays.equals(result, epochDays), true);
+    }
+
+    @Test(expectedExceptions = DateTimeException.class)
+    public void test_bulk_parallel_invalidDate() {
+        int length = 100000;
+        int[] years = new int[length];
+        int[] months = new int[length];
+        int[] days = new int[length];
+        Arrays.fill(years, 2012);
+        Arrays.fill(months, 2);
+        Arrays.fill(days, 28);
+        days[length - 7] = 30;
+        ISOChronology.INSTANCE.fieldsToEpochDaysParallel(years, months, days, new long[length]);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void test_bulk_lengthMismatch() {
+        ISOChronology.INSTANCE.epochDaysToFields(new long[3], new int[3], new int[2], new int[3]);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void test_bulk_null() {
+        ISOChronology.INSTANCE.fieldsToEpochDays(new int[3], null, new int[3], new long[3]);
+    }
+
     //-----------------------------------------------------------------------
     // locale based lookup
     //-----------------------------------------------------------------------
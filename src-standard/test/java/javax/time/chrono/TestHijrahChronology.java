@@ -33,10 +33,18 @@ package javax.time.chrono;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+
 import javax.time.DateTimeException;
 import javax.time.LocalDate;
 import javax.time.LocalDateTime;
 import javax.time.calendrical.DateTimeAdjusters;
+import javax.time.calendrical.LocalDateTimeField;
+import javax.time.chrono.IsolatedClassLoaderTests.IsolatedCheck;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -167,6 +175,159 @@ public class TestHijrahChronology {
         assertEquals(test, LocalDateTime.ofMidnight(2298, 12, 4));
     }
 
+    //-----------------------------------------------------------------------
+    // epoch-day conversion
+    //-----------------------------------------------------------------------
+    @DataProvider(name="eraBoundary")
+    Object[][] data_eraBoundary() {
+        return new Object[][] {
+            {LocalDate.of(622, 7, 17), HijrahEra.BEFORE_HIJRAH, 1, 12, 28},
+            {LocalDate.of(622, 7, 18), HijrahEra.BEFORE_HIJRAH, 1, 12, 29},
+            {LocalDate.of(622, 7, 19), HijrahEra.HIJRAH, 1, 1, 1},
+            {LocalDate.of(623, 7, 7), HijrahEra.HIJRAH, 1, 12, 29},
+            {LocalDate.of(623, 7, 8), HijrahEra.HIJRAH, 2, 1, 1},
+        };
+    }
+
+    @Test(dataProvider="eraBoundary", groups={"implementation"})
+    public void test_eraBoundary(LocalDate iso, HijrahEra era, int yearOfEra, int month, int dom) {
+        HijrahDate test = HijrahDate.of(iso);
+        assertEquals(test.getEra(), era);
+        assertEquals(test.getYearOfEra(), yearOfEra);
+        assertEquals(test.getMonth(), month);
+        assertEquals(test.getDayOfMonth(), dom);
+        assertEquals(HijrahDate.of(era, yearOfEra, month, dom).toLocalDate(), iso);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_epochDay_roundTrip() {
+        long start = LocalDate.of(600, 1, 1).toEpochDay();
+        long end = LocalDate.of(2100, 1, 1).toEpochDay();
+        HijrahDate previous = HijrahDate.ofEpochDay(start - 1);
+        for (long epochDay = start; epochDay < end; epochDay++) {
+            HijrahDate test = HijrahDate.ofEpochDay(epochDay);
+            assertEquals(test.toEpochDay(), epochDay);
+            assertEquals(HijrahDate.of(test.getEra(), test.getYearOfEra(), test.getMonth(), test.getDayOfMonth()), test);
+            assertEquals(test.getDayOfWeek(), test.toLocalDate().getDayOfWeek());
+            if (test.getDayOfMonth() == 1) {
+                assertEquals(previous.getDayOfMonth(), previous.lengthOfMonth());
+            } else {
+                assertEquals(test.getDayOfMonth(), previous.getDayOfMonth() + 1);
+            }
+            previous = test;
+        }
+    }
+
+    @DataProvider(name="lengths")
+    Object[][] data_lengths() {
+        return new Object[][] {
+            {1, 1, 30, 354},
+            {1, 12, 29, 354},
+            {2, 12, 30, 355},
+            {1433, 9, 30, 354},
+            {1434, 12, 30, 355},
+            {1435, 12, 29, 354},
+            {9999, 12, 29, 354},
+        };
+    }
+
+    @Test(dataProvider="lengths", groups={"implementation"})
+    public void test_lengths(int year, int month, int lengthOfMonth, int lengthOfYear) {
+        HijrahDate test = HijrahDate.of(year, month, 1);
+        assertEquals(test.lengthOfMonth(), lengthOfMonth);
+        assertEquals(test.lengthOfYear(), lengthOfYear);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_withDayOfMonth_clampsToMonthLength() {
+        ChronoDate base = HijrahChronology.INSTANCE.date(1434, 1, 15);
+        assertEquals(base.with(LocalDateTimeField.DAY_OF_MONTH, 30), HijrahChronology.INSTANCE.date(1434, 1, 30));
+        ChronoDate feb = HijrahChronology.INSTANCE.date(1434, 2, 15);
+        assertEquals(feb.with(LocalDateTimeField.DAY_OF_MONTH, 30), HijrahChronology.INSTANCE.date(1434, 2, 29));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_plusMonths_clampsToMonthLength() {
+        ChronoDate base = HijrahChronology.INSTANCE.date(1434, 1, 30);
+        assertEquals(base.plusMonths(1), HijrahChronology.INSTANCE.date(1434, 2, 29));
+        assertEquals(base.plusMonths(2), HijrahChronology.INSTANCE.date(1434, 3, 30));
+        assertEquals(base.minusMonths(11), HijrahChronology.INSTANCE.date(1433, 2, 29));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_plusYears_beforeHijrah() {
+        ChronoDate base = HijrahDate.of(HijrahEra.BEFORE_HIJRAH, 5, 3, 10);
+        ChronoDate test = base.plusYears(2);
+        assertEquals(test.isAfter(base), true);
+        assertEquals(test, HijrahDate.of(HijrahEra.BEFORE_HIJRAH, 3, 3, 10));
+        assertEquals(base.plusYears(5), HijrahDate.of(HijrahEra.HIJRAH, 1, 3, 10));
+        assertEquals(base.plusMonths(60), HijrahDate.of(HijrahEra.HIJRAH, 1, 3, 10));
+    }
+
+    //-----------------------------------------------------------------------
+    // deviation configuration
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_deviationConfig() throws Exception {
+        File dir = Files.createTempDirectory("hijrah").toFile();
+        File file = new File(dir, "hijrah_deviation.cfg");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), "US-ASCII")) {
+            out.write("1429/0-1429/1:1\n1430/7-1430/8:-1\n");
+        }
+        String property = "javax.time.i18n.HijrahDate.deviationConfigDir";
+        String previous = System.getProperty(property);
+        System.setProperty(property, dir.getPath());
+        try {
+            IsolatedClassLoaderTests.run(DeviationConfigCheck.class);
+            // the table shared by the other tests is unchanged
+            assertEquals(HijrahDate.of(1429, 2, 1).toLocalDate(), LocalDate.of(2008, 2, 9));
+            assertEquals(HijrahDate.of(1430, 9, 1).toLocalDate(), LocalDate.of(2009, 8, 22));
+        } finally {
+            if (previous == null) {
+                System.clearProperty(property);
+            } else {
+                System.setProperty(property, previous);
+            }
+            file.delete();
+            dir.delete();
+        }
+    }
+
+    /**
+     * Checks the table patched by the deviation configuration, run by {@link IsolatedClassLoaderTests}.
+     * Without the deviations, Safar 1429 starts on 2008-02-09 and Ramadan 1430 on 2009-08-22.
+     */
+    public static final class DeviationConfigCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            // first deviation moves the start of Safar 1429 one day earlier
+            check(HijrahDate.of(1429, 1, 1).lengthOfMonth(), 29);
+            check(HijrahDate.of(1429, 2, 1).lengthOfMonth(), 30);
+            check(HijrahDate.of(1429, 1, 1).toLocalDate(), LocalDate.of(2008, 1, 10));
+            check(HijrahDate.of(1429, 2, 1).toLocalDate(), LocalDate.of(2008, 2, 8));
+            check(HijrahDate.of(1429, 3, 1).toLocalDate(), LocalDate.of(2008, 3, 9));
+            // second deviation moves the start of Ramadan 1430 one day later
+            check(HijrahDate.of(1430, 8, 1).lengthOfMonth(), 30);
+            check(HijrahDate.of(1430, 9, 1).lengthOfMonth(), 29);
+            check(HijrahDate.of(1430, 9, 1).toLocalDate(), LocalDate.of(2009, 8, 23));
+            check(HijrahDate.of(1430, 10, 1).toLocalDate(), LocalDate.of(2009, 9, 21));
+            // the conversion from an epoch-day uses the patched table
+            check(HijrahDate.ofEpochDay(LocalDate.of(2008, 2, 8).toEpochDay()), HijrahDate.of(1429, 2, 1));
+        }
+    }
+
+    @Test(groups={"implementation"}, expectedExceptions=DateTimeException.class)
+    public void test_ofEpochDay_afterMaximum() {
+        HijrahDate max = HijrahDate.of(9999, 12, 29);
+        HijrahDate.ofEpochDay(max.toEpochDay() + 1);
+    }
+
+    @Test(groups={"implementation"}, expectedExceptions=DateTimeException.class)
+    public void test_ofEpochDay_beforeMinimum() {
+        HijrahDate min = HijrahDate.of(HijrahEra.BEFORE_HIJRAH, 9999, 1, 1);
+        HijrahDate.ofEpochDay(min.toEpochDay() - 1);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
@@ -33,10 +33,19 @@ package javax.time.chrono;
 
 import static org.testng.Assert.assertEquals;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
 import javax.time.DateTimeException;
+import javax.time.DateTimes;
 import javax.time.LocalDate;
 import javax.time.LocalDateTime;
 import javax.time.calendrical.DateTimeAdjusters;
+import javax.time.calendrical.DateTimeValueRange;
+import javax.time.calendrical.LocalDateTimeField;
+import javax.time.chrono.IsolatedClassLoaderTests.IsolatedCheck;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -178,6 +187,8 @@ public class TestJapaneseChronology {
             {JapaneseChronology.INSTANCE.date(1728, 10, 29), "1728-10-29"},
             {JapaneseChronology.INSTANCE.date(1727, 12,  5), "1727-12-05"},
             {JapaneseChronology.INSTANCE.date(1727, 12,  6), "1727-12-06"},
+            {JapaneseChronology.INSTANCE.date(1867, 12, 31), "1867-12-31"},
+            {JapaneseChronology.INSTANCE.date(1868,  1,  1), "M1-01-01"},
             {JapaneseChronology.INSTANCE.date(1868,  9,  8), "M1-09-08"},
             {JapaneseChronology.INSTANCE.date(1912,  7, 29), "M45-07-29"},
             {JapaneseChronology.INSTANCE.date(1912,  7, 30), "T1-07-30"},
@@ -186,6 +197,8 @@ public class TestJapaneseChronology {
             {JapaneseChronology.INSTANCE.date(1989,  1,  7), "S64-01-07"},
             {JapaneseChronology.INSTANCE.date(1989,  1,  8), "H1-01-08"},
             {JapaneseChronology.INSTANCE.date(2012, 12,  6), "H24-12-06"},
+            {JapaneseChronology.INSTANCE.date(2019,  4, 30), "H31-04-30"},
+            {JapaneseChronology.INSTANCE.date(2019,  5,  1), "R1-05-01"},
         };
     }
 
@@ -194,5 +207,193 @@ public class TestJapaneseChronology {
         assertEquals(jdate.toString(), expected);
     }
 
+    //-----------------------------------------------------------------------
+    // era and year-of-era
+    //-----------------------------------------------------------------------
+    @DataProvider(name="eras")
+    Object[][] data_eras() {
+        return new Object[][] {
+            {LocalDate.of(1867, 12, 31), JapaneseEra.SEIREKI, 1867},
+            {LocalDate.of(1868,  1,  1), JapaneseEra.MEIJI, 1},
+            {LocalDate.of(1912,  7, 29), JapaneseEra.MEIJI, 45},
+            {LocalDate.of(1912,  7, 30), JapaneseEra.TAISHO, 1},
+            {LocalDate.of(1926, 12, 24), JapaneseEra.TAISHO, 15},
+            {LocalDate.of(1926, 12, 25), JapaneseEra.SHOWA, 1},
+            {LocalDate.of(1989,  1,  7), JapaneseEra.SHOWA, 64},
+            {LocalDate.of(1989,  1,  8), JapaneseEra.HEISEI, 1},
+            {LocalDate.of(2019,  4, 30), JapaneseEra.HEISEI, 31},
+            {LocalDate.of(2019,  5,  1), JapaneseEra.REIWA, 1},
+            {LocalDate.of(2020,  1,  1), JapaneseEra.REIWA, 2},
+        };
+    }
+
+    @Test(dataProvider="eras", groups={"tck"})
+    public void test_eraAndYearOfEra(LocalDate iso, JapaneseEra era, int yearOfEra) {
+        ChronoDate jdate = JapaneseChronology.INSTANCE.date(iso);
+        assertEquals(jdate.getEra(), era);
+        assertEquals(jdate.getYearOfEra(), yearOfEra);
+        assertEquals(jdate.get(LocalDateTimeField.ERA), era.getValue());
+        assertEquals(jdate.get(LocalDateTimeField.YEAR_OF_ERA), yearOfEra);
+    }
+
+    @Test(dataProvider="eras", groups={"tck"})
+    public void test_dateEra(LocalDate iso, JapaneseEra era, int yearOfEra) {
+        ChronoDate jdate = JapaneseChronology.INSTANCE.date(era, yearOfEra, iso.getMonthValue(), iso.getDayOfMonth());
+        assertEquals(jdate.toLocalDate(), iso);
+        assertEquals(JapaneseChronology.INSTANCE.prolepticYear(era, yearOfEra), iso.getYear());
+    }
+
+    @DataProvider(name="badEraDates")
+    Object[][] data_badEraDates() {
+        return new Object[][] {
+            {JapaneseEra.SEIREKI, 1868, 1, 1},
+            {JapaneseEra.MEIJI, 0, 12, 31},
+            {JapaneseEra.MEIJI, 45, 7, 30},
+            {JapaneseEra.TAISHO, 1, 7, 29},
+            {JapaneseEra.SHOWA, 64, 1, 8},
+            {JapaneseEra.HEISEI, 31, 5, 1},
+            {JapaneseEra.REIWA, 1, 4, 30},
+            {JapaneseEra.REIWA, 1, 2, 30},
+        };
+    }
+
+    @Test(dataProvider="badEraDates", groups={"tck"}, expectedExceptions=DateTimeException.class)
+    public void test_badEraDates(JapaneseEra era, int yearOfEra, int month, int dom) {
+        JapaneseChronology.INSTANCE.date(era, yearOfEra, month, dom);
+    }
+
+    //-----------------------------------------------------------------------
+    // range(DateTimeField)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="ranges")
+    Object[][] data_ranges() {
+        return new Object[][] {
+            {LocalDate.of(1867, 6, 15), LocalDateTimeField.DAY_OF_YEAR, 1, 365},
+            {LocalDate.of(1912, 7, 29), LocalDateTimeField.DAY_OF_YEAR, 1, 211},
+            {LocalDate.of(1912, 7, 30), LocalDateTimeField.DAY_OF_YEAR, 1, 155},
+            {LocalDate.of(1926, 12, 25), LocalDateTimeField.DAY_OF_YEAR, 1, 7},
+            {LocalDate.of(1989, 1, 8), LocalDateTimeField.DAY_OF_YEAR, 1, 358},
+            {LocalDate.of(2019, 4, 30), LocalDateTimeField.DAY_OF_YEAR, 1, 120},
+            {LocalDate.of(2019, 5, 1), LocalDateTimeField.DAY_OF_YEAR, 1, 245},
+            {LocalDate.of(2020, 5, 1), LocalDateTimeField.DAY_OF_YEAR, 1, 366},
+            {LocalDate.of(1868, 1, 1), LocalDateTimeField.YEAR_OF_ERA, 1, 45},
+            {LocalDate.of(1868, 12, 31), LocalDateTimeField.YEAR_OF_ERA, 1, 44},
+            {LocalDate.of(1912, 12, 31), LocalDateTimeField.YEAR_OF_ERA, 1, 14},
+            {LocalDate.of(1913, 1, 1), LocalDateTimeField.YEAR_OF_ERA, 2, 15},
+            {LocalDate.of(1926, 12, 25), LocalDateTimeField.YEAR_OF_ERA, 1, 63},
+            {LocalDate.of(1927, 1, 7), LocalDateTimeField.YEAR_OF_ERA, 2, 64},
+            {LocalDate.of(1989, 12, 31), LocalDateTimeField.YEAR_OF_ERA, 1, 30},
+            {LocalDate.of(1867, 6, 15), LocalDateTimeField.YEAR_OF_ERA, DateTimes.MIN_YEAR, 1867},
+        };
+    }
+
+    @Test(dataProvider="ranges", groups={"tck"})
+    public void test_range(LocalDate iso, LocalDateTimeField field, int min, int max) {
+        ChronoDate jdate = JapaneseChronology.INSTANCE.date(iso);
+        assertEquals(jdate.range(field), DateTimeValueRange.of(min, max));
+    }
+
+    @Test(groups={"tck"})
+    public void test_chronology_range() {
+        JapaneseChronology chrono = JapaneseChronology.INSTANCE;
+        assertEquals(chrono.range(LocalDateTimeField.YEAR_OF_ERA), DateTimeValueRange.of(DateTimes.MIN_YEAR, 1, 14, DateTimes.MAX_YEAR));
+        assertEquals(chrono.range(LocalDateTimeField.MONTH_OF_YEAR), DateTimeValueRange.of(1, 1, 1, 12));
+        assertEquals(chrono.range(LocalDateTimeField.DAY_OF_YEAR), DateTimeValueRange.of(1, 1, 7, 366));
+        assertEquals(chrono.range(LocalDateTimeField.ERA).getMinimum(), JapaneseEra.SEIREKI.getValue());
+        assertEquals(chrono.range(LocalDateTimeField.ERA).getMaximum(), JapaneseEra.knownEras().length - 1 - JapaneseEra.ERA_OFFSET);
+    }
+
+    //-----------------------------------------------------------------------
+    // JapaneseEra.registerEra()
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_registerEra() throws Exception {
+        // registration cannot be undone, so the check runs against a separate copy of the era table
+        int count = JapaneseEra.knownEras().length;
+        IsolatedClassLoaderTests.run(RegisterEraCheck.class);
+        assertEquals(JapaneseEra.knownEras().length, count);
+    }
+
+    @Test(groups={"implementation"}, expectedExceptions=DateTimeException.class)
+    public void test_registerEra_notAfterLatest() {
+        JapaneseEra.registerEra(JapaneseEra.REIWA.getSince(), "Test", "X");
+    }
+
+    @Test(groups={"implementation"}, expectedExceptions=NullPointerException.class)
+    public void test_registerEra_nullSince() {
+        JapaneseEra.registerEra(null, "Test", "X");
+    }
+
+    //-----------------------------------------------------------------------
+    // JapaneseEra configuration file
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_eraConfig() throws Exception {
+        File file = File.createTempFile("japanese_era", ".cfg");
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(file), "UTF-8")) {
+            out.write("# eras already known are skipped\n2019-05-01,Reiwa,R\n\n 2200-01-01 , Future , F \n");
+        }
+        String property = "javax.time.chrono.JapaneseEra.configFile";
+        String previous = System.getProperty(property);
+        System.setProperty(property, file.getPath());
+        try {
+            IsolatedClassLoaderTests.run(EraConfigCheck.class);
+        } finally {
+            if (previous == null) {
+                System.clearProperty(property);
+            } else {
+                System.setProperty(property, previous);
+            }
+            file.delete();
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_eraToString() {
+        assertEquals(JapaneseEra.MEIJI.toString(), "Meiji");
+        assertEquals(JapaneseEra.REIWA.toString(), "Reiwa");
+    }
+
+    /**
+     * Registers an era, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class RegisterEraCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            JapaneseEra[] before = JapaneseEra.knownEras();
+            JapaneseEra latest = before[before.length - 1];
+            LocalDate since = LocalDate.of(2200, 1, 1);
+            JapaneseEra era = JapaneseEra.registerEra(since, "Test", "X");
+            check(era.getValue(), latest.getValue() + 1);
+            check(era.toString(), "Test");
+            check(JapaneseEra.of(era.getValue()), era);
+            check(JapaneseEra.knownEras().length, before.length + 1);
+            check(JapaneseChronology.INSTANCE.range(LocalDateTimeField.ERA).getMaximum(), (long) era.getValue());
+
+            ChronoDate first = JapaneseChronology.INSTANCE.date(since);
+            check(first.getEra(), era);
+            check(first.getYearOfEra(), 1);
+            check(first.toString(), "X1-01-01");
+            check(JapaneseChronology.INSTANCE.date(era, 1, 1, 1), first);
+            check(first.minusDays(1).getEra(), latest);
+        }
+    }
+
+    /**
+     * Checks the eras read from the configuration file, run by {@link IsolatedClassLoaderTests}.
+     */
+    public static final class EraConfigCheck extends IsolatedCheck {
+        @Override
+        public void run() {
+            JapaneseEra[] eras = JapaneseEra.knownEras();
+            check(eras.length, 7);
+            JapaneseEra era = eras[6];
+            check(era.getValue(), JapaneseEra.REIWA.getValue() + 1);
+            check(era.getSince(), LocalDate.of(2200, 1, 1));
+            check(era.toString(), "Future");
+            check(JapaneseChronology.INSTANCE.date(LocalDate.of(2200, 1, 1)).toString(), "F1-01-01");
+            check(JapaneseChronology.INSTANCE.date(LocalDate.of(2199, 12, 31)).getEra(), JapaneseEra.REIWA);
+        }
+    }
 
 }
@@ -169,6 +169,21 @@ public class TestMinguoChronology {
         assertEquals(test, LocalDateTime.ofMidnight(2012, 10, 29));
     }
 
+    //-----------------------------------------------------------------------
+    // compareTo()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_compareTo_acrossEras() {
+        ChronoDate before2 = MinguoChronology.INSTANCE.date(MinguoEra.BEFORE_ROC, 2, 1, 1);
+        ChronoDate before1 = MinguoChronology.INSTANCE.date(MinguoEra.BEFORE_ROC, 1, 1, 1);
+        ChronoDate roc1 = MinguoChronology.INSTANCE.date(MinguoEra.ROC, 1, 1, 1);
+        assertEquals(before2.compareTo(before1) < 0, true);
+        assertEquals(before1.compareTo(before2) > 0, true);
+        assertEquals(before1.compareTo(roc1) < 0, true);
+        assertEquals(before2.isBefore(before1), true);
+        assertEquals(roc1.compareTo(MinguoChronology.INSTANCE.date(1, 1, 1)), 0);
+    }
+
     //-----------------------------------------------------------------------
     // toString()
     //-----------------------------------------------------------------------
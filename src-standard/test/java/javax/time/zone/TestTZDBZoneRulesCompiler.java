@@ -32,12 +32,23 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import javax.time.DayOfWeek;
 import javax.time.LocalDate;
@@ -47,6 +58,7 @@ import javax.time.Year;
 import javax.time.zone.TZDBZoneRulesCompiler.LeapSecondRule;
 import javax.time.zone.TZDBZoneRulesCompiler.TZDBMonthDayTime;
 import javax.time.zone.TZDBZoneRulesCompiler.TZDBRule;
+import javax.time.zone.TZDBZoneRulesCompiler.VersionTask;
 import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 
 import org.testng.annotations.Test;
@@ -57,6 +69,113 @@ import org.testng.annotations.Test;
 @Test
 public class TestTZDBZoneRulesCompiler {
 
+    private static final String SOURCE =
+        "Rule\tEU\t1981\tmax\t-\tMar\tlastSun\t 1:00u\t1:00\tS\n" +
+        "Rule\tEU\t1996\tmax\t-\tOct\tlastSun\t 1:00u\t0\t-\n" +
+        "Zone\tEurope/Test\t0:00\tEU\tGMT/BST\n" +
+        "Zone\tEurope/Other\t1:00\tEU\tCE%sT\n" +
+        "Zone\tEurope/Fixed\t2:00\t-\tEET\n" +
+        "Link\tEurope/Test\tEurope/Alias\n";
+    private static final String LEAP_SECONDS =
+        "Leap\t1972\tJun\t30\t23:59:60\t+\tS\n" +
+        "Leap\t1972\tDec\t31\t23:59:60\t+\tS\n";
+
+    //-----------------------------------------------------------------------
+    // compile() / VersionTask
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_compile_forkJoinMatchesSequential() throws Exception {
+        File dir = createSourceDir(SOURCE);
+        TZDBZoneRulesCompiler sequential = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        sequential.compile();
+        TZDBZoneRulesCompiler parallel = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        new ForkJoinPool(4).invoke(new VersionTask(parallel, new File(dir, "out.jar"), true));
+        assertEquals(parallel.getZones(), sequential.getZones());
+        assertEquals(parallel.getZones().keySet().toString(), "[Europe/Alias, Europe/Fixed, Europe/Other, Europe/Test]");
+        assertSame(parallel.getZones().get("Europe/Alias"), parallel.getZones().get("Europe/Test"));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_compile_sharedDeduplicateMap() throws Exception {
+        File dir = createSourceDir(SOURCE);
+        ConcurrentHashMap<Object, Object> map = new ConcurrentHashMap<>();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<VersionTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            TZDBZoneRulesCompiler compiler = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+            compiler.setDeduplicateMap(map);
+            tasks.add(new VersionTask(compiler, new File(dir, "out" + i + ".jar"), true));
+        }
+        for (VersionTask task : tasks) {
+            pool.execute(task);
+        }
+        ZoneRules first = tasks.get(0).join().getZones().get("Europe/Test");
+        for (VersionTask task : tasks) {
+            assertSame(task.join().getZones().get("Europe/Test"), first);
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_versionTask_loadsUnchangedOutput() throws Exception {
+        File dir = createSourceDir(SOURCE);
+        File jar = new File(dir, "jsr-310-TZDB-2012z.jar");
+        TZDBZoneRulesCompiler compiled = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        new ForkJoinPool(2).invoke(new VersionTask(compiled, jar, false));
+        long modified = jar.lastModified();
+        
+        TZDBZoneRulesCompiler loaded = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        assertTrue(loaded.loadCompiled(jar, loaded.checksum()));
+        assertEquals(loaded.getZones(), compiled.getZones());
+        assertEquals(loaded.getLeapSeconds(), compiled.getLeapSeconds());
+        assertEquals(loaded.getLeapSeconds().size(), 2);
+        new ForkJoinPool(2).invoke(new VersionTask(
+                new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false), jar, false));
+        assertEquals(jar.lastModified(), modified);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_versionTask_recompilesChangedSource() throws Exception {
+        File dir = createSourceDir(SOURCE);
+        File jar = new File(dir, "jsr-310-TZDB-2012z.jar");
+        TZDBZoneRulesCompiler compiled = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        String checksum = compiled.checksum();
+        new ForkJoinPool(2).invoke(new VersionTask(compiled, jar, false));
+        
+        Files.write(new File(dir, "europe").toPath(), (SOURCE + "Zone\tEurope/Extra\t3:00\t-\tMSK\n").getBytes(StandardCharsets.US_ASCII));
+        TZDBZoneRulesCompiler changed = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        assertFalse(changed.checksum().equals(checksum));
+        assertFalse(changed.loadCompiled(jar, changed.checksum()));
+        new ForkJoinPool(2).invoke(new VersionTask(changed, jar, false));
+        assertNotNull(changed.getZones().get("Europe/Extra"));
+        
+        TZDBZoneRulesCompiler loaded = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        assertTrue(loaded.loadCompiled(jar, loaded.checksum()));
+        assertEquals(loaded.getZones(), changed.getZones());
+    }
+
+    @Test(groups={"implementation"})
+    public void test_loadCompiled_otherVersion() throws Exception {
+        File dir = createSourceDir(SOURCE);
+        File jar = new File(dir, "out.jar");
+        TZDBZoneRulesCompiler compiled = new TZDBZoneRulesCompiler("2012z", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        new ForkJoinPool(2).invoke(new VersionTask(compiled, jar, false));
+        TZDBZoneRulesCompiler other = new TZDBZoneRulesCompiler("2012y", Arrays.asList(new File(dir, "europe")), new File(dir, "leapseconds"), false);
+        assertFalse(other.loadCompiled(jar, other.checksum()));
+        assertFalse(other.loadCompiled(new File(dir, "missing.jar"), other.checksum()));
+    }
+
+    private static File createSourceDir(String source) throws IOException {
+        File dir = Files.createTempDirectory("tzdb").toFile();
+        dir.deleteOnExit();
+        File file = new File(dir, "europe");
+        Files.write(file.toPath(), source.getBytes(StandardCharsets.US_ASCII));
+        file.deleteOnExit();
+        File leapFile = new File(dir, "leapseconds");
+        Files.write(leapFile.toPath(), LEAP_SECONDS.getBytes(StandardCharsets.US_ASCII));
+        leapFile.deleteOnExit();
+        return dir;
+    }
+
     //-----------------------------------------------------------------------
     // parseYear()
     //-----------------------------------------------------------------------
@@ -500,12 +500,7 @@ public final class DateTimes {
      * @return true if the field is supported
      */
     public static boolean isSupported(DateTime dateTime, DateTimeField field) {
-        try {
-            dateTime.get(field);
-            return true;
-        } catch (RuntimeException ex) {
-            return false;
-        }
+        return dateTime.isSupported(field);
     }
 
 }
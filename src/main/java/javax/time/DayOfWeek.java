@@ -193,6 +193,16 @@ public enum DayOfWeek implements AdjustableDateTime, DateTimeAdjuster {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field == DAY_OF_WEEK) {
+            return true;
+        } else if (field instanceof LocalDateTimeField) {
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field == DAY_OF_WEEK) {
@@ -330,6 +330,21 @@ public final class Instant
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            switch ((LocalDateTimeField) field) {
+                case NANO_OF_SECOND:
+                case MICRO_OF_SECOND:
+                case MILLI_OF_SECOND:
+                case INSTANT_SECONDS:
+                    return true;
+            }
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
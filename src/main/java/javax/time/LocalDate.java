@@ -410,6 +410,21 @@ public final class LocalDate
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            switch ((LocalDateTimeField) field) {
+                case WEEK_OF_MONTH:
+                case WEEK_OF_WEEK_BASED_YEAR:
+                case WEEK_OF_YEAR:
+                case WEEK_BASED_YEAR:
+                    return false;  // week-based fields are not implemented by get()
+            }
+            return ((LocalDateTimeField) field).isDateField();
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -421,17 +436,14 @@ public final class LocalDate
                 case DAY_OF_YEAR: return getDayOfYear();
                 case EPOCH_DAY: return toEpochDay();
                 case ALIGNED_WEEK_OF_MONTH: return ((day - 1) / 7) + 1;
-                case WEEK_OF_MONTH: throw new UnsupportedOperationException("TODO");
-                case WEEK_OF_WEEK_BASED_YEAR: throw new UnsupportedOperationException("TODO");
                 case ALIGNED_WEEK_OF_YEAR: return ((getDayOfYear() - 1) / 7) + 1;
-                case WEEK_OF_YEAR: throw new UnsupportedOperationException("TODO");
                 case MONTH_OF_YEAR: return month;
                 case EPOCH_MONTH: return ((year - 1970) * 12L) + getMonth().ordinal();
-                case WEEK_BASED_YEAR: throw new UnsupportedOperationException("TODO");
                 case YEAR_OF_ERA: return (year >= 1 ? year : 1 - year);
                 case YEAR: return year;
                 case ERA: return (year >= 1 ? 1 : 0);
             }
+            // the week-based fields are not implemented, see isSupported()
             throw new DateTimeException("Unsupported field: " + field.getName());
         }
         return field.doGet(this);
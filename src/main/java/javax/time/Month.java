@@ -219,6 +219,16 @@ public enum Month implements AdjustableDateTime, DateTimeAdjuster {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field == MONTH_OF_YEAR) {
+            return true;
+        } else if (field instanceof LocalDateTimeField) {
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field == MONTH_OF_YEAR) {
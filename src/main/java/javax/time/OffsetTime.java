@@ -291,6 +291,14 @@ public final class OffsetTime
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            return field == OFFSET_SECONDS || ((LocalDateTimeField) field).isTimeField();
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
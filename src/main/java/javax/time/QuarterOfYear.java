@@ -195,6 +195,16 @@ public enum QuarterOfYear implements AdjustableDateTime, DateTimeAdjuster {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field == QUARTER_OF_YEAR) {
+            return true;
+        } else if (field instanceof LocalDateTimeField) {
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field == QUARTER_OF_YEAR) {
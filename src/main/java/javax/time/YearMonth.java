@@ -259,6 +259,22 @@ public final class YearMonth
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        if (field instanceof LocalDateTimeField) {
+            switch ((LocalDateTimeField) field) {
+                case MONTH_OF_YEAR:
+                case EPOCH_MONTH:
+                case YEAR_OF_ERA:
+                case YEAR:
+                case ERA:
+                    return true;
+            }
+            return false;
+        }
+        return field.doIsSupported(this);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (field instanceof LocalDateTimeField) {
@@ -36,6 +36,7 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.io.StreamCorruptedException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -646,6 +647,8 @@ public abstract class ZoneId implements Serializable {
         private final String groupID;
         /** The time-zone region ID, not null. */
         private final String regionID;
+        /** The latest rules, null until first used, replaced when a provider is registered. */
+        private transient CachedRules cachedRules;
 
         /**
          * Constructor.
@@ -706,7 +709,16 @@ public abstract class ZoneId implements Serializable {
 
         @Override
         public ZoneRules getRules() {
-            return getGroup().getRules(regionID, getGroup().getLatestVersionID(regionID));
+            // the holder is immutable so the field need not be volatile
+            CachedRules cached = cachedRules;
+            int generation = ZoneRulesGroup.getGeneration();
+            if (cached != null && cached.generation == generation) {
+                return cached.rules;
+            }
+            ZoneRulesGroup group = getGroup();
+            ZoneRules rules = group.getRules(regionID, group.getLatestVersionID(regionID));
+            cachedRules = new CachedRules(generation, rules);
+            return rules;
         }
 
         @Override
@@ -727,6 +739,21 @@ public abstract class ZoneId implements Serializable {
             DateTimes.checkNotNull(dateTime, "OffsetDateTime must not be null");
             return getGroup().getRules(regionID, getGroup().getLatestVersionIDValidFor(regionID, dateTime));
         }
+
+        /**
+         * The latest rules, stamped with the generation of the providers they were found in.
+         */
+        private static final class CachedRules {
+            /** The generation of the providers. */
+            private final int generation;
+            /** The rules, not null. */
+            private final ZoneRules rules;
+            /** Constructor. */
+            private CachedRules(int generation, ZoneRules rules) {
+                this.generation = generation;
+                this.rules = rules;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -849,6 +876,30 @@ public abstract class ZoneId implements Serializable {
             return false;
         }
 
+        //-------------------------------------------------------------------------
+        @Override
+        public void getOffsetSeconds(long[] epochSeconds, int[] offsetSeconds) {
+            DateTimes.checkNotNull(epochSeconds, "Epoch seconds must not be null");
+            DateTimes.checkNotNull(offsetSeconds, "Offset seconds must not be null");
+            if (offsetSeconds.length < epochSeconds.length) {
+                throw new IllegalArgumentException("Offset seconds array must not be shorter than epoch seconds array");
+            }
+            Arrays.fill(offsetSeconds, 0, epochSeconds.length, offsetInfo.getOffset().getTotalSeconds());
+        }
+
+        @Override
+        public void toEpochSeconds(long[] localEpochSeconds, long[] epochSeconds) {
+            DateTimes.checkNotNull(localEpochSeconds, "Local epoch seconds must not be null");
+            DateTimes.checkNotNull(epochSeconds, "Epoch seconds must not be null");
+            if (epochSeconds.length < localEpochSeconds.length) {
+                throw new IllegalArgumentException("Epoch seconds array must not be shorter than local epoch seconds array");
+            }
+            int offsetSecs = offsetInfo.getOffset().getTotalSeconds();
+            for (int i = 0; i < localEpochSeconds.length; i++) {
+                epochSeconds[i] = localEpochSeconds[i] - offsetSecs;
+            }
+        }
+
         //-------------------------------------------------------------------------
         @Override
         public ZoneOffsetTransition nextTransition(Instant instant) {
@@ -81,6 +81,30 @@ public interface DateTime {
     //     return field.doRange(this);
     // }
 
+    /**
+     * Checks if the specified date-time field is supported.
+     * <p>
+     * This checks if the date-time can be queried for the specified field.
+     * If false, then calling {@link #get(DateTimeField) get} will throw an exception.
+     * This allows callers, such as formatters, to check for a field without
+     * the cost of an exception.
+     * 
+     * <h4>Implementation notes</h4>
+     * Implementations must check and handle any fields defined in {@link LocalDateTimeField} before
+     * delegating on to the {@link DateTimeField#doIsSupported(DateTime) doIsSupported method} on the specified field.
+     *
+     * @param field  the field to check, not null
+     * @return true if the field can be queried, false if not
+     */
+    boolean isSupported(DateTimeField field);
+    // JAVA8
+    // default {
+    //     if (field instanceof LocalDateTimeField) {
+    //         return false;
+    //     }
+    //     return field.doIsSupported(this);
+    // }
+
     /**
      * Gets the value of the specified date-time field.
      * <p>
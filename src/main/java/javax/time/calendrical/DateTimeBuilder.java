@@ -61,6 +61,9 @@ import static javax.time.calendrical.LocalDateTimeField.SECOND_OF_DAY;
 import static javax.time.calendrical.LocalDateTimeField.SECOND_OF_MINUTE;
 import static javax.time.calendrical.LocalDateTimeField.YEAR;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.EnumMap;
@@ -98,6 +101,24 @@ import javax.time.chrono.Chronology;
  */
 public final class DateTimeBuilder implements DateTime, Cloneable {
 
+    /**
+     * Cache of the {@code from(DateTime)} method of each class, avoiding a reflective lookup per call.
+     * Each value is a {@code MethodHandle} of type {@code (DateTime)Object}, or the
+     * exception that occurred when looking it up.
+     */
+    private static final ClassValue<Object> FROM_METHODS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            try {
+                Method method = type.getDeclaredMethod("from", DateTime.class);
+                return MethodHandles.publicLookup().unreflect(method)
+                        .asType(MethodType.methodType(Object.class, DateTime.class));
+            } catch (ReflectiveOperationException ex) {
+                return ex;
+            }
+        }
+    };
+
     /**
      * The map of other fields.
      */
@@ -648,14 +669,16 @@ public final class DateTimeBuilder implements DateTime, Cloneable {
      * @throws DateTimeException if an error occurs
      */
     private static <R> R invokeFrom(Class<R> type, DateTime dateTime) {
+        Object from = FROM_METHODS.get(type);
+        if (from instanceof ReflectiveOperationException) {
+            throw new DateTimeException("Unable to invoke method from(DateTime)", (ReflectiveOperationException) from);
+        }
         try {
-            Method m = type.getDeclaredMethod("from", DateTime.class);
-            return (R) type.cast(m.invoke(null, dateTime));
-        } catch (ReflectiveOperationException ex) {
-            if (ex.getCause() instanceof DateTimeException == false) {
-                throw new DateTimeException("Unable to invoke method from(DateTime)", ex);
-            }
-            throw (DateTimeException) ex.getCause();
+            return type.cast((Object) ((MethodHandle) from).invokeExact(dateTime));
+        } catch (DateTimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new DateTimeException("Unable to invoke method from(DateTime)", ex);
         }
     }
 
@@ -707,6 +730,11 @@ public final class DateTimeBuilder implements DateTime, Cloneable {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        return containsFieldValue(field);
+    }
+
     @Override
     public long get(DateTimeField field) {
         return getFieldValue(field);
@@ -140,6 +140,23 @@ public interface DateTimeField extends Comparator<DateTime> {
      */
     DateTimeValueRange doRange(DateTime dateTime);
 
+    /**
+     * Implementation of the logic to check if this field is supported.
+     * <p>
+     * This method is not intended to be called by application code directly.
+     * Applications should use {@link DateTime#isSupported(DateTimeField)} on the date-time
+     * object passing this as the argument.
+     * <pre>
+     *   boolean supported = date.isSupported(field);
+     * </pre>
+     * <p>
+     * Implementations must be written using the fields available in {@link LocalDateTimeField}.
+     *
+     * @param dateTime  the date-time object to query, not null
+     * @return true if {@link #doGet(DateTime)} will return a value for the date-time
+     */
+    boolean doIsSupported(DateTime dateTime);
+
     /**
      * Implementation of the logic to get the value of this field.
      * <p>
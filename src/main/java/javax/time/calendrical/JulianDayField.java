@@ -205,6 +205,11 @@ public enum JulianDayField implements DateTimeField {
         return range();
     }
 
+    @Override
+    public boolean doIsSupported(DateTime calendrical) {
+        return calendrical.isSupported(EPOCH_DAY);
+    }
+
     @Override
     public long doGet(DateTime calendrical) {
         long epDay = calendrical.get(EPOCH_DAY);
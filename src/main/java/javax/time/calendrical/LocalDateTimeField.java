@@ -454,6 +454,11 @@ public enum LocalDateTimeField implements DateTimeField {
         return dateTime.range(this);
     }
 
+    @Override
+    public boolean doIsSupported(DateTime dateTime) {
+        return dateTime.isSupported(this);
+    }
+
     @Override
     public long doGet(DateTime dateTime) {
         return dateTime.get(this);
@@ -139,6 +139,14 @@ public enum QuarterYearField implements DateTimeField {
         return range();
     }
 
+    @Override
+    public boolean doIsSupported(DateTime calendrical) {
+        if (this == DAY_OF_QUARTER) {
+            return calendrical.extract(LocalDate.class) != null;
+        }
+        return calendrical.isSupported(MONTH_OF_YEAR);
+    }
+
     @Override
     public long doGet(DateTime calendrical) {
         switch (this) {
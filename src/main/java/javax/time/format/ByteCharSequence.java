@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A view of a range of bytes as a sequence of characters.
+ * <p>
+ * Each byte is treated as a single ISO-8859-1 character, thus ASCII text is
+ * seen unaltered. This allows text held in a byte array or buffer to be parsed
+ * without first decoding it to a {@code String}.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is a view and is not thread-safe.
+ * The underlying bytes must not be changed while the view is in use.
+ */
+final class ByteCharSequence implements CharSequence {
+
+    /**
+     * The byte array, null if using a buffer.
+     */
+    private final byte[] array;
+    /**
+     * The byte buffer, null if using an array.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * The start index.
+     */
+    private final int offset;
+    /**
+     * The length.
+     */
+    private final int length;
+
+    /**
+     * Creates a view of a range of a byte array.
+     *
+     * @param array  the array, not null
+     * @param offset  the start index, validated
+     * @param length  the length, validated
+     */
+    ByteCharSequence(byte[] array, int offset, int length) {
+        this.array = array;
+        this.buffer = null;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Creates a view of the remaining bytes of a buffer.
+     * <p>
+     * The view is not affected by subsequent changes to the position or limit of the buffer.
+     *
+     * @param buffer  the buffer, not null
+     */
+    ByteCharSequence(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            this.array = buffer.array();
+            this.buffer = null;
+            this.offset = buffer.arrayOffset() + buffer.position();
+        } else {
+            this.array = null;
+            this.buffer = buffer;
+            this.offset = buffer.position();
+        }
+        this.length = buffer.remaining();
+    }
+
+    /**
+     * Creates a view of a range of a byte array or buffer.
+     *
+     * @param array  the array, null if using a buffer
+     * @param buffer  the buffer, null if using an array
+     * @param offset  the start index, validated
+     * @param length  the length, validated
+     */
+    private ByteCharSequence(byte[] array, ByteBuffer buffer, int offset, int length) {
+        this.array = array;
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        byte b = (array != null ? array[offset + index] : buffer.get(offset + index));
+        return (char) (b & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new StringIndexOutOfBoundsException("Invalid range: " + start + " to " + end);
+        }
+        return new ByteCharSequence(array, buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        if (array != null) {
+            return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+}
@@ -32,18 +32,31 @@
 package javax.time.format;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import javax.time.DateTimeException;
 import javax.time.DateTimes;
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZonedDateTime;
 import javax.time.calendrical.DateTime;
 import javax.time.calendrical.DateTimeBuilder;
+import javax.time.format.DateTimeFormatterBuilder.CompiledPrinterParser;
 import javax.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.SettingsParser;
 
 /**
  * Formatter for printing and parsing calendricals.
@@ -73,9 +86,21 @@ public final class DateTimeFormatter implements CalendricalFormatter {
      */
     private final DateTimeFormatSymbols symbols;
     /**
-     * The printer and/or parser to use, not null.
+     * The printer and/or parser to use, with the text for the locale bound, not null.
      */
     private final CompositePrinterParser printerParser;
+    /**
+     * The parser for fixed-width formats, null if not applicable.
+     */
+    private final FixedWidthParser fixedWidthParser;
+    /**
+     * The compiled printers that make up the whole format, null if not applicable.
+     */
+    private final CompiledPrinterParser[] directPrinters;
+    /**
+     * The length printed by the direct printers.
+     */
+    private final int directLength;
 
     /**
      * Constructor.
@@ -87,7 +112,42 @@ public final class DateTimeFormatter implements CalendricalFormatter {
     DateTimeFormatter(CompositePrinterParser printerParser, Locale locale, DateTimeFormatSymbols symbols) {
         this.locale = locale;
         this.symbols = symbols;
-        this.printerParser = printerParser;
+        this.printerParser = printerParser.withLocale(locale);
+        this.fixedWidthParser = FixedWidthParser.of(printerParser, symbols);
+        List<CompiledPrinterParser> direct = new ArrayList<>();
+        if (findDirectPrinters(printerParser, direct)) {
+            int length = 0;
+            for (CompiledPrinterParser pp : direct) {
+                length += pp.getLength();
+            }
+            this.directPrinters = direct.toArray(new CompiledPrinterParser[direct.size()]);
+            this.directLength = length;
+        } else {
+            this.directPrinters = null;
+            this.directLength = 0;
+        }
+    }
+
+    /**
+     * Finds the compiled printers if they make up the whole format.
+     *
+     * @param printerParser  the printer-parser to search, not null
+     * @param direct  the list to add to, not null
+     * @return true if the format consists only of ASCII compiled printers
+     */
+    private static boolean findDirectPrinters(CompositePrinterParser printerParser, List<CompiledPrinterParser> direct) {
+        for (DateTimePrinterParser pp : printerParser.printerParsers) {
+            if (pp instanceof CompiledPrinterParser && ((CompiledPrinterParser) pp).isAscii()) {
+                direct.add((CompiledPrinterParser) pp);
+            } else if (pp instanceof CompositePrinterParser && ((CompositePrinterParser) pp).optional == false) {
+                if (findDirectPrinters((CompositePrinterParser) pp, direct) == false) {
+                    return false;
+                }
+            } else if ((pp instanceof SettingsParser) == false) {
+                return false;
+            }
+        }
+        return true;
     }
 
     //-----------------------------------------------------------------------
@@ -194,6 +254,224 @@ public final class DateTimeFormatter implements CalendricalFormatter {
         }
     }
 
+    /**
+     * Prints the calendrical to a byte array as ASCII using this formatter.
+     * <p>
+     * This prints the calendrical to the array starting at the specified offset.
+     * Where the format consists only of fixed-width numeric fields and ASCII literals,
+     * such as {@code isoLocalDate()}, the digits are written directly to the array.
+     * Otherwise, the calendrical is printed to a temporary buffer and then copied.
+     * <p>
+     * If an exception is thrown, the content of the array from the offset is undefined.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param array  the array to print to, not null
+     * @param offset  the offset to print at, from 0 to the array length
+     * @return the number of bytes printed
+     * @throws IndexOutOfBoundsException if the offset is invalid or the array is too small
+     * @throws DateTimeException if an error occurs during printing, including
+     *  if the output contains characters that are not ASCII
+     */
+    public int printTo(DateTime calendrical, byte[] array, int offset) {
+        DateTimes.checkNotNull(calendrical, "Calendrical must not be null");
+        DateTimes.checkNotNull(array, "Array must not be null");
+        if (offset < 0 || offset > array.length) {
+            throw new IndexOutOfBoundsException("Invalid offset: " + offset);
+        }
+        int length = printTo(calendrical, array, offset, array.length);
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("Array too small: " + ~length + " bytes required from offset " + offset);
+        }
+        return length;
+    }
+
+    /**
+     * Prints the calendrical to a {@code ByteBuffer} as ASCII using this formatter.
+     * <p>
+     * This prints the calendrical to the buffer starting at the current position,
+     * which is advanced by the number of bytes printed.
+     * Where the format consists only of fixed-width numeric fields and ASCII literals,
+     * such as {@code isoLocalDate()}, the digits are written without an intermediate
+     * {@code String} or {@code StringBuilder}.
+     * <p>
+     * If an exception is thrown, the position is unaltered, but the content of
+     * the buffer after the position is undefined.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param buffer  the buffer to print to, not null
+     * @throws BufferOverflowException if there is insufficient space in the buffer
+     * @throws DateTimeException if an error occurs during printing, including
+     *  if the output contains characters that are not ASCII
+     */
+    public void printTo(DateTime calendrical, ByteBuffer buffer) {
+        DateTimes.checkNotNull(calendrical, "Calendrical must not be null");
+        DateTimes.checkNotNull(buffer, "ByteBuffer must not be null");
+        if (buffer.hasArray()) {
+            int offset = buffer.arrayOffset() + buffer.position();
+            int length = printTo(calendrical, buffer.array(), offset, buffer.arrayOffset() + buffer.limit());
+            if (length < 0) {
+                throw new BufferOverflowException();
+            }
+            buffer.position(buffer.position() + length);
+        } else {
+            DateTimePrintContext context = new DateTimePrintContext(calendrical, locale, symbols);
+            int pos = buffer.position();
+            if (directPrinters != null && symbols.getZeroDigit() == '0') {
+                if (directLength > buffer.remaining()) {
+                    throw new BufferOverflowException();
+                }
+                if (printDirect(context, buffer, pos)) {
+                    buffer.position(pos + directLength);
+                    return;
+                }
+            }
+            StringBuilder buf = new StringBuilder(32);
+            printerParser.print(context, buf);
+            int length = buf.length();
+            if (length > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            for (int i = 0; i < length; i++) {
+                buffer.put(pos + i, toAscii(buf.charAt(i), buf));
+            }
+            buffer.position(pos + length);
+        }
+    }
+
+    /**
+     * Prints the calendrical to a {@code CharBuffer} using this formatter.
+     * <p>
+     * This prints the calendrical to the buffer starting at the current position,
+     * which is advanced by the number of characters printed.
+     * Where the format consists only of fixed-width numeric fields and literals,
+     * such as {@code isoLocalDate()}, the digits are written without an intermediate
+     * {@code String} or {@code StringBuilder}.
+     * <p>
+     * If an exception is thrown, the position is unaltered, but the content of
+     * the buffer after the position is undefined.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param buffer  the buffer to print to, not null
+     * @throws BufferOverflowException if there is insufficient space in the buffer
+     * @throws DateTimeException if an error occurs during printing
+     */
+    public void printTo(DateTime calendrical, CharBuffer buffer) {
+        DateTimes.checkNotNull(calendrical, "Calendrical must not be null");
+        DateTimes.checkNotNull(buffer, "CharBuffer must not be null");
+        DateTimePrintContext context = new DateTimePrintContext(calendrical, locale, symbols);
+        if (directPrinters != null && buffer.hasArray()) {
+            if (directLength > buffer.remaining()) {
+                throw new BufferOverflowException();
+            }
+            char[] array = buffer.array();
+            int pos = buffer.arrayOffset() + buffer.position();
+            if (printDirect(context, array, pos)) {
+                buffer.position(buffer.position() + directLength);
+                return;
+            }
+        }
+        StringBuilder buf = new StringBuilder(32);
+        printerParser.print(context, buf);
+        if (buf.length() > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        buffer.append(buf);
+    }
+
+    /**
+     * Prints the calendrical to a range of a byte array as ASCII.
+     *
+     * @param calendrical  the calendrical to print, not null
+     * @param array  the array to print to, not null
+     * @param offset  the offset to print at, validated
+     * @param limit  the index to print up to, exclusive, validated
+     * @return the number of bytes printed, or the ones-complement of the number
+     *  of bytes required if there is insufficient space
+     */
+    private int printTo(DateTime calendrical, byte[] array, int offset, int limit) {
+        DateTimePrintContext context = new DateTimePrintContext(calendrical, locale, symbols);
+        if (directPrinters != null && symbols.getZeroDigit() == '0') {
+            if (directLength > limit - offset) {
+                return ~directLength;
+            }
+            int pos = offset;
+            boolean printed = true;
+            for (CompiledPrinterParser pp : directPrinters) {
+                if (pp.print(context, array, pos) != 1) {
+                    printed = false;
+                    break;
+                }
+                pos += pp.getLength();
+            }
+            if (printed) {
+                return directLength;
+            }
+        }
+        StringBuilder buf = new StringBuilder(32);
+        printerParser.print(context, buf);
+        int length = buf.length();
+        if (length > limit - offset) {
+            return ~length;
+        }
+        for (int i = 0; i < length; i++) {
+            array[offset + i] = toAscii(buf.charAt(i), buf);
+        }
+        return length;
+    }
+
+    /**
+     * Converts a printed character to an ASCII byte.
+     *
+     * @param ch  the character to convert
+     * @param buf  the printed text, for the error message, not null
+     * @return the ASCII byte
+     * @throws DateTimePrintException if the character is not ASCII
+     */
+    private static byte toAscii(char ch, StringBuilder buf) {
+        if (ch > 0x7F) {
+            throw new DateTimePrintException("Unable to print non-ASCII character '" + ch + "' to bytes: " + buf);
+        }
+        return (byte) ch;
+    }
+
+    /**
+     * Prints the calendrical to a char array using the direct printers.
+     *
+     * @param context  the context to print using, not null
+     * @param array  the array to print to, with sufficient space, not null
+     * @param offset  the offset to print at, validated
+     * @return true if printed, false if the general printer must be used
+     */
+    private boolean printDirect(DateTimePrintContext context, char[] array, int offset) {
+        for (CompiledPrinterParser pp : directPrinters) {
+            if (pp.print(context, array, offset) != 1) {
+                return false;
+            }
+            offset += pp.getLength();
+        }
+        return true;
+    }
+
+    /**
+     * Prints the calendrical to a byte buffer as ASCII using the direct printers.
+     * <p>
+     * This uses absolute puts, so the position of the buffer is not changed.
+     *
+     * @param context  the context to print using, not null
+     * @param buffer  the buffer to print to, with sufficient space, not null
+     * @param index  the index to print at, validated
+     * @return true if printed, false if the general printer must be used
+     */
+    private boolean printDirect(DateTimePrintContext context, ByteBuffer buffer, int index) {
+        for (CompiledPrinterParser pp : directPrinters) {
+            if (pp.print(context, buffer, index) != 1) {
+                return false;
+            }
+            index += pp.getLength();
+        }
+        return true;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing an object of the specified type.
@@ -215,19 +493,185 @@ public final class DateTimeFormatter implements CalendricalFormatter {
      */
     @Override
     public <T> T parse(CharSequence text, Class<T> type) {
+        return parse(text, type, new DateTimeParseContext(locale, symbols));
+    }
+
+    /**
+     * Fully parses the text producing an object of the specified type using a context.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, not null
+     * @param context  the context to parse into, empty, not null
+     * @return the parsed calendrical, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    <T> T parse(CharSequence text, Class<T> type, DateTimeParseContext context) {
         DateTimes.checkNotNull(text, "Text must not be null");
         DateTimes.checkNotNull(type, "Class must not be null");
-        String str = text.toString();  // parsing whole String, so this makes sense
         try {
-            DateTimeBuilder builder = parseToBuilder(str).resolve();
+            DateTimeBuilder builder = parseToBuilder(text, context).resolve();
             return builder.build(type);
         } catch (DateTimeParseException ex) {
             throw ex;
         } catch (RuntimeException ex) {
-            throw createError(str, ex);
+            throw createError(text, ex);
         }
     }
 
+    /**
+     * Fully parses a range of a byte array as ASCII producing an object of the specified type.
+     * <p>
+     * This is equivalent to {@link #parse(CharSequence, Class)}, where each byte is
+     * treated as a single ISO-8859-1 character. The bytes are parsed in place
+     * without first being decoded to a {@code String}.
+     *
+     * @param <T> the type to extract
+     * @param array  the array to parse, not null
+     * @param offset  the offset to parse from
+     * @param length  the number of bytes to parse
+     * @param type  the type to extract, not null
+     * @return the parsed calendrical, not null
+     * @throws IndexOutOfBoundsException if the range is invalid
+     * @throws DateTimeParseException if the parse fails
+     */
+    public <T> T parse(byte[] array, int offset, int length, Class<T> type) {
+        DateTimes.checkNotNull(array, "Array must not be null");
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Invalid range: offset " + offset + ", length " + length);
+        }
+        return parse(new ByteCharSequence(array, offset, length), type);
+    }
+
+    /**
+     * Fully parses the remaining bytes of a {@code ByteBuffer} as ASCII producing an object of the specified type.
+     * <p>
+     * This is equivalent to {@link #parse(CharSequence, Class)}, where each byte from the
+     * position to the limit is treated as a single ISO-8859-1 character.
+     * The bytes are parsed in place without first being decoded to a {@code String}.
+     * If the parse succeeds, the position is set to the limit.
+     *
+     * @param <T> the type to extract
+     * @param buffer  the buffer to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed calendrical, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public <T> T parse(ByteBuffer buffer, Class<T> type) {
+        DateTimes.checkNotNull(buffer, "ByteBuffer must not be null");
+        T result = parse(new ByteCharSequence(buffer), type);
+        buffer.position(buffer.limit());
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing a {@code LocalDate}.
+     * <p>
+     * This is equivalent to {@code parse(text, LocalDate.class)}.
+     * Where the format consists only of fixed-width numeric fields and literals,
+     * such as {@code yyyyMMdd}, the date is created directly from the text.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public LocalDate parseLocalDate(CharSequence text) {
+        return parseLocalDate(text, null);
+    }
+
+    /**
+     * Fully parses the text producing a {@code LocalDateTime}.
+     * <p>
+     * This is equivalent to {@code parse(text, LocalDateTime.class)}.
+     * Where the format consists only of fixed-width numeric fields and literals,
+     * such as {@code yyyy-MM-dd HH:mm:ss}, the date-time is created directly from the text.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public LocalDateTime parseLocalDateTime(CharSequence text) {
+        return parseLocalDateTime(text, null);
+    }
+
+    /**
+     * Fully parses the text producing an {@code Instant}.
+     * <p>
+     * This is equivalent to {@code parse(text, Instant.class)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed instant, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public Instant parseInstant(CharSequence text) {
+        return parse(text, Instant.class);
+    }
+
+    /**
+     * Fully parses the text producing an {@code OffsetDateTime}.
+     * <p>
+     * This is equivalent to {@code parse(text, OffsetDateTime.class)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public OffsetDateTime parseOffsetDateTime(CharSequence text) {
+        return parse(text, OffsetDateTime.class);
+    }
+
+    /**
+     * Fully parses the text producing a {@code ZonedDateTime}.
+     * <p>
+     * This is equivalent to {@code parse(text, ZonedDateTime.class)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public ZonedDateTime parseZonedDateTime(CharSequence text) {
+        return parse(text, ZonedDateTime.class);
+    }
+
+    /**
+     * Fully parses the text producing a {@code LocalDate} using a context.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the context to parse into, empty, null to create one if needed
+     * @return the parsed date, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    LocalDate parseLocalDate(CharSequence text, DateTimeParseContext context) {
+        DateTimes.checkNotNull(text, "Text must not be null");
+        if (fixedWidthParser != null) {
+            LocalDate date = fixedWidthParser.parseLocalDate(text);
+            if (date != null) {
+                return date;
+            }
+        }
+        return parse(text, LocalDate.class, context != null ? context : new DateTimeParseContext(locale, symbols));
+    }
+
+    /**
+     * Fully parses the text producing a {@code LocalDateTime} using a context.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the context to parse into, empty, null to create one if needed
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    LocalDateTime parseLocalDateTime(CharSequence text, DateTimeParseContext context) {
+        DateTimes.checkNotNull(text, "Text must not be null");
+        if (fixedWidthParser != null) {
+            LocalDateTime dateTime = fixedWidthParser.parseLocalDateTime(text);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return parse(text, LocalDateTime.class, context != null ? context : new DateTimeParseContext(locale, symbols));
+    }
+
     /**
      * Fully parses the text producing an object of one of the specified types.
      * <p>
@@ -281,7 +725,8 @@ public final class DateTimeFormatter implements CalendricalFormatter {
         }
     }
 
-    private DateTimeParseException createError(String str, RuntimeException ex) {
+    private DateTimeParseException createError(CharSequence text, RuntimeException ex) {
+        String str = text.toString();
         String abbr = str;
         if (abbr.length() > 64) {
             abbr = abbr.substring(0, 64) + "...";
@@ -303,12 +748,25 @@ public final class DateTimeFormatter implements CalendricalFormatter {
      * @throws DateTimeException if there is a date/time problem
      */
     public DateTimeBuilder parseToBuilder(CharSequence text) {
+        return parseToBuilder(text, new DateTimeParseContext(locale, symbols));
+    }
+
+    /**
+     * Parses the text to a builder using a context, ensuring that the text is fully parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param context  the context to parse into, empty, not null
+     * @return the engine representing the result of the parse, not null
+     * @throws DateTimeParseException if the parse fails
+     * @throws DateTimeException if there is a date/time problem
+     */
+    DateTimeBuilder parseToBuilder(CharSequence text, DateTimeParseContext context) {
         DateTimes.checkNotNull(text, "Text must not be null");
-        String str = text.toString();  // parsing whole String, so this makes sense
         ParsePosition pos = new ParsePosition(0);
-        DateTimeBuilder result = parseToBuilder(str, pos);
-        if (result == null || pos.getErrorIndex() >= 0 || pos.getIndex() < str.length()) {
-            String abbr = str.toString();
+        DateTimeBuilder result = parseToBuilder(text, pos, context);
+        if (result == null || pos.getErrorIndex() >= 0 || pos.getIndex() < text.length()) {
+            String str = text.toString();
+            String abbr = str;
             if (abbr.length() > 64) {
                 abbr = abbr.substring(0, 64) + "...";
             }
@@ -342,9 +800,23 @@ public final class DateTimeFormatter implements CalendricalFormatter {
      * @throws DateTimeException if there is a date/time problem
      */
     public DateTimeBuilder parseToBuilder(CharSequence text, ParsePosition position) {
+        return parseToBuilder(text, position, new DateTimeParseContext(locale, symbols));
+    }
+
+    /**
+     * Parses the text to a builder using a context, without requiring the input to be fully parsed.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @param context  the context to parse into, empty, not null
+     * @return the parsed text, null only if the parse results in an error
+     * @throws IndexOutOfBoundsException if the position is invalid
+     * @throws DateTimeException if there is a date/time problem
+     */
+    DateTimeBuilder parseToBuilder(CharSequence text, ParsePosition position, DateTimeParseContext context) {
         DateTimes.checkNotNull(text, "Text must not be null");
         DateTimes.checkNotNull(position, "ParsePosition must not be null");
-        DateTimeParseContext context = new DateTimeParseContext(locale, symbols);
         int pos = position.getIndex();
         pos = printerParser.parse(context, text, pos);
         if (pos < 0) {
@@ -355,6 +827,23 @@ public final class DateTimeFormatter implements CalendricalFormatter {
         return context.toBuilder();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a reusable parser for this formatter that must be confined to one thread.
+     * <p>
+     * Each parse using this formatter creates a new context to hold the parsed data.
+     * The returned parser instead retains a single context, reset at the start of each parse.
+     * This reduces the garbage created when parsing large amounts of text on one thread.
+     * <p>
+     * The returned parser is not thread-safe.
+     * It should be held by a single thread, for example in a local variable or a {@code ThreadLocal}.
+     *
+     * @return a new parser bound to this formatter, not null
+     */
+    public DateTimeParser toParser() {
+        return new DateTimeParser(this, new DateTimeParseContext(locale, symbols));
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Returns the formatter as a composite printer parser.
@@ -38,11 +38,11 @@ import static javax.time.calendrical.LocalDateTimeField.OFFSET_SECONDS;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -535,7 +535,7 @@ public final class DateTimeFormatterBuilder {
                 throw new UnsupportedOperationException();
             }
         };
-        appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
+        appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider, store));
         return this;
     }
 
@@ -1335,7 +1335,8 @@ public final class DateTimeFormatterBuilder {
         while (active.parent != null) {
             optionalEnd();
         }
-        return new DateTimeFormatter(new CompositePrinterParser(printerParsers, false), locale, DateTimeFormatSymbols.STANDARD);
+        CompositePrinterParser pp = new CompositePrinterParser(printerParsers, false).compile();
+        return new DateTimeFormatter(pp, locale, DateTimeFormatSymbols.STANDARD);
     }
 
     //-----------------------------------------------------------------------
@@ -1405,8 +1406,8 @@ public final class DateTimeFormatterBuilder {
      * Composite printer and parser.
      */
     static final class CompositePrinterParser implements DateTimePrinterParser {
-        private final DateTimePrinterParser[] printerParsers;
-        private final boolean optional;
+        final DateTimePrinterParser[] printerParsers;
+        final boolean optional;
 
         CompositePrinterParser(List<DateTimePrinterParser> printerParsers, boolean optional) {
             this(printerParsers.toArray(new DateTimePrinterParser[printerParsers.size()]), optional);
@@ -1430,6 +1431,79 @@ public final class DateTimeFormatterBuilder {
             return new CompositePrinterParser(printerParsers, optional);
         }
 
+        /**
+         * Returns a copy of this printer-parser with each run of fixed-width numeric
+         * fields and literals lowered to a {@link CompiledPrinterParser}.
+         * <p>
+         * Nested composites are compiled recursively.
+         *
+         * @return the compiled printer-parser, not null
+         */
+        CompositePrinterParser compile() {
+            List<DateTimePrinterParser> compiled = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i <= printerParsers.length; i++) {
+                DateTimePrinterParser pp = (i < printerParsers.length ? printerParsers[i] : null);
+                if (pp != null && CompiledPrinterParser.isCompilable(pp)) {
+                    continue;
+                }
+                CompiledPrinterParser.addRun(compiled, Arrays.copyOfRange(printerParsers, start, i));
+                if (pp instanceof CompositePrinterParser) {
+                    compiled.add(((CompositePrinterParser) pp).compile());
+                } else if (pp != null) {
+                    compiled.add(pp);
+                }
+                start = i + 1;
+            }
+            return new CompositePrinterParser(compiled, optional);
+        }
+
+        /**
+         * Returns a copy of this printer-parser with the locale-specific data bound.
+         * <p>
+         * Text and localized printer-parsers resolve their data for the locale once,
+         * so that printing and parsing in that locale avoids any provider lookups.
+         * The bound printer-parsers continue to work correctly in any other locale.
+         * Nested composites and pad decorators are bound recursively.
+         *
+         * @param locale  the locale to bind, not null
+         * @return the bound printer-parser, this if nothing changed, not null
+         */
+        CompositePrinterParser withLocale(Locale locale) {
+            DateTimePrinterParser[] bound = null;
+            for (int i = 0; i < printerParsers.length; i++) {
+                DateTimePrinterParser pp = printerParsers[i];
+                DateTimePrinterParser boundPP = bind(pp, locale);
+                if (boundPP != pp) {
+                    if (bound == null) {
+                        bound = printerParsers.clone();
+                    }
+                    bound[i] = boundPP;
+                }
+            }
+            return (bound != null ? new CompositePrinterParser(bound, optional) : this);
+        }
+
+        /**
+         * Binds the locale-specific data of a single printer-parser.
+         *
+         * @param pp  the printer-parser to bind, not null
+         * @param locale  the locale to bind, not null
+         * @return the bound printer-parser, the input if nothing changed, not null
+         */
+        static DateTimePrinterParser bind(DateTimePrinterParser pp, Locale locale) {
+            if (pp instanceof CompositePrinterParser) {
+                return ((CompositePrinterParser) pp).withLocale(locale);
+            } else if (pp instanceof TextPrinterParser) {
+                return ((TextPrinterParser) pp).withLocale(locale);
+            } else if (pp instanceof LocalizedPrinterParser) {
+                return ((LocalizedPrinterParser) pp).withLocale(locale);
+            } else if (pp instanceof PadPrinterParserDecorator) {
+                return ((PadPrinterParserDecorator) pp).withLocale(locale);
+            }
+            return pp;
+        }
+
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             int length = buf.length();
@@ -1513,6 +1587,17 @@ public final class DateTimeFormatterBuilder {
             this.padChar = padChar;
         }
 
+        /**
+         * Returns a copy of this decorator with the locale-specific data of the decorated printer bound.
+         *
+         * @param locale  the locale to bind, not null
+         * @return the bound decorator, this if nothing changed, not null
+         */
+        PadPrinterParserDecorator withLocale(Locale locale) {
+            DateTimePrinterParser bound = CompositePrinterParser.bind(printerParser, locale);
+            return (bound != printerParser ? new PadPrinterParserDecorator(bound, padWidth, padChar) : this);
+        }
+
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             int preLen = buf.length();
@@ -1614,7 +1699,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a character literal.
      */
     static final class CharLiteralPrinterParser implements DateTimePrinterParser {
-        private final char literal;
+        final char literal;
 
         CharLiteralPrinterParser(char literal) {
             this.literal = literal;
@@ -1657,7 +1742,7 @@ public final class DateTimeFormatterBuilder {
      * Prints or parses a string literal.
      */
     static final class StringLiteralPrinterParser implements DateTimePrinterParser {
-        private final String literal;
+        final String literal;
 
         StringLiteralPrinterParser(String literal) {
             this.literal = literal;  // validated by caller
@@ -1712,9 +1797,9 @@ public final class DateTimeFormatterBuilder {
 
         final DateTimeField field;
         final int minWidth;
-        private final int maxWidth;
-        private final SignStyle signStyle;
-        private final int subsequentWidth;
+        final int maxWidth;
+        final SignStyle signStyle;
+        final int subsequentWidth;
 
         /**
          * Constructor.
@@ -1763,11 +1848,10 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long valueLong = context.getValue(field);
-            if (valueLong == null) {
+            if (context.isSupported(field) == false) {
                 return false;
             }
-            long value = getValue(valueLong);
+            long value = getValue(context.getValue(field));
             DateTimeFormatSymbols symbols = context.getSymbols();
             String str = (value == Long.MIN_VALUE ? "9223372036854775808" : Long.toString(Math.abs(value)));
             if (str.length() > maxWidth) {
@@ -2015,6 +2099,359 @@ public final class DateTimeFormatterBuilder {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Prints and parses a run of fixed-width numeric fields and literals.
+     * <p>
+     * This is a compiled form of the original printer-parsers, which are retained.
+     * The layout of the run is known in advance, so printing writes the digits
+     * directly into a copy of the layout and parsing uses offset arithmetic.
+     * Any value or text that cannot be handled by the fixed layout, such as a
+     * value needing a sign, is handled by the original printer-parsers.
+     */
+    static final class CompiledPrinterParser implements DateTimePrinterParser {
+        private final DateTimePrinterParser[] printerParsers;
+        private final char[] layout;
+        private final byte[] asciiLayout;
+        private final DateTimeField[] fields;
+        private final int[] offsets;
+        private final int[] widths;
+        private final boolean[] open;
+
+        /**
+         * Checks if the printer-parser can form part of a compiled run.
+         * <p>
+         * Literals can always be compiled. Numeric fields can be compiled if they are
+         * non-negative and fixed-width, or if they only print a sign when the minimum
+         * width is exceeded and are not followed by an adjacent value.
+         *
+         * @param pp  the printer-parser to check, not null
+         * @return true if the printer-parser can be compiled
+         */
+        static boolean isCompilable(DateTimePrinterParser pp) {
+            if (pp instanceof CharLiteralPrinterParser || pp instanceof StringLiteralPrinterParser) {
+                return true;
+            }
+            if (pp.getClass() == NumberPrinterParser.class) {
+                NumberPrinterParser npp = (NumberPrinterParser) pp;
+                if (npp.minWidth > 9) {
+                    return false;
+                }
+                if (npp.signStyle == SignStyle.NOT_NEGATIVE) {
+                    return npp.minWidth == npp.maxWidth;
+                }
+                return npp.signStyle == SignStyle.EXCEEDS_PAD && npp.subsequentWidth == 0;
+            }
+            return false;
+        }
+
+        /**
+         * Adds a run of compilable printer-parsers to the list, compiling if worthwhile.
+         *
+         * @param list  the list to add to, not null
+         * @param run  the run of compilable printer-parsers, not null
+         */
+        static void addRun(List<DateTimePrinterParser> list, DateTimePrinterParser[] run) {
+            int fieldCount = 0;
+            for (DateTimePrinterParser pp : run) {
+                if (pp instanceof NumberPrinterParser) {
+                    fieldCount++;
+                }
+            }
+            if (run.length < 2 || fieldCount == 0) {
+                list.addAll(Arrays.asList(run));
+            } else {
+                list.add(new CompiledPrinterParser(run, fieldCount));
+            }
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param printerParsers  the printer-parsers to compile, all compilable, not null
+         * @param fieldCount  the number of numeric fields
+         */
+        private CompiledPrinterParser(DateTimePrinterParser[] printerParsers, int fieldCount) {
+            this.printerParsers = printerParsers;
+            this.fields = new DateTimeField[fieldCount];
+            this.offsets = new int[fieldCount];
+            this.widths = new int[fieldCount];
+            this.open = new boolean[fieldCount];
+            StringBuilder buf = new StringBuilder();
+            int index = 0;
+            for (DateTimePrinterParser pp : printerParsers) {
+                if (pp instanceof CharLiteralPrinterParser) {
+                    buf.append(((CharLiteralPrinterParser) pp).literal);
+                } else if (pp instanceof StringLiteralPrinterParser) {
+                    buf.append(((StringLiteralPrinterParser) pp).literal);
+                } else {
+                    NumberPrinterParser npp = (NumberPrinterParser) pp;
+                    fields[index] = npp.field;
+                    offsets[index] = buf.length();
+                    widths[index] = npp.minWidth;
+                    open[index] = (npp.minWidth != npp.maxWidth);
+                    for (int i = 0; i < npp.minWidth; i++) {
+                        buf.append('0');
+                    }
+                    index++;
+                }
+            }
+            this.layout = buf.toString().toCharArray();
+            byte[] ascii = new byte[layout.length];
+            for (int i = 0; i < layout.length; i++) {
+                if (layout[i] > 0x7F) {
+                    ascii = null;
+                    break;
+                }
+                ascii[i] = (byte) layout[i];
+            }
+            this.asciiLayout = ascii;
+        }
+
+        /**
+         * Gets the length of the printed layout.
+         *
+         * @return the length of the layout
+         */
+        int getLength() {
+            return layout.length;
+        }
+
+        /**
+         * Checks if the layout consists only of ASCII characters.
+         *
+         * @return true if the layout can be printed to bytes
+         */
+        boolean isAscii() {
+            return asciiLayout != null;
+        }
+
+        /**
+         * Gets the original printer-parsers.
+         *
+         * @return the printer-parsers, not null
+         */
+        DateTimePrinterParser[] getPrinterParsers() {
+            return printerParsers.clone();
+        }
+
+        //-----------------------------------------------------------------------
+        @Override
+        public boolean print(DateTimePrintContext context, StringBuilder buf) {
+            int start = buf.length();
+            int result = printLayout(context, buf);
+            if (result > 0) {
+                return true;
+            }
+            buf.setLength(start);
+            if (result == 0) {
+                return false;
+            }
+            for (DateTimePrinterParser pp : printerParsers) {
+                if (pp.print(context, buf) == false) {
+                    buf.setLength(start);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Appends the layout and sets the digits of each field in place.
+         * <p>
+         * If the result is not 1, the caller must truncate the builder to its original length.
+         *
+         * @param context  the context to print using, not null
+         * @param buf  the builder to append to, not null
+         * @return 1 if printed, 0 if a field is unavailable, -1 if the original printers are needed
+         */
+        private int printLayout(DateTimePrintContext context, StringBuilder buf) {
+            int offset = buf.length();
+            buf.append(layout);
+            char zero = context.getSymbols().getZeroDigit();
+            for (int i = 0; i < fields.length; i++) {
+                if (context.isSupported(fields[i]) == false) {
+                    return 0;
+                }
+                long value = context.getValue(fields[i]);
+                if (value < 0 || value >= NumberPrinterParser.EXCEED_POINTS[widths[i]]) {
+                    return -1;
+                }
+                int pos = offset + offsets[i] + widths[i];
+                for (int j = 0; j < widths[i]; j++) {
+                    buf.setCharAt(--pos, (char) (zero + value % 10));
+                    value /= 10;
+                }
+            }
+            return 1;
+        }
+
+        /**
+         * Prints the layout and the digits of each field into a char array.
+         * <p>
+         * The array must have space for the whole layout from the offset.
+         * If the result is not 1, the content of the array is undefined.
+         *
+         * @param context  the context to print using, not null
+         * @param chars  the array to print into, not null
+         * @param offset  the offset to print at
+         * @return 1 if printed, 0 if a field is unavailable, -1 if the original printers are needed
+         */
+        int print(DateTimePrintContext context, char[] chars, int offset) {
+            System.arraycopy(layout, 0, chars, offset, layout.length);
+            char zero = context.getSymbols().getZeroDigit();
+            for (int i = 0; i < fields.length; i++) {
+                if (context.isSupported(fields[i]) == false) {
+                    return 0;
+                }
+                long value = context.getValue(fields[i]);
+                if (value < 0 || value >= NumberPrinterParser.EXCEED_POINTS[widths[i]]) {
+                    return -1;
+                }
+                int pos = offset + offsets[i] + widths[i];
+                for (int j = 0; j < widths[i]; j++) {
+                    chars[--pos] = (char) (zero + value % 10);
+                    value /= 10;
+                }
+            }
+            return 1;
+        }
+
+        /**
+         * Prints the layout and the digits of each field into a byte array as ASCII.
+         * <p>
+         * The layout must be ASCII and the zero digit must be '0'.
+         * The array must have space for the whole layout from the offset.
+         * If the result is not 1, the content of the array is undefined.
+         *
+         * @param context  the context to print using, not null
+         * @param bytes  the array to print into, not null
+         * @param offset  the offset to print at
+         * @return 1 if printed, 0 if a field is unavailable, -1 if the original printers are needed
+         */
+        int print(DateTimePrintContext context, byte[] bytes, int offset) {
+            System.arraycopy(asciiLayout, 0, bytes, offset, asciiLayout.length);
+            for (int i = 0; i < fields.length; i++) {
+                if (context.isSupported(fields[i]) == false) {
+                    return 0;
+                }
+                long value = context.getValue(fields[i]);
+                if (value < 0 || value >= NumberPrinterParser.EXCEED_POINTS[widths[i]]) {
+                    return -1;
+                }
+                int pos = offset + offsets[i] + widths[i];
+                for (int j = 0; j < widths[i]; j++) {
+                    bytes[--pos] = (byte) ('0' + value % 10);
+                    value /= 10;
+                }
+            }
+            return 1;
+        }
+
+        /**
+         * Prints the layout and the digits of each field into a byte buffer as ASCII.
+         * <p>
+         * This uses absolute puts, so the position of the buffer is not changed.
+         * The layout must be ASCII and the zero digit must be '0'.
+         * The buffer must have space for the whole layout from the index.
+         * If the result is not 1, the content of the buffer is undefined.
+         *
+         * @param context  the context to print using, not null
+         * @param buffer  the buffer to print into, not null
+         * @param index  the index to print at
+         * @return 1 if printed, 0 if a field is unavailable, -1 if the original printers are needed
+         */
+        int print(DateTimePrintContext context, ByteBuffer buffer, int index) {
+            for (int i = 0; i < asciiLayout.length; i++) {
+                buffer.put(index + i, asciiLayout[i]);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                if (context.isSupported(fields[i]) == false) {
+                    return 0;
+                }
+                long value = context.getValue(fields[i]);
+                if (value < 0 || value >= NumberPrinterParser.EXCEED_POINTS[widths[i]]) {
+                    return -1;
+                }
+                int pos = index + offsets[i] + widths[i];
+                for (int j = 0; j < widths[i]; j++) {
+                    buffer.put(--pos, (byte) ('0' + value % 10));
+                    value /= 10;
+                }
+            }
+            return 1;
+        }
+
+        @Override
+        public int parse(DateTimeParseContext context, CharSequence text, int position) {
+            int length = text.length();
+            int end = position + layout.length;
+            if (position >= 0 && end <= length) {
+                DateTimeFormatSymbols symbols = context.getSymbols();
+                if (matches(symbols, text, position)) {
+                    for (int i = 0; i < fields.length; i++) {
+                        long value = 0;
+                        int fieldEnd = position + offsets[i] + widths[i];
+                        for (int pos = position + offsets[i]; pos < fieldEnd; pos++) {
+                            value = value * 10 + symbols.convertToDigit(text.charAt(pos));
+                        }
+                        context.setParsedField(fields[i], value);
+                    }
+                    return end;
+                }
+            }
+            for (DateTimePrinterParser pp : printerParsers) {
+                position = pp.parse(context, text, position);
+                if (position < 0) {
+                    break;
+                }
+            }
+            return position;
+        }
+
+        /**
+         * Checks if the text matches the layout exactly.
+         *
+         * @param symbols  the symbols to use, not null
+         * @param text  the text to check, not null
+         * @param position  the position to check from, with the layout within the text
+         * @return true if the text has the literals and digits in the expected positions
+         */
+        private boolean matches(DateTimeFormatSymbols symbols, CharSequence text, int position) {
+            int pos = 0;
+            for (int i = 0; i < fields.length; i++) {
+                for ( ; pos < offsets[i]; pos++) {
+                    if (text.charAt(position + pos) != layout[pos]) {
+                        return false;
+                    }
+                }
+                for ( ; pos < offsets[i] + widths[i]; pos++) {
+                    if (symbols.convertToDigit(text.charAt(position + pos)) < 0) {
+                        return false;
+                    }
+                }
+                if (open[i] && position + pos < text.length() && symbols.convertToDigit(text.charAt(position + pos)) >= 0) {
+                    return false;  // wider value, which the original parser handles
+                }
+            }
+            for ( ; pos < layout.length; pos++) {
+                if (text.charAt(position + pos) != layout[pos]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder buf = new StringBuilder();
+            for (DateTimePrinterParser pp : printerParsers) {
+                buf.append(pp);
+            }
+            return buf.toString();
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Prints and parses a numeric date-time field with optional padding.
@@ -2053,10 +2490,10 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long value = context.getValue(field);
-            if (value == null) {
+            if (context.isSupported(field) == false) {
                 return false;
             }
+            long value = context.getValue(field);
             DateTimeFormatSymbols symbols = context.getSymbols();
             BigDecimal fraction = convertToFraction(value);
             if (fraction.scale() == 0) {  // scale is zero if value is zero
@@ -2184,6 +2621,22 @@ public final class DateTimeFormatterBuilder {
         private final DateTimeField field;
         private final TextStyle textStyle;
         private final DateTimeTextProvider provider;
+        /**
+         * The store of text for all locales, null if dependent on the locale.
+         */
+        private final LocaleStore fixedStore;
+        /**
+         * The provider if it supplies stores by locale, null otherwise.
+         */
+        private final SimpleDateTimeTextProvider storeProvider;
+        /**
+         * The locale that the store provider has been resolved for, null if not bound.
+         */
+        private final Locale boundLocale;
+        /**
+         * The store of text for the bound locale, null if not bound or the field has no text.
+         */
+        private final LocaleStore boundStore;
         /**
          * The cached number printer parser.
          * Immutable and volatile, so no synchronization needed.
@@ -2198,19 +2651,99 @@ public final class DateTimeFormatterBuilder {
          * @param provider  the text provider, not null
          */
         TextPrinterParser(DateTimeField field, TextStyle textStyle, DateTimeTextProvider provider) {
+            this(field, textStyle, provider, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param field  the field to output, not null
+         * @param textStyle  the text style, not null
+         * @param provider  the text provider, not null
+         * @param fixedStore  the store that the provider uses for all locales, null if none
+         */
+        TextPrinterParser(DateTimeField field, TextStyle textStyle, DateTimeTextProvider provider, LocaleStore fixedStore) {
             // validated by caller
             this.field = field;
             this.textStyle = textStyle;
             this.provider = provider;
+            this.fixedStore = fixedStore;
+            this.storeProvider = (provider instanceof SimpleDateTimeTextProvider ? (SimpleDateTimeTextProvider) provider : null);
+            this.boundLocale = null;
+            this.boundStore = null;
+        }
+
+        /**
+         * Constructor used to bind a locale.
+         *
+         * @param base  the printer-parser to copy, not null
+         * @param boundLocale  the locale that is bound, not null
+         * @param boundStore  the store for the locale, null if the field has no text
+         */
+        private TextPrinterParser(TextPrinterParser base, Locale boundLocale, LocaleStore boundStore) {
+            this.field = base.field;
+            this.textStyle = base.textStyle;
+            this.provider = base.provider;
+            this.fixedStore = base.fixedStore;
+            this.storeProvider = base.storeProvider;
+            this.boundLocale = boundLocale;
+            this.boundStore = boundStore;
+        }
+
+        /**
+         * Returns a copy of this printer-parser with the store for the locale resolved.
+         * <p>
+         * Only text held by the standard provider can be bound, as other
+         * providers may return different text on each call.
+         *
+         * @param locale  the locale to bind, not null
+         * @return the bound printer-parser, this if nothing changed, not null
+         */
+        TextPrinterParser withLocale(Locale locale) {
+            if (fixedStore != null || storeProvider == null || locale.equals(boundLocale)) {
+                return this;
+            }
+            return new TextPrinterParser(this, locale, storeProvider.findLocaleStore(field, locale));
+        }
+
+        /**
+         * Checks if the text is held in a store, rather than only being available from the provider.
+         *
+         * @return true if the text is held in a store
+         */
+        private boolean isStoreBased() {
+            return fixedStore != null || storeProvider != null;
+        }
+
+        /**
+         * Finds the store of text, only valid if store based.
+         *
+         * @param locale  the locale, not null
+         * @return the store, null if the field has no text
+         */
+        private LocaleStore findStore(Locale locale) {
+            if (fixedStore != null) {
+                return fixedStore;
+            }
+            if (locale.equals(boundLocale)) {
+                return boundStore;
+            }
+            return storeProvider.findLocaleStore(field, locale);
         }
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long value = context.getValue(field);
-            if (value == null) {
+            if (context.isSupported(field) == false) {
                 return false;
             }
-            String text = provider.getText(field, value, textStyle, context.getLocale());
+            long value = context.getValue(field);
+            String text;
+            if (isStoreBased()) {
+                LocaleStore store = findStore(context.getLocale());
+                text = (store != null ? store.getText(value, textStyle) : null);
+            } else {
+                text = provider.getText(field, value, textStyle, context.getLocale());
+            }
             if (text == null) {
                 return numberPrinterParser().print(context, buf);
             }
@@ -2225,6 +2758,20 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            if (isStoreBased()) {
+                LocaleStore store = findStore(context.getLocale());
+                if (store != null && store.isParsable(style)) {
+                    int match = store.match(style, parseText, position, context.isCaseSensitive());
+                    if (match >= 0) {
+                        context.setParsedField(field, store.getMatchValue(style, match));
+                        return position + store.getMatchLength(style, match);
+                    }
+                    if (context.isStrict()) {
+                        return ~position;
+                    }
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -2326,11 +2873,10 @@ public final class DateTimeFormatterBuilder {
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            Long offsetSecs = context.getValue(OFFSET_SECONDS);
-            if (offsetSecs == null) {
+            if (context.isSupported(OFFSET_SECONDS) == false) {
                 return false;
             }
-            int totalSecs = DateTimes.safeToInt(offsetSecs);
+            int totalSecs = DateTimes.safeToInt(context.getValue(OFFSET_SECONDS));
             if (totalSecs == 0) {
                 buf.append(noOffsetText);
             } else {
@@ -2467,52 +3013,46 @@ public final class DateTimeFormatterBuilder {
 
         //-----------------------------------------------------------------------
         /**
-         * The cached tree to speed up parsing.
+         * The parser for offsets following 'UTC'.
          */
-        private static SubstringTree preparedTree;
+        private static final ZoneOffsetPrinterParser UTC_OFFSET = new ZoneOffsetPrinterParser("", "+HH:MM:ss");
         /**
-         * The cached IDs.
+         * The cached trie of IDs to speed up parsing, replaced when the registered IDs change.
          */
-        private static Set<String> preparedIDs;  // TODO: used inside and outside sync block
+        private static volatile PreparedIDs prepared;
 
         /**
-         * This implementation looks for the longest matching string.
-         * For example, parsing Etc/GMT-2 will return Etc/GMC-2 rather than just
-         * Etc/GMC although both are valid.
+         * This implementation looks for the longest matching ID.
+         * For example, parsing Etc/GMT-2 will return Etc/GMT-2 rather than just
+         * Etc/GMT although both are valid.
          * <p>
-         * This implementation uses a tree to search for valid time-zone names in
-         * the parseText. The top level node of the tree has a length equal to the
-         * length of the shortest time-zone as well as the beginning characters of
-         * all other time-zones.
+         * This implementation uses an immutable character trie of all the parsable IDs,
+         * rebuilt when the registered IDs change. Matching allocates no objects and
+         * honours the case sensitivity of the context.
          */
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
-            // TODO case insensitive?
             int length = text.length();
             if (position > length) {
                 throw new IndexOutOfBoundsException();
             }
             
-            // setup parse tree
-            Set<String> ids = ZoneRulesGroup.getParsableIDs();
-            if (ids.size() == 0) {
+            // setup parse trie, the generation is read before the IDs so the cache is never stale
+            int generation = ZoneRulesGroup.getGeneration();
+            PreparedIDs cached = prepared;
+            if (cached == null || cached.generation != generation) {
+                cached = new PreparedIDs(generation, ZoneRulesGroup.getParsableIDs());
+                prepared = cached;
+            }
+            if (cached.trie.size() == 0) {
                 return ~position;
             }
-            SubstringTree tree;
-            synchronized (ZoneIdPrinterParser.class) {
-                if (preparedTree == null || preparedIDs.size() < ids.size()) {
-                    ids = new HashSet<String>(ids);
-                    preparedTree = prepareParser(ids);
-                    preparedIDs = ids;
-                }
-                tree = preparedTree;
-            }
             
             // handle fixed time-zone ids
-            if (text.subSequence(position, text.length()).toString().startsWith("UTC")) {
+            if (context.subSequenceEquals(text, position, "UTC", 0, 3)) {
                 DateTimeParseContext newContext = new DateTimeParseContext(context.getLocale(), DateTimeFormatSymbols.STANDARD);
                 int startPos = position + 3;
-                int endPos = new ZoneOffsetPrinterParser("", "+HH:MM:ss").parse(newContext, text, startPos);
+                int endPos = UTC_OFFSET.parse(newContext, text, startPos);
                 if (endPos < 0) {
                     context.setParsed(ZoneId.UTC);
                     return startPos;
@@ -2524,114 +3064,43 @@ public final class DateTimeFormatterBuilder {
             }
             
             // parse
-            String parsedZoneId = null;
-            while (tree != null) {
-                int nodeLength = tree.length;
-                if (position + nodeLength > length) {
-                    break;
-                }
-                parsedZoneId = text.subSequence(position, position + nodeLength).toString();
-                tree = tree.get(parsedZoneId);
-            }
-            
-            if (parsedZoneId == null || preparedIDs.contains(parsedZoneId) == false) {
+            int match = cached.trie.match(text, position, context.isCaseSensitive());
+            if (match < 0) {
                 return ~position;
             }
-            context.setParsed(ZoneId.of(parsedZoneId));
-            return position + parsedZoneId.length();
+            context.setParsed(cached.getZone(match));
+            return position + cached.trie.getKey(match).length();
         }
 
         //-----------------------------------------------------------------------
         /**
-         * Model a tree of substrings to make the parsing easier. Due to the nature
-         * of time-zone names, it can be faster to parse based in unique substrings
-         * rather than just a character by character match.
-         * <p>
-         * For example, to parse America/Denver we can look at the first two
-         * character "Am". We then notice that the shortest time-zone that starts
-         * with Am is America/Nome which is 12 characters long. Checking the first
-         * 12 characters of America/Denver gives America/Denv which is a substring
-         * of only 1 time-zone: America/Denver. Thus, with just 3 comparisons that
-         * match can be found.
-         * <p>
-         * This structure maps substrings to substrings of a longer length. Each
-         * node of the tree contains a length and a map of valid substrings to
-         * sub-nodes. The parser gets the length from the root node. It then
-         * extracts a substring of that length from the parseText. If the map
-         * contains the substring, it is set as the possible time-zone and the
-         * sub-node for that substring is retrieved. The process continues until the
-         * substring is no longer found, at which point the matched text is checked
-         * against the real time-zones.
+         * The parse trie prepared from an immutable snapshot of the parsable IDs.
          */
-        private static final class SubstringTree {
-            /**
-             * The length of the substring this node of the tree contains.
-             * Subtrees will have a longer length.
-             */
-            final int length;
-            /**
-             * Map of a substring to a set of substrings that contain the key.
-             */
-            private final Map<CharSequence, SubstringTree> substringMap = new HashMap<>();
-
-            /**
-             * Constructor.
-             *
-             * @param length  the length of this tree
-             */
-            private SubstringTree(int length) {
-                this.length = length;
-            }
-
-            private SubstringTree get(CharSequence substring2) {
-                return substringMap.get(substring2);
-
-            }
-
-            /**
-             * Values must be added from shortest to longest.
-             *
-             * @param newSubstring  the substring to add, not null
-             */
-            private void add(String newSubstring) {
-                int idLen = newSubstring.length();
-                if (idLen == length) {
-                    substringMap.put(newSubstring, null);
-                } else if (idLen > length) {
-                    String substring = newSubstring.substring(0, length);
-                    SubstringTree parserTree = substringMap.get(substring);
-                    if (parserTree == null) {
-                        parserTree = new SubstringTree(idLen);
-                        substringMap.put(substring, parserTree);
-                    }
-                    parserTree.add(newSubstring);
+        private static final class PreparedIDs {
+            /** The registry generation the IDs were obtained in. */
+            final int generation;
+            /** The trie of parsable IDs. */
+            final ParseTrie trie;
+            /** The zone of each ID, created when first parsed. */
+            private final ZoneId[] zones;
+
+            PreparedIDs(int generation, Set<String> ids) {
+                this.generation = generation;
+                this.trie = ParseTrie.of(ids);
+                this.zones = new ZoneId[trie.size()];
+            }
+
+            ZoneId getZone(int index) {
+                // racy single check, as zones are immutable and equal when created twice
+                ZoneId zone = zones[index];
+                if (zone == null) {
+                    zone = ZoneId.of(trie.getKey(index));
+                    zones[index] = zone;
                 }
+                return zone;
             }
         }
 
-        /**
-         * Builds an optimized parsing tree.
-         *
-         * @param availableIDs  the available IDs, not null, not empty
-         * @return the tree, not null
-         */
-        private static SubstringTree prepareParser(Set<String> availableIDs) {
-            // sort by length
-            List<String> ids = new ArrayList<>(availableIDs);
-            Collections.sort(ids, new Comparator<String>() {
-                public int compare(String str1, String str2) {
-                    return str1.length() == str2.length() ? str1.compareTo(str2) : str1.length() - str2.length();
-                }
-            });
-            
-            // build the tree
-            SubstringTree tree = new SubstringTree(ids.get(0).length());
-            for (String id : ids) {
-                tree.add(id);
-            }
-            return tree;
-        }
-
         //-----------------------------------------------------------------------
         @Override
         public String toString() {
@@ -2683,6 +3152,14 @@ public final class DateTimeFormatterBuilder {
         private final FormatStyle dateStyle;
         private final FormatStyle timeStyle;
         private final Chronology chronology;
+        /**
+         * The locale that the formatter has been resolved for, null if not bound.
+         */
+        private final Locale boundLocale;
+        /**
+         * The printer-parser of the formatter for the bound locale, null if not bound.
+         */
+        private final CompositePrinterParser boundPrinterParser;
 
         /**
          * Constructor.
@@ -2692,20 +3169,72 @@ public final class DateTimeFormatterBuilder {
          * @param chronology  the chronology to use, not null
          */
         LocalizedPrinterParser(FormatStyle dateStyle, FormatStyle timeStyle, Chronology chronology) {
+            this(dateStyle, timeStyle, chronology, null, null);
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param dateStyle  the date style to use, may be null
+         * @param timeStyle  the time style to use, may be null
+         * @param chronology  the chronology to use, not null
+         * @param boundLocale  the locale that is bound, null if not bound
+         * @param boundPrinterParser  the printer-parser for the bound locale, null if not bound
+         */
+        private LocalizedPrinterParser(FormatStyle dateStyle, FormatStyle timeStyle, Chronology chronology,
+                Locale boundLocale, CompositePrinterParser boundPrinterParser) {
             // validated by caller
             this.dateStyle = dateStyle;
             this.timeStyle = timeStyle;
             this.chronology = chronology;
+            this.boundLocale = boundLocale;
+            this.boundPrinterParser = boundPrinterParser;
+        }
+
+        /**
+         * Returns a copy of this printer-parser with the formatter for the locale resolved.
+         * <p>
+         * If no formatter is available for the locale, then this is returned
+         * unchanged and the error is reported when printing or parsing.
+         *
+         * @param locale  the locale to bind, not null
+         * @return the bound printer-parser, this if nothing changed, not null
+         */
+        LocalizedPrinterParser withLocale(Locale locale) {
+            if (locale.equals(boundLocale)) {
+                return this;
+            }
+            CompositePrinterParser pp;
+            try {
+                pp = formatter(locale).toPrinterParser(false);
+            } catch (IllegalArgumentException ex) {
+                return this;
+            }
+            return new LocalizedPrinterParser(dateStyle, timeStyle, chronology, locale, pp);
         }
 
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
-            return formatter(context.getLocale()).toPrinterParser(false).print(context, buf);
+            return printerParser(context.getLocale()).print(context, buf);
         }
 
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
-            return formatter(context.getLocale()).toPrinterParser(false).parse(context, text, position);
+            return printerParser(context.getLocale()).parse(context, text, position);
+        }
+
+        /**
+         * Gets the printer-parser to use.
+         *
+         * @param locale  the locale to use, not null
+         * @return the printer-parser, not null
+         * @throws IllegalArgumentException if the formatter cannot be found
+         */
+        private CompositePrinterParser printerParser(Locale locale) {
+            if (locale.equals(boundLocale)) {
+                return boundPrinterParser;
+            }
+            return formatter(locale).toPrinterParser(false);
         }
 
         /**
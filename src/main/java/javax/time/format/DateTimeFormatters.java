@@ -238,9 +238,9 @@ public final class DateTimeFormatters {
      * The locale can be controlled using {@link DateTimeFormatter#withLocale(Locale) withLocale(Locale)}
      * on the result of this method.
      * <p>
-     * Note that the localized pattern is looked up lazily.
+     * Note that the localized pattern is looked up when the locale is set.
      * This {@code DateTimeFormatter} holds the style required and the locale,
-     * looking up the pattern required on demand.
+     * looking up the pattern again if the locale is changed.
      *
      * @param dateStyle  the formatter style to obtain, not null
      * @return the date formatter, not null
@@ -261,9 +261,9 @@ public final class DateTimeFormatters {
      * The locale can be controlled using {@link DateTimeFormatter#withLocale(Locale) withLocale(Locale)}
      * on the result of this method.
      * <p>
-     * Note that the localized pattern is looked up lazily.
+     * Note that the localized pattern is looked up when the locale is set.
      * This {@code DateTimeFormatter} holds the style required and the locale,
-     * looking up the pattern required on demand.
+     * looking up the pattern again if the locale is changed.
      *
      * @param timeStyle  the formatter style to obtain, not null
      * @return the time formatter, not null
@@ -284,9 +284,9 @@ public final class DateTimeFormatters {
      * The locale can be controlled using {@link DateTimeFormatter#withLocale(Locale) withLocale(Locale)}
      * on the result of this method.
      * <p>
-     * Note that the localized pattern is looked up lazily.
+     * Note that the localized pattern is looked up when the locale is set.
      * This {@code DateTimeFormatter} holds the style required and the locale,
-     * looking up the pattern required on demand.
+     * looking up the pattern again if the locale is changed.
      *
      * @param dateTimeStyle  the formatter style to obtain, not null
      * @return the date-time formatter, not null
@@ -307,9 +307,9 @@ public final class DateTimeFormatters {
      * The locale can be controlled using {@link DateTimeFormatter#withLocale(Locale) withLocale(Locale)}
      * on the result of this method.
      * <p>
-     * Note that the localized pattern is looked up lazily.
+     * Note that the localized pattern is looked up when the locale is set.
      * This {@code DateTimeFormatter} holds the style required and the locale,
-     * looking up the pattern required on demand.
+     * looking up the pattern again if the locale is changed.
      *
      * @param dateStyle  the date formatter style to obtain, not null
      * @param timeStyle  the time formatter style to obtain, not null
@@ -32,12 +32,14 @@
 package javax.time.format;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
 import javax.time.DateTimes;
 import javax.time.calendrical.DateTimeBuilder;
 import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.LocalDateTimeField;
 
 /**
  * Context object used during date and time parsing.
@@ -48,6 +50,11 @@ import javax.time.calendrical.DateTimeField;
  * <p>
  * Once parsing is complete, the {@link #toBuilder()} is typically used
  * to obtain a builder that can combine the separate parsed fields into meaningful values.
+ * <p>
+ * Values of {@link LocalDateTimeField} are stored in a primitive array indexed by ordinal
+ * with a bitmask recording which are present. The state of each optional segment is
+ * held in a reusable stack, thus a context can be {@link #reset() reset} and reused
+ * for many parses without allocating, as by {@link DateTimeParser}.
  * 
  * <h4>Implementation notes</h4>
  * This class is a mutable context intended for use from a single thread.
@@ -56,6 +63,11 @@ import javax.time.calendrical.DateTimeField;
  */
 final class DateTimeParseContext {
 
+    /**
+     * The standard fields, indexed by ordinal, of which there must be at most 64.
+     */
+    private static final LocalDateTimeField[] FIELDS = LocalDateTimeField.values();
+
     /**
      * The locale, not null.
      */
@@ -73,9 +85,13 @@ final class DateTimeParseContext {
      */
     private boolean strict = true;
     /**
-     * The list of parsed data.
+     * The stack of parsed data, one for each nested optional segment, reused between parses.
+     */
+    private Parsed[] calendricals = new Parsed[4];
+    /**
+     * The index of the active parsed data in the stack.
      */
-    private final ArrayList<Parsed> calendricals = new ArrayList<>();
+    private int depth;
 
     /**
      * Creates a new instance of the context.
@@ -89,7 +105,20 @@ final class DateTimeParseContext {
         super();
         setLocale(locale);
         setSymbols(symbols);
-        calendricals.add(new Parsed());
+        calendricals[0] = new Parsed();
+    }
+
+    /**
+     * Resets the context ready for another parse.
+     * <p>
+     * This discards all parsed data and optional segments, and restores
+     * case sensitive and strict parsing. The locale and symbols are retained.
+     */
+    void reset() {
+        depth = 0;
+        calendricals[0].clear();
+        caseSensitive = true;
+        strict = true;
     }
 
     //-----------------------------------------------------------------------
@@ -223,7 +252,16 @@ final class DateTimeParseContext {
      * Starts the parsing of an optional segment of the input.
      */
     void startOptional() {
-        calendricals.add(currentCalendrical().clone());
+        if (depth + 1 == calendricals.length) {
+            calendricals = Arrays.copyOf(calendricals, calendricals.length * 2);
+        }
+        Parsed next = calendricals[depth + 1];
+        if (next == null) {
+            next = new Parsed();
+            calendricals[depth + 1] = next;
+        }
+        next.copyFrom(calendricals[depth]);
+        depth++;
     }
 
     /**
@@ -233,10 +271,12 @@ final class DateTimeParseContext {
      */
     void endOptional(boolean successful) {
         if (successful) {
-            calendricals.remove(calendricals.size() - 2);
-        } else {
-            calendricals.remove(calendricals.size() - 1);
+            // swap so that both instances remain available for reuse
+            Parsed parent = calendricals[depth - 1];
+            calendricals[depth - 1] = calendricals[depth];
+            calendricals[depth] = parent;
         }
+        depth--;
     }
 
     //-----------------------------------------------------------------------
@@ -246,7 +286,7 @@ final class DateTimeParseContext {
      * @return the current calendrical, not null
      */
     private Parsed currentCalendrical() {
-        return calendricals.get(calendricals.size() - 1);
+        return calendricals[depth];
     }
 
     //-----------------------------------------------------------------------
@@ -262,7 +302,12 @@ final class DateTimeParseContext {
      * @return the value mapped to the specified field, null if field was not parsed
      */
     public Long getParsed(DateTimeField field) {
-        for (Object obj : currentCalendrical().calendricals) {
+        Parsed parsed = currentCalendrical();
+        if (field instanceof LocalDateTimeField) {
+            int ordinal = ((LocalDateTimeField) field).ordinal();
+            return ((parsed.present & (1L << ordinal)) != 0 ? parsed.values[ordinal] : null);
+        }
+        for (Object obj : parsed.others) {
             if (obj instanceof FieldValue) {
                 FieldValue fv = (FieldValue) obj;
                 if (fv.field.equals(field)) {
@@ -284,7 +329,7 @@ final class DateTimeParseContext {
      */
     @SuppressWarnings("unchecked")
     public <T> T getParsed(Class<T> clazz) {
-        for (Object obj : currentCalendrical().calendricals) {
+        for (Object obj : currentCalendrical().others) {
             if (clazz.isInstance(obj)) {
                 return (T) obj;
             }
@@ -299,7 +344,14 @@ final class DateTimeParseContext {
      */
     List<Object> getParsed() {
         // package scoped for testing
-        return currentCalendrical().calendricals;
+        Parsed parsed = currentCalendrical();
+        List<Object> list = new ArrayList<>();
+        for (long bits = parsed.present; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            list.add(new FieldValue(FIELDS[ordinal], parsed.values[ordinal]));
+        }
+        list.addAll(parsed.others);
+        return list;
     }
 
     /**
@@ -313,7 +365,17 @@ final class DateTimeParseContext {
      */
     public void setParsedField(DateTimeField field, long value) {
         DateTimes.checkNotNull(field, "DateTimeField must not be null");
-        currentCalendrical().calendricals.add(new FieldValue(field, value));
+        Parsed parsed = currentCalendrical();
+        if (field instanceof LocalDateTimeField) {
+            int ordinal = ((LocalDateTimeField) field).ordinal();
+            long bit = 1L << ordinal;
+            if ((parsed.present & bit) == 0) {
+                parsed.values[ordinal] = value;
+                parsed.present |= bit;
+                return;
+            }
+        }
+        parsed.others.add(new FieldValue(field, value));  // other field or duplicate
     }
 
     /**
@@ -326,7 +388,7 @@ final class DateTimeParseContext {
      */
     public <T> void setParsed(Object object) {
         DateTimes.checkNotNull(object, "Object must not be null");
-        currentCalendrical().calendricals.add(object);
+        currentCalendrical().others.add(object);
     }
 
     //-----------------------------------------------------------------------
@@ -343,9 +405,13 @@ final class DateTimeParseContext {
      * @return a new builder with the results of the parse, not null
      */
     public DateTimeBuilder toBuilder() {
-        List<Object> cals = currentCalendrical().calendricals;
+        Parsed parsed = currentCalendrical();
         DateTimeBuilder builder = new DateTimeBuilder();
-        for (Object obj : cals) {
+        for (long bits = parsed.present; bits != 0; bits &= bits - 1) {
+            int ordinal = Long.numberOfTrailingZeros(bits);
+            builder.addFieldValue(FIELDS[ordinal], parsed.values[ordinal]);
+        }
+        for (Object obj : parsed.others) {
             if (obj instanceof FieldValue) {
                 FieldValue fv = (FieldValue) obj;
                 builder.addFieldValue(fv.field, fv.value);
@@ -364,7 +430,7 @@ final class DateTimeParseContext {
      */
     @Override
     public String toString() {
-        return currentCalendrical().toString();
+        return getParsed().toString();
     }
 
     //-----------------------------------------------------------------------
@@ -372,18 +438,25 @@ final class DateTimeParseContext {
      * Temporary store of parsed data.
      */
     private static final class Parsed {
-        final List<Object> calendricals = new ArrayList<>();
+        /** The standard field values, indexed by ordinal. */
+        final long[] values = new long[FIELDS.length];
+        /** The bitmask of standard fields present, by ordinal. */
+        long present;
+        /** Other field-value pairs, duplicate standard fields and objects, in order parsed. */
+        final ArrayList<Object> others = new ArrayList<>(4);
         private Parsed() {
         }
-        @Override
-        protected Parsed clone() {
-            Parsed cloned = new Parsed();
-            cloned.calendricals.addAll(this.calendricals);
-            return cloned;
+        void copyFrom(Parsed other) {
+            System.arraycopy(other.values, 0, values, 0, values.length);
+            present = other.present;
+            others.clear();
+            for (int i = 0; i < other.others.size(); i++) {
+                others.add(other.others.get(i));  // avoids the array copy of addAll()
+            }
         }
-        @Override
-        public String toString() {
-            return calendricals.toString();
+        void clear() {
+            present = 0;
+            others.clear();
         }
     }
 
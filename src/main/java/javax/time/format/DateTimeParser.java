@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.text.ParsePosition;
+
+import javax.time.DateTimeException;
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.DateTimeBuilder;
+
+/**
+ * A reusable parser bound to a formatter, for use by a single thread.
+ * <p>
+ * Instances are obtained from {@link DateTimeFormatter#toParser()}.
+ * Parsing behaves exactly as the equivalent methods on the formatter, however
+ * the parse context holding the parsed data is retained and reset between parses.
+ * The parsed values are held in a primitive array rather than as boxed values,
+ * thus the per-parse garbage is largely limited to the returned result.
+ * <p>
+ * For example, a log processor parsing timestamps might use:
+ * <pre>
+ * DateTimeParser parser = formatter.toParser();
+ * for (String line : lines) {
+ *   LocalDateTime dt = parser.parse(line.substring(0, 19), LocalDateTime.class);
+ *   ...
+ * }
+ * </pre>
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is mutable and not thread-safe.
+ * It must be confined to a single thread, but need not be synchronized.
+ */
+public final class DateTimeParser {
+
+    /**
+     * The formatter, not null.
+     */
+    private final DateTimeFormatter formatter;
+    /**
+     * The context, reused for each parse, not null.
+     */
+    private final DateTimeParseContext context;
+
+    /**
+     * Constructor.
+     *
+     * @param formatter  the formatter, not null
+     * @param context  the context to reuse, not null
+     */
+    DateTimeParser(DateTimeFormatter formatter, DateTimeParseContext context) {
+        this.formatter = formatter;
+        this.context = context;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the formatter that this parser is bound to.
+     *
+     * @return the formatter, not null
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Fully parses the text producing an object of the specified type.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parse(CharSequence, Class)}.
+     *
+     * @param <T> the type to extract
+     * @param text  the text to parse, not null
+     * @param type  the type to extract, not null
+     * @return the parsed calendrical, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public <T> T parse(CharSequence text, Class<T> type) {
+        context.reset();
+        return formatter.parse(text, type, context);
+    }
+
+    /**
+     * Fully parses the text producing a {@code LocalDate}.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseLocalDate(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public LocalDate parseLocalDate(CharSequence text) {
+        context.reset();
+        return formatter.parseLocalDate(text, context);
+    }
+
+    /**
+     * Fully parses the text producing a {@code LocalDateTime}.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseLocalDateTime(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public LocalDateTime parseLocalDateTime(CharSequence text) {
+        context.reset();
+        return formatter.parseLocalDateTime(text, context);
+    }
+
+    /**
+     * Fully parses the text producing an {@code Instant}.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseInstant(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed instant, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public Instant parseInstant(CharSequence text) {
+        return parse(text, Instant.class);
+    }
+
+    /**
+     * Fully parses the text producing an {@code OffsetDateTime}.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseOffsetDateTime(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public OffsetDateTime parseOffsetDateTime(CharSequence text) {
+        return parse(text, OffsetDateTime.class);
+    }
+
+    /**
+     * Fully parses the text producing a {@code ZonedDateTime}.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseZonedDateTime(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, not null
+     * @throws DateTimeParseException if the parse fails
+     */
+    public ZonedDateTime parseZonedDateTime(CharSequence text) {
+        return parse(text, ZonedDateTime.class);
+    }
+
+    /**
+     * Parses the text to a builder.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseToBuilder(CharSequence)}.
+     *
+     * @param text  the text to parse, not null
+     * @return the engine representing the result of the parse, not null
+     * @throws DateTimeParseException if the parse fails
+     * @throws DateTimeException if there is a date/time problem
+     */
+    public DateTimeBuilder parseToBuilder(CharSequence text) {
+        context.reset();
+        return formatter.parseToBuilder(text, context);
+    }
+
+    /**
+     * Parses the text to a builder without requiring the input to be fully parsed.
+     * <p>
+     * This is equivalent to {@link DateTimeFormatter#parseToBuilder(CharSequence, ParsePosition)}.
+     *
+     * @param text  the text to parse, not null
+     * @param position  the position to parse from, updated with length parsed
+     *  and the index of any error, not null
+     * @return the parsed text, null only if the parse results in an error
+     * @throws IndexOutOfBoundsException if the position is invalid
+     * @throws DateTimeException if there is a date/time problem
+     */
+    public DateTimeBuilder parseToBuilder(CharSequence text, ParsePosition position) {
+        context.reset();
+        return formatter.parseToBuilder(text, position, context);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a description of the underlying formatter.
+     *
+     * @return the description, not null
+     */
+    @Override
+    public String toString() {
+        return formatter.toString();
+    }
+
+}
@@ -185,24 +185,33 @@ final class DateTimePrintContext {
         return result;
     }
 
+    /**
+     * Checks if the specified field should be printed.
+     * <p>
+     * Within an optional section, this checks if the field is supported by the calendrical,
+     * allowing the section to be skipped without the cost of an exception.
+     * Outside an optional section this always returns true, such that
+     * {@link #getValue(DateTimeField)} throws if the field is not supported.
+     *
+     * @param field  the field to check, not null
+     * @return true if the value should be obtained, false to skip the optional section
+     */
+    boolean isSupported(DateTimeField field) {
+        return optional == 0 || calendrical.isSupported(field);
+    }
+
     /**
      * Gets the value of the specified field.
      * <p>
      * This will return the value for the specified field.
+     * Callers should first use {@link #isSupported(DateTimeField)}.
      *
      * @param field  the field to find, not null
-     * @return the value, null if not found and optional is true
-     * @throws DateTimeException if the field is not available and the section is not optional
-     */
-    public Long getValue(DateTimeField field) {
-        try {
-            return calendrical.get(field);
-        } catch (DateTimeException ex) {
-            if (optional > 0) {
-                return null;
-            }
-            throw ex;
-        }
+     * @return the value
+     * @throws DateTimeException if the field is not available
+     */
+    public long getValue(DateTimeField field) {
+        return calendrical.get(field);
     }
 
     //-----------------------------------------------------------------------
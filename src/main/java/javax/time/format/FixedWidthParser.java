@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
+import static javax.time.calendrical.LocalDateTimeField.HOUR_OF_DAY;
+import static javax.time.calendrical.LocalDateTimeField.MINUTE_OF_HOUR;
+import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
+import static javax.time.calendrical.LocalDateTimeField.SECOND_OF_MINUTE;
+import static javax.time.calendrical.LocalDateTimeField.YEAR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.time.DateTimeException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.calendrical.DateTimeField;
+import javax.time.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.CompiledPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.SettingsParser;
+import javax.time.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
+
+/**
+ * Parser for formats consisting only of fixed-width numeric fields and literals.
+ * <p>
+ * A format such as {@code yyyyMMdd} or {@code yyyy-MM-dd HH:mm}, where every field has
+ * a fixed width, can be parsed by offset arithmetic without using the general parser.
+ * The typed parse methods on {@link DateTimeFormatter} use this class to create the
+ * result directly, avoiding the parse context and {@code DateTimeBuilder}.
+ * <p>
+ * This is strictly an optimization. The parse methods return null whenever the input
+ * does not exactly match the layout or the values are invalid, in which case the caller
+ * must use the general parser, which will produce the standard result or error.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is immutable and thread-safe.
+ */
+final class FixedWidthParser {
+
+    /**
+     * The fields that can be assembled directly, in slot order.
+     */
+    private static final DateTimeField[] SLOT_FIELDS = {
+        YEAR, MONTH_OF_YEAR, DAY_OF_MONTH, HOUR_OF_DAY, MINUTE_OF_HOUR, SECOND_OF_MINUTE,
+    };
+    /**
+     * Bitmask of slots for a date.
+     */
+    private static final int DATE = 0x07;
+    /**
+     * Bitmask of slots for a date-time without seconds.
+     */
+    private static final int DATE_TIME_MINUTES = 0x1F;
+    /**
+     * Bitmask of slots for a date-time with seconds.
+     */
+    private static final int DATE_TIME_SECONDS = 0x3F;
+
+    /**
+     * The expected text, with literals in position, not null.
+     */
+    private final char[] layout;
+    /**
+     * Whether each position in the layout is a digit, not null.
+     */
+    private final boolean[] digits;
+    /**
+     * The offset of each slot, -1 if not present.
+     */
+    private final int[] offsets;
+    /**
+     * The width of each slot.
+     */
+    private final int[] widths;
+    /**
+     * The bitmask of slots that are present.
+     */
+    private final int slots;
+    /**
+     * The zero digit.
+     */
+    private final char zeroDigit;
+
+    /**
+     * Obtains a parser for the specified printer-parser if possible.
+     * <p>
+     * This succeeds only if the printer-parser consists solely of numeric fields of
+     * no more than nine digits, literals and parse settings. The numeric fields must be
+     * non-negative and fixed-width, or only print a sign when the minimum width is exceeded.
+     * In the latter case only the minimum width is handled here, and the field must be followed
+     * by exactly the digits of the adjacent fixed-width fields, as in {@code yyyyMMdd}.
+     * Each field must be one that can be assembled directly and occur only once.
+     *
+     * @param printerParser  the printer-parser to analyze, not null
+     * @param symbols  the symbols to use, not null
+     * @return the parser, null if the printer-parser is unsuitable
+     */
+    static FixedWidthParser of(CompositePrinterParser printerParser, DateTimeFormatSymbols symbols) {
+        if (printerParser.optional) {
+            return null;
+        }
+        List<DateTimePrinterParser> flat = new ArrayList<>();
+        if (flatten(printerParser, flat) == false) {
+            return null;
+        }
+        StringBuilder layout = new StringBuilder();
+        List<Integer> digitPositions = new ArrayList<>();
+        int[] offsets = {-1, -1, -1, -1, -1, -1};
+        int[] widths = new int[SLOT_FIELDS.length];
+        int slots = 0;
+        List<int[]> openEnds = new ArrayList<>();
+        for (DateTimePrinterParser pp : flat) {
+            if (pp instanceof CharLiteralPrinterParser) {
+                layout.append(((CharLiteralPrinterParser) pp).literal);
+            } else if (pp instanceof StringLiteralPrinterParser) {
+                layout.append(((StringLiteralPrinterParser) pp).literal);
+            } else if (pp.getClass() == NumberPrinterParser.class) {
+                NumberPrinterParser npp = (NumberPrinterParser) pp;
+                int slot = slotOf(npp.field);
+                if (slot < 0 || (slots & (1 << slot)) != 0 || npp.minWidth > 9) {
+                    return null;
+                }
+                if (npp.signStyle == SignStyle.EXCEEDS_PAD) {
+                    openEnds.add(new int[] {layout.length() + npp.minWidth, npp.subsequentWidth});
+                } else if (npp.signStyle != SignStyle.NOT_NEGATIVE || npp.minWidth != npp.maxWidth) {
+                    return null;
+                }
+                slots |= 1 << slot;
+                offsets[slot] = layout.length();
+                widths[slot] = npp.minWidth;
+                for (int i = 0; i < npp.minWidth; i++) {
+                    digitPositions.add(layout.length());
+                    layout.append(symbols.getZeroDigit());
+                }
+            } else if ((pp instanceof SettingsParser) == false) {
+                return null;
+            }
+        }
+        if (slots != DATE && slots != DATE_TIME_MINUTES && slots != DATE_TIME_SECONDS) {
+            return null;
+        }
+        boolean[] digits = new boolean[layout.length()];
+        for (int pos : digitPositions) {
+            digits[pos] = true;
+        }
+        for (int[] openEnd : openEnds) {
+            int end = openEnd[0];
+            while (end < layout.length() && (digits[end] || symbols.convertToDigit(layout.charAt(end)) >= 0)) {
+                end++;
+            }
+            if (end - openEnd[0] != openEnd[1]) {
+                return null;  // the general parser would not split the digits at the minimum width
+            }
+        }
+        return new FixedWidthParser(layout.toString().toCharArray(), digits, offsets, widths, slots, symbols.getZeroDigit());
+    }
+
+    /**
+     * Flattens the non-optional composites.
+     *
+     * @param printerParser  the printer-parser to flatten, not null
+     * @param flat  the list to add to, not null
+     * @return false if an optional composite was found
+     */
+    private static boolean flatten(CompositePrinterParser printerParser, List<DateTimePrinterParser> flat) {
+        for (DateTimePrinterParser pp : printerParser.printerParsers) {
+            if (pp instanceof CompiledPrinterParser) {
+                flat.addAll(Arrays.asList(((CompiledPrinterParser) pp).getPrinterParsers()));
+            } else if (pp instanceof CompositePrinterParser) {
+                CompositePrinterParser cpp = (CompositePrinterParser) pp;
+                if (cpp.optional || flatten(cpp, flat) == false) {
+                    return false;
+                }
+            } else {
+                flat.add(pp);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the slot of a field.
+     *
+     * @param field  the field, not null
+     * @return the slot, -1 if the field cannot be assembled directly
+     */
+    private static int slotOf(DateTimeField field) {
+        for (int i = 0; i < SLOT_FIELDS.length; i++) {
+            if (SLOT_FIELDS[i] == field) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param layout  the expected text, not null
+     * @param digits  whether each position is a digit, not null
+     * @param offsets  the offset of each slot, not null
+     * @param widths  the width of each slot, not null
+     * @param slots  the bitmask of present slots
+     * @param zeroDigit  the zero digit
+     */
+    private FixedWidthParser(char[] layout, boolean[] digits, int[] offsets, int[] widths, int slots, char zeroDigit) {
+        this.layout = layout;
+        this.digits = digits;
+        this.offsets = offsets;
+        this.widths = widths;
+        this.slots = slots;
+        this.zeroDigit = zeroDigit;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Parses the text to a {@code LocalDate} if it exactly matches the layout.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date, null if the general parser must be used
+     */
+    LocalDate parseLocalDate(CharSequence text) {
+        if (slots != DATE || matches(text) == false) {
+            return null;
+        }
+        try {
+            return LocalDate.of(value(text, 0), value(text, 1), value(text, 2));
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Parses the text to a {@code LocalDateTime} if it exactly matches the layout.
+     *
+     * @param text  the text to parse, not null
+     * @return the parsed date-time, null if the general parser must be used
+     */
+    LocalDateTime parseLocalDateTime(CharSequence text) {
+        if (slots == DATE || matches(text) == false) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(value(text, 0), value(text, 1), value(text, 2),
+                    value(text, 3), value(text, 4), slots == DATE_TIME_SECONDS ? value(text, 5) : 0);
+        } catch (DateTimeException ex) {
+            return null;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Checks if the text matches the layout.
+     *
+     * @param text  the text to check, not null
+     * @return true if the text has the literals and digits in the expected positions
+     */
+    private boolean matches(CharSequence text) {
+        if (text.length() != layout.length) {
+            return false;
+        }
+        for (int i = 0; i < layout.length; i++) {
+            char ch = text.charAt(i);
+            if (digits[i]) {
+                if (ch < zeroDigit || ch > zeroDigit + 9) {
+                    return false;
+                }
+            } else if (ch != layout[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extracts the value of a slot, which must have been matched.
+     *
+     * @param text  the text to extract from, not null
+     * @param slot  the slot to extract
+     * @return the value
+     */
+    private int value(CharSequence text, int slot) {
+        int value = 0;
+        int end = offsets[slot] + widths[slot];
+        for (int i = offsets[slot]; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - zeroDigit);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable character trie used to find the longest key matching parse text.
+ * <p>
+ * The keys are indexed in the order they were supplied, and a match returns the
+ * index of the key. Callers hold any associated values in a parallel array.
+ * Two tables are built, one matching exactly and one matching case insensitively
+ * using the same rules as {@link DateTimeParseContext#subSequenceEquals}.
+ * <p>
+ * Each table is a set of flat arrays, with the edges of each node held contiguously
+ * and sorted by character. Matching performs no allocation.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is immutable and thread-safe.
+ */
+final class ParseTrie {
+
+    /**
+     * The keys, in index order.
+     */
+    private final String[] keys;
+    /**
+     * The table matching exactly.
+     */
+    private final Table exact;
+    /**
+     * The table matching case insensitively.
+     */
+    private final Table folded;
+
+    /**
+     * Creates a trie of the specified keys.
+     * <p>
+     * The index of each key is its position in iteration order.
+     * If two keys are equal, or equal ignoring case, the first is matched.
+     *
+     * @param keys  the keys, not null, no nulls
+     * @return the trie, not null
+     */
+    static ParseTrie of(Collection<String> keys) {
+        return new ParseTrie(keys.toArray(new String[keys.size()]));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param keys  the keys, not null, no nulls
+     */
+    private ParseTrie(String[] keys) {
+        this.keys = keys;
+        this.exact = new Table(keys, false);
+        this.folded = new Table(keys, true);
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the number of keys.
+     *
+     * @return the number of keys
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Gets a key by index.
+     *
+     * @param index  the key index
+     * @return the key, not null
+     */
+    String getKey(int index) {
+        return keys[index];
+    }
+
+    /**
+     * Finds the longest key matching the text at the position.
+     * <p>
+     * The length of the matched text is the length of the returned key.
+     *
+     * @param text  the text to match, not null
+     * @param position  the position to match from, valid
+     * @param caseSensitive  whether to match case sensitively
+     * @return the index of the longest matching key, negative if none match
+     */
+    int match(CharSequence text, int position, boolean caseSensitive) {
+        return (caseSensitive ? exact : folded).match(text, position);
+    }
+
+    /**
+     * Folds the case of a character, such that characters equal ignoring case fold to the same value.
+     *
+     * @param ch  the character to fold
+     * @return the folded character
+     */
+    static char fold(char ch) {
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * The flattened nodes of one trie.
+     */
+    private static final class Table {
+        /** Whether characters are folded before matching. */
+        private final boolean fold;
+        /** The index of the first edge of each node, with a final entry for the total. */
+        private final int[] edgeStart;
+        /** The character of each edge, sorted within each node. */
+        private final char[] edgeChars;
+        /** The target node of each edge. */
+        private final int[] edgeTargets;
+        /** The key index ending at each node, -1 if none. */
+        private final int[] nodeKeys;
+
+        Table(String[] keys, boolean fold) {
+            this.fold = fold;
+            // build a linked trie, then flatten it breadth first so that node zero is the root
+            Node root = new Node();
+            int nodeCount = 1;
+            int edgeCount = 0;
+            for (int i = 0; i < keys.length; i++) {
+                Node node = root;
+                String key = keys[i];
+                for (int j = 0; j < key.length(); j++) {
+                    char ch = (fold ? fold(key.charAt(j)) : key.charAt(j));
+                    Node child = node.children.get(ch);
+                    if (child == null) {
+                        child = new Node();
+                        node.children.put(ch, child);
+                        nodeCount++;
+                        edgeCount++;
+                    }
+                    node = child;
+                }
+                if (node.key < 0) {
+                    node.key = i;
+                }
+            }
+            this.edgeStart = new int[nodeCount + 1];
+            this.edgeChars = new char[edgeCount];
+            this.edgeTargets = new int[edgeCount];
+            this.nodeKeys = new int[nodeCount];
+            List<Node> queue = new ArrayList<>(nodeCount);
+            queue.add(root);
+            int edge = 0;
+            for (int n = 0; n < queue.size(); n++) {
+                Node node = queue.get(n);
+                nodeKeys[n] = node.key;
+                edgeStart[n] = edge;
+                for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                    edgeChars[edge] = entry.getKey();
+                    edgeTargets[edge] = queue.size();
+                    queue.add(entry.getValue());
+                    edge++;
+                }
+            }
+            edgeStart[nodeCount] = edge;
+        }
+
+        int match(CharSequence text, int position) {
+            int length = text.length();
+            int node = 0;
+            int best = nodeKeys[0];
+            for (int i = position; i < length; i++) {
+                char ch = (fold ? fold(text.charAt(i)) : text.charAt(i));
+                int edge = Arrays.binarySearch(edgeChars, edgeStart[node], edgeStart[node + 1], ch);
+                if (edge < 0) {
+                    break;
+                }
+                node = edgeTargets[edge];
+                if (nodeKeys[node] >= 0) {
+                    best = nodeKeys[node];
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * A node of the linked trie used while building.
+     */
+    private static final class Node {
+        /** The children, sorted by character. */
+        final TreeMap<Character, Node> children = new TreeMap<>();
+        /** The key index ending at this node, -1 if none. */
+        int key = -1;
+    }
+
+}
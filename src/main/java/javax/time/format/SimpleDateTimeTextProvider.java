@@ -38,6 +38,7 @@ import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
 import java.text.DateFormatSymbols;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
@@ -47,6 +48,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -64,9 +66,9 @@ import javax.time.calendrical.QuarterYearField;
 final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      // TODO: Better implementation based on CLDR
 
-    /** Cache. */
-    private static final ConcurrentMap<Entry<DateTimeField, Locale>, Object> CACHE =
-        new ConcurrentHashMap<Entry<DateTimeField, Locale>, Object>(16, 0.75f, 2);
+    /** Cache, by field then locale, so that lookup does not allocate a key. */
+    private static final ConcurrentMap<DateTimeField, ConcurrentMap<Locale, Object>> CACHE =
+        new ConcurrentHashMap<DateTimeField, ConcurrentMap<Locale, Object>>(16, 0.75f, 2);
     /** Comparator. */
     private static final Comparator<Entry<String, Long>> COMPARATOR = new Comparator<Entry<String, Long>>() {
         @Override
@@ -102,13 +104,31 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Finds the store of text for the field and locale.
+     * <p>
+     * Once the store is cached, this does not allocate.
+     *
+     * @param field  the field to get text for, not null
+     * @param locale  the locale to get text for, not null
+     * @return the store, null if the field has no text
+     */
+    LocaleStore findLocaleStore(DateTimeField field, Locale locale) {
+        Object store = findStore(field, locale);
+        return (store instanceof LocaleStore ? (LocaleStore) store : null);
+    }
+
     private Object findStore(DateTimeField field, Locale locale) {
-        Entry<DateTimeField, Locale> key = createEntry(field, locale);
-        Object store = CACHE.get(key);
+        ConcurrentMap<Locale, Object> fieldCache = CACHE.get(field);
+        if (fieldCache == null) {
+            CACHE.putIfAbsent(field, new ConcurrentHashMap<Locale, Object>(16, 0.75f, 2));
+            fieldCache = CACHE.get(field);
+        }
+        Object store = fieldCache.get(locale);
         if (store == null) {
             store = createStore(field, locale);
-            CACHE.putIfAbsent(key, store);
-            store = CACHE.get(key);
+            fieldCache.putIfAbsent(locale, store);
+            store = fieldCache.get(locale);
         }
         return store;
     }
@@ -238,13 +258,33 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      * These textual representations can be captured in this class for printing
      * and parsing.
      * <p>
+     * For printing, the text of each style is held in arrays sorted by value.
+     * For parsing, a {@link ParseTrie} is prebuilt for each style, and for all
+     * styles together, matching the longest text with or without case sensitivity.
+     * <p>
      * This class is immutable and thread-safe.
      */
     static final class LocaleStore {
         /**
-         * Map of value to text.
+         * The index of the parse data for all styles.
+         */
+        private static final int ALL_STYLES = TextStyle.values().length;
+        /**
+         * The sorted values for printing, indexed by style ordinal, null if no text.
+         */
+        private final long[][] printValues;
+        /**
+         * The text for printing, parallel to the values, indexed by style ordinal.
          */
-        private final Map<TextStyle, Map<Long, String>> valueTextMap;
+        private final String[][] printTexts;
+        /**
+         * The trie for parsing, indexed by style ordinal with all styles last, null if not parsable.
+         */
+        private final ParseTrie[] parseTries;
+        /**
+         * The value of each key in the trie, indexed as per the tries.
+         */
+        private final long[][] parseValues;
         /**
          * Parsable data.
          */
@@ -254,29 +294,61 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         /**
          * Constructor.
          *
-         * @param valueTextMap  the map of values to text to store, assigned and not altered, not null
+         * @param valueTextMap  the map of values to text to store, not altered, not null
          */
         LocaleStore(Map<TextStyle, Map<Long, String>> valueTextMap) {
-            this.valueTextMap = valueTextMap;
+            this.printValues = new long[ALL_STYLES][];
+            this.printTexts = new String[ALL_STYLES][];
+            this.parseTries = new ParseTrie[ALL_STYLES + 1];
+            this.parseValues = new long[ALL_STYLES + 1][];
             Map<TextStyle, List<Entry<String, Long>>> map = new HashMap<>();
             List<Entry<String, Long>> allList = new ArrayList<>();
             for (TextStyle style : valueTextMap.keySet()) {
+                Map<Long, String> styleMap = new TreeMap<>(valueTextMap.get(style));
                 Map<String, Entry<String, Long>> reverse = new HashMap<>();
-                for (Map.Entry<Long, String> entry : valueTextMap.get(style).entrySet()) {
-                    if (reverse.put(entry.getValue(), createEntry(entry.getValue(), entry.getKey())) != null) {
+                long[] values = new long[styleMap.size()];
+                String[] texts = new String[styleMap.size()];
+                int index = 0;
+                for (Map.Entry<Long, String> entry : styleMap.entrySet()) {
+                    values[index] = entry.getKey();
+                    texts[index++] = entry.getValue();
+                    if (entry.getValue() == null || reverse.put(entry.getValue(), createEntry(entry.getValue(), entry.getKey())) != null) {
                         continue;  // not parsable, try next style
                     }
                 }
+                printValues[style.ordinal()] = values;
+                printTexts[style.ordinal()] = texts;
                 List<Entry<String, Long>> list = new ArrayList<>(reverse.values());
                 Collections.sort(list, COMPARATOR);
                 map.put(style, list);
+                setParsable(style.ordinal(), list);
                 allList.addAll(list);
                 map.put(null, allList);
             }
             Collections.sort(allList, COMPARATOR);
+            if (valueTextMap.isEmpty() == false) {
+                setParsable(ALL_STYLES, allList);
+            }
             this.parsable = map;
         }
 
+        /**
+         * Builds the parse data for a list of text to value.
+         *
+         * @param index  the index to set
+         * @param list  the list of text to value, longest text first, not null
+         */
+        private void setParsable(int index, List<Entry<String, Long>> list) {
+            List<String> keys = new ArrayList<>(list.size());
+            long[] values = new long[list.size()];
+            for (int i = 0; i < values.length; i++) {
+                keys.add(list.get(i).getKey());
+                values[i] = list.get(i).getValue();
+            }
+            parseTries[index] = ParseTrie.of(keys);
+            parseValues[index] = values;
+        }
+
         //-----------------------------------------------------------------------
         /**
          * Gets the text for the specified field value, locale and style
@@ -287,8 +359,12 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * @return the text for the field value, null if no text found
          */
         String getText(long value, TextStyle style) {
-            Map<Long, String> map = valueTextMap.get(style);
-            return map != null ? map.get(value) : null;
+            long[] values = printValues[style.ordinal()];
+            if (values == null) {
+                return null;
+            }
+            int index = Arrays.binarySearch(values, value);
+            return (index >= 0 ? printTexts[style.ordinal()][index] : null);
         }
 
         /**
@@ -304,6 +380,55 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        //-----------------------------------------------------------------------
+        /**
+         * Checks if the specified style is parsable.
+         *
+         * @param style  the style to check, null for all parsable text
+         * @return true if the style is parsable
+         */
+        boolean isParsable(TextStyle style) {
+            return parseTries[style != null ? style.ordinal() : ALL_STYLES] != null;
+        }
+
+        /**
+         * Matches the longest text of the specified style for the purpose of parsing.
+         * <p>
+         * The text is matched without allocation.
+         *
+         * @param style  the style to match, null for all parsable text
+         * @param text  the text to parse, not null
+         * @param position  the position to parse from, valid
+         * @param caseSensitive  whether to match case sensitively
+         * @return the index of the match, negative if no match or the style is not parsable
+         */
+        int match(TextStyle style, CharSequence text, int position, boolean caseSensitive) {
+            ParseTrie trie = parseTries[style != null ? style.ordinal() : ALL_STYLES];
+            return (trie != null ? trie.match(text, position, caseSensitive) : -1);
+        }
+
+        /**
+         * Gets the value of a match.
+         *
+         * @param style  the style that was matched, null for all parsable text
+         * @param index  the index of the match
+         * @return the value of the matched text
+         */
+        long getMatchValue(TextStyle style, int index) {
+            return parseValues[style != null ? style.ordinal() : ALL_STYLES][index];
+        }
+
+        /**
+         * Gets the length of the text of a match.
+         *
+         * @param style  the style that was matched, null for all parsable text
+         * @param index  the index of the match
+         * @return the length of the matched text
+         */
+        int getMatchLength(TextStyle style, int index) {
+            return parseTries[style != null ? style.ordinal() : ALL_STYLES].getKey(index).length();
+        }
     }
 
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import javax.time.DateTimes;
+import javax.time.LocalDate;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneOffset;
+
+/**
+ * A precomputed table of the transitions produced by the last rules of a
+ * {@code StandardZoneRules} over a window of years.
+ * <p>
+ * Beyond the last historic transition, the offset is determined by the recurring
+ * transition rules. Evaluating those rules requires a transition to be created
+ * for each year, which is expensive. This table holds the epoch-second of every
+ * transition in the window in a single primitive array, indexed by year, such that
+ * the offset can be found by arithmetic on the epoch-second and a single probe.
+ * <p>
+ * The window of years defaults to 1970 to 2100 inclusive, and can be changed using the
+ * system properties {@code javax.time.zone.LastRulesTable.minYear} and
+ * {@code javax.time.zone.LastRulesTable.maxYear}.
+ * The window is always clipped to start at the year of the last historic transition.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is immutable and thread-safe.
+ */
+final class LastRulesTable {
+
+    /**
+     * The default first year of the window.
+     */
+    static final int DEFAULT_MIN_YEAR = Integer.getInteger("javax.time.zone.LastRulesTable.minYear", 1970);
+    /**
+     * The default last year of the window.
+     */
+    static final int DEFAULT_MAX_YEAR = Integer.getInteger("javax.time.zone.LastRulesTable.maxYear", 2100);
+    /**
+     * The average number of seconds in a year of the ISO calendar system.
+     */
+    private static final long SECONDS_PER_AVERAGE_YEAR = 31556952L;
+
+    /**
+     * The first year in the table.
+     */
+    private final int startYear;
+    /**
+     * The epoch-second of the start of each year in the table, expressed using
+     * the last historic wall offset, plus the start of the year after the table.
+     */
+    private final long[] yearStarts;
+    /**
+     * The epoch-second of each transition, grouped by year, then ordered as the rules.
+     */
+    private final long[] transitions;
+    /**
+     * The number of rules, and thus transitions, per year.
+     */
+    private final int ruleCount;
+    /**
+     * The offsets, indexed by the result of {@link #findOffsetIndex(long)}.
+     */
+    private final ZoneOffset[] offsets;
+    /**
+     * The offsets in seconds, indexed by the result of {@link #findOffsetIndex(long)}.
+     */
+    private final int[] offsetSeconds;
+
+    /**
+     * Creates a table of the transitions created by the rules using the default window.
+     *
+     * @param lastRules  the recurring rules, not empty, not null
+     * @param lastHistoricEpochSec  the epoch-second of the last historic transition
+     * @param lastHistoricOffset  the wall offset after the last historic transition, not null
+     * @return the table, not null
+     */
+    static LastRulesTable of(ZoneOffsetTransitionRule[] lastRules, long lastHistoricEpochSec, ZoneOffset lastHistoricOffset) {
+        return of(lastRules, lastHistoricEpochSec, lastHistoricOffset, DEFAULT_MIN_YEAR, DEFAULT_MAX_YEAR);
+    }
+
+    /**
+     * Creates a table of the transitions created by the rules in the specified window.
+     *
+     * @param lastRules  the recurring rules, not empty, not null
+     * @param lastHistoricEpochSec  the epoch-second of the last historic transition
+     * @param lastHistoricOffset  the wall offset after the last historic transition, not null
+     * @param minYear  the first year to include, clipped to the year of the last historic transition
+     * @param maxYear  the last year to include, the table is empty if before the first year
+     * @return the table, not null
+     */
+    static LastRulesTable of(ZoneOffsetTransitionRule[] lastRules, long lastHistoricEpochSec, ZoneOffset lastHistoricOffset,
+                int minYear, int maxYear) {
+        int lastHistoricYear = OffsetDateTime.ofEpochSecond(lastHistoricEpochSec, lastHistoricOffset).getYear();
+        int startYear = Math.max(minYear, lastHistoricYear);
+        int yearCount = Math.max(maxYear - startYear + 1, 0);
+        int offsetSecs = lastHistoricOffset.getTotalSeconds();
+        long[] yearStarts = new long[yearCount + 1];
+        long[] transitions = new long[yearCount * lastRules.length];
+        for (int i = 0; i <= yearCount; i++) {
+            long epochDay = (yearCount == 0 ? 0 : LocalDate.of(startYear + i, 1, 1).toEpochDay());
+            yearStarts[i] = epochDay * DateTimes.SECONDS_PER_DAY - offsetSecs;
+        }
+        for (int i = 0; i < yearCount; i++) {
+            for (int j = 0; j < lastRules.length; j++) {
+                transitions[i * lastRules.length + j] = lastRules[j].createTransitionEpochSecond(startYear + i);
+            }
+        }
+        ZoneOffset[] offsets = new ZoneOffset[lastRules.length + 1];
+        for (int j = 0; j < lastRules.length; j++) {
+            offsets[j] = lastRules[j].getOffsetBefore();
+        }
+        offsets[lastRules.length] = lastRules[lastRules.length - 1].getOffsetAfter();
+        return new LastRulesTable(startYear, yearStarts, transitions, offsets);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startYear  the first year in the table
+     * @param yearStarts  the epoch-second of the start of each year, not null
+     * @param transitions  the epoch-second of each transition, not null
+     * @param offsets  the offsets, one more than the number of rules, not null
+     */
+    private LastRulesTable(int startYear, long[] yearStarts, long[] transitions, ZoneOffset[] offsets) {
+        this.startYear = startYear;
+        this.yearStarts = yearStarts;
+        this.transitions = transitions;
+        this.ruleCount = offsets.length - 1;
+        this.offsets = offsets;
+        this.offsetSeconds = new int[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            offsetSeconds[i] = offsets[i].getTotalSeconds();
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the first year in the table.
+     *
+     * @return the first year
+     */
+    int getStartYear() {
+        return startYear;
+    }
+
+    /**
+     * Gets the number of years in the table.
+     *
+     * @return the number of years, zero if the table is empty
+     */
+    int getYearCount() {
+        return yearStarts.length - 1;
+    }
+
+    /**
+     * Checks if the epoch-second is within the window of the table.
+     *
+     * @param epochSec  the epoch-second to check
+     * @return true if the epoch-second is within the table
+     */
+    boolean isInWindow(long epochSec) {
+        return epochSec >= yearStarts[0] && epochSec < yearStarts[yearStarts.length - 1];
+    }
+
+    /**
+     * Finds the index of the offset applicable at the epoch-second.
+     * <p>
+     * The transitions of the year are compared in order, exactly as the
+     * transition array for the year would be by {@code StandardZoneRules}.
+     *
+     * @param epochSec  the epoch-second to find
+     * @return the index of the offset, negative if outside the window
+     */
+    int findOffsetIndex(long epochSec) {
+        if (isInWindow(epochSec) == false) {
+            return -1;
+        }
+        final int base = findYearIndex(epochSec) * ruleCount;
+        for (int i = 0; i < ruleCount; i++) {
+            if (epochSec < transitions[base + i]) {
+                return i;
+            }
+        }
+        return ruleCount;
+    }
+
+    /**
+     * Converts a local epoch-second to an epoch-second.
+     * <p>
+     * Gaps are resolved to the instant of the transition and overlaps to the earlier offset.
+     * The transitions are searched for the first where the local epoch-second is before
+     * the local date-time of the transition expressed using the offset before.
+     * The previous transition then determines the result.
+     *
+     * @param localEpochSec  the local epoch-second to convert
+     * @return the epoch-second, {@code Long.MIN_VALUE} if not determined by the table
+     */
+    long toEpochSecond(long localEpochSec) {
+        final long[] transitions = this.transitions;
+        final int[] offsetSeconds = this.offsetSeconds;
+        long estimate = localEpochSec - offsetSeconds[ruleCount];
+        if (isInWindow(estimate) == false) {
+            return Long.MIN_VALUE;
+        }
+        int index = findYearIndex(estimate) * ruleCount;
+        while (index > 0 && localEpochSec < transitions[index - 1] + offsetSeconds[(index - 1) % ruleCount]) {
+            index--;
+        }
+        while (index < transitions.length && localEpochSec >= transitions[index] + offsetSeconds[index % ruleCount]) {
+            index++;
+        }
+        if (index == 0 || index == transitions.length) {
+            return Long.MIN_VALUE;
+        }
+        long previous = transitions[index - 1];
+        int offsetAfter = offsetSeconds[(index - 1) % ruleCount + 1];
+        if (localEpochSec < previous + offsetAfter) {
+            return previous;  // gap
+        }
+        return localEpochSec - offsetAfter;
+    }
+
+    /**
+     * Finds the index of the year containing the epoch-second.
+     * <p>
+     * The year is estimated by division and corrected using the year starts.
+     *
+     * @param epochSec  the epoch-second to find, within the window
+     * @return the index of the year
+     */
+    private int findYearIndex(long epochSec) {
+        final long[] yearStarts = this.yearStarts;
+        int yearIndex = (int) Math.min((epochSec - yearStarts[0]) / SECONDS_PER_AVERAGE_YEAR, yearStarts.length - 2);
+        if (epochSec < yearStarts[yearIndex]) {
+            yearIndex--;
+        } else if (epochSec >= yearStarts[yearIndex + 1]) {
+            yearIndex++;
+        }
+        return yearIndex;
+    }
+
+    /**
+     * Gets the offset for an index returned by {@link #findOffsetIndex(long)}.
+     *
+     * @param index  the index of the offset
+     * @return the offset, not null
+     */
+    ZoneOffset getOffset(int index) {
+        return offsets[index];
+    }
+
+    /**
+     * Gets the offset in seconds for an index returned by {@link #findOffsetIndex(long)}.
+     *
+     * @param index  the index of the offset
+     * @return the total offset in seconds
+     */
+    int getOffsetSeconds(int index) {
+        return offsetSeconds[index];
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Returns a string describing this object.
+     *
+     * @return a string for debugging, not null
+     */
+    @Override
+    public String toString() {
+        return "LastRulesTable[" + startYear + '-' + (startYear + getYearCount() - 1) + ']';
+    }
+
+}
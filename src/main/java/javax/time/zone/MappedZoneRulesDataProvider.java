@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import javax.time.DateTimeException;
+
+/**
+ * Loads time-zone rules stored in a file by memory-mapping it.
+ * <p>
+ * The file has the same format as that read by {@link ResourceZoneRulesDataProvider},
+ * either version of which may be used.
+ * Only the group, version and region IDs are decoded when the provider is created.
+ * The version-region links are read directly from the mapped buffer, and the
+ * rules are deserialized from the buffer without copying when first requested.
+ * The second version of the format, {@link ZoneRulesDataFormat}, allows the
+ * links and rules to be located without scanning the file.
+ * This suits processes that only use a few time-zones.
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is immutable and thread-safe.
+ * The mapped buffer is only accessed using absolute reads or via duplicates.
+ */
+final class MappedZoneRulesDataProvider implements ZoneRulesDataProvider, ZoneRulesDataFormat.RuleLoader {
+
+    /**
+     * The mapped file.
+     */
+    private final ByteBuffer buffer;
+    /**
+     * Whether the version-region links are directly indexed by region.
+     */
+    private final boolean directLinks;
+    /**
+     * Whether the rules are in the compact encoding of the third version of the format.
+     */
+    private final boolean compactRules;
+    /**
+     * The time-zone group ID.
+     */
+    private final String groupID;
+    /**
+     * All the versions in the provider.
+     */
+    private final Set<ZoneRulesVersion> versions;
+    /**
+     * All the regions in the provider, sorted.
+     */
+    private final String[] regionArray;
+    /**
+     * All the regions in the provider.
+     */
+    private final Set<String> regions;
+    /**
+     * The position of each serialized rule in the buffer.
+     */
+    private final int[] rulePositions;
+    /**
+     * The rules, null until loaded.
+     */
+    private final AtomicReferenceArray<ZoneRules> rules;
+
+    /**
+     * Maps the rules from a file.
+     *
+     * @param file  the file to map, not null
+     * @throws IOException if an error occurs
+     */
+    MappedZoneRulesDataProvider(File file) throws IOException {
+        try (FileInputStream in = new FileInputStream(file)) {
+            FileChannel channel = in.getChannel();
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() > 0 && ZoneRulesDataFormat.isDirect(buffer.get(0))) {
+            ZoneRulesDataFormat format = ZoneRulesDataFormat.read(buffer);
+            this.directLinks = true;
+            this.compactRules = (format.getFormatVersion() == ZoneRulesDataFormat.VERSION_3);
+            this.groupID = format.getGroupID();
+            this.regionArray = format.getRegionIDs();
+            this.regions = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(regionArray)));
+            String[] versionArray = format.getVersionIDs();
+            Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionArray.length);
+            for (int i = 0; i < versionArray.length; i++) {
+                versionSet.add(new MappedZoneRulesVersion(this, versionArray[i], format.getLinkPosition(i), regionArray.length));
+            }
+            this.versions = Collections.unmodifiableSet(versionSet);
+            this.rulePositions = new int[format.getRuleCount()];
+            for (int i = 0; i < rulePositions.length; i++) {
+                rulePositions[i] = format.getRulePosition(i);
+            }
+            this.rules = new AtomicReferenceArray<ZoneRules>(rulePositions.length);
+            return;
+        }
+        ByteBuffer buf = buffer.duplicate();
+        ByteBufferDataInput dis = new ByteBufferDataInput(buf);
+        if (dis.readByte() != ZoneRulesDataFormat.VERSION_1) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        this.directLinks = false;
+        this.compactRules = false;
+        this.groupID = dis.readUTF();
+        int versionCount = dis.readShort();
+        String[] versionArray = new String[versionCount];
+        for (int i = 0; i < versionCount; i++) {
+            versionArray[i] = dis.readUTF();
+        }
+        int regionCount = dis.readShort();
+        String[] regionArray = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionArray[i] = dis.readUTF();
+        }
+        this.regionArray = regionArray;
+        this.regions = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(regionArray)));
+        // link version-region-rules, left in the buffer
+        Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionCount);
+        for (int i = 0; i < versionCount; i++) {
+            int versionRegionCount = dis.readShort();
+            versionSet.add(new MappedZoneRulesVersion(this, versionArray[i], buf.position(), versionRegionCount));
+            dis.skipBytes(versionRegionCount * 4);
+        }
+        this.versions = Collections.unmodifiableSet(versionSet);
+        // rules, left in the buffer
+        int ruleCount = dis.readShort();
+        this.rulePositions = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            int length = dis.readUnsignedShort();
+            rulePositions[i] = buf.position();
+            if (dis.skipBytes(length) != length) {
+                throw new StreamCorruptedException("File truncated");
+            }
+        }
+        this.rules = new AtomicReferenceArray<ZoneRules>(ruleCount);
+    }
+
+    //-----------------------------------------------------------------------
+    public String getGroupID() {
+        return groupID;
+    }
+
+    public Set<ZoneRulesVersion> getVersions() {
+        return versions;
+    }
+
+    public Set<String> getRegionIDs() {
+        return regions;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Loads the rule, deserializing it from the buffer if necessary.
+     * 
+     * @param index  the index to retrieve
+     * @return the rules, should not be null
+     */
+    public ZoneRules loadRule(int index) throws Exception {
+        ZoneRules obj = rules.get(index);
+        if (obj == null) {
+            ByteBuffer buf = buffer.duplicate();
+            buf.position(rulePositions[index]);
+            ByteBufferDataInput in = new ByteBufferDataInput(buf);
+            obj = (compactRules ? ZoneRulesDataFormat.readRule(in, this) : (ZoneRules) Ser.read(in));
+            if (rules.compareAndSet(index, null, obj) == false) {
+                obj = rules.get(index);
+            }
+        }
+        return obj;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public String toString() {
+        return groupID + ":#" + versions;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Version of the rules.
+     * <p>
+     * In the first version of the format, the links from region to rules are pairs of
+     * shorts in the buffer, sorted by region index, and are binary searched in place.
+     * In the second version, there is one short for each region, -1 if not present.
+     * <p>
+     * MappedZoneRulesVersion is thread-safe and immutable.
+     */
+    static class MappedZoneRulesVersion implements ZoneRulesVersion {
+        /** Provider. */
+        private final MappedZoneRulesDataProvider provider;
+        /** Version ID. */
+        private final String versionID;
+        /** Position of the links in the buffer. */
+        private final int position;
+        /** Number of links. */
+        private final int count;
+        /** Constructor. */
+        MappedZoneRulesVersion(MappedZoneRulesDataProvider provider, String versionID, int position, int count) {
+            this.provider = provider;
+            this.versionID = versionID;
+            this.position = position;
+            this.count = count;
+        }
+        public String getVersionID() {
+            return versionID;
+        }
+        public boolean isRegionID(String regionID) {
+            return findRuleIndex(regionID) >= 0;
+        }
+        public Set<String> getRegionIDs() {
+            Set<String> set = new HashSet<String>(count);
+            ByteBuffer buf = provider.buffer;
+            for (int i = 0; i < count; i++) {
+                if (provider.directLinks == false) {
+                    set.add(provider.regionArray[buf.getShort(position + i * 4)]);
+                } else if (buf.getShort(position + i * 2) >= 0) {
+                    set.add(provider.regionArray[i]);
+                }
+            }
+            return Collections.unmodifiableSet(set);
+        }
+        public ZoneRules getZoneRules(String regionID) {
+            int index = findRuleIndex(regionID);
+            if (index < 0) {
+                return null;
+            }
+            try {
+                return provider.loadRule(index);
+            } catch (Exception ex) {
+                throw new DateTimeException("Unable to load rules: " + provider.groupID + ':' + regionID + '#' + versionID, ex);
+            }
+        }
+        /**
+         * Finds the index of the rules for the region.
+         *
+         * @param regionID  the region ID, not null
+         * @return the rule index, negative if not found
+         */
+        private int findRuleIndex(String regionID) {
+            int regionIndex = Arrays.binarySearch(provider.regionArray, regionID);
+            if (regionIndex < 0) {
+                return -1;
+            }
+            ByteBuffer buf = provider.buffer;
+            if (provider.directLinks) {
+                return buf.getShort(position + regionIndex * 2);
+            }
+            int low = 0;
+            int high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int midRegion = buf.getShort(position + mid * 4);
+                if (midRegion < regionIndex) {
+                    low = mid + 1;
+                } else if (midRegion > regionIndex) {
+                    high = mid - 1;
+                } else {
+                    return buf.getShort(position + mid * 4 + 2);
+                }
+            }
+            return -1;
+        }
+        @Override
+        public String toString() {
+            return versionID;
+        }
+    }
+
+}
@@ -32,11 +32,14 @@
 package javax.time.zone;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StreamCorruptedException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,7 +57,7 @@ import javax.time.DateTimeException;
  * <h4>Implementation notes</h4>
  * This class is immutable and thread-safe.
  */
-final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
+final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider, ZoneRulesDataFormat.RuleLoader {
 
     /**
      * The time-zone group ID.
@@ -69,7 +72,13 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      */
     private final Set<String> regions;
     /**
-     * The rules.
+     * Whether the rules are in the compact encoding of the third version of the format.
+     */
+    private final boolean compactRules;
+    /**
+     * The rules, either decoded or the encoded bytes.
+     * The bytes are a {@code byte[]} for the first version of the format,
+     * and a slice of the buffer holding the whole file for later versions.
      */
     private final AtomicReferenceArray<Object> rules;
 
@@ -79,19 +88,22 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      * @throws RuntimeException if the time-zone rules cannot be loaded
      */
     static void load() {
-        for (ResourceZoneRulesDataProvider provider : loadResources()) {
+        for (ZoneRulesDataProvider provider : loadResources()) {
             ZoneRulesGroup.registerProvider(provider);
         }
     }
 
     /**
      * Loads the rules from files in the class loader, often jar files.
+     * <p>
+     * A file that is directly on the file system is memory-mapped using
+     * {@link MappedZoneRulesDataProvider}, decoding each rule only when used.
      *
      * @return the list of loaded rules, not null
      * @throws Exception if an error occurs
      */
-    private static List<ResourceZoneRulesDataProvider> loadResources() {
-        List<ResourceZoneRulesDataProvider> providers = new ArrayList<>();
+    private static List<ZoneRulesDataProvider> loadResources() {
+        List<ZoneRulesDataProvider> providers = new ArrayList<>();
         URL url = null;
         try {
             Enumeration<URL> en = Thread.currentThread().getContextClassLoader().getResources("javax/time/calendar/zone/ZoneRules.dat");
@@ -99,7 +111,11 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
             while (en.hasMoreElements()) {
                 url = en.nextElement();
                 if (loaded.add(url.toExternalForm())) {
-                    providers.add(new ResourceZoneRulesDataProvider(url));
+                    if ("file".equals(url.getProtocol())) {
+                        providers.add(new MappedZoneRulesDataProvider(new File(url.toURI())));
+                    } else {
+                        providers.add(new ResourceZoneRulesDataProvider(url));
+                    }
                 }
             }
         } catch (Exception ex) {
@@ -110,6 +126,8 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
 
     /**
      * Loads the rules from a URL, often in a jar file.
+     * <p>
+     * All versions of the file format are supported, see {@link ZoneRulesDataFormat}.
      *
      * @param url  the jar file to load, not null 
      * @throws Exception if an error occurs
@@ -117,10 +135,44 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
     private ResourceZoneRulesDataProvider(URL url) throws ClassNotFoundException, IOException {
         try (InputStream in = url.openStream()) {
             DataInputStream dis = new DataInputStream(in);
-            if (dis.readByte() != 1) {
+            int format = dis.readByte();
+            if (ZoneRulesDataFormat.isDirect(format)) {
+                ByteBuffer buffer = readAll(in, format);
+                ZoneRulesDataFormat data = ZoneRulesDataFormat.read(buffer);
+                this.groupID = data.getGroupID();
+                this.compactRules = (data.getFormatVersion() == ZoneRulesDataFormat.VERSION_3);
+                String[] regionArray = data.getRegionIDs();
+                this.regions = new HashSet<String>(Arrays.asList(regionArray));
+                String[] versionArray = data.getVersionIDs();
+                Set<ZoneRulesVersion> versionSet = new HashSet<ZoneRulesVersion>(versionArray.length);
+                for (int i = 0; i < versionArray.length; i++) {
+                    int linkPosition = data.getLinkPosition(i);
+                    List<String> versionRegions = new ArrayList<String>(regionArray.length);
+                    short[] versionRulesArray = new short[regionArray.length];
+                    for (int j = 0; j < regionArray.length; j++) {
+                        short ruleIndex = buffer.getShort(linkPosition + j * 2);
+                        if (ruleIndex >= 0) {
+                            versionRulesArray[versionRegions.size()] = ruleIndex;
+                            versionRegions.add(regionArray[j]);
+                        }
+                    }
+                    versionSet.add(new ResourceZoneRulesVersion(this, versionArray[i],
+                            versionRegions.toArray(new String[versionRegions.size()]),
+                            Arrays.copyOf(versionRulesArray, versionRegions.size())));
+                }
+                this.versions = versionSet;
+                this.rules = new AtomicReferenceArray<Object>(data.getRuleCount());
+                for (int i = 0; i < data.getRuleCount(); i++) {
+                    int position = data.getRulePosition(i);
+                    rules.set(i, ByteBuffer.wrap(buffer.array(), position, data.getRuleLength(i)).slice());
+                }
+                return;
+            }
+            if (format != ZoneRulesDataFormat.VERSION_1) {
                 throw new StreamCorruptedException("File format not recognised");
             }
             this.groupID = dis.readUTF();
+            this.compactRules = false;
             int versionCount = dis.readShort();
             String[] versionArray = new String[versionCount];
             for (int i = 0; i < versionCount; i++) {
@@ -156,6 +208,28 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
         }
     }
 
+    /**
+     * Reads the rest of the stream into a single buffer.
+     *
+     * @param in  the stream to read, not null
+     * @param format  the format byte already read from the stream
+     * @return the buffer holding the whole file, not null
+     * @throws IOException if an error occurs
+     */
+    private static ByteBuffer readAll(InputStream in, int format) throws IOException {
+        byte[] bytes = new byte[256 * 1024];
+        bytes[0] = (byte) format;
+        int size = 1;
+        int count;
+        while ((count = in.read(bytes, size, bytes.length - size)) >= 0) {
+            size += count;
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+        return ByteBuffer.wrap(bytes, 0, size);
+    }
+
     //-----------------------------------------------------------------------
     public String getGroupID() {
         return groupID;
@@ -176,13 +250,21 @@ final class ResourceZoneRulesDataProvider implements ZoneRulesDataProvider {
      * @param index  the index to retrieve
      * @return the rules, should not be null
      */
-    ZoneRules loadRule(short index) throws Exception {
+    public ZoneRules loadRule(int index) throws Exception {
         Object obj = rules.get(index);
-        if (obj instanceof byte[]) {
-            byte[] bytes = (byte[]) obj;
-            DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes));
-            obj = Ser.read(dis);
-            rules.set(index, obj);
+        if (obj instanceof ZoneRules == false) {
+            DataInput in;
+            if (obj instanceof ByteBuffer) {
+                in = new ByteBufferDataInput(((ByteBuffer) obj).duplicate());
+            } else {
+                in = new DataInputStream(new ByteArrayInputStream((byte[]) obj));
+            }
+            Object loaded = (compactRules ? ZoneRulesDataFormat.readRule(in, this) : Ser.read(in));
+            if (rules.compareAndSet(index, obj, loaded)) {
+                obj = loaded;
+            } else {
+                obj = rules.get(index);  // loaded concurrently, use the published instance
+            }
         }
         return (ZoneRules) obj;
     }
@@ -216,4 +216,80 @@ final class Ser implements Externalizable {
         }
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the difference between two epoch seconds to the stream.
+     * <p>
+     * The difference is stored as a variable length integer, in quarter hours where possible.
+     * The difference between adjacent transitions normally fits in three bytes.
+     *
+     * @param delta  the difference in epoch seconds
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeEpochSecDelta(long delta, DataOutput out) throws IOException {
+        if (delta % 900 == 0) {
+            writeVarLong(zigZag(delta / 900) << 1, out);
+        } else {
+            writeVarLong((zigZag(delta) << 1) | 1, out);
+        }
+    }
+
+    /**
+     * Reads the difference between two epoch seconds from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the difference in epoch seconds
+     * @throws IOException if an error occurs
+     */
+    static long readEpochSecDelta(DataInput in) throws IOException {
+        long store = readVarLong(in);
+        long delta = (store >>> 2) ^ -((store >>> 1) & 1);
+        return ((store & 1) == 0 ? delta * 900 : delta);
+    }
+
+    /**
+     * Maps a signed value to an unsigned value, keeping small negative values small.
+     *
+     * @param value  the value to map
+     * @return the mapped value
+     */
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * Writes an unsigned variable length integer to the stream, seven bits per byte.
+     *
+     * @param value  the value, treated as unsigned
+     * @param out  the output stream, not null
+     * @throws IOException if an error occurs
+     */
+    static void writeVarLong(long value, DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads an unsigned variable length integer from the stream.
+     *
+     * @param in  the input stream, not null
+     * @return the value
+     * @throws IOException if an error occurs
+     */
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Invalid variable length integer");
+    }
+
 }
@@ -35,12 +35,11 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import javax.time.DateTimes;
 import javax.time.Duration;
@@ -63,11 +62,6 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 1L;
-    /**
-     * The last year to have its transitions cached.
-     */
-    private static final int LAST_CACHED_YEAR = 2100;
-
     /**
      * The transitions between standard offsets (epoch seconds), sorted.
      */
@@ -81,24 +75,37 @@ final class StandardZoneRules implements ZoneRules, Serializable {
      */
     private final long[] savingsInstantTransitions;
     /**
-     * The transitions between local date-times, sorted.
+     * The transitions between local date-times (local epoch seconds), sorted.
      * This is a paired array, where the first entry is the start of the transition
      * and the second entry is the end of the transition.
      */
-    private final LocalDateTime[] savingsLocalTransitions;
+    private final long[] savingsLocalTransitions;
     /**
      * The wall offsets.
      */
     private final ZoneOffset[] wallOffsets;
+    /**
+     * The offset info for each wall offset, shared to avoid allocation.
+     */
+    private final ZoneOffsetInfo[] wallOffsetInfos;
     /**
      * The last rule.
      */
     private final ZoneOffsetTransitionRule[] lastRules;
     /**
-     * The map of recent transitions.
+     * The offset info before and after each last rule, shared to avoid allocation.
+     * This is a paired array, where the first entry is before the transition
+     * and the second entry is after the transition.
+     */
+    private final ZoneOffsetInfo[] lastRulesInfos;
+    /**
+     * The cache of transitions created by the last rules, null if no last rules.
+     */
+    private final transient ZoneTransitionCache lastRulesCache;
+    /**
+     * The table of transitions created by the last rules, lazily initialized.
      */
-    private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache =
-                new ConcurrentHashMap<Integer, ZoneOffsetTransition[]>();
+    private transient volatile LastRulesTable lastRulesTable;
 
     /**
      * Creates an instance.
@@ -126,21 +133,12 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             this.standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffset();
         }
         
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<>();
+        // convert savings transitions to wall offsets
         List<ZoneOffset> localTransitionOffsetList = new ArrayList<>();
         localTransitionOffsetList.add(baseWallOffset);
         for (ZoneOffsetTransition trans : transitionList) {
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-            }
             localTransitionOffsetList.add(trans.getOffsetAfter());
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
         this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
         
         // convert savings transitions to instants
@@ -154,6 +152,12 @@ final class StandardZoneRules implements ZoneRules, Serializable {
             throw new IllegalArgumentException("Too many transition rules");
         }
         this.lastRules = lastRules.toArray(new ZoneOffsetTransitionRule[lastRules.size()]);
+        this.lastRulesCache = (this.lastRules.length > 0 ? ZoneTransitionCache.ofDefault() : null);
+        
+        // derived data
+        this.savingsLocalTransitions = createLocalTransitions(savingsInstantTransitions, wallOffsets);
+        this.wallOffsetInfos = createOffsetInfos(wallOffsets);
+        this.lastRulesInfos = createLastRulesInfos(this.lastRules, wallOffsets, wallOffsetInfos);
     }
 
     /**
@@ -178,23 +182,101 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         this.savingsInstantTransitions = savingsInstantTransitions;
         this.wallOffsets = wallOffsets;
         this.lastRules = lastRules;
+        this.lastRulesCache = (lastRules.length > 0 ? ZoneTransitionCache.ofDefault() : null);
         
-        // convert savings transitions to locals
-        List<LocalDateTime> localTransitionList = new ArrayList<>();
+        // derived data
+        this.savingsLocalTransitions = createLocalTransitions(savingsInstantTransitions, wallOffsets);
+        this.wallOffsetInfos = createOffsetInfos(wallOffsets);
+        this.lastRulesInfos = createLastRulesInfos(lastRules, wallOffsets, wallOffsetInfos);
+    }
+
+    /**
+     * Converts the savings transitions to pairs of local epoch seconds.
+     * <p>
+     * Each transition is stored as the start and end of the gap or overlap.
+     *
+     * @param savingsInstantTransitions  the savings transitions, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @return the local transitions, not null
+     */
+    private static long[] createLocalTransitions(long[] savingsInstantTransitions, ZoneOffset[] wallOffsets) {
+        long[] localTransitions = new long[savingsInstantTransitions.length * 2];
         for (int i = 0; i < savingsInstantTransitions.length; i++) {
-            ZoneOffset before = wallOffsets[i];
-            ZoneOffset after = wallOffsets[i + 1];
-            OffsetDateTime odt = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[i], before);
-            ZoneOffsetTransition trans = new ZoneOffsetTransition(odt, after);
-            if (trans.isGap()) {
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-            } else {
-                localTransitionList.add(trans.getDateTimeAfter().toLocalDateTime());
-                localTransitionList.add(trans.getDateTimeBefore().toLocalDateTime());
+            int before = wallOffsets[i].getTotalSeconds();
+            int after = wallOffsets[i + 1].getTotalSeconds();
+            localTransitions[i * 2] = savingsInstantTransitions[i] + Math.min(before, after);
+            localTransitions[i * 2 + 1] = savingsInstantTransitions[i] + Math.max(before, after);
+        }
+        return localTransitions;
+    }
+
+    /**
+     * Creates the offset info for each offset, sharing instances for equal offsets.
+     *
+     * @param offsets  the offsets, not null
+     * @return the offset infos, not null
+     */
+    private static ZoneOffsetInfo[] createOffsetInfos(ZoneOffset[] offsets) {
+        ZoneOffsetInfo[] infos = new ZoneOffsetInfo[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            infos[i] = findOffsetInfo(offsets[i], infos, i);
+        }
+        return infos;
+    }
+
+    /**
+     * Creates the offset info before and after each last rule.
+     *
+     * @param lastRules  the last rules, not null
+     * @param wallOffsets  the wall offsets, not null
+     * @param wallOffsetInfos  the wall offset infos, not null
+     * @return the paired offset infos, not null
+     */
+    private static ZoneOffsetInfo[] createLastRulesInfos(
+            ZoneOffsetTransitionRule[] lastRules, ZoneOffset[] wallOffsets, ZoneOffsetInfo[] wallOffsetInfos) {
+        ZoneOffsetInfo[] infos = new ZoneOffsetInfo[lastRules.length * 2];
+        for (int i = 0; i < lastRules.length; i++) {
+            infos[i * 2] = findOffsetInfo(lastRules[i].getOffsetBefore(), wallOffsetInfos, wallOffsetInfos.length);
+            infos[i * 2 + 1] = findOffsetInfo(lastRules[i].getOffsetAfter(), wallOffsetInfos, wallOffsetInfos.length);
+        }
+        return infos;
+    }
+
+    /**
+     * Finds an existing offset info for the offset, or creates one.
+     *
+     * @param offset  the offset, not null
+     * @param infos  the infos to search, not null
+     * @param size  the number of infos to search
+     * @return the offset info, not null
+     */
+    private static ZoneOffsetInfo findOffsetInfo(ZoneOffset offset, ZoneOffsetInfo[] infos, int size) {
+        for (int i = 0; i < size; i++) {
+            if (infos[i].getOffset().equals(offset)) {
+                return infos[i];
             }
         }
-        this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
+        return new ZoneOffsetInfo(offset, null);
+    }
+
+    /**
+     * Constructor copying another instance, using a different transition cache.
+     *
+     * @param base  the rules to copy, not null
+     * @param lastRulesCache  the transition cache, not null
+     */
+    private StandardZoneRules(StandardZoneRules base, ZoneTransitionCache lastRulesCache) {
+        super();
+        this.standardTransitions = base.standardTransitions;
+        this.standardOffsets = base.standardOffsets;
+        this.savingsInstantTransitions = base.savingsInstantTransitions;
+        this.savingsLocalTransitions = base.savingsLocalTransitions;
+        this.wallOffsets = base.wallOffsets;
+        this.wallOffsetInfos = base.wallOffsetInfos;
+        this.lastRules = base.lastRules;
+        this.lastRulesInfos = base.lastRulesInfos;
+        this.lastRulesCache = lastRulesCache;
+        this.lastRulesTable = base.lastRulesTable;
     }
 
     //-----------------------------------------------------------------------
@@ -268,6 +350,177 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Counts the transitions that are shared with another set of rules.
+     * <p>
+     * A transition is shared if it, and every transition and offset before it,
+     * is equal in both rules. The rules of a region typically change only in
+     * recent years between versions of the time-zone database, so the shared
+     * prefix is normally long.
+     *
+     * @param base  the rules to compare to, not null
+     * @return the number of standard and savings transitions that are shared
+     */
+    int countSharedTransitions(StandardZoneRules base) {
+        return countShared(standardTransitions, standardOffsets, base.standardTransitions, base.standardOffsets) +
+                countShared(savingsInstantTransitions, wallOffsets, base.savingsInstantTransitions, base.wallOffsets);
+    }
+
+    /**
+     * Counts the length of the shared prefix of two transition arrays.
+     *
+     * @param trans  the transitions, not null
+     * @param offsets  the offsets, one more than the transitions, not null
+     * @param baseTrans  the base transitions, not null
+     * @param baseOffsets  the base offsets, one more than the base transitions, not null
+     * @return the number of shared transitions
+     */
+    private static int countShared(long[] trans, ZoneOffset[] offsets, long[] baseTrans, ZoneOffset[] baseOffsets) {
+        if (offsets[0].equals(baseOffsets[0]) == false) {
+            return 0;
+        }
+        int max = Math.min(trans.length, baseTrans.length);
+        int count = 0;
+        while (count < max && trans[count] == baseTrans[count] && offsets[count + 1].equals(baseOffsets[count + 1])) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Writes the state to the stream in the compact form used by the data file.
+     * <p>
+     * The transitions shared with the base rules are stored as a count only.
+     * The remaining transitions are stored as the difference from the previous
+     * transition, see {@link Ser#writeEpochSecDelta(long, DataOutput)}.
+     *
+     * @param out  the output stream, not null
+     * @param base  the rules to share transitions with, null if none
+     * @throws IOException if an error occurs
+     */
+    void writeExternalDelta(DataOutput out, StandardZoneRules base) throws IOException {
+        int stdShared = (base != null ? countShared(standardTransitions, standardOffsets, base.standardTransitions, base.standardOffsets) : 0);
+        writeDeltaTransitions(out, stdShared, standardTransitions, standardOffsets);
+        int savShared = (base != null ? countShared(savingsInstantTransitions, wallOffsets, base.savingsInstantTransitions, base.wallOffsets) : 0);
+        writeDeltaTransitions(out, savShared, savingsInstantTransitions, wallOffsets);
+        out.writeByte(lastRules.length);
+        for (ZoneOffsetTransitionRule rule : lastRules) {
+            rule.writeExternal(out);
+        }
+    }
+
+    /**
+     * Writes transitions and offsets, excluding the shared prefix, to the stream.
+     *
+     * @param out  the output stream, not null
+     * @param shared  the number of shared transitions
+     * @param trans  the transitions, not null
+     * @param offsets  the offsets, one more than the transitions, not null
+     * @throws IOException if an error occurs
+     */
+    private static void writeDeltaTransitions(DataOutput out, int shared, long[] trans, ZoneOffset[] offsets) throws IOException {
+        Ser.writeVarLong(shared, out);
+        Ser.writeVarLong(trans.length - shared, out);
+        if (shared == 0) {
+            Ser.writeOffset(offsets[0], out);
+        }
+        for (int i = shared; i < trans.length; i++) {
+            if (i == 0) {
+                Ser.writeEpochSec(trans[0], out);
+            } else {
+                Ser.writeEpochSecDelta(trans[i] - trans[i - 1], out);
+            }
+            Ser.writeOffset(offsets[i + 1], out);
+        }
+    }
+
+    /**
+     * Reads the state from the stream in the compact form used by the data file.
+     *
+     * @param in  the input stream, not null
+     * @param base  the rules the transitions were shared with, null if none
+     * @return the created object, not null
+     * @throws IOException if an error occurs
+     */
+    static StandardZoneRules readExternalDelta(DataInput in, StandardZoneRules base) throws IOException, ClassNotFoundException {
+        int stdShared = readShared(in, base != null ? base.standardTransitions : null);
+        int stdSize = readSize(in, stdShared);
+        long[] stdTrans = new long[stdSize];
+        ZoneOffset[] stdOffsets = new ZoneOffset[stdSize + 1];
+        readDeltaTransitions(in, stdShared, stdTrans, stdOffsets, base != null ? base.standardTransitions : null,
+                base != null ? base.standardOffsets : null);
+        int savShared = readShared(in, base != null ? base.savingsInstantTransitions : null);
+        int savSize = readSize(in, savShared);
+        long[] savTrans = new long[savSize];
+        ZoneOffset[] savOffsets = new ZoneOffset[savSize + 1];
+        readDeltaTransitions(in, savShared, savTrans, savOffsets, base != null ? base.savingsInstantTransitions : null,
+                base != null ? base.wallOffsets : null);
+        int ruleSize = in.readByte();
+        ZoneOffsetTransitionRule[] rules = new ZoneOffsetTransitionRule[ruleSize];
+        for (int i = 0; i < ruleSize; i++) {
+            rules[i] = ZoneOffsetTransitionRule.readExternal(in);
+        }
+        return new StandardZoneRules(stdTrans, stdOffsets, savTrans, savOffsets, rules);
+    }
+
+    /**
+     * Reads and validates the number of shared transitions.
+     *
+     * @param in  the input stream, not null
+     * @param baseTrans  the base transitions, null if no base
+     * @return the number of shared transitions
+     * @throws IOException if an error occurs
+     */
+    private static int readShared(DataInput in, long[] baseTrans) throws IOException {
+        long shared = Ser.readVarLong(in);
+        if (shared != 0 && (baseTrans == null || shared > baseTrans.length)) {
+            throw new StreamCorruptedException("Invalid shared transitions");
+        }
+        return (int) shared;
+    }
+
+    /**
+     * Reads and validates the total number of transitions.
+     *
+     * @param in  the input stream, not null
+     * @param shared  the number of shared transitions
+     * @return the number of transitions
+     * @throws IOException if an error occurs
+     */
+    private static int readSize(DataInput in, int shared) throws IOException {
+        long size = shared + Ser.readVarLong(in);
+        if (size < shared || size >= Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid transition count");
+        }
+        return (int) size;
+    }
+
+    /**
+     * Reads transitions and offsets, copying the shared prefix from the base.
+     *
+     * @param in  the input stream, not null
+     * @param shared  the number of shared transitions
+     * @param trans  the transitions to populate, not null
+     * @param offsets  the offsets to populate, one more than the transitions, not null
+     * @param baseTrans  the base transitions, null if nothing shared
+     * @param baseOffsets  the base offsets, null if nothing shared
+     * @throws IOException if an error occurs
+     */
+    private static void readDeltaTransitions(DataInput in, int shared, long[] trans, ZoneOffset[] offsets,
+            long[] baseTrans, ZoneOffset[] baseOffsets) throws IOException {
+        if (shared > 0) {
+            System.arraycopy(baseTrans, 0, trans, 0, shared);
+            System.arraycopy(baseOffsets, 0, offsets, 0, shared + 1);
+        } else {
+            offsets[0] = Ser.readOffset(in);
+        }
+        for (int i = shared; i < trans.length; i++) {
+            trans[i] = (i == 0 ? Ser.readEpochSec(in) : trans[i - 1] + Ser.readEpochSecDelta(in));
+            offsets[i + 1] = Ser.readOffset(in);
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Override
     public boolean isFixedOffset() {
@@ -282,6 +535,11 @@ final class StandardZoneRules implements ZoneRules, Serializable {
         // check if using last rules
         if (lastRules.length > 0 &&
                 epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1]) {
+            LastRulesTable table = getLastRulesTable();
+            int offsetIndex = table.findOffsetIndex(epochSec);
+            if (offsetIndex >= 0) {
+                return table.getOffset(offsetIndex);
+            }
             OffsetDateTime dt = OffsetDateTime.ofEpochSecond(epochSec, wallOffsets[wallOffsets.length - 1]);
             ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
             ZoneOffsetTransition trans = null;
@@ -306,105 +564,245 @@ final class StandardZoneRules implements ZoneRules, Serializable {
     //-----------------------------------------------------------------------
     @Override
     public ZoneOffsetInfo getOffsetInfo(LocalDateTime dt) {
+        long localSecs = dt.toLocalDate().toEpochDay() * 86400 + dt.toLocalTime().toSecondOfDay();
+        
         // check if using last rules
         if (lastRules.length > 0 &&
-                dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1])) {
-            ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
-            ZoneOffsetInfo info = null;
-            for (ZoneOffsetTransition trans : transArray) {
-                info = findOffsetInfo(dt, trans);
-                if (info.isTransition() || info.getOffset().equals(trans.getOffsetBefore())) {
-                    return info;
-                }
-            }
-            return info;
+                localSecs > savingsLocalTransitions[savingsLocalTransitions.length - 1]) {
+            return findOffsetInfoLastRules(localSecs, dt.getYear());
         }
         
         // using historic rules
-        int index  = Arrays.binarySearch(savingsLocalTransitions, dt);
+        int index  = Arrays.binarySearch(savingsLocalTransitions, localSecs);
         if (index == -1) {
             // before first transition
-            return new ZoneOffsetInfo(wallOffsets[0], null);
+            return wallOffsetInfos[0];
         }
         if (index < 0) {
             // switch negative insert position to start of matched range
             index = -index - 2;
         } else if (index < savingsLocalTransitions.length - 1 &&
-                savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
+                savingsLocalTransitions[index] == savingsLocalTransitions[index + 1]) {
             // handle overlap immediately following gap
             index++;
         }
         if ((index & 1) == 0) {
             // gap or overlap
-            LocalDateTime dtBefore = savingsLocalTransitions[index];
-            LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
             ZoneOffset offsetBefore = wallOffsets[index / 2];
             ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-            if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-                // gap
-                return new ZoneOffsetInfo(null, new ZoneOffsetTransition(OffsetDateTime.of(dtBefore, offsetBefore), offsetAfter));
-            } else {
-                // overlap
-                return new ZoneOffsetInfo(null, new ZoneOffsetTransition(OffsetDateTime.of(dtAfter, offsetBefore), offsetAfter));
-            }
+            OffsetDateTime dtBefore = OffsetDateTime.ofEpochSecond(savingsInstantTransitions[index / 2], offsetBefore);
+            return new ZoneOffsetInfo(null, new ZoneOffsetTransition(dtBefore, offsetAfter));
         } else {
             // normal (neither gap or overlap)
-            return new ZoneOffsetInfo(wallOffsets[index / 2 + 1], null);
+            return wallOffsetInfos[index / 2 + 1];
         }
     }
 
     //-----------------------------------------------------------------------
     /**
-     * Finds the offset info for a local date-time and transition.
+     * Finds the offset info for a local date-time using the last rules.
+     * <p>
+     * The transitions are calculated as primitives, thus a transition is only
+     * created if the local date-time is in a gap or overlap.
      *
-     * @param dt  the date-time, not null
-     * @param trans  the transition, not null
+     * @param localSecs  the local epoch-second
+     * @param year  the year of the local date-time
      * @return the offset info, not null
      */
-    private ZoneOffsetInfo findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
-        if (trans.isGap()) {
-            if (dt.isBefore(trans.getLocal())) {
-                return new ZoneOffsetInfo(trans.getOffsetBefore(), null);
+    private ZoneOffsetInfo findOffsetInfoLastRules(long localSecs, int year) {
+        ZoneOffsetTransitionRule[] ruleArray = lastRules;
+        ZoneOffsetInfo info = null;
+        for (int i = 0; i < ruleArray.length; i++) {
+            ZoneOffsetTransitionRule rule = ruleArray[i];
+            long epochSec = rule.createTransitionEpochSecond(year);
+            long localBefore = epochSec + rule.getOffsetBefore().getTotalSeconds();
+            long localAfter = epochSec + rule.getOffsetAfter().getTotalSeconds();
+            if (localAfter > localBefore) {
+                // gap
+                if (localSecs < localBefore) {
+                    info = lastRulesInfos[i * 2];
+                } else if (localSecs < localAfter) {
+                    return new ZoneOffsetInfo(null, findTransitionArray(year)[i]);
+                } else {
+                    info = lastRulesInfos[i * 2 + 1];
+                }
+            } else {
+                // overlap
+                if (localSecs >= localBefore) {
+                    info = lastRulesInfos[i * 2 + 1];
+                } else if (localSecs < localAfter) {
+                    info = lastRulesInfos[i * 2];
+                } else {
+                    return new ZoneOffsetInfo(null, findTransitionArray(year)[i]);
+                }
+            }
+            if (info.getOffset().equals(rule.getOffsetBefore())) {
+                return info;
             }
-            if (dt.isBefore(trans.getDateTimeAfter().toLocalDateTime())) {
-                return new ZoneOffsetInfo(null, trans);
+        }
+        return info;
+    }
+
+    //-----------------------------------------------------------------------
+    @Override
+    public void getOffsetSeconds(long[] epochSeconds, int[] offsetSeconds) {
+        DateTimes.checkNotNull(epochSeconds, "Epoch seconds must not be null");
+        DateTimes.checkNotNull(offsetSeconds, "Offset seconds must not be null");
+        if (offsetSeconds.length < epochSeconds.length) {
+            throw new IllegalArgumentException("Offset seconds array must not be shorter than epoch seconds array");
+        }
+        final long[] transitions = savingsInstantTransitions;
+        final long lastTransition = (transitions.length > 0 ? transitions[transitions.length - 1] : Long.MAX_VALUE);
+        int range = 0;
+        for (int i = 0; i < epochSeconds.length; i++) {
+            long epochSec = epochSeconds[i];
+            if (lastRules.length > 0 && epochSec > lastTransition) {
+                LastRulesTable table = getLastRulesTable();
+                int offsetIndex = table.findOffsetIndex(epochSec);
+                if (offsetIndex >= 0) {
+                    offsetSeconds[i] = table.getOffsetSeconds(offsetIndex);
+                } else {
+                    offsetSeconds[i] = getOffset(Instant.ofEpochSecond(epochSec)).getTotalSeconds();
+                }
             } else {
-                return new ZoneOffsetInfo(trans.getOffsetAfter(), null);
+                range = findRange(epochSec, range);
+                offsetSeconds[i] = wallOffsets[range].getTotalSeconds();
             }
-        } else {
-            if (dt.isBefore(trans.getLocal()) == false) {
-                return new ZoneOffsetInfo(trans.getOffsetAfter(), null);
+        }
+    }
+
+    @Override
+    public void toEpochSeconds(long[] localEpochSeconds, long[] epochSeconds) {
+        DateTimes.checkNotNull(localEpochSeconds, "Local epoch seconds must not be null");
+        DateTimes.checkNotNull(epochSeconds, "Epoch seconds must not be null");
+        if (epochSeconds.length < localEpochSeconds.length) {
+            throw new IllegalArgumentException("Epoch seconds array must not be shorter than local epoch seconds array");
+        }
+        final long[] transitions = savingsInstantTransitions;
+        final ZoneOffset[] offsets = wallOffsets;
+        final int last = transitions.length - 1;
+        final long lastLocalTransition = (last >= 0 ? transitions[last] +
+                Math.max(offsets[last].getTotalSeconds(), offsets[last + 1].getTotalSeconds()) : Long.MAX_VALUE);
+        int range = 0;
+        for (int i = 0; i < localEpochSeconds.length; i++) {
+            long localEpochSec = localEpochSeconds[i];
+            if (lastRules.length > 0 && localEpochSec > lastLocalTransition) {
+                long epochSec = getLastRulesTable().toEpochSecond(localEpochSec);
+                epochSeconds[i] = (epochSec != Long.MIN_VALUE ? epochSec : toEpochSecondLastRules(localEpochSec));
+                continue;
+            }
+            // estimate the range using the offset of the previous element, then adjust it using local times
+            range = findRange(localEpochSec - offsets[range].getTotalSeconds(), range);
+            while (range > 0 && localEpochSec < transitions[range - 1] + offsets[range - 1].getTotalSeconds()) {
+                range--;
+            }
+            while (range <= last && localEpochSec >= transitions[range] + offsets[range].getTotalSeconds()) {
+                range++;
             }
-            if (dt.isBefore(trans.getDateTimeAfter().toLocalDateTime())) {
-                return new ZoneOffsetInfo(trans.getOffsetBefore(), null);
+            if (range > 0 && localEpochSec < transitions[range - 1] + offsets[range].getTotalSeconds()) {
+                epochSeconds[i] = transitions[range - 1];  // gap
             } else {
-                return new ZoneOffsetInfo(null, trans);
+                epochSeconds[i] = localEpochSec - offsets[range].getTotalSeconds();
+            }
+        }
+    }
+
+    /**
+     * Finds the range of the historic transitions containing the epoch-second.
+     * <p>
+     * Range {@code k} is the period from transition {@code k - 1} inclusive to
+     * transition {@code k} exclusive, and has the offset {@code wallOffsets[k]}.
+     * The hint and the following range are checked before searching, which
+     * makes sorted or clustered input cheap.
+     *
+     * @param epochSec  the epoch-second to find
+     * @param hint  the range to check first, from 0 to the number of transitions
+     * @return the range, from 0 to the number of transitions
+     */
+    private int findRange(long epochSec, int hint) {
+        final long[] transitions = savingsInstantTransitions;
+        final int count = transitions.length;
+        if (hint == 0 || transitions[hint - 1] <= epochSec) {
+            if (hint == count || epochSec < transitions[hint]) {
+                return hint;
+            }
+            if (hint + 1 == count || epochSec < transitions[hint + 1]) {
+                return hint + 1;
             }
         }
+        int index = Arrays.binarySearch(transitions, epochSec);
+        return (index < 0 ? -index - 1 : index + 1);
+    }
+
+    /**
+     * Converts a local epoch-second to an epoch-second using the last rules
+     * when it is outside the precomputed table.
+     *
+     * @param localEpochSec  the local epoch-second to convert
+     * @return the epoch-second, gaps resolved to the transition and overlaps to the earlier offset
+     */
+    private long toEpochSecondLastRules(long localEpochSec) {
+        LocalDateTime dt = OffsetDateTime.ofEpochSecond(localEpochSec, ZoneOffset.UTC).toLocalDateTime();
+        ZoneOffsetInfo info = getOffsetInfo(dt);
+        if (info.isTransition() == false) {
+            return localEpochSec - info.getOffset().getTotalSeconds();
+        }
+        ZoneOffsetTransition trans = info.getTransition();
+        if (trans.isGap()) {
+            return trans.getDateTimeAfter().toEpochSecond();
+        }
+        return localEpochSec - trans.getOffsetBefore().getTotalSeconds();
     }
 
     //-----------------------------------------------------------------------
+    /**
+     * Gets the table of transitions created by the last rules, creating it if necessary.
+     * <p>
+     * This must only be called if there are last rules.
+     *
+     * @return the table, not null
+     */
+    private LastRulesTable getLastRulesTable() {
+        LastRulesTable table = lastRulesTable;
+        if (table == null) {
+            table = LastRulesTable.of(lastRules,
+                    savingsInstantTransitions[savingsInstantTransitions.length - 1], wallOffsets[wallOffsets.length - 1]);
+            lastRulesTable = table;  // benign race, the table is immutable
+        }
+        return table;
+    }
+
     /**
      * Finds the appropriate transition array for the given year.
+     * This must only be called if there are last rules.
      *
-     * @param year  the year, not null
+     * @param year  the year
      * @return the transition array, not null
      */
     private ZoneOffsetTransition[] findTransitionArray(int year) {
-        Integer yearObj = year;  // should use Year class, but this saves a class load
-        ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
-        if (transArray != null) {
-            return transArray;
-        }
-        ZoneOffsetTransitionRule[] ruleArray = lastRules;
-        transArray  = new ZoneOffsetTransition[ruleArray.length];
-        for (int i = 0; i < ruleArray.length; i++) {
-            transArray[i] = ruleArray[i].createTransition(year);
-        }
-        if (year < LAST_CACHED_YEAR) {
-            lastRulesCache.putIfAbsent(yearObj, transArray);
+        return lastRulesCache.getTransitions(year, lastRules);
+    }
+
+    /**
+     * Gets the cache of transitions created by the last rules.
+     *
+     * @return the cache, null if there are no last rules
+     */
+    ZoneTransitionCache getTransitionCache() {
+        return lastRulesCache;
+    }
+
+    /**
+     * Returns a copy of these rules using the specified transition cache.
+     *
+     * @param cache  the cache to use, not null
+     * @return the rules using the cache, not null
+     */
+    StandardZoneRules withTransitionCache(ZoneTransitionCache cache) {
+        if (lastRules.length == 0 || cache == lastRulesCache) {
+            return this;
         }
-        return transArray;
+        return new StandardZoneRules(this, cache);
     }
 
     //-----------------------------------------------------------------------
@@ -418,6 +816,13 @@ final class StandardZoneRules implements ZoneRules, Serializable {
     @Override
     public ZoneOffset getStandardOffset(Instant instant) {
         long epochSec = instant.getEpochSecond();
+        
+        // check if after the last standard transition
+        if (standardTransitions.length == 0 || epochSec >= standardTransitions[standardTransitions.length - 1]) {
+            return standardOffsets[standardOffsets.length - 1];
+        }
+        
+        // using historic rules
         int index  = Arrays.binarySearch(standardTransitions, epochSec);
         if (index < 0) {
             // switch negative insert position to start of matched range
@@ -31,22 +31,22 @@
  */
 package javax.time.zone;
 
-import static javax.time.calendrical.DateTimeAdjusters.nextOrCurrent;
-import static javax.time.calendrical.DateTimeAdjusters.previousOrCurrent;
+import static javax.time.calendrical.LocalDateTimeField.YEAR;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
 
+import javax.time.DateTimeException;
 import javax.time.DateTimes;
 import javax.time.DayOfWeek;
-import javax.time.LocalDate;
 import javax.time.LocalDateTime;
 import javax.time.LocalTime;
 import javax.time.Month;
 import javax.time.OffsetDateTime;
 import javax.time.ZoneOffset;
+import javax.time.chrono.ISOChronology;
 
 /**
  * A rule expressing how to create a transition.
@@ -396,24 +396,83 @@ public final class ZoneOffsetTransitionRule implements Serializable {
      * @return the transition instance, not null
      */
     public ZoneOffsetTransition createTransition(int year) {
-        LocalDate date;
-        if (dom < 0) {
-            date = LocalDate.of(year, month, month.length(DateTimes.isLeapYear(year)) + 1 + dom);
-            if (dow != null) {
-                date = date.with(previousOrCurrent(dow));
+        OffsetDateTime transition = OffsetDateTime.ofEpochSecond(createTransitionEpochSecond(year), offsetBefore);
+        return new ZoneOffsetTransition(transition, offsetAfter);
+    }
+
+    /**
+     * Calculates the instant of the transition for the specified year.
+     * <p>
+     * This returns the epoch-second of the transition that would be created by
+     * {@link #createTransition(int)}, without creating any objects.
+     * It is intended for use when expanding the rule over many years.
+     *
+     * @param year  the year to calculate the transition for
+     * @return the epoch-second of the transition
+     * @throws DateTimeException if the year is invalid, or the rule does not apply in the year
+     */
+    public long createTransitionEpochSecond(int year) {
+        long localSecs = createTransitionLocalSecond(year);
+        switch (timeDefinition) {
+            case UTC:
+                return localSecs;
+            case STANDARD:
+                return localSecs - standardOffset.getTotalSeconds();
+            default:  // WALL
+                return localSecs - offsetBefore.getTotalSeconds();
+        }
+    }
+
+    /**
+     * Calculates the local date-time of the transition for the specified year.
+     * <p>
+     * This returns the local date-time before the transition, expressed as the number of
+     * seconds from 1970-01-01T00:00 in the 'before' offset. This is the same as the
+     * local date-time of {@link ZoneOffsetTransition#getDateTimeBefore()} for the
+     * transition that would be created by {@link #createTransition(int)},
+     * but is calculated without creating any objects.
+     *
+     * @param year  the year to calculate the transition for
+     * @return the local epoch-second of the transition in the 'before' offset
+     * @throws DateTimeException if the year is invalid, or the rule does not apply in the year
+     */
+    public long createTransitionLocalEpochSecond(int year) {
+        return createTransitionEpochSecond(year) + offsetBefore.getTotalSeconds();
+    }
+
+    /**
+     * Calculates the local date-time of the transition as defined by the rule.
+     * <p>
+     * The result is interpreted according to the time definition.
+     *
+     * @param year  the year to calculate the transition for
+     * @return the local epoch-second of the cutover as expressed in the rule
+     */
+    private long createTransitionLocalSecond(int year) {
+        YEAR.checkValidValue(year);
+        boolean leap = DateTimes.isLeapYear(year);
+        int monthLength = month.length(leap);
+        int day = (dom < 0 ? monthLength + 1 + dom : dom);
+        if (day > monthLength) {
+            if (day == 29) {
+                throw new DateTimeException("Invalid date 'February 29' as '" + year + "' is not a leap year");
+            } else {
+                throw new DateTimeException("Invalid date '" + month.name() + " " + day + "'");
             }
-        } else {
-            date = LocalDate.of(year, month, dom);
-            if (dow != null) {
-                date = date.with(nextOrCurrent(dow));
+        }
+        long epochDay = ISOChronology.INSTANCE.epochDay(year, month.getValue(), day);
+        if (dow != null) {
+            int currentDow = DateTimes.floorMod(epochDay + 3, 7) + 1;  // 1970-01-01 is a Thursday
+            if (dom < 0) {
+                epochDay -= DateTimes.floorMod(currentDow - dow.getValue(), 7);
+            } else {
+                epochDay += DateTimes.floorMod(dow.getValue() - currentDow, 7);
             }
         }
         if (timeEndOfDay) {
-            date = date.plusDays(1);
+            epochDay++;
         }
-        LocalDateTime localDT = LocalDateTime.of(date, time);
-        OffsetDateTime transition = timeDefinition.createDateTime(localDT, standardOffset, offsetBefore);
-        return new ZoneOffsetTransition(transition, offsetAfter);
+        return epochDay * 86400 + time.toSecondOfDay();
     }
 
     //-----------------------------------------------------------------------
@@ -185,6 +185,44 @@ public interface ZoneRules {
     //        return (getStandardOffset(instant).equals(getOffset(instant)) == false);
     //    }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the offsets applicable at each of the specified epoch-seconds in this zone.
+     * <p>
+     * This is the bulk equivalent of {@link #getOffset(Instant)}, operating on primitive
+     * epoch-seconds from 1970-01-01T00:00Z and returning the total offset in seconds.
+     * It is intended for columnar data, where wrapping each value would be expensive.
+     * Implementations are optimized for input that is sorted or clustered in time,
+     * however the input may be in any order.
+     *
+     * @param epochSeconds  the epoch-seconds to find the offsets for, not null
+     * @param offsetSeconds  the array to store the total offset in seconds of each input, not null
+     * @throws IllegalArgumentException if the offset array is shorter than the epoch-second array
+     */
+    void getOffsetSeconds(long[] epochSeconds, int[] offsetSeconds);
+
+    /**
+     * Converts each of the specified local epoch-seconds to an epoch-second in this zone.
+     * <p>
+     * This is the bulk equivalent of converting a local date-time to an instant.
+     * A local epoch-second is the number of seconds from 1970-01-01T00:00 on the
+     * local time-line, as would be obtained by treating the local date-time as UTC.
+     * <p>
+     * The mapping from a local date-time to an instant is not always unique.
+     * Gaps and overlaps are resolved in the same way as {@link ZoneResolvers#postGapPreOverlap()}.
+     * During a gap the instant of the transition is returned.
+     * During an overlap the earlier offset, which is the "before" offset, is used.
+     * <p>
+     * Implementations are optimized for input that is sorted or clustered in time,
+     * however the input may be in any order.
+     * The input and output arrays may be the same array.
+     *
+     * @param localEpochSeconds  the local epoch-seconds to convert, not null
+     * @param epochSeconds  the array to store the epoch-second of each input, not null
+     * @throws IllegalArgumentException if the output array is shorter than the input array
+     */
+    void toEpochSeconds(long[] localEpochSeconds, long[] epochSeconds);
+
     //-----------------------------------------------------------------------
     /**
      * Gets the next transition after the specified transition.
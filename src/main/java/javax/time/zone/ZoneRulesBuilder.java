@@ -37,9 +37,9 @@ import static javax.time.calendrical.LocalDateTimeField.YEAR;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.time.DateTimeException;
 import javax.time.DateTimes;
@@ -77,7 +77,7 @@ class ZoneRulesBuilder {
     /**
      * A map for deduplicating the output.
      */
-    private Map<Object, Object> deduplicateMap;
+    private ConcurrentMap<Object, Object> deduplicateMap;
 
     //-----------------------------------------------------------------------
     /**
@@ -296,7 +296,7 @@ class ZoneRulesBuilder {
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
     public ZoneRules toRules(String id) {
-        return toRules(id, new HashMap<Object, Object>());
+        return toRules(id, new ConcurrentHashMap<Object, Object>());
     }
 
     /**
@@ -311,7 +311,7 @@ class ZoneRulesBuilder {
      * @throws IllegalStateException if no windows have been added
      * @throws IllegalStateException if there is only one rule defined as being forever for any given window
      */
-    ZoneRules toRules(String id, Map<Object, Object> deduplicateMap) {
+    ZoneRules toRules(String id, ConcurrentMap<Object, Object> deduplicateMap) {
         DateTimes.checkNotNull(id, "Time zone id must not be null");
         this.deduplicateMap = deduplicateMap;
         if (windowList.isEmpty()) {
@@ -404,10 +404,8 @@ class ZoneRulesBuilder {
      */
     @SuppressWarnings("unchecked")
     <T> T deduplicate(T object) {
-        if (deduplicateMap.containsKey(object) == false) {
-            deduplicateMap.put(object, object);
-        }
-        return (T) deduplicateMap.get(object);
+        Object existing = deduplicateMap.putIfAbsent(object, object);
+        return (existing != null ? (T) existing : object);
     }
 
     //-----------------------------------------------------------------------
@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+
+/**
+ * The second and third versions of the binary format of the time-zone rules data file.
+ * <p>
+ * The first version of the format must be read sequentially, as it consists of
+ * UTF strings, sorted region lists per version and rules prefixed by their length.
+ * The second version is laid out for direct access, such as from a memory-mapped file.
+ * All values are big-endian and all positions are absolute from the start of the data:
+ * <pre>
+ *  byte      format version, 2
+ *  byte[3]   padding
+ *  int       number of versions, V
+ *  int       number of regions, R
+ *  int       number of rules, N
+ *  int[1+V+R]  position of each pooled string: group ID, version IDs, sorted region IDs
+ *  int[N]    position of each rule
+ *  short[V*R]  rule index for each version and region, version-major, -1 if none
+ *  string pool, each string in modified UTF-8 as per {@link DataOutput#writeUTF(String)}
+ *  rules, each aligned to 8 bytes, consisting of an int length and the serialized rule
+ * </pre>
+ * The rules for a region are thus found by looking up the region index, then
+ * reading the rule index and rule position directly without any scanning.
+ * <p>
+ * The third version has the same layout, with format version 3, but each rule is
+ * stored compactly. Successive versions of the time-zone database mostly repeat the
+ * historic transitions of a region, so a rule may refer to a base rule of the same
+ * region and share its leading transitions. A base rule never has a base itself,
+ * thus at most one other rule is decoded to decode any rule:
+ * <pre>
+ *  short     rule index of the base rule, -1 if none
+ *  rule      see {@link StandardZoneRules#writeExternalDelta(DataOutput, StandardZoneRules)}
+ * </pre>
+ * 
+ * <h4>Implementation notes</h4>
+ * This class is immutable and thread-safe.
+ */
+final class ZoneRulesDataFormat {
+
+    /**
+     * The first version of the format, read sequentially.
+     */
+    static final int VERSION_1 = 1;
+    /**
+     * The second version of the format, with direct access.
+     */
+    static final int VERSION_2 = 2;
+    /**
+     * The third version of the format, with direct access and compact rules.
+     */
+    static final int VERSION_3 = 3;
+    /**
+     * The alignment of each rule.
+     */
+    private static final int RULE_ALIGNMENT = 8;
+    /**
+     * The size of the fixed header.
+     */
+    private static final int HEADER_SIZE = 16;
+
+    /**
+     * The format version.
+     */
+    private final int formatVersion;
+    /**
+     * The group ID.
+     */
+    private final String groupID;
+    /**
+     * The version IDs.
+     */
+    private final String[] versionIDs;
+    /**
+     * The region IDs, sorted.
+     */
+    private final String[] regionIDs;
+    /**
+     * The position of the table of rule indices.
+     */
+    private final int linkPosition;
+    /**
+     * The position of the bytes of each rule, after the length.
+     */
+    private final int[] rulePositions;
+    /**
+     * The length of the bytes of each rule.
+     */
+    private final int[] ruleLengths;
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes the data in the second version of the format.
+     *
+     * @param out  the output to write to, not null
+     * @param groupID  the group ID, not null
+     * @param versionIDs  the version IDs, not null
+     * @param regionIDs  the region IDs, sorted, not null
+     * @param links  the rule index for each version and region, -1 if none, not null
+     * @param rules  the serialized rules, see {@link Ser#write(Object, DataOutput)}, not null
+     * @throws IOException if an error occurs
+     */
+    static void write(DataOutput out, String groupID, String[] versionIDs, String[] regionIDs,
+            short[][] links, byte[][] rules) throws IOException {
+        write(out, VERSION_2, groupID, versionIDs, regionIDs, links, rules);
+    }
+
+    /**
+     * Writes the data in the second or third version of the format.
+     *
+     * @param out  the output to write to, not null
+     * @param formatVersion  the format version, matching the encoding of the rules
+     * @param groupID  the group ID, not null
+     * @param versionIDs  the version IDs, not null
+     * @param regionIDs  the region IDs, sorted, not null
+     * @param links  the rule index for each version and region, -1 if none, not null
+     * @param rules  the serialized rules, not null
+     * @throws IOException if an error occurs
+     */
+    static void write(DataOutput out, int formatVersion, String groupID, String[] versionIDs, String[] regionIDs,
+            short[][] links, byte[][] rules) throws IOException {
+        if (formatVersion != VERSION_2 && formatVersion != VERSION_3) {
+            throw new IllegalArgumentException("Unknown format version: " + formatVersion);
+        }
+        int versionCount = versionIDs.length;
+        int regionCount = regionIDs.length;
+        int ruleCount = rules.length;
+        int stringCount = 1 + versionCount + regionCount;
+        int poolPosition = HEADER_SIZE + 4 * stringCount + 4 * ruleCount + 2 * versionCount * regionCount;
+        // string pool
+        ByteArrayOutputStream poolBytes = new ByteArrayOutputStream(16 * stringCount);
+        DataOutputStream pool = new DataOutputStream(poolBytes);
+        int[] stringPositions = new int[stringCount];
+        String[] strings = new String[stringCount];
+        strings[0] = groupID;
+        System.arraycopy(versionIDs, 0, strings, 1, versionCount);
+        System.arraycopy(regionIDs, 0, strings, 1 + versionCount, regionCount);
+        for (int i = 0; i < stringCount; i++) {
+            stringPositions[i] = poolPosition + pool.size();
+            pool.writeUTF(strings[i]);
+        }
+        pool.flush();
+        // rule positions
+        int[] rulePositions = new int[ruleCount];
+        int position = align(poolPosition + poolBytes.size());
+        for (int i = 0; i < ruleCount; i++) {
+            rulePositions[i] = position;
+            position = align(position + 4 + rules[i].length);
+        }
+        // output
+        out.writeByte(formatVersion);
+        out.write(new byte[3]);
+        out.writeInt(versionCount);
+        out.writeInt(regionCount);
+        out.writeInt(ruleCount);
+        for (int stringPosition : stringPositions) {
+            out.writeInt(stringPosition);
+        }
+        for (int rulePosition : rulePositions) {
+            out.writeInt(rulePosition);
+        }
+        for (int i = 0; i < versionCount; i++) {
+            for (int j = 0; j < regionCount; j++) {
+                out.writeShort(links[i][j]);
+            }
+        }
+        out.write(poolBytes.toByteArray());
+        position = poolPosition + poolBytes.size();
+        for (int i = 0; i < ruleCount; i++) {
+            out.write(new byte[rulePositions[i] - position]);
+            out.writeInt(rules[i].length);
+            out.write(rules[i]);
+            position = rulePositions[i] + 4 + rules[i].length;
+        }
+    }
+
+    /**
+     * Aligns the position to the rule alignment.
+     *
+     * @param position  the position to align
+     * @return the aligned position
+     */
+    private static int align(int position) {
+        return (position + RULE_ALIGNMENT - 1) & -RULE_ALIGNMENT;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Writes a rule in the compact encoding of the third version of the format.
+     *
+     * @param out  the output to write to, not null
+     * @param rules  the rules to write, not null
+     * @param baseIndex  the rule index of the base rules, -1 if none
+     * @param base  the base rules, which must not have a base themselves, null if none
+     * @throws IOException if an error occurs
+     */
+    static void writeRule(DataOutput out, StandardZoneRules rules, int baseIndex, StandardZoneRules base) throws IOException {
+        if (base != null && rules.countSharedTransitions(base) == 0) {
+            base = null;  // avoid loading the base when reading
+        }
+        out.writeShort(base != null ? baseIndex : -1);
+        rules.writeExternalDelta(out, base);
+    }
+
+    /**
+     * Reads a rule in the compact encoding of the third version of the format.
+     *
+     * @param in  the input to read from, not null
+     * @param loader  the loader of the base rules, not null
+     * @return the rules, not null
+     * @throws Exception if an error occurs
+     */
+    static ZoneRules readRule(DataInput in, RuleLoader loader) throws Exception {
+        int baseIndex = in.readShort();
+        StandardZoneRules base = null;
+        if (baseIndex >= 0) {
+            ZoneRules baseRules = loader.loadRule(baseIndex);
+            if (baseRules instanceof StandardZoneRules == false) {
+                throw new StreamCorruptedException("Invalid base rules");
+            }
+            base = (StandardZoneRules) baseRules;
+        }
+        return StandardZoneRules.readExternalDelta(in, base);
+    }
+
+    /**
+     * Loads rules by index, used to resolve the base of a compact rule.
+     */
+    interface RuleLoader {
+        /**
+         * Loads the rules at the specified index.
+         *
+         * @param index  the rule index
+         * @return the rules, not null
+         * @throws Exception if an error occurs
+         */
+        ZoneRules loadRule(int index) throws Exception;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Reads the header of data in the second or third version of the format.
+     * <p>
+     * Only the strings are decoded, the remaining data is accessed in the buffer.
+     *
+     * @param buffer  the buffer containing the data from position zero, not altered, not null
+     * @return the format header, not null
+     * @throws IOException if an error occurs
+     */
+    static ZoneRulesDataFormat read(ByteBuffer buffer) throws IOException {
+        return new ZoneRulesDataFormat(buffer);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param buffer  the buffer containing the data from position zero, not altered, not null
+     * @throws IOException if an error occurs
+     */
+    private ZoneRulesDataFormat(ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < HEADER_SIZE || isDirect(buffer.get(0)) == false) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        this.formatVersion = buffer.get(0);
+        int versionCount = buffer.getInt(4);
+        int regionCount = buffer.getInt(8);
+        int ruleCount = buffer.getInt(12);
+        if (versionCount < 0 || regionCount < 0 || ruleCount < 0) {
+            throw new StreamCorruptedException("File format not recognised");
+        }
+        int stringCount = 1 + versionCount + regionCount;
+        try {
+            ByteBuffer buf = buffer.duplicate();
+            ByteBufferDataInput in = new ByteBufferDataInput(buf);
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                buf.position(buffer.getInt(HEADER_SIZE + 4 * i));
+                strings[i] = in.readUTF();
+            }
+            this.groupID = strings[0];
+            this.versionIDs = new String[versionCount];
+            System.arraycopy(strings, 1, versionIDs, 0, versionCount);
+            this.regionIDs = new String[regionCount];
+            System.arraycopy(strings, 1 + versionCount, regionIDs, 0, regionCount);
+            int rulePositionTable = HEADER_SIZE + 4 * stringCount;
+            this.rulePositions = new int[ruleCount];
+            this.ruleLengths = new int[ruleCount];
+            for (int i = 0; i < ruleCount; i++) {
+                int position = buffer.getInt(rulePositionTable + 4 * i);
+                ruleLengths[i] = buffer.getInt(position);
+                rulePositions[i] = position + 4;
+                if (ruleLengths[i] < 0 || rulePositions[i] + ruleLengths[i] > buffer.limit()) {
+                    throw new StreamCorruptedException("File truncated");
+                }
+            }
+            this.linkPosition = rulePositionTable + 4 * ruleCount;
+            if (linkPosition + 2 * versionCount * regionCount > buffer.limit()) {
+                throw new StreamCorruptedException("File truncated");
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException ex) {
+            throw new StreamCorruptedException("File truncated");
+        }
+    }
+
+    /**
+     * Checks if the format version is one laid out for direct access.
+     *
+     * @param formatVersion  the format version byte
+     * @return true if the second or third version
+     */
+    static boolean isDirect(int formatVersion) {
+        return formatVersion == VERSION_2 || formatVersion == VERSION_3;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the format version.
+     *
+     * @return the format version, 2 or 3
+     */
+    int getFormatVersion() {
+        return formatVersion;
+    }
+
+    /**
+     * Gets the group ID.
+     *
+     * @return the group ID, not null
+     */
+    String getGroupID() {
+        return groupID;
+    }
+
+    /**
+     * Gets the version IDs.
+     *
+     * @return the version IDs, not null
+     */
+    String[] getVersionIDs() {
+        return versionIDs.clone();
+    }
+
+    /**
+     * Gets the region IDs, sorted.
+     *
+     * @return the region IDs, not null
+     */
+    String[] getRegionIDs() {
+        return regionIDs.clone();
+    }
+
+    /**
+     * Gets the number of rules.
+     *
+     * @return the number of rules
+     */
+    int getRuleCount() {
+        return rulePositions.length;
+    }
+
+    /**
+     * Gets the position of the serialized bytes of a rule.
+     *
+     * @param ruleIndex  the rule index
+     * @return the position in the buffer
+     */
+    int getRulePosition(int ruleIndex) {
+        return rulePositions[ruleIndex];
+    }
+
+    /**
+     * Gets the length of the serialized bytes of a rule.
+     *
+     * @param ruleIndex  the rule index
+     * @return the length in bytes
+     */
+    int getRuleLength(int ruleIndex) {
+        return ruleLengths[ruleIndex];
+    }
+
+    /**
+     * Gets the position of the rule indices of a version.
+     * <p>
+     * The rule index of each region, in region index order, is stored as a short at this position.
+     *
+     * @param versionIndex  the version index
+     * @return the position in the buffer
+     */
+    int getLinkPosition(int versionIndex) {
+        return linkPosition + 2 * versionIndex * regionIDs.length;
+    }
+
+}
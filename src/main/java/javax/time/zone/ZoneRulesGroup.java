@@ -32,18 +32,22 @@
 package javax.time.zone;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 
 import javax.time.DateTimeException;
 import javax.time.DateTimes;
+import javax.time.Duration;
 import javax.time.OffsetDateTime;
 
 /**
@@ -70,7 +74,9 @@ import javax.time.OffsetDateTime;
  * Rules may be registered at any time during the life of the application.
  * No rules may be removed however, thus any rules obtained will remain valid.
  * <p>
- * The static methods of ZoneRulesGroup wrap a thread-safe map of groups.
+ * The static methods of ZoneRulesGroup wrap an immutable snapshot of the registered groups,
+ * versions and parsable IDs, published through a single atomic reference.
+ * Reads never block, and each registration publishes a new snapshot with a higher generation.
  * New groups and providers may safely be added during the lifetime of the application.
  * To maintain data integrity, providers may not be removed during the lifetime of the application.
  */
@@ -85,16 +91,10 @@ public final class ZoneRulesGroup {
      */
     private static final Pattern PATTERN_VERSION = Pattern.compile("[A-Za-z0-9._-]+");
     /**
-     * The zone IDs.
-     * Should not be empty.
+     * The registered groups, versions and parsable IDs.
+     * Replaced, never altered, by each registration.
      */
-    private static final Map<String, Object> IDS = new ConcurrentHashMap<String, Object>(100, 0.75f, 4);
-    /**
-     * The zone rule groups.
-     * Should not be empty.
-     */
-    private static final ConcurrentMap<String, ZoneRulesGroup> GROUPS =
-            new ConcurrentHashMap<String, ZoneRulesGroup>(16, 0.75f, 2);
+    private static final AtomicReference<Registry> REGISTRY = new AtomicReference<Registry>(Registry.EMPTY);
 
     static {
         ResourceZoneRulesDataProvider.load();
@@ -104,12 +104,6 @@ public final class ZoneRulesGroup {
      * The zone rules group ID, such as 'TZDB'.
      */
     private final String groupID;
-    /**
-     * The versions and rules.
-     */
-    private final AtomicReference<TreeMap<String, ZoneRulesVersion>> versions =
-            new AtomicReference<TreeMap<String, ZoneRulesVersion>>(
-                    new TreeMap<String, ZoneRulesVersion>(Collections.reverseOrder()));
 
     //-----------------------------------------------------------------------
     /**
@@ -124,7 +118,7 @@ public final class ZoneRulesGroup {
         if (groupID == null) {
             return false;
         }
-        return GROUPS.containsKey(groupID);
+        return REGISTRY.get().groups.containsKey(groupID);
     }
 
     /**
@@ -142,9 +136,10 @@ public final class ZoneRulesGroup {
      */
     public static ZoneRulesGroup getGroup(String groupID) {
         DateTimes.checkNotNull(groupID, "Group ID must not be null");
-        ZoneRulesGroup group = GROUPS.get(groupID);
+        Map<String, ZoneRulesGroup> groups = REGISTRY.get().groups;
+        ZoneRulesGroup group = groups.get(groupID);
         if (group == null) {
-            if (GROUPS.isEmpty()) {
+            if (groups.isEmpty()) {
                 throw new DateTimeException("Unknown time-zone group '" + groupID + "', no time-zone data files registered");
             }
             throw new DateTimeException("Unknown time-zone group '" + groupID + '\'');
@@ -164,11 +159,11 @@ public final class ZoneRulesGroup {
      * @return an unsorted, independent, modifiable list of available groups, not null
      */
     public static List<ZoneRulesGroup> getAvailableGroups() {
-        return new ArrayList<>(GROUPS.values());
+        return new ArrayList<>(REGISTRY.get().groups.values());
     }
 
     /**
-     * Gets a view of the complete set of parsable group:region IDs.
+     * Gets the complete set of parsable group:region IDs.
      * <p>
      * This returns the complete set of group:region IDs that can be parsed.
      * The version is not included in the set for performance reasons.
@@ -181,18 +176,15 @@ public final class ZoneRulesGroup {
      * <li>{@code TZDB:Europe/London}</li>
      * </ul>
      * <p>
-     * The returned set is a view of underlying state that may be changed by another thread.
-     * The underlying set is thread-safe, thus the view is thread-safe.
-     * However, check-then-act operations are potentially unsafe.
-     * <p>
-     * Since IDs are never deregistered, the set can only get larger.
-     * This means that it the caller can cache the set and its current size to use
-     * as an indication as to whether the contents have changed.
+     * The returned set is an immutable snapshot that is not changed by later registrations.
+     * Callers may derive data from the set and cache it together with the
+     * {@link #getGeneration() generation}, which must be read first.
+     * The derived data is then stale whenever the generation differs.
      *
      * @return an unmodifiable set of parsable group:region IDs, not null
      */
     public static Set<String> getParsableIDs() {
-        return Collections.unmodifiableSet(IDS.keySet());
+        return REGISTRY.get().ids;
     }
 
     //-----------------------------------------------------------------------
@@ -205,20 +197,42 @@ public final class ZoneRulesGroup {
      * <p>
      * To ensure the integrity of time-zones already created, there is no way
      * to deregister providers.
+     * <p>
+     * Registration does not lock. A new snapshot of the registered data is created
+     * and published atomically, retrying if another registration was published first.
+     * Nothing is published if the provider is invalid.
      *
      * @param provider  the provider to register, not null
      * @return the rules group, not null
      * @throws DateTimeException if the group ID is invalid
      * @throws DateTimeException if the provider is already registered
      */
-    public static synchronized ZoneRulesGroup registerProvider(ZoneRulesDataProvider provider) {
-        ZoneRulesGroup group = GROUPS.get(provider.getGroupID());
-        if (group == null) {
-            group = new ZoneRulesGroup(provider.getGroupID());
-            GROUPS.put(provider.getGroupID(), group);
+    public static ZoneRulesGroup registerProvider(ZoneRulesDataProvider provider) {
+        DateTimes.checkNotNull(provider, "Provider must not be null");
+        ZoneRulesGroup newGroup = new ZoneRulesGroup(provider.getGroupID());  // validates the ID
+        String groupID = newGroup.groupID;
+        Set<ZoneRulesVersion> providerVersions = provider.getVersions();
+        Set<String> regionIDs = provider.getRegionIDs();
+        while (true) {
+            Registry current = REGISTRY.get();
+            Registry updated = current.register(newGroup, providerVersions, regionIDs);
+            if (REGISTRY.compareAndSet(current, updated)) {
+                return updated.groups.get(groupID);
+            }
         }
-        group.registerProvider0(provider);
-        return group;
+    }
+
+    /**
+     * Gets the generation of the registered providers.
+     * <p>
+     * The generation changes whenever a provider is registered with any group.
+     * This allows data derived from the groups, such as the latest rules for
+     * a region, to be cached and checked for staleness using a single volatile read.
+     *
+     * @return the generation, changed by each registration
+     */
+    public static int getGeneration() {
+        return REGISTRY.get().generation;
     }
 
     //-----------------------------------------------------------------------
@@ -237,35 +251,12 @@ public final class ZoneRulesGroup {
     }
 
     /**
-     * Registers a zone rules provider with this group.
+     * Gets the versions of this group.
      *
-     * @param provider  the provider to register, not null
+     * @return the versions, sorted from newest to oldest, not to be altered, not null
      */
-    @SuppressWarnings("unchecked")
-    private void registerProvider0(ZoneRulesDataProvider provider) {
-        // synchronized by caller
-        TreeMap<String, ZoneRulesVersion> newVersions = (TreeMap<String, ZoneRulesVersion>) versions.get().clone();
-        for (ZoneRulesVersion version : provider.getVersions()) {
-            String versionID = version.getVersionID();
-            DateTimes.checkNotNull(versionID, "Version ID must not be null");
-            if (PATTERN_VERSION.matcher(versionID).matches() == false) {
-                throw new DateTimeException("Invalid version ID '" + versionID + "', must match regex [A-Za-z0-9._-]+");
-            }
-            if (newVersions.containsKey(versionID)) {
-                throw new DateTimeException("Cannot register provider for group '" +
-                        groupID + "' as version '" + versionID + "' is already registered");
-            }
-            newVersions.put(versionID, version);
-        }
-        versions.set(newVersions);
-        
-        Set<String> regionIDs = provider.getRegionIDs();
-        for (String regionID : regionIDs) {
-            IDS.put(groupID + ':' + regionID, "");
-            if (groupID.equals("TZDB")) {
-                IDS.put(regionID, "");
-            }
-        }
+    private TreeMap<String, ZoneRulesVersion> versions() {
+        return REGISTRY.get().versions.get(groupID);
     }
 
     //-----------------------------------------------------------------------
@@ -290,7 +281,7 @@ public final class ZoneRulesGroup {
         if (regionID == null || versionID == null) {
             return false;
         }
-        ZoneRulesVersion version = versions.get().get(versionID);
+        ZoneRulesVersion version = versions().get(versionID);
         return version != null && version.isRegionID(regionID);
     }
 
@@ -305,7 +296,7 @@ public final class ZoneRulesGroup {
     public ZoneRules getRules(String regionID, String versionID) {
         DateTimes.checkNotNull(regionID, "Region ID must not be null");
         DateTimes.checkNotNull(versionID, "Version ID must not be null");
-        ZoneRulesVersion version = versions.get().get(versionID);
+        ZoneRulesVersion version = versions().get(versionID);
         if (version == null) {
             throw new DateTimeException("Unknown version for group: " + groupID + ':' + regionID + '#' + versionID);
         }
@@ -367,7 +358,7 @@ public final class ZoneRulesGroup {
         DateTimes.checkNotNull(regionID, "Region ID must not be null");
         DateTimes.checkNotNull(dateTime, "OffsetDateTime must not be null");
         boolean foundRegion = false;
-        for (ZoneRulesVersion version : versions.get().values()) {
+        for (ZoneRulesVersion version : versions().values()) {
             if (version.isRegionID(regionID)) {
                 foundRegion = true;
                 ZoneRules rules = version.getZoneRules(regionID);  // not null if registered properly
@@ -398,7 +389,7 @@ public final class ZoneRulesGroup {
      * @throws DateTimeException if the region ID is not found
      */
     public Set<String> getAvailableVersionIDs() {
-        return Collections.unmodifiableSet(versions.get().keySet());
+        return Collections.unmodifiableSet(versions().keySet());
     }
 
     /**
@@ -415,7 +406,7 @@ public final class ZoneRulesGroup {
      * @throws DateTimeException if the region ID is not found
      */
     public String getLatestVersionID() {
-        return versions.get().firstKey();
+        return versions().firstKey();
     }
 
     /**
@@ -434,7 +425,7 @@ public final class ZoneRulesGroup {
      */
     public String getLatestVersionID(String regionID) {
         DateTimes.checkNotNull(regionID, "Region ID must not be null");
-        for (ZoneRulesVersion version : versions.get().values()) {
+        for (ZoneRulesVersion version : versions().values()) {
             if (version.isRegionID(regionID)) {
                 return version.getVersionID();
             }
@@ -455,7 +446,7 @@ public final class ZoneRulesGroup {
      */
     public boolean isValidRegionID(String regionID) {
         DateTimes.checkNotNull(regionID, "Region ID must not be null");
-        for (ZoneRulesVersion version : versions.get().values()) {
+        for (ZoneRulesVersion version : versions().values()) {
             if (version.isRegionID(regionID)) {
                 return true;
             }
@@ -481,13 +472,194 @@ public final class ZoneRulesGroup {
      */
     public Set<String> getRegionIDs(String versionID) {
         DateTimes.checkNotNull(versionID, "Version ID must not be null");
-        ZoneRulesVersion version = versions.get().get(versionID);
+        ZoneRulesVersion version = versions().get(versionID);
         if (version == null) {
             throw new DateTimeException("Unknown time-zone version: " + groupID + '#' + versionID);
         }
         return version.getRegionIDs();
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Preloads the rules of all regions in the latest version of this group.
+     * <p>
+     * This is equivalent to {@code preloadRules(getLatestVersionID(), getRegionIDs(getLatestVersionID()))}.
+     *
+     * @return the time taken to load the rules, not null
+     * @throws DateTimeException if the rules cannot be loaded
+     */
+    public Duration preloadRules() {
+        String versionID = getLatestVersionID();
+        return preloadRules(versionID, getRegionIDs(versionID));
+    }
+
+    /**
+     * Preloads the rules of the specified regions and version.
+     * <p>
+     * Providers typically load the rules of each region lazily, when first used.
+     * An application sensitive to latency may call this method during startup to
+     * pay the cost of loading the rules before they are needed.
+     * <p>
+     * The rules are loaded in parallel, using a temporary pool with one thread per
+     * available processor. This method blocks until all the rules are loaded.
+     *
+     * @param versionID  the time-zone version ID, not null
+     * @param regionIDs  the time-zone region IDs, not null
+     * @return the time taken to load the rules, not null
+     * @throws DateTimeException if the version or any region is not found
+     * @throws DateTimeException if the rules cannot be loaded
+     */
+    public Duration preloadRules(String versionID, Collection<String> regionIDs) {
+        DateTimes.checkNotNull(versionID, "Version ID must not be null");
+        DateTimes.checkNotNull(regionIDs, "Region IDs must not be null");
+        ZoneRulesVersion version = versions().get(versionID);
+        if (version == null) {
+            throw new DateTimeException("Unknown time-zone version: " + groupID + '#' + versionID);
+        }
+        String[] regionArray = regionIDs.toArray(new String[regionIDs.size()]);
+        for (String regionID : regionArray) {
+            DateTimes.checkNotNull(regionID, "Region ID must not be null");
+            if (version.isRegionID(regionID) == false) {
+                throw new DateTimeException("Unknown region for version: " + groupID + ':' + regionID + '#' + versionID);
+            }
+        }
+        long start = System.nanoTime();
+        int parallelism = Math.min(Runtime.getRuntime().availableProcessors(), regionArray.length / PreloadTask.THRESHOLD);
+        if (parallelism <= 1) {
+            PreloadTask.preload(version, regionArray, 0, regionArray.length);
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new PreloadTask(version, regionArray, 0, regionArray.length));
+            } finally {
+                pool.shutdown();
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    /**
+     * Task to load the rules of a range of regions, split until small enough.
+     */
+    private static final class PreloadTask extends RecursiveAction {
+        /** Serialization version. */
+        private static final long serialVersionUID = 1L;
+        /** The number of regions below which the range is loaded directly. */
+        static final int THRESHOLD = 16;
+        /** The version. */
+        private final ZoneRulesVersion version;
+        /** The region IDs. */
+        private final String[] regionIDs;
+        /** The start index, inclusive. */
+        private final int start;
+        /** The end index, exclusive. */
+        private final int end;
+
+        PreloadTask(ZoneRulesVersion version, String[] regionIDs, int start, int end) {
+            this.version = version;
+            this.regionIDs = regionIDs;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= THRESHOLD) {
+                preload(version, regionIDs, start, end);
+            } else {
+                int mid = (start + end) >>> 1;
+                invokeAll(new PreloadTask(version, regionIDs, start, mid), new PreloadTask(version, regionIDs, mid, end));
+            }
+        }
+
+        static void preload(ZoneRulesVersion version, String[] regionIDs, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (version.getZoneRules(regionIDs[i]) == null) {
+                    throw new DateTimeException("Unable to load rules: " + regionIDs[i] + '#' + version.getVersionID());
+                }
+            }
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * An immutable snapshot of the registered groups, versions and parsable IDs.
+     */
+    private static final class Registry {
+        /** The registry before any registration. */
+        static final Registry EMPTY = new Registry(0, Collections.<String, ZoneRulesGroup>emptyMap(),
+                Collections.<String, TreeMap<String, ZoneRulesVersion>>emptyMap(), Collections.<String>emptySet());
+        /** The generation, incremented by each registration. */
+        final int generation;
+        /** The groups keyed by group ID. */
+        final Map<String, ZoneRulesGroup> groups;
+        /** The versions keyed by group ID, each sorted from newest to oldest. */
+        final Map<String, TreeMap<String, ZoneRulesVersion>> versions;
+        /** The parsable IDs, unmodifiable. */
+        final Set<String> ids;
+
+        Registry(int generation, Map<String, ZoneRulesGroup> groups,
+                Map<String, TreeMap<String, ZoneRulesVersion>> versions, Set<String> ids) {
+            this.generation = generation;
+            this.groups = groups;
+            this.versions = versions;
+            this.ids = ids;
+        }
+
+        /**
+         * Creates the registry that results from registering a provider, leaving this one unaltered.
+         *
+         * @param newGroup  the group to add if the group ID is not yet registered, not null
+         * @param providerVersions  the versions of the provider, not null
+         * @param regionIDs  the region IDs of the provider, not null
+         * @return the new registry, not null
+         * @throws DateTimeException if the provider is invalid
+         */
+        Registry register(ZoneRulesGroup newGroup, Set<ZoneRulesVersion> providerVersions, Set<String> regionIDs) {
+            String groupID = newGroup.groupID;
+            Map<String, ZoneRulesGroup> newGroups = groups;
+            if (groups.containsKey(groupID) == false) {
+                newGroups = new HashMap<String, ZoneRulesGroup>(groups);
+                newGroups.put(groupID, newGroup);
+            }
+            TreeMap<String, ZoneRulesVersion> groupVersions = versions.get(groupID);
+            TreeMap<String, ZoneRulesVersion> newGroupVersions = (groupVersions != null ?
+                    new TreeMap<String, ZoneRulesVersion>(groupVersions) :
+                    new TreeMap<String, ZoneRulesVersion>(Collections.reverseOrder()));
+            for (ZoneRulesVersion version : providerVersions) {
+                String versionID = version.getVersionID();
+                DateTimes.checkNotNull(versionID, "Version ID must not be null");
+                if (PATTERN_VERSION.matcher(versionID).matches() == false) {
+                    throw new DateTimeException("Invalid version ID '" + versionID + "', must match regex [A-Za-z0-9._-]+");
+                }
+                if (newGroupVersions.containsKey(versionID)) {
+                    throw new DateTimeException("Cannot register provider for group '" +
+                            groupID + "' as version '" + versionID + "' is already registered");
+                }
+                newGroupVersions.put(versionID, version);
+            }
+            Map<String, TreeMap<String, ZoneRulesVersion>> newVersions =
+                    new HashMap<String, TreeMap<String, ZoneRulesVersion>>(versions);
+            newVersions.put(groupID, newGroupVersions);
+            Set<String> newIDs = null;
+            for (String regionID : regionIDs) {
+                String id = groupID + ':' + regionID;
+                boolean tzdb = groupID.equals("TZDB");
+                if (ids.contains(id) == false || (tzdb && ids.contains(regionID) == false)) {
+                    if (newIDs == null) {
+                        newIDs = new HashSet<String>(ids);
+                    }
+                    newIDs.add(id);
+                    if (tzdb) {
+                        newIDs.add(regionID);
+                    }
+                }
+            }
+            return new Registry(generation + 1, newGroups, newVersions,
+                    newIDs != null ? Collections.unmodifiableSet(newIDs) : ids);
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Is this instance equal to that specified by comparing the group ID.
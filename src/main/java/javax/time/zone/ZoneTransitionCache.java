@@ -0,0 +1,499 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.time.DateTimes;
+
+/**
+ * A cache of the transitions created by the recurring rules of a set of zone rules.
+ * <p>
+ * Zone rules that have recurring transition rules must create the transitions for a
+ * year before they can be used. This cache holds the transitions of recently used
+ * years, keyed by the primitive year, so that they do not need to be recreated.
+ * Years after the {@linkplain #getMaxYear() maximum year} are never cached.
+ * <p>
+ * Each set of zone rules has its own cache. The default cache is controlled by
+ * the system properties {@code javax.time.zone.ZoneTransitionCache.policy},
+ * {@code javax.time.zone.ZoneTransitionCache.capacity},
+ * {@code javax.time.zone.ZoneTransitionCache.maxYear} and
+ * {@code javax.time.zone.ZoneTransitionCache.statistics}, defaulting to a
+ * {@linkplain Policy#DIRECT_MAPPED direct-mapped} cache of 64 years up to 2099
+ * that does not record statistics. Invalid property values are ignored,
+ * and the capacity is limited to the range from 1 to 2^30.
+ * <p>
+ * Hit and miss statistics are only recorded if requested, as recording them
+ * adds a write to a shared counter on every lookup.
+ * A different cache, including an application subclass, may be associated with
+ * a set of rules using {@link #withCache(ZoneRules, ZoneTransitionCache)}.
+ * 
+ * <h4>Implementation notes</h4>
+ * This is an abstract class that must be implemented with care to ensure
+ * other classes operate correctly.
+ * All implementations must be thread-safe.
+ * The array of transitions passed to {@link #store} must not be altered.
+ */
+public abstract class ZoneTransitionCache {
+
+    /**
+     * The default policy.
+     */
+    static final Policy DEFAULT_POLICY = defaultPolicy(System.getProperty("javax.time.zone.ZoneTransitionCache.policy"));
+    /**
+     * The maximum capacity, which is the largest power of two that is a valid array length.
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+    /**
+     * The maximum capacity of a least recently used cache, which scans every slot on a miss.
+     */
+    static final int MAX_LRU_CAPACITY = 128;
+    /**
+     * The default capacity.
+     */
+    static final int DEFAULT_CAPACITY = defaultCapacity(Integer.getInteger("javax.time.zone.ZoneTransitionCache.capacity", 64));
+    /**
+     * The default maximum year, caching the years before 2100.
+     */
+    static final int DEFAULT_MAX_YEAR = Integer.getInteger("javax.time.zone.ZoneTransitionCache.maxYear", 2099);
+    /**
+     * Whether the default cache records statistics.
+     */
+    static final boolean DEFAULT_STATISTICS = Boolean.getBoolean("javax.time.zone.ZoneTransitionCache.statistics");
+
+    /**
+     * The last year to be cached.
+     */
+    private final int maxYear;
+    /**
+     * Whether hits and misses are counted.
+     */
+    private final boolean recordStatistics;
+    /**
+     * The number of lookups that found the year.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+    /**
+     * The number of lookups that did not find the year.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * The eviction policy of a cache.
+     */
+    public enum Policy {
+        /**
+         * No years are cached.
+         */
+        NONE,
+        /**
+         * Each year is stored in the slot chosen by the year modulo the capacity,
+         * evicting the year previously in that slot.
+         * Consecutive years never evict each other while the range is smaller than the capacity.
+         * The capacity is rounded up to a power of two, so that the slot is chosen by a mask.
+         * This policy is lock-free.
+         */
+        DIRECT_MAPPED,
+        /**
+         * When full, the least recently used year is evicted.
+         * The capacity is limited to 128 years, as the slots are allocated up front
+         * and a lookup that misses the last used year scans every slot.
+         * This policy synchronizes on the cache.
+         */
+        LEAST_RECENTLY_USED,
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Obtains a cache using the specified policy that does not record statistics.
+     *
+     * @param policy  the eviction policy, not null
+     * @param capacity  the maximum number of years to cache, from 1 to 2^30,
+     *  rounded up to a power of two for a direct-mapped cache,
+     *  limited to 128 for a least recently used cache
+     * @param maxYear  the last year to cache
+     * @return the cache, not null
+     * @throws IllegalArgumentException if the capacity is invalid
+     */
+    public static ZoneTransitionCache of(Policy policy, int capacity, int maxYear) {
+        return of(policy, capacity, maxYear, false);
+    }
+
+    /**
+     * Obtains a cache using the specified policy.
+     *
+     * @param policy  the eviction policy, not null
+     * @param capacity  the maximum number of years to cache, from 1 to 2^30,
+     *  rounded up to a power of two for a direct-mapped cache,
+     *  limited to 128 for a least recently used cache
+     * @param maxYear  the last year to cache
+     * @param recordStatistics  true to count hits and misses
+     * @return the cache, not null
+     * @throws IllegalArgumentException if the capacity is invalid
+     */
+    public static ZoneTransitionCache of(Policy policy, int capacity, int maxYear, boolean recordStatistics) {
+        DateTimes.checkNotNull(policy, "Policy must not be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least one: " + capacity);
+        }
+        if (capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must not exceed 2^30: " + capacity);
+        }
+        switch (policy) {
+            case NONE:
+                return new NoCache(maxYear, recordStatistics);
+            case DIRECT_MAPPED:
+                return new DirectMappedCache(capacity, maxYear, recordStatistics);
+            default:
+                return new LeastRecentlyUsedCache(capacity, maxYear, recordStatistics);
+        }
+    }
+
+    /**
+     * Obtains a new default cache.
+     *
+     * @return the cache, not null
+     */
+    static ZoneTransitionCache ofDefault() {
+        return of(DEFAULT_POLICY, DEFAULT_CAPACITY, DEFAULT_MAX_YEAR, DEFAULT_STATISTICS);
+    }
+
+    /**
+     * Limits the default capacity to the valid range.
+     *
+     * @param capacity  the capacity from the system property
+     * @return the capacity, from 1 to {@link #MAX_CAPACITY}
+     */
+    static int defaultCapacity(int capacity) {
+        return Math.min(Math.max(capacity, 1), MAX_CAPACITY);
+    }
+
+    /**
+     * Parses the default policy, falling back to direct-mapped.
+     *
+     * @param name  the name of the policy, null if not specified
+     * @return the policy, not null
+     */
+    static Policy defaultPolicy(String name) {
+        if (name != null) {
+            try {
+                return Policy.valueOf(name);
+            } catch (IllegalArgumentException ex) {
+                // ignore the invalid property
+            }
+        }
+        return Policy.DIRECT_MAPPED;
+    }
+
+    /**
+     * Gets the cache used by a set of zone rules.
+     *
+     * @param rules  the rules to query, not null
+     * @return the cache, null if the rules do not create transitions
+     */
+    public static ZoneTransitionCache getCache(ZoneRules rules) {
+        DateTimes.checkNotNull(rules, "ZoneRules must not be null");
+        if (rules instanceof StandardZoneRules) {
+            return ((StandardZoneRules) rules).getTransitionCache();
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of a set of zone rules that uses the specified cache.
+     * <p>
+     * The returned rules are equal to the input rules.
+     * If the rules do not create transitions, the input rules are returned.
+     * The cache should not be shared with any other set of rules.
+     *
+     * @param rules  the rules to copy, not null
+     * @param cache  the cache to use, not null
+     * @return the rules using the cache, not null
+     */
+    public static ZoneRules withCache(ZoneRules rules, ZoneTransitionCache cache) {
+        DateTimes.checkNotNull(rules, "ZoneRules must not be null");
+        DateTimes.checkNotNull(cache, "ZoneTransitionCache must not be null");
+        if (rules instanceof StandardZoneRules) {
+            return ((StandardZoneRules) rules).withTransitionCache(cache);
+        }
+        return rules;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Constructor for a cache that does not record statistics.
+     *
+     * @param maxYear  the last year to cache
+     */
+    protected ZoneTransitionCache(int maxYear) {
+        this(maxYear, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maxYear  the last year to cache
+     * @param recordStatistics  true to count hits and misses
+     */
+    protected ZoneTransitionCache(int maxYear, boolean recordStatistics) {
+        this.maxYear = maxYear;
+        this.recordStatistics = recordStatistics;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Gets the last year that is cached.
+     *
+     * @return the maximum year
+     */
+    public final int getMaxYear() {
+        return maxYear;
+    }
+
+    /**
+     * Checks if this cache counts hits and misses.
+     *
+     * @return true if statistics are recorded
+     */
+    public final boolean isRecordingStatistics() {
+        return recordStatistics;
+    }
+
+    /**
+     * Gets the number of lookups that found the year in the cache.
+     *
+     * @return the hit count, zero if statistics are not recorded
+     */
+    public final long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups that did not find the year in the cache.
+     * <p>
+     * This includes lookups of years after the maximum year.
+     *
+     * @return the miss count, zero if statistics are not recorded
+     */
+    public final long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the transitions for a year, creating and caching them if necessary.
+     *
+     * @param year  the year
+     * @param rules  the rules to create the transitions from if not cached, not null
+     * @return the transitions, not null
+     */
+    final ZoneOffsetTransition[] getTransitions(int year, ZoneOffsetTransitionRule[] rules) {
+        if (year <= maxYear) {
+            ZoneOffsetTransition[] transArray = lookup(year);
+            if (transArray != null) {
+                if (recordStatistics) {
+                    hitCount.incrementAndGet();
+                }
+                return transArray;
+            }
+        }
+        if (recordStatistics) {
+            missCount.incrementAndGet();
+        }
+        ZoneOffsetTransition[] transArray = new ZoneOffsetTransition[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            transArray[i] = rules[i].createTransition(year);
+        }
+        if (year <= maxYear) {
+            store(year, transArray);
+        }
+        return transArray;
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Looks up the transitions for a year.
+     * <p>
+     * This is only called for years up to and including the maximum year.
+     *
+     * @param year  the year
+     * @return the cached transitions, null if not cached
+     */
+    protected abstract ZoneOffsetTransition[] lookup(int year);
+
+    /**
+     * Stores the transitions for a year, evicting other years as necessary.
+     * <p>
+     * This is only called for years up to and including the maximum year.
+     *
+     * @param year  the year
+     * @param transitions  the transitions, not altered, not null
+     */
+    protected abstract void store(int year, ZoneOffsetTransition[] transitions);
+
+    //-----------------------------------------------------------------------
+    /**
+     * Cache that caches nothing.
+     */
+    static final class NoCache extends ZoneTransitionCache {
+        NoCache(int maxYear, boolean recordStatistics) {
+            super(maxYear, recordStatistics);
+        }
+        @Override
+        protected ZoneOffsetTransition[] lookup(int year) {
+            return null;
+        }
+        @Override
+        protected void store(int year, ZoneOffsetTransition[] transitions) {
+            // not cached
+        }
+        @Override
+        public String toString() {
+            return "ZoneTransitionCache[NONE]";
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Direct-mapped cache.
+     * <p>
+     * Each slot holds an immutable entry, thus a racing reader sees either
+     * a complete entry or the previous content of the slot.
+     */
+    static final class DirectMappedCache extends ZoneTransitionCache {
+        /** The slots, length a power of two. */
+        private final Entry[] slots;
+
+        DirectMappedCache(int capacity, int maxYear, boolean recordStatistics) {
+            super(maxYear, recordStatistics);
+            this.slots = new Entry[slotCount(capacity)];
+        }
+        /**
+         * Rounds the capacity up to a power of two.
+         *
+         * @param capacity  the capacity, from 1
+         * @return the number of slots, from 1 to {@link ZoneTransitionCache#MAX_CAPACITY}
+         */
+        static int slotCount(int capacity) {
+            int slots = Integer.highestOneBit(Math.min(capacity, MAX_CAPACITY));
+            return (slots == capacity || slots == MAX_CAPACITY ? slots : slots << 1);
+        }
+        @Override
+        protected ZoneOffsetTransition[] lookup(int year) {
+            Entry entry = slots[year & (slots.length - 1)];
+            return (entry != null && entry.year == year ? entry.transitions : null);
+        }
+        @Override
+        protected void store(int year, ZoneOffsetTransition[] transitions) {
+            slots[year & (slots.length - 1)] = new Entry(year, transitions);
+        }
+        @Override
+        public String toString() {
+            return "ZoneTransitionCache[DIRECT_MAPPED," + slots.length + "]";
+        }
+    }
+
+    /**
+     * Entry in a direct-mapped cache.
+     */
+    static final class Entry {
+        /** The year. */
+        final int year;
+        /** The transitions. */
+        final ZoneOffsetTransition[] transitions;
+
+        Entry(int year, ZoneOffsetTransition[] transitions) {
+            this.year = year;
+            this.transitions = transitions;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Least recently used cache.
+     */
+    static final class LeastRecentlyUsedCache extends ZoneTransitionCache {
+        /** The cached years. */
+        private final int[] years;
+        /** The cached transitions, null if the slot is empty. */
+        private final ZoneOffsetTransition[][] transitions;
+        /** The time each slot was last used. */
+        private final long[] lastUsed;
+        /** The clock. */
+        private long clock;
+        /** The slot used most recently. */
+        private int lastSlot;
+
+        LeastRecentlyUsedCache(int capacity, int maxYear, boolean recordStatistics) {
+            super(maxYear, recordStatistics);
+            int slots = Math.min(capacity, MAX_LRU_CAPACITY);
+            this.years = new int[slots];
+            this.transitions = new ZoneOffsetTransition[slots][];
+            this.lastUsed = new long[slots];
+        }
+        @Override
+        protected synchronized ZoneOffsetTransition[] lookup(int year) {
+            if (years[lastSlot] == year && transitions[lastSlot] != null) {
+                return transitions[lastSlot];  // already the most recently used
+            }
+            for (int i = 0; i < years.length; i++) {
+                if (years[i] == year && transitions[i] != null) {
+                    lastUsed[i] = ++clock;
+                    lastSlot = i;
+                    return transitions[i];
+                }
+            }
+            return null;
+        }
+        @Override
+        protected synchronized void store(int year, ZoneOffsetTransition[] trans) {
+            int victim = 0;
+            for (int i = 0; i < years.length; i++) {
+                if (transitions[i] == null || years[i] == year) {
+                    victim = i;
+                    break;
+                }
+                if (lastUsed[i] < lastUsed[victim]) {
+                    victim = i;
+                }
+            }
+            years[victim] = year;
+            transitions[victim] = trans;
+            lastUsed[victim] = ++clock;
+            lastSlot = victim;
+        }
+        @Override
+        public String toString() {
+            return "ZoneTransitionCache[LEAST_RECENTLY_USED," + years.length + "]";
+        }
+    }
+
+}
@@ -75,6 +75,11 @@ public enum MockFieldNoValue implements DateTimeField {
         return DateTimeValueRange.of(1, 20);
     }
 
+    @Override
+    public boolean doIsSupported(DateTime dateTime) {
+        return false;
+    }
+
     @Override
     public long doGet(DateTime dateTime) {
         throw new DateTimeException("Mock");
@@ -54,6 +54,11 @@ public final class MockFieldValue implements DateTime {
         return field.doRange(this);
     }
 
+    @Override
+    public boolean isSupported(DateTimeField field) {
+        return this.field.equals(field);
+    }
+
     @Override
     public long get(DateTimeField field) {
         if (this.field.equals(field)) {
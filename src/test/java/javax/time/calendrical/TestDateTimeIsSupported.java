@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.calendrical;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.time.DateTimeException;
+import javax.time.DayOfWeek;
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.Month;
+import javax.time.MonthDay;
+import javax.time.OffsetDate;
+import javax.time.OffsetDateTime;
+import javax.time.OffsetTime;
+import javax.time.QuarterOfYear;
+import javax.time.Year;
+import javax.time.YearMonth;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test DateTime.isSupported() is consistent with DateTime.get().
+ */
+@Test
+public class TestDateTimeIsSupported {
+
+    @DataProvider(name="DateTimes")
+    Object[][] provider_sampleDateTimes() {
+        DateTimeBuilder builder = new DateTimeBuilder(LocalDateTimeField.YEAR, 2008);
+        builder.addFieldValue(QuarterYearField.QUARTER_OF_YEAR, 3);
+        return new Object[][] {
+            {LocalDate.of(2008, 7, 5)},
+            {LocalTime.of(12, 30)},
+            {LocalDateTime.of(2008, 7, 5, 12, 30)},
+            {OffsetDate.of(2008, 7, 5, ZoneOffset.ofHours(5))},
+            {OffsetTime.of(12, 30, ZoneOffset.ofHours(5))},
+            {OffsetDateTime.of(2008, 7, 5, 12, 30, ZoneOffset.ofHours(5))},
+            {ZonedDateTime.of(2008, 7, 5, 12, 30, 0, 0, ZoneId.of("Europe/Paris"))},
+            {Instant.ofEpochSecond(1234567890L, 123)},
+            {Year.of(2008)},
+            {YearMonth.of(2008, 7)},
+            {MonthDay.of(7, 5)},
+            {Month.JULY},
+            {DayOfWeek.FRIDAY},
+            {QuarterOfYear.Q3},
+            {ZoneOffset.ofHours(5)},
+            {builder},
+            {new MockFieldValue(LocalDateTimeField.DAY_OF_MONTH, 5)},
+        };
+    }
+
+    private static List<DateTimeField> fields() {
+        List<DateTimeField> fields = new ArrayList<>();
+        for (LocalDateTimeField field : LocalDateTimeField.values()) {
+            fields.add(field);
+        }
+        for (QuarterYearField field : QuarterYearField.values()) {
+            fields.add(field);
+        }
+        for (JulianDayField field : JulianDayField.values()) {
+            fields.add(field);
+        }
+        fields.add(MockFieldNoValue.INSTANCE);
+        return fields;
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="DateTimes", groups={"tck"})
+    public void test_isSupported_matchesGet(DateTime dateTime) {
+        for (DateTimeField field : fields()) {
+            boolean gettable;
+            try {
+                dateTime.get(field);
+                gettable = true;
+            } catch (DateTimeException ex) {
+                gettable = false;
+            }
+            assertEquals(dateTime.isSupported(field), gettable, dateTime.getClass().getSimpleName() + " " + field.getName());
+        }
+    }
+
+}
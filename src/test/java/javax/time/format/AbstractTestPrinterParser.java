@@ -72,6 +72,10 @@ public class AbstractTestPrinterParser {
             return field.range();
         }
         @Override
+        public boolean isSupported(DateTimeField field) {
+            return false;
+        }
+        @Override
         public long get(DateTimeField field) {
             throw new DateTimeException("Mock");
         }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ByteCharSequence.
+ */
+@Test
+public class TestByteCharSequence {
+
+    @DataProvider(name="views")
+    Object[][] data_views() {
+        byte[] bytes = "xx2012-06-30\u00e9yy".getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes);
+        direct.position(2).limit(13);
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        heap.position(2).limit(13);
+        return new Object[][] {
+            {new ByteCharSequence(bytes, 2, 11)},
+            {new ByteCharSequence(heap.slice())},
+            {new ByteCharSequence(heap)},
+            {new ByteCharSequence(direct)},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="views", groups={"implementation"})
+    public void test_view(ByteCharSequence test) {
+        assertEquals(test.length(), 11);
+        assertEquals(test.charAt(0), '2');
+        assertEquals(test.charAt(10), '\u00e9');
+        assertEquals(test.toString(), "2012-06-30\u00e9");
+    }
+
+    @Test(dataProvider="views", groups={"implementation"})
+    public void test_subSequence(ByteCharSequence test) {
+        CharSequence sub = test.subSequence(5, 7);
+        assertEquals(sub.length(), 2);
+        assertEquals(sub.charAt(1), '6');
+        assertEquals(sub.toString(), "06");
+        assertEquals(test.subSequence(3, 3).toString(), "");
+    }
+
+    @Test(dataProvider="views", expectedExceptions=IndexOutOfBoundsException.class, groups={"implementation"})
+    public void test_charAt_tooBig(ByteCharSequence test) {
+        test.charAt(11);
+    }
+
+    @Test(dataProvider="views", expectedExceptions=IndexOutOfBoundsException.class, groups={"implementation"})
+    public void test_charAt_negative(ByteCharSequence test) {
+        test.charAt(-1);
+    }
+
+    @Test(dataProvider="views", expectedExceptions=IndexOutOfBoundsException.class, groups={"implementation"})
+    public void test_subSequence_invalid(ByteCharSequence test) {
+        test.subSequence(4, 12);
+    }
+
+}
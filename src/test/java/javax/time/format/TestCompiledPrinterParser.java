@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
+import static javax.time.calendrical.LocalDateTimeField.HOUR_OF_DAY;
+import static javax.time.calendrical.LocalDateTimeField.MINUTE_OF_HOUR;
+import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
+import static javax.time.calendrical.LocalDateTimeField.YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.util.Locale;
+
+import javax.time.DateTimeException;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.calendrical.DateTime;
+import javax.time.format.DateTimeFormatterBuilder.CharLiteralPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.CompiledPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.DateTimePrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.NumberPrinterParser;
+import javax.time.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test CompiledPrinterParser.
+ */
+@Test(groups={"implementation"})
+public class TestCompiledPrinterParser extends AbstractTestPrinterParser {
+
+    private static final DateTimeFormatSymbols ARABIC = DateTimeFormatSymbols.STANDARD.withZeroDigit('\u0660');
+
+    private static CompositePrinterParser date() {
+        return new CompositePrinterParser(new DateTimePrinterParser[] {
+            new NumberPrinterParser(YEAR, 4, 10, SignStyle.EXCEEDS_PAD),
+            new CharLiteralPrinterParser('-'),
+            new NumberPrinterParser(MONTH_OF_YEAR, 2, 2, SignStyle.NOT_NEGATIVE),
+            new CharLiteralPrinterParser('-'),
+            new NumberPrinterParser(DAY_OF_MONTH, 2, 2, SignStyle.NOT_NEGATIVE),
+            new StringLiteralPrinterParser(" at "),
+            new NumberPrinterParser(HOUR_OF_DAY, 2, 2, SignStyle.NOT_NEGATIVE),
+            new NumberPrinterParser(MINUTE_OF_HOUR, 2, 2, SignStyle.NOT_NEGATIVE),
+        }, false);
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_compile() {
+        CompositePrinterParser original = date();
+        CompositePrinterParser compiled = original.compile();
+        assertEquals(compiled.printerParsers.length, 1);
+        assertTrue(compiled.printerParsers[0] instanceof CompiledPrinterParser);
+        assertEquals(compiled.toString(), original.toString());
+    }
+
+    public void test_compile_nested() {
+        CompositePrinterParser original = new CompositePrinterParser(new DateTimePrinterParser[] {
+            DateTimeFormatterBuilder.SettingsParser.INSENSITIVE,
+            date(),
+            new CharLiteralPrinterParser('T'),
+            new NumberPrinterParser(YEAR, 1, 19, SignStyle.NORMAL),
+        }, true);
+        CompositePrinterParser compiled = original.compile();
+        assertEquals(compiled.printerParsers.length, 4);
+        assertEquals(compiled.optional, true);
+        assertTrue(((CompositePrinterParser) compiled.printerParsers[1]).printerParsers[0] instanceof CompiledPrinterParser);
+        assertTrue(compiled.printerParsers[2] instanceof CharLiteralPrinterParser);
+        assertEquals(compiled.toString(), original.toString());
+    }
+
+    public void test_isoFormatters() {
+        assertTrue(DateTimeFormatters.isoLocalDate().toPrinterParser(false).printerParsers[0] instanceof CompiledPrinterParser);
+        assertTrue(DateTimeFormatters.basicIsoDate().toPrinterParser(false).printerParsers[1] instanceof CompiledPrinterParser);
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="print")
+    Object[][] data_print() {
+        return new Object[][] {
+            {LocalDateTime.of(2012, 6, 30, 12, 30)},
+            {LocalDateTime.of(0, 1, 1, 0, 0)},
+            {LocalDateTime.of(9999, 12, 31, 23, 59)},
+            {LocalDateTime.of(10000, 1, 1, 0, 0)},
+            {LocalDateTime.of(-1, 1, 1, 0, 0)},
+            {LocalDateTime.of(999999999, 1, 1, 0, 0)},
+            {LocalDate.of(2012, 6, 30)},
+            {LocalTime.of(12, 30)},
+        };
+    }
+
+    @Test(dataProvider="print")
+    public void test_print(DateTime dateTime) {
+        test_print(dateTime, DateTimeFormatSymbols.STANDARD);
+        test_print(dateTime, ARABIC);
+    }
+
+    private void test_print(DateTime dateTime, DateTimeFormatSymbols symbols) {
+        CompositePrinterParser original = date();
+        CompositePrinterParser compiled = original.compile();
+        String expected = null;
+        StringBuilder buf = new StringBuilder("EXISTING");
+        try {
+            original.print(new DateTimePrintContext(dateTime, Locale.ENGLISH, symbols), buf);
+            expected = buf.toString();
+        } catch (DateTimeException ex) {
+            expected = ex.getClass().getName();
+        }
+        buf = new StringBuilder("EXISTING");
+        try {
+            compiled.print(new DateTimePrintContext(dateTime, Locale.ENGLISH, symbols), buf);
+            assertEquals(buf.toString(), expected);
+        } catch (DateTimeException ex) {
+            assertEquals(ex.getClass().getName(), expected);
+        }
+    }
+
+    public void test_print_optional() {
+        CompositePrinterParser compiled = date().withOptional(true).compile();
+        StringBuilder buf = new StringBuilder("EXISTING");
+        compiled.print(new DateTimePrintContext(LocalDate.of(2012, 6, 30), Locale.ENGLISH, DateTimeFormatSymbols.STANDARD), buf);
+        assertEquals(buf.toString(), "EXISTING");
+    }
+
+    public void test_print_exceedsWidth() {
+        CompositePrinterParser compiled = new CompositePrinterParser(new DateTimePrinterParser[] {
+            new NumberPrinterParser(YEAR, 2, 2, SignStyle.NOT_NEGATIVE),
+            new CharLiteralPrinterParser('-'),
+        }, false).compile();
+        try {
+            compiled.print(printContext, buf);
+            fail();
+        } catch (DateTimePrintException ex) {
+            assertEquals(buf.length(), 0);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="parse")
+    Object[][] data_parse() {
+        return new Object[][] {
+            {"2012-06-30 at 1230", 0, true, true},
+            {"2012-06-30 at 1230", 0, false, false},
+            {"XX2012-06-30 at 1230XX", 2, true, true},
+            {"2012-06-30 AT 1230", 0, true, true},
+            {"2012-06-30 AT 1230", 0, false, true},
+            {"2012-06-30 at 123", 0, true, true},
+            {"2012-06-30 at 12301", 0, true, true},
+            {"20120-06-30 at 1230", 0, true, true},
+            {"+20120-06-30 at 1230", 0, true, true},
+            {"+2012-06-30 at 1230", 0, true, true},
+            {"+2012-06-30 at 1230", 0, true, false},
+            {"-2012-06-30 at 1230", 0, true, true},
+            {"2012-6-30 at 1230", 0, true, true},
+            {"2012-06-30 at 1230", 18, true, true},
+            {"", 0, true, true},
+            {"\u0662\u0660\u0661\u0662-\u0660\u0666-\u0663\u0660 at \u0661\u0662\u0663\u0660", 0, true, true},
+        };
+    }
+
+    @Test(dataProvider="parse")
+    public void test_parse(String text, int pos, boolean caseSensitive, boolean strict) {
+        DateTimeFormatSymbols symbols = (text.length() > 0 && text.charAt(0) > 0xFF ? ARABIC : DateTimeFormatSymbols.STANDARD);
+        DateTimeParseContext expected = new DateTimeParseContext(Locale.ENGLISH, symbols);
+        expected.setCaseSensitive(caseSensitive);
+        expected.setStrict(strict);
+        int expectedPos = date().parse(expected, text, pos);
+        DateTimeParseContext actual = new DateTimeParseContext(Locale.ENGLISH, symbols);
+        actual.setCaseSensitive(caseSensitive);
+        actual.setStrict(strict);
+        int actualPos = date().compile().parse(actual, text, pos);
+        assertEquals(actualPos, expectedPos);
+        if (actualPos >= 0) {
+            assertEquals(actual.getParsed().toString(), expected.getParsed().toString());
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_formatters_roundTrip() {
+        DateTimeFormatter f = DateTimeFormatters.isoLocalDateTime();
+        LocalDateTime dt = LocalDateTime.of(2012, 6, 30, 12, 30, 40, 500);
+        assertEquals(f.print(dt), "2012-06-30T12:30:40.0000005");
+        assertEquals(f.parse(f.print(dt), LocalDateTime.class), dt);
+        assertEquals(DateTimeFormatters.basicIsoDate().print(LocalDate.of(2012, 6, 30)), "20120630");
+        assertEquals(DateTimeFormatters.isoLocalDate().print(LocalDate.of(12345, 6, 30)), "+12345-06-30");
+        assertEquals(DateTimeFormatters.isoLocalDate().parseLocalDate("+12345-06-30"), LocalDate.of(12345, 6, 30));
+        assertEquals(DateTimeFormatters.isoLocalDate().parseLocalDate("2012-06-30"), LocalDate.of(2012, 6, 30));
+    }
+
+}
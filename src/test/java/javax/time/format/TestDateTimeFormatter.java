@@ -32,10 +32,17 @@
 package javax.time.format;
 
 import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
+import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertSame;
 
+import static org.testng.Assert.assertTrue;
+
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.Format;
 import java.text.ParseException;
 import java.text.ParsePosition;
@@ -45,17 +52,24 @@ import java.util.Locale;
 
 import javax.time.DateTimeException;
 import javax.time.LocalDate;
+import javax.time.LocalDateTime;
 import javax.time.LocalTime;
 import javax.time.OffsetDate;
+import javax.time.ZoneId;
 import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
 import javax.time.calendrical.DateTime;
 import javax.time.calendrical.DateTimeBuilder;
+import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.DateTimeValueRange;
+import javax.time.chrono.ISOChronology;
 import javax.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
 import javax.time.format.DateTimeFormatterBuilder.DateTimePrinterParser;
 import javax.time.format.DateTimeFormatterBuilder.NumberPrinterParser;
 import javax.time.format.DateTimeFormatterBuilder.StringLiteralPrinterParser;
 
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -99,6 +113,42 @@ public class TestDateTimeFormatter {
         assertSame(test, base);
     }
 
+    @Test(groups={"implementation"})
+    public void test_withLocale_noLocaleData_sharesPrinterParser() throws Exception {
+        DateTimeFormatter base = new DateTimeFormatter(compPP, Locale.ENGLISH, DateTimeFormatSymbols.STANDARD);
+        DateTimeFormatter test = base.withLocale(Locale.GERMAN);
+        assertSame(test.toPrinterParser(false), compPP);
+    }
+
+    @Test(groups={"tck"})
+    public void test_withLocale_text() throws Exception {
+        DateTimeFormatter base = new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR).toFormatter(Locale.ENGLISH);
+        assertEquals(base.print(LocalDate.of(2012, 1, 1)), "January");
+        DateTimeFormatter test = base.withLocale(Locale.FRENCH);
+        assertEquals(test.print(LocalDate.of(2012, 1, 1)), "janvier");
+        assertEquals(test.parseToBuilder("janvier").getFieldValue(MONTH_OF_YEAR), 1);
+        assertEquals(base.print(LocalDate.of(2012, 1, 1)), "January");
+    }
+
+    @Test(groups={"tck"})
+    public void test_withLocale_text_embedded() throws Exception {
+        DateTimeFormatter english = new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR).toFormatter(Locale.ENGLISH);
+        DateTimeFormatter test = new DateTimeFormatterBuilder().append(english).toFormatter(Locale.FRENCH);
+        assertEquals(test.print(LocalDate.of(2012, 1, 1)), "janvier");
+    }
+
+    @Test(groups={"tck"})
+    public void test_withLocale_localized() throws Exception {
+        DateTimeFormatter base = DateTimeFormatters.localizedDate(FormatStyle.LONG).withLocale(Locale.ENGLISH);
+        DateTimeFormatter test = base.withLocale(Locale.FRENCH);
+        DateTimeFormatter french = DateTimeFormatters.getFormatStyleProvider().getFormatter(
+                FormatStyle.LONG, null, ISOChronology.INSTANCE, Locale.FRENCH);
+        DateTimeFormatter english = DateTimeFormatters.getFormatStyleProvider().getFormatter(
+                FormatStyle.LONG, null, ISOChronology.INSTANCE, Locale.ENGLISH);
+        assertEquals(test.print(LocalDate.of(2012, 1, 1)), french.print(LocalDate.of(2012, 1, 1)));
+        assertEquals(base.print(LocalDate.of(2012, 1, 1)), english.print(LocalDate.of(2012, 1, 1)));
+    }
+
     @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
     public void test_withLocale_null() throws Exception {
         DateTimeFormatter base = new DateTimeFormatter(compPP, Locale.ENGLISH, DateTimeFormatSymbols.STANDARD);
@@ -167,6 +217,245 @@ public class TestDateTimeFormatter {
         }
     }
 
+    //-----------------------------------------------------------------------
+    // printTo(DateTime,byte[],int) / printTo(DateTime,ByteBuffer) / printTo(DateTime,CharBuffer)
+    //-----------------------------------------------------------------------
+    @DataProvider(name="printToBuffer")
+    Object[][] data_printToBuffer() {
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 12, 30, 40);
+        return new Object[][] {
+            {DateTimeFormatters.isoLocalDate(), ldt},
+            {DateTimeFormatters.basicIsoDate(), ldt},
+            {DateTimeFormatters.isoLocalDateTime(), ldt},
+            {DateTimeFormatters.isoLocalDate(), LocalDate.of(12345, 1, 2)},
+            {DateTimeFormatters.isoZonedDateTime(), ZonedDateTime.of(ldt, ZoneId.of("Europe/Paris"))},
+        };
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_byteArray(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        String expected = test.print(dateTime);
+        byte[] array = new byte[expected.length() + 6];
+        int length = test.printTo(dateTime, array, 3);
+        assertEquals(length, expected.length());
+        assertEquals(new String(array, 3, length, StandardCharsets.US_ASCII), expected);
+        assertEquals(array[2], 0);
+        assertEquals(array[length + 3], 0);
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_heapByteBuffer(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        String expected = test.print(dateTime);
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length() + 10);
+        buffer.position(2);
+        test.printTo(dateTime, buffer);
+        assertEquals(buffer.position(), expected.length() + 2);
+        buffer.flip();
+        buffer.position(2);
+        assertEquals(StandardCharsets.US_ASCII.decode(buffer).toString(), expected);
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_directByteBuffer(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        String expected = test.print(dateTime);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length());
+        test.printTo(dateTime, buffer);
+        assertEquals(buffer.position(), expected.length());
+        buffer.flip();
+        assertEquals(StandardCharsets.US_ASCII.decode(buffer).toString(), expected);
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_directByteBuffer_position(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        String expected = test.print(dateTime);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length() + 4);
+        buffer.put((byte) '>');
+        test.printTo(dateTime, buffer);
+        assertEquals(buffer.position(), expected.length() + 1);
+        assertEquals(buffer.get(expected.length() + 1), 0);
+        buffer.flip();
+        assertEquals(StandardCharsets.US_ASCII.decode(buffer).toString(), ">" + expected);
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_directByteBuffer_overflow(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(test.print(dateTime).length() + 2);
+        buffer.position(3);
+        try {
+            test.printTo(dateTime, buffer);
+            throw new AssertionError("Expected BufferOverflowException");
+        } catch (BufferOverflowException ex) {
+            assertEquals(buffer.position(), 3);
+        }
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_CharBuffer(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        String expected = test.print(dateTime);
+        CharBuffer buffer = CharBuffer.allocate(expected.length() + 1);
+        buffer.put('>');
+        test.printTo(dateTime, buffer);
+        assertEquals(buffer.position(), expected.length() + 1);
+        buffer.flip();
+        assertEquals(buffer.toString(), ">" + expected);
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_byteArray_tooSmall(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        byte[] array = new byte[test.print(dateTime).length() - 1];
+        try {
+            test.printTo(dateTime, array, 0);
+            throw new AssertionError("Expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException ex) {
+            // expected
+        }
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_ByteBuffer_overflow(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocate(test.print(dateTime).length() + 2);
+        buffer.position(3);
+        try {
+            test.printTo(dateTime, buffer);
+            throw new AssertionError("Expected BufferOverflowException");
+        } catch (BufferOverflowException ex) {
+            assertEquals(buffer.position(), 3);
+        }
+    }
+
+    @Test(dataProvider="printToBuffer", groups={"tck"})
+    public void test_printTo_CharBuffer_overflow(DateTimeFormatter test, DateTime dateTime) throws Exception {
+        CharBuffer buffer = CharBuffer.allocate(test.print(dateTime).length() - 1);
+        try {
+            test.printTo(dateTime, buffer);
+            throw new AssertionError("Expected BufferOverflowException");
+        } catch (BufferOverflowException ex) {
+            assertEquals(buffer.position(), 0);
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_printTo_byteArray_invalidOffset() throws Exception {
+        DateTimeFormatters.isoLocalDate().printTo(LocalDate.of(2012, 6, 30), new byte[20], 21);
+    }
+
+    @Test(expectedExceptions=DateTimePrintException.class, groups={"tck"})
+    public void test_printTo_byteArray_nonAscii() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder()
+            .appendValue(DAY_OF_MONTH, 2).appendLiteral('\u00e9').toFormatter(Locale.ENGLISH);
+        test.printTo(LocalDate.of(2012, 6, 30), new byte[20], 0);
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_CharBuffer_nonAscii() throws Exception {
+        DateTimeFormatter test = new DateTimeFormatterBuilder()
+            .appendValue(DAY_OF_MONTH, 2).appendLiteral('\u00e9').appendValue(DAY_OF_MONTH, 2).toFormatter(Locale.ENGLISH);
+        CharBuffer buffer = CharBuffer.allocate(5);
+        test.printTo(LocalDate.of(2012, 6, 30), buffer);
+        buffer.flip();
+        assertEquals(buffer.toString(), "30\u00e930");
+    }
+
+    @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
+    public void test_printTo_byteArray_noSuchField() throws Exception {
+        DateTimeFormatters.isoLocalDate().printTo(LocalTime.of(11, 30), new byte[20], 0);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_byteArray_nullCalendrical() throws Exception {
+        DateTimeFormatters.isoLocalDate().printTo((DateTime) null, new byte[20], 0);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_printTo_ByteBuffer_nullBuffer() throws Exception {
+        DateTimeFormatters.isoLocalDate().printTo(LocalDate.of(2012, 6, 30), (ByteBuffer) null);
+    }
+
+    //-----------------------------------------------------------------------
+    // parse(byte[],int,int,Class) / parse(ByteBuffer,Class)
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parse_byteArrayRange() throws Exception {
+        byte[] array = "xx2012-06-30T12:30yy".getBytes(StandardCharsets.US_ASCII);
+        LocalDateTime test = DateTimeFormatters.isoLocalDateTime().parse(array, 2, 16, LocalDateTime.class);
+        assertEquals(test, LocalDateTime.of(2012, 6, 30, 12, 30));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_byteArrayRange_general() throws Exception {
+        byte[] array = "2012-06-30T12:30+02:00[Europe/Paris]".getBytes(StandardCharsets.US_ASCII);
+        ZonedDateTime test = DateTimeFormatters.isoZonedDateTime().parse(array, 0, array.length, ZonedDateTime.class);
+        assertEquals(test, ZonedDateTime.of(LocalDateTime.of(2012, 6, 30, 12, 30), ZoneId.of("Europe/Paris")));
+    }
+
+    @Test(expectedExceptions=DateTimeParseException.class, groups={"tck"})
+    public void test_parse_byteArrayRange_parseIncomplete() throws Exception {
+        byte[] array = "2012-06-30T12:30yy".getBytes(StandardCharsets.US_ASCII);
+        DateTimeFormatters.isoLocalDate().parse(array, 0, 12, LocalDate.class);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_byteArrayRange_parseErrorText() throws Exception {
+        byte[] array = "xx2012-06-3Xyy".getBytes(StandardCharsets.US_ASCII);
+        try {
+            DateTimeFormatters.isoLocalDate().parse(array, 2, 10, LocalDate.class);
+            throw new AssertionError("Expected DateTimeParseException");
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getParsedString(), "2012-06-3X");
+            assertEquals(ex.getErrorIndex(), 8);
+        }
+    }
+
+    @Test(expectedExceptions=IndexOutOfBoundsException.class, groups={"tck"})
+    public void test_parse_byteArrayRange_invalidRange() throws Exception {
+        DateTimeFormatters.isoLocalDate().parse(new byte[10], 2, 9, LocalDate.class);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_heapByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("xx2012-06-30yy".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2).limit(12);
+        LocalDate test = DateTimeFormatters.isoLocalDate().parse(buffer, LocalDate.class);
+        assertEquals(test, LocalDate.of(2012, 6, 30));
+        assertEquals(buffer.position(), 12);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_directByteBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(20);
+        buffer.put("2012-06-30T12:30".getBytes(StandardCharsets.US_ASCII));
+        buffer.flip();
+        LocalDateTime test = DateTimeFormatters.isoLocalDateTime().parse(buffer, LocalDateTime.class);
+        assertEquals(test, LocalDateTime.of(2012, 6, 30, 12, 30));
+        assertEquals(buffer.position(), 16);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_ByteBuffer_parseErrorPositionUnchanged() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap("2012-06-3X".getBytes(StandardCharsets.US_ASCII));
+        try {
+            DateTimeFormatters.isoLocalDate().parse(buffer, LocalDate.class);
+            throw new AssertionError("Expected DateTimeParseException");
+        } catch (DateTimeParseException ex) {
+            assertEquals(buffer.position(), 0);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_printTo_parse_roundTrip() throws Exception {
+        LocalDateTime ldt = LocalDateTime.of(2012, 6, 30, 12, 30, 40);
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        DateTimeFormatters.isoLocalDateTime().printTo(ldt, buffer);
+        buffer.flip();
+        assertTrue(buffer.hasRemaining());
+        assertEquals(DateTimeFormatters.isoLocalDateTime().parse(buffer, LocalDateTime.class), ldt);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parse_ByteBuffer_nullBuffer() throws Exception {
+        DateTimeFormatters.isoLocalDate().parse((ByteBuffer) null, LocalDate.class);
+    }
+
     //-----------------------------------------------------------------------
     // parse(Class)
     //-----------------------------------------------------------------------
@@ -554,4 +843,39 @@ public class TestDateTimeFormatter {
         BASIC_FORMATTER.toFormat(null);
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_print_optionalUnsupportedFieldNotQueried() {
+        final LocalDateTime dateTime = LocalDateTime.of(2012, 6, 30, 12, 30);
+        DateTime strict = new DateTime() {
+            @Override
+            public DateTimeValueRange range(DateTimeField field) {
+                return dateTime.range(field);
+            }
+            @Override
+            public boolean isSupported(DateTimeField field) {
+                return dateTime.isSupported(field);
+            }
+            @Override
+            public long get(DateTimeField field) {
+                if (dateTime.isSupported(field) == false) {
+                    throw new AssertionError("Unsupported field queried: " + field);
+                }
+                return dateTime.get(field);
+            }
+            @Override
+            public DateTime with(DateTimeField field, long newValue) {
+                throw new UnsupportedOperationException();
+            }
+            @Override
+            public <R> R extract(Class<R> type) {
+                return dateTime.extract(type);
+            }
+        };
+        DateTimeFormatter test = DateTimeFormatters.pattern("yyyy-MM-dd'T'HH:mm[XXX][ ss][ n]");
+        assertEquals(test.print(strict), "2012-06-30T12:30 00 0");
+        assertEquals(DateTimeFormatters.isoDateTime().print(strict), "2012-06-30T12:30:00");
+    }
+
+
 }
@@ -39,6 +39,7 @@ import static org.testng.Assert.assertEquals;
 import java.util.Locale;
 import java.util.Map;
 
+import javax.time.DateTimeException;
 import javax.time.LocalDate;
 import javax.time.ZoneId;
 import javax.time.ZoneOffset;
@@ -188,6 +189,75 @@ public class TestDateTimeParseContext {
         assertEquals(fields.get(MONTH_OF_YEAR), Long.valueOf(6));
     }
 
+    @Test(groups={"implementation"})
+    public void test_toBuilder_duplicateField() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.setParsedField(YEAR, 2008);
+        assertEquals(context.getParsed().size(), 2);
+        assertEquals(context.toBuilder().getFieldValueMap().get(YEAR), Long.valueOf(2008));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class, groups={"implementation"})
+    public void test_toBuilder_conflictingField() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.setParsedField(YEAR, 2009);
+        context.toBuilder();
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_optional_successful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsed(ZoneOffset.ofHours(1));
+        context.endOptional(true);
+        assertEquals(context.getParsed(YEAR), Long.valueOf(2008));
+        assertEquals(context.getParsed(MONTH_OF_YEAR), Long.valueOf(6));
+        assertEquals(context.getParsed(ZoneOffset.class), ZoneOffset.ofHours(1));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_unsuccessful() throws Exception {
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        context.setParsed(ZoneOffset.ofHours(1));
+        context.endOptional(false);
+        assertEquals(context.getParsed(YEAR), Long.valueOf(2008));
+        assertEquals(context.getParsed(MONTH_OF_YEAR), null);
+        assertEquals(context.getParsed(ZoneOffset.class), null);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_optional_deeplyNested() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            context.startOptional();
+            context.setParsed(Integer.valueOf(i));
+        }
+        for (int i = 0; i < 10; i++) {
+            context.endOptional(i % 2 == 1);  // innermost first, outermost successful
+        }
+        assertEquals(context.getParsed().size(), 1);
+        assertEquals(context.getParsed(Integer.class), Integer.valueOf(0));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_reset() throws Exception {
+        context.setCaseSensitive(false);
+        context.setStrict(false);
+        context.setParsedField(YEAR, 2008);
+        context.startOptional();
+        context.setParsed(ZoneOffset.ofHours(1));
+        context.reset();
+        assertEquals(context.getParsed().size(), 0);
+        assertEquals(context.isCaseSensitive(), true);
+        assertEquals(context.isStrict(), true);
+        assertEquals(context.getLocale(), Locale.GERMANY);
+        context.setParsedField(MONTH_OF_YEAR, 6);
+        assertEquals(context.getParsed().size(), 1);
+    }
+
     //-----------------------------------------------------------------------
     @Test(groups={"tck"})
     public void test_toString() throws Exception {
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+import java.text.ParsePosition;
+
+import javax.time.Instant;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+import javax.time.OffsetDateTime;
+import javax.time.ZoneOffset;
+import javax.time.ZonedDateTime;
+import javax.time.calendrical.DateTimeBuilder;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test DateTimeParser.
+ */
+@Test
+public class TestDateTimeParser {
+
+    private static final DateTimeFormatter OPTIONAL = DateTimeFormatters.pattern("yyyy-MM-dd['T'HH:mm[:ss]][XXX]");
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_getFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        assertSame(formatter.toParser().getFormatter(), formatter);
+    }
+
+    @Test(groups={"tck"})
+    public void test_toString() {
+        DateTimeFormatter formatter = DateTimeFormatters.isoLocalDate();
+        assertEquals(formatter.toParser().toString(), formatter.toString());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parse_reused() {
+        DateTimeParser test = DateTimeFormatters.isoLocalDateTime().toParser();
+        for (int i = 1; i <= 28; i++) {
+            String str = "2012-02-" + (i < 10 ? "0" : "") + i + "T12:30:" + (i + 10);
+            assertEquals(test.parse(str, LocalDateTime.class), LocalDateTime.of(2012, 2, i, 12, 30, i + 10));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_matchesFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatters.isoZonedDateTime();
+        DateTimeParser test = formatter.toParser();
+        String[] texts = {
+            "2012-06-30T12:30:40Z[UTC]",
+            "2012-06-30T12:30+01:00[Europe/London]",
+            "2012-12-01T00:00:00.123456789-05:00[America/New_York]",
+        };
+        for (String text : texts) {
+            assertEquals(test.parse(text, ZonedDateTime.class), formatter.parse(text, ZonedDateTime.class));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_optionalSections() {
+        DateTimeParser test = OPTIONAL.toParser();
+        assertEquals(test.parse("2012-06-30T12:30:40+02:00", OffsetDateTime.class),
+                OffsetDateTime.of(2012, 6, 30, 12, 30, 40, ZoneOffset.ofHours(2)));
+        assertEquals(test.parse("2012-06-30", LocalDate.class), LocalDate.of(2012, 6, 30));
+        assertEquals(test.parse("2012-06-30T12:30", LocalDateTime.class), LocalDateTime.of(2012, 6, 30, 12, 30));
+        // optional section failing part way through must not leave state behind
+        DateTimeBuilder builder = test.parseToBuilder("2012-06-30T12:3", new ParsePosition(0));
+        assertEquals(builder.getFieldValueMap().size(), 3);
+        assertEquals(test.parse("2012-06-30", LocalDate.class), LocalDate.of(2012, 6, 30));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parse_afterError() {
+        DateTimeParser test = DateTimeFormatters.isoLocalDate().toParser();
+        try {
+            test.parse("2012-06-3X", LocalDate.class);
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 8);
+        }
+        assertEquals(test.parse("2012-06-30", LocalDate.class), LocalDate.of(2012, 6, 30));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_parseTyped() {
+        DateTimeParser test = DateTimeFormatters.isoLocalDate().toParser();
+        assertEquals(test.parseLocalDate("2012-06-30"), LocalDate.of(2012, 6, 30));
+        test = DateTimeFormatters.isoLocalDateTime().toParser();
+        assertEquals(test.parseLocalDateTime("2012-06-30T12:30:40"), LocalDateTime.of(2012, 6, 30, 12, 30, 40));
+        test = DateTimeFormatters.isoInstant().toParser();
+        assertEquals(test.parseInstant("1970-01-01T00:01:00Z"), Instant.ofEpochSecond(60));
+        test = DateTimeFormatters.isoOffsetDateTime().toParser();
+        assertEquals(test.parseOffsetDateTime("2012-06-30T12:30+02:00"),
+                OffsetDateTime.of(2012, 6, 30, 12, 30, ZoneOffset.ofHours(2)));
+        test = DateTimeFormatters.isoZonedDateTime().toParser();
+        String str = "2012-06-30T12:30+01:00[Europe/London]";
+        assertEquals(test.parseZonedDateTime(str), test.getFormatter().parse(str, ZonedDateTime.class));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseTyped_fixedWidth() {
+        DateTimeParser test = DateTimeFormatters.basicIsoDate().toParser();
+        assertEquals(test.parseLocalDate("20120630"), LocalDate.of(2012, 6, 30));
+        test = DateTimeFormatters.pattern("dd/MM/yyyy").toParser();
+        assertEquals(test.parseLocalDate("30/06/2012"), LocalDate.of(2012, 6, 30));
+        try {
+            test.parseLocalDate("30/13/2012");
+            fail();
+        } catch (DateTimeParseException ex) {
+            // expected
+        }
+        assertEquals(test.parseLocalDate("01/07/2012"), LocalDate.of(2012, 7, 1));
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseToBuilder_resetBetweenParses() {
+        DateTimeParser test = OPTIONAL.toParser();
+        assertEquals(test.parseToBuilder("2012-06-30T12:30:40").getFieldValueMap().size(), 6);
+        assertEquals(test.parseToBuilder("2012-06-30").getFieldValueMap().size(), 3);
+    }
+
+    @Test(groups={"tck"})
+    public void test_parseToBuilder_ParsePosition() {
+        DateTimeParser test = DateTimeFormatters.isoLocalDate().toParser();
+        ParsePosition pos = new ParsePosition(3);
+        DateTimeBuilder builder = test.parseToBuilder("XXX2012-06-30YYY", pos);
+        assertEquals(pos.getIndex(), 13);
+        assertEquals(builder.resolve().build(LocalDate.class), LocalDate.of(2012, 6, 30));
+        pos = new ParsePosition(0);
+        assertEquals(test.parseToBuilder("XXX", pos), null);
+        assertEquals(pos.getErrorIndex(), 0);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_parse_nullText() {
+        DateTimeFormatters.isoLocalDate().toParser().parse(null, LocalDate.class);
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
+import static javax.time.calendrical.LocalDateTimeField.HOUR_OF_DAY;
+import static javax.time.calendrical.LocalDateTimeField.MINUTE_OF_HOUR;
+import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
+import static javax.time.calendrical.LocalDateTimeField.SECOND_OF_MINUTE;
+import static javax.time.calendrical.LocalDateTimeField.YEAR;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test FixedWidthParser.
+ */
+@Test
+public class TestFixedWidthParser {
+
+    private static final DateTimeFormatter BASIC_DATE = new DateTimeFormatterBuilder()
+        .appendValue(YEAR, 4).appendValue(MONTH_OF_YEAR, 2).appendValue(DAY_OF_MONTH, 2).toFormatter();
+    private static final DateTimeFormatter DATE = new DateTimeFormatterBuilder()
+        .appendValue(YEAR, 4).appendLiteral('-').appendValue(MONTH_OF_YEAR, 2).appendLiteral('-').appendValue(DAY_OF_MONTH, 2)
+        .toFormatter();
+    private static final DateTimeFormatter DATE_TIME = new DateTimeFormatterBuilder()
+        .append(DATE).appendLiteral(" at ").appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2)
+        .optionalStart().appendLiteral(':').appendValue(SECOND_OF_MINUTE, 2)
+        .toFormatter();
+    private static final DateTimeFormatter DATE_TIME_SECONDS = new DateTimeFormatterBuilder()
+        .parseCaseInsensitive().append(DATE).appendLiteral('T').appendValue(HOUR_OF_DAY, 2).appendValue(MINUTE_OF_HOUR, 2)
+        .appendValue(SECOND_OF_MINUTE, 2).toFormatter();
+    private static final DateTimeFormatter DATE_TIME_MINUTES = new DateTimeFormatterBuilder()
+        .append(DATE).appendLiteral(' ').appendValue(HOUR_OF_DAY, 2).appendLiteral(':').appendValue(MINUTE_OF_HOUR, 2)
+        .toFormatter();
+
+    private static FixedWidthParser parser(DateTimeFormatter formatter) {
+        return FixedWidthParser.of(formatter.toPrinterParser(false), DateTimeFormatSymbols.STANDARD);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_of_suitable() {
+        assertNotNull(parser(BASIC_DATE));
+        assertNotNull(parser(DATE));
+        assertNotNull(parser(DATE_TIME_SECONDS));
+        assertNotNull(parser(DATE_TIME_MINUTES));
+        assertNotNull(parser(DateTimeFormatters.isoLocalDate()));
+        assertNotNull(parser(DateTimeFormatters.pattern("yyyyMMdd")));  // adjacent values
+        assertNotNull(parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).appendValue(MONTH_OF_YEAR, 2).appendValue(DAY_OF_MONTH, 2)
+            .toFormatter()));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_of_unsuitable() {
+        assertNull(parser(DATE_TIME));  // optional section
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD).appendLiteral('0').appendValue(MONTH_OF_YEAR, 2)
+            .appendValue(DAY_OF_MONTH, 2).toFormatter()));  // variable width year followed by a digit literal
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4).appendValue(MONTH_OF_YEAR, 2).toFormatter()));  // incomplete
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .append(BASIC_DATE).appendValue(DAY_OF_MONTH, 2).toFormatter()));  // duplicate
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .append(BASIC_DATE).appendValue(HOUR_OF_DAY, 2).toFormatter()));  // no minutes
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .append(BASIC_DATE).appendText(HOUR_OF_DAY).toFormatter()));  // text
+        assertNull(parser(new DateTimeFormatterBuilder()
+            .appendValue(YEAR, 4, 4, SignStyle.ALWAYS).appendValue(MONTH_OF_YEAR, 2).appendValue(DAY_OF_MONTH, 2)
+            .toFormatter()));  // sign
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_parseLocalDate() {
+        assertEquals(parser(BASIC_DATE).parseLocalDate("20120630"), LocalDate.of(2012, 6, 30));
+        assertEquals(parser(DATE).parseLocalDate("0001-01-01"), LocalDate.of(1, 1, 1));
+        assertEquals(parser(DATE).parseLocalDate("9999-12-31"), LocalDate.of(9999, 12, 31));
+        assertNull(parser(DATE_TIME_SECONDS).parseLocalDate("2012-06-30T123040"));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_parseLocalDate_adjacentValues() {
+        DateTimeFormatter formatter = DateTimeFormatters.pattern("yyyyMMdd");
+        assertEquals(parser(formatter).parseLocalDate("20120630"), LocalDate.of(2012, 6, 30));
+        assertEquals(parser(formatter).parseLocalDate("20120630"), formatter.parse("20120630", LocalDate.class));
+        assertNull(parser(formatter).parseLocalDate("+123450630"));  // wider year left to general parser
+        assertEquals(formatter.parseLocalDate("+123450630"), LocalDate.of(12345, 6, 30));
+    }
+
+    @DataProvider(name="mismatch")
+    Object[][] data_mismatch() {
+        return new Object[][] {
+            {""},
+            {"2012-06-3"},
+            {"2012-06-301"},
+            {"2012/06/30"},
+            {"2012-0X-30"},
+            {"+012-06-30"},
+            {"2012-13-30"},
+            {"2012-02-30"},
+            {"2012-00-01"},
+        };
+    }
+
+    @Test(dataProvider="mismatch", groups={"implementation"})
+    public void test_parseLocalDate_mismatch(String text) {
+        assertNull(parser(DATE).parseLocalDate(text));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_parseLocalDateTime() {
+        assertEquals(parser(DATE_TIME_SECONDS).parseLocalDateTime("2012-06-30T123040"),
+                LocalDateTime.of(2012, 6, 30, 12, 30, 40));
+        assertEquals(parser(DATE_TIME_MINUTES).parseLocalDateTime("2012-06-30 23:59"),
+                LocalDateTime.of(2012, 6, 30, 23, 59));
+        assertNull(parser(DATE_TIME_SECONDS).parseLocalDateTime("2012-06-30t123040"));  // insensitive left to general parser
+        assertNull(parser(DATE_TIME_SECONDS).parseLocalDateTime("2012-06-30T243040"));
+        assertNull(parser(DATE_TIME_MINUTES).parseLocalDateTime("2012-06-30 12:60"));
+        assertNull(parser(DATE).parseLocalDateTime("2012-06-30"));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_formatter_parseLocalDate() {
+        assertEquals(BASIC_DATE.parseLocalDate("20120630"), LocalDate.of(2012, 6, 30));
+        assertEquals(DATE.parseLocalDate("2012-06-30"), DATE.parse("2012-06-30", LocalDate.class));
+        try {
+            DATE.parseLocalDate("2012-13-30");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+        try {
+            BASIC_DATE.parseLocalDate("2012063X");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 6);
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_formatter_parseLocalDateTime() {
+        assertEquals(DATE_TIME_SECONDS.parseLocalDateTime("2012-06-30T123040"), LocalDateTime.of(2012, 6, 30, 12, 30, 40));
+        assertEquals(DATE_TIME_SECONDS.parseLocalDateTime("2012-06-30t123040"), LocalDateTime.of(2012, 6, 30, 12, 30, 40));
+        assertEquals(DATE_TIME.parseLocalDateTime("2012-06-30 at 12:30"), LocalDateTime.of(2012, 6, 30, 12, 30));
+        assertEquals(DATE_TIME.parseLocalDateTime("2012-06-30 at 12:30:40"), LocalDateTime.of(2012, 6, 30, 12, 30, 40));
+        try {
+            DATE_TIME_MINUTES.parseLocalDateTime("2012-06-30 12:60");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertEquals(ex.getErrorIndex(), 0);
+        }
+    }
+
+}
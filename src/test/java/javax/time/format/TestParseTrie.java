@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.format;
+
+import static org.testng.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ParseTrie.
+ */
+@Test(groups={"implementation"})
+public class TestParseTrie {
+
+    private static final ParseTrie TRIE = ParseTrie.of(Arrays.asList(
+            "Etc/GMT", "Etc/GMT-2", "Etc/GMT-12", "Europe/London", "Europe/Lisbon", "E", "UTC", "\u00c9t\u00e9"));
+
+    //-----------------------------------------------------------------------
+    @DataProvider(name="match")
+    Object[][] data_match() {
+        return new Object[][] {
+            {"Etc/GMT", 0, true, "Etc/GMT"},
+            {"Etc/GMT-2", 0, true, "Etc/GMT-2"},
+            {"Etc/GMT-1", 0, true, "Etc/GMT"},
+            {"Etc/GMT-12", 0, true, "Etc/GMT-12"},
+            {"Etc/GMT-123", 0, true, "Etc/GMT-12"},
+            {"Etc/GM", 0, true, "E"},
+            {"XXEurope/LondonXX", 2, true, "Europe/London"},
+            {"Europe/Lisbon", 0, true, "Europe/Lisbon"},
+            {"Europe/Lis", 0, true, "E"},
+            {"europe/london", 0, true, null},
+            {"europe/london", 0, false, "Europe/London"},
+            {"EUROPE/LONDON", 0, false, "Europe/London"},
+            {"etc/gmt-2", 0, false, "Etc/GMT-2"},
+            {"utc", 0, false, "UTC"},
+            {"\u00e9T\u00c9", 0, false, "\u00c9t\u00e9"},
+            {"\u00e9T\u00c9", 0, true, null},
+            {"X", 0, true, null},
+            {"", 0, true, null},
+            {"UTC", 3, true, null},
+        };
+    }
+
+    @Test(dataProvider="match")
+    public void test_match(String text, int position, boolean caseSensitive, String expected) {
+        int index = TRIE.match(text, position, caseSensitive);
+        if (expected == null) {
+            assertEquals(index < 0, true);
+        } else {
+            assertEquals(TRIE.getKey(index), expected);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_keysIndexedInOrder() {
+        assertEquals(TRIE.size(), 8);
+        assertEquals(TRIE.getKey(0), "Etc/GMT");
+        assertEquals(TRIE.match("Europe/London", 0, true), 3);
+        assertEquals(TRIE.match("Europe/London", 0, false), 3);
+    }
+
+    public void test_duplicateIgnoringCase_firstMatched() {
+        ParseTrie test = ParseTrie.of(Arrays.asList("May", "MAY"));
+        assertEquals(test.match("MAY", 0, true), 1);
+        assertEquals(test.match("MAY", 0, false), 0);
+        assertEquals(test.match("may", 0, false), 0);
+    }
+
+    public void test_emptyKey() {
+        ParseTrie test = ParseTrie.of(Arrays.asList("", "A"));
+        assertEquals(test.match("B", 0, true), 0);
+        assertEquals(test.match("A", 0, true), 1);
+    }
+
+    public void test_noKeys() {
+        ParseTrie test = ParseTrie.of(Collections.<String>emptyList());
+        assertEquals(test.size(), 0);
+        assertEquals(test.match("A", 0, true) < 0, true);
+    }
+
+    public void test_fold() {
+        assertEquals(ParseTrie.fold('A'), ParseTrie.fold('a'));
+        assertEquals(ParseTrie.fold('\u00c9'), ParseTrie.fold('\u00e9'));
+        assertEquals(ParseTrie.fold('/'), '/');
+    }
+
+}
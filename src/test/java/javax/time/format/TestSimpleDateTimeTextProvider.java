@@ -36,10 +36,17 @@ import static javax.time.calendrical.LocalDateTimeField.DAY_OF_WEEK;
 import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
 import static javax.time.calendrical.QuarterYearField.QUARTER_OF_YEAR;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.time.calendrical.DateTimeField;
+import javax.time.calendrical.LocalDateTimeField;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
@@ -163,4 +170,71 @@ public class TestSimpleDateTimeTextProvider {
         assertEquals(tp.getText(field, value.longValue(), style, locale), expected);
     }
 
+    //-----------------------------------------------------------------------
+    // LocaleStore
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_findLocaleStore_cached() {
+        SimpleDateTimeTextProvider tp = new SimpleDateTimeTextProvider();
+        SimpleDateTimeTextProvider.LocaleStore store = tp.findLocaleStore(MONTH_OF_YEAR, enUS);
+        assertSame(tp.findLocaleStore(MONTH_OF_YEAR, enUS), store);
+        assertSame(new SimpleDateTimeTextProvider().findLocaleStore(MONTH_OF_YEAR, enUS), store);
+        assertNotSame(tp.findLocaleStore(DAY_OF_WEEK, enUS), store);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_findLocaleStore_noText() {
+        SimpleDateTimeTextProvider tp = new SimpleDateTimeTextProvider();
+        assertNull(tp.findLocaleStore(LocalDateTimeField.YEAR, enUS));
+    }
+
+    @DataProvider(name="match")
+    Object[][] data_match() {
+        return new Object[][] {
+            {TextStyle.FULL, "September", true, 9, 9},
+            {TextStyle.FULL, "Septemberxx", true, 9, 9},
+            {TextStyle.FULL, "SEPTEMBER", true, -1, 0},
+            {TextStyle.FULL, "SEPTEMBER", false, 9, 9},
+            {TextStyle.FULL, "Sep", true, -1, 0},
+            {TextStyle.SHORT, "Sep", true, 9, 3},
+            {TextStyle.SHORT, "September", true, 9, 3},
+            {TextStyle.SHORT, "may", false, 5, 3},
+            {null, "September", true, 9, 9},
+            {null, "Sep", true, 9, 3},
+            {null, "mAy", false, 5, 3},
+            {null, "Xyz", false, -1, 0},
+        };
+    }
+
+    @Test(dataProvider="match", groups={"implementation"})
+    public void test_match(TextStyle style, String text, boolean caseSensitive, int expectedValue, int expectedLength) {
+        SimpleDateTimeTextProvider.LocaleStore store = new SimpleDateTimeTextProvider().findLocaleStore(MONTH_OF_YEAR, enUS);
+        assertEquals(store.isParsable(style), true);
+        int index = store.match(style, text, 0, caseSensitive);
+        if (expectedValue < 0) {
+            assertEquals(index < 0, true);
+        } else {
+            assertEquals(store.getMatchValue(style, index), expectedValue);
+            assertEquals(store.getMatchLength(style, index), expectedLength);
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_store_sparseValues() {
+        Map<Long, String> map = new HashMap<>();
+        map.put(2012L, "twelve");
+        map.put(-5L, "minus");
+        map.put(7L, "seven");
+        SimpleDateTimeTextProvider.LocaleStore store = new SimpleDateTimeTextProvider.LocaleStore(
+                Collections.singletonMap(TextStyle.FULL, map));
+        assertEquals(store.getText(2012L, TextStyle.FULL), "twelve");
+        assertEquals(store.getText(-5L, TextStyle.FULL), "minus");
+        assertEquals(store.getText(8L, TextStyle.FULL), null);
+        assertEquals(store.getText(7L, TextStyle.SHORT), null);
+        assertEquals(store.isParsable(TextStyle.SHORT), false);
+        assertEquals(store.match(TextStyle.SHORT, "seven", 0, true) < 0, true);
+        int index = store.match(TextStyle.FULL, "xxTWELVE", 2, false);
+        assertEquals(store.getMatchValue(TextStyle.FULL, index), 2012L);
+    }
+
 }
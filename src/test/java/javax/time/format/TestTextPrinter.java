@@ -35,6 +35,7 @@ import static javax.time.calendrical.LocalDateTimeField.DAY_OF_MONTH;
 import static javax.time.calendrical.LocalDateTimeField.DAY_OF_WEEK;
 import static javax.time.calendrical.LocalDateTimeField.MONTH_OF_YEAR;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
 
 import java.util.Locale;
 
@@ -139,6 +140,40 @@ public class TestTextPrinter extends AbstractTestPrinterParser {
         assertEquals(buf.toString(), "janv.");
     }
 
+    //-----------------------------------------------------------------------
+    public void test_withLocale_print() throws Exception {
+        printContext.setLocale(Locale.FRENCH);
+        printContext.setCalendrical(LocalDate.of(2012, 1, 1));
+        TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER).withLocale(Locale.FRENCH);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "janvier");
+    }
+
+    public void test_withLocale_print_otherLocale() throws Exception {
+        printContext.setLocale(Locale.FRENCH);
+        printContext.setCalendrical(LocalDate.of(2012, 1, 1));
+        TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER).withLocale(Locale.ENGLISH);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "janvier");
+    }
+
+    public void test_withLocale_print_noText() throws Exception {
+        printContext.setCalendrical(new MockFieldValue(DAY_OF_MONTH, 3));
+        TextPrinterParser pp = new TextPrinterParser(DAY_OF_MONTH, TextStyle.FULL, PROVIDER).withLocale(Locale.ENGLISH);
+        pp.print(printContext, buf);
+        assertEquals(buf.toString(), "3");
+    }
+
+    public void test_withLocale_same() throws Exception {
+        TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER).withLocale(Locale.ENGLISH);
+        assertSame(pp.withLocale(Locale.ENGLISH), pp);
+    }
+
+    public void test_withLocale_toString() throws Exception {
+        TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.SHORT, PROVIDER).withLocale(Locale.FRENCH);
+        assertEquals(pp.toString(), "Text(MonthOfYear,SHORT)");
+    }
+
     //-----------------------------------------------------------------------
     public void test_toString1() throws Exception {
         TextPrinterParser pp = new TextPrinterParser(MONTH_OF_YEAR, TextStyle.FULL, PROVIDER);
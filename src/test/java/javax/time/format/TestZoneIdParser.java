@@ -34,11 +34,16 @@ package javax.time.format;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.Set;
 
 import javax.time.ZoneId;
+import javax.time.ZoneOffset;
 import javax.time.format.DateTimeFormatterBuilder.ZoneIdPrinterParser;
+import javax.time.zone.ZoneRules;
+import javax.time.zone.ZoneRulesDataProvider;
 import javax.time.zone.ZoneRulesGroup;
+import javax.time.zone.ZoneRulesVersion;
 
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -127,6 +132,77 @@ public class TestZoneIdParser extends AbstractTestPrinterParser {
         assertParsed(expected);
     }
 
+    public void test_parse_longestMatch() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
+        int result = pp.parse(parseContext, "Etc/GMT-12", 0);
+        assertEquals(result, 10);
+        assertParsed(ZoneId.of("Etc/GMT-12"));
+    }
+
+    public void test_parse_caseSensitive_wrongCase() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
+        int result = pp.parse(parseContext, "america/denver", 0);
+        assertEquals(result, -1);
+        assertParsed(null);
+    }
+
+    public void test_parse_caseInsensitive() throws Exception {
+        parseContext.setCaseSensitive(false);
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
+        int result = pp.parse(parseContext, "OTHERamerica/DENVEROTHER", 5);
+        assertEquals(result, 5 + AMERICA_DENVER.length());
+        assertParsed(TIME_ZONE_DENVER);
+    }
+
+    public void test_parse_caseInsensitive_utc() throws Exception {
+        parseContext.setCaseSensitive(false);
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
+        int result = pp.parse(parseContext, "utc+01:00", 0);
+        assertEquals(result, 9);
+        assertParsed(ZoneId.of(ZoneOffset.ofHours(1)));
+    }
+
+    public void test_parse_caseInsensitive_formatter() throws Exception {
+        DateTimeFormatter f = new DateTimeFormatterBuilder().parseCaseInsensitive().appendZoneId().toFormatter();
+        assertEquals(f.parse("europe/LONDON", ZoneId.class), ZoneId.of("Europe/London"));
+    }
+
+    public void test_parse_registeredAfterFirstParse() throws Exception {
+        ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
+        pp.parse(parseContext, AMERICA_DENVER, 0);
+        ZoneRulesGroup.registerProvider(new MockParseProvider());
+        DateTimeParseContext context = new DateTimeParseContext(parseContext.getLocale(), parseContext.getSymbols());
+        int result = pp.parse(context, "PARSEMOCK:Parse/Later", 0);
+        assertEquals(result, 21);
+        assertEquals(context.getParsed(ZoneId.class), ZoneId.of("PARSEMOCK:Parse/Later"));
+    }
+
+    static class MockParseProvider implements ZoneRulesDataProvider {
+        public String getGroupID() {
+            return "PARSEMOCK";
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return "1";
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Parse/Later");
+                }
+                public Set<String> getRegionIDs() {
+                    return Collections.singleton("Parse/Later");
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(ZoneOffset.ofHours(3)).getRules();
+                }
+            };
+            return Collections.singleton(version);
+        }
+        public Set<String> getRegionIDs() {
+            return Collections.singleton("Parse/Later");
+        }
+    }
+
     //-----------------------------------------------------------------------
     public void test_parse_endStringMatch_utc() throws Exception {
         ZoneIdPrinterParser pp = new ZoneIdPrinterParser(null);
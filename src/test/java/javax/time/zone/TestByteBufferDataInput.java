@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ByteBufferDataInput.
+ */
+@Test(groups="implementation")
+public class TestByteBufferDataInput {
+
+    @DataProvider(name="lines")
+    Object[][] data_lines() {
+        return new Object[][] {
+            {""},
+            {"abc"},
+            {"abc\n"},
+            {"abc\r"},
+            {"abc\r\n"},
+            {"abc\n\ndef"},
+            {"abc\r\rdef\r\n\r\nghi"},
+            {"\u00e9\u00ff\n\u0080"},
+        };
+    }
+
+    @Test(dataProvider="lines")
+    @SuppressWarnings("deprecation")
+    public void test_readLine_matchesDataInputStream(String text) throws Exception {
+        byte[] bytes = text.getBytes("ISO-8859-1");
+        ByteBufferDataInput test = new ByteBufferDataInput(ByteBuffer.wrap(bytes));
+        DataInputStream expected = new DataInputStream(new ByteArrayInputStream(bytes));
+        while (true) {
+            String line = expected.readLine();
+            assertEquals(test.readLine(), line);
+            if (line == null) {
+                break;
+            }
+        }
+    }
+
+    @Test
+    public void test_readLine_thenOtherData() throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {'a', '\r', '\n', 0, 0, 0, 7});
+        ByteBufferDataInput test = new ByteBufferDataInput(buffer);
+        assertEquals(test.readLine(), "a");
+        assertEquals(test.readInt(), 7);
+    }
+
+    @Test(expectedExceptions=EOFException.class)
+    public void test_readInt_insufficientBytes() throws Exception {
+        new ByteBufferDataInput(ByteBuffer.wrap(new byte[3])).readInt();
+    }
+
+}
@@ -37,6 +37,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
 
 import javax.time.Duration;
 import javax.time.Instant;
@@ -113,6 +114,33 @@ public class TestFixedZoneRules {
         assertEquals(test.previousTransition(null), null);
     }
 
+    @Test(groups={"implementation","tck"})
+    public void test_getOffsetSeconds_bulk() {
+        ZoneRules test = make(OFFSET_PTWO);
+        long[] epochSecs = {INSTANT.getEpochSecond(), Long.MIN_VALUE / 2, 0, Long.MAX_VALUE / 2};
+        int[] offsetSecs = new int[5];
+        test.getOffsetSeconds(epochSecs, offsetSecs);
+        assertEquals(Arrays.equals(offsetSecs, new int[] {7200, 7200, 7200, 7200, 0}), true);
+    }
+
+    @Test(groups={"implementation","tck"})
+    public void test_toEpochSeconds_bulk() {
+        ZoneRules test = make(OFFSET_PTWO);
+        long[] secs = {INSTANT.getEpochSecond(), 0, -7200};
+        test.toEpochSeconds(secs, secs);
+        assertEquals(Arrays.equals(secs, new long[] {INSTANT.getEpochSecond() - 7200, -7200, -14400}), true);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"implementation","tck"})
+    public void test_getOffsetSeconds_bulk_shortOutput() {
+        make(OFFSET_PTWO).getOffsetSeconds(new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"implementation","tck"})
+    public void test_toEpochSeconds_bulk_shortOutput() {
+        make(OFFSET_PTWO).toEpochSeconds(new long[2], new long[1]);
+    }
+
     @Test(groups={"implementation","tck"})
     public void test_isValidDateTime_same_offset() {
     	ZoneRules test = make(OFFSET_PONE);
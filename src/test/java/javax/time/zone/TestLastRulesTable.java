@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test LastRulesTable.
+ */
+@Test(groups="implementation")
+public class TestLastRulesTable {
+
+    private static final long STEP = 3 * 3600 + 17;  // not aligned to transitions
+
+    @DataProvider(name="zones")
+    Object[][] data_zones() {
+        return new Object[][] {
+            {"Europe/London"},
+            {"Europe/Paris"},
+            {"America/New_York"},
+            {"Australia/Sydney"},
+            {"America/Sao_Paulo"},
+            {"Asia/Tehran"},
+        };
+    }
+
+    @Test(dataProvider="zones")
+    public void test_findOffsetIndex_matchesRules(String zoneID) {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of(zoneID).getRules();
+        ZoneOffsetTransitionRule[] lastRules = lastRules(rules);
+        if (lastRules.length == 0) {
+            return;
+        }
+        List<ZoneOffsetTransition> trans = rules.getTransitions();
+        ZoneOffsetTransition lastHistoric = trans.get(trans.size() - 1);
+        LastRulesTable test = LastRulesTable.of(lastRules, lastHistoric.getInstant().getEpochSecond(), lastHistoric.getOffsetAfter());
+        long start = OffsetDateTime.ofMidnight(test.getStartYear(), 1, 1, ZoneOffset.UTC).toEpochSecond() - 86400;
+        long end = OffsetDateTime.ofMidnight(LastRulesTable.DEFAULT_MAX_YEAR + 1, 1, 1, ZoneOffset.UTC).toEpochSecond() + 86400;
+        for (long epochSec = start; epochSec < end; epochSec += STEP) {
+            int index = test.findOffsetIndex(epochSec);
+            assertEquals(index >= 0, test.isInWindow(epochSec));
+            if (index >= 0) {
+                ZoneOffset expected = expectedOffset(lastRules, epochSec, lastHistoric.getOffsetAfter());
+                assertEquals(test.getOffset(index), expected, zoneID + " " + epochSec);
+                assertEquals(test.getOffsetSeconds(index), expected.getTotalSeconds());
+            }
+        }
+    }
+
+    @Test(dataProvider="zones")
+    public void test_findOffsetIndex_exactTransitions(String zoneID) {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of(zoneID).getRules();
+        ZoneOffsetTransitionRule[] lastRules = lastRules(rules);
+        if (lastRules.length == 0) {
+            return;
+        }
+        List<ZoneOffsetTransition> trans = rules.getTransitions();
+        ZoneOffsetTransition lastHistoric = trans.get(trans.size() - 1);
+        LastRulesTable test = LastRulesTable.of(lastRules, lastHistoric.getInstant().getEpochSecond(), lastHistoric.getOffsetAfter());
+        for (int year = test.getStartYear() + 1; year < LastRulesTable.DEFAULT_MAX_YEAR; year++) {
+            for (ZoneOffsetTransitionRule rule : lastRules) {
+                ZoneOffsetTransition t = rule.createTransition(year);
+                long epochSec = t.getInstant().getEpochSecond();
+                assertEquals(test.getOffset(test.findOffsetIndex(epochSec - 1)), t.getOffsetBefore());
+                assertEquals(test.getOffset(test.findOffsetIndex(epochSec)), t.getOffsetAfter());
+            }
+        }
+    }
+
+    public void test_window() {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of("Europe/London").getRules();
+        ZoneOffsetTransitionRule[] lastRules = lastRules(rules);
+        List<ZoneOffsetTransition> trans = rules.getTransitions();
+        ZoneOffsetTransition lastHistoric = trans.get(trans.size() - 1);
+        LastRulesTable test = LastRulesTable.of(lastRules, lastHistoric.getInstant().getEpochSecond(), lastHistoric.getOffsetAfter(), 2000, 2009);
+        assertEquals(test.getStartYear(), 2000);
+        assertEquals(test.getYearCount(), 10);
+        long start = OffsetDateTime.ofMidnight(2000, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        long end = OffsetDateTime.ofMidnight(2010, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        assertEquals(test.findOffsetIndex(start - 1), -1);
+        assertTrue(test.findOffsetIndex(start) >= 0);
+        assertTrue(test.findOffsetIndex(end - 1) >= 0);
+        assertEquals(test.findOffsetIndex(end), -1);
+    }
+
+    public void test_window_clippedToLastHistoric() {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of("Europe/London").getRules();
+        ZoneOffsetTransitionRule[] lastRules = lastRules(rules);
+        List<ZoneOffsetTransition> trans = rules.getTransitions();
+        ZoneOffsetTransition lastHistoric = trans.get(trans.size() - 1);
+        LastRulesTable test = LastRulesTable.of(lastRules, lastHistoric.getInstant().getEpochSecond(), lastHistoric.getOffsetAfter(), 1800, 2009);
+        assertEquals(test.getStartYear(), lastHistoric.getDateTimeAfter().getYear());
+    }
+
+    public void test_window_empty() {
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of("Europe/London").getRules();
+        ZoneOffsetTransitionRule[] lastRules = lastRules(rules);
+        List<ZoneOffsetTransition> trans = rules.getTransitions();
+        ZoneOffsetTransition lastHistoric = trans.get(trans.size() - 1);
+        LastRulesTable test = LastRulesTable.of(lastRules, lastHistoric.getInstant().getEpochSecond(), lastHistoric.getOffsetAfter(), 2000, 1999);
+        assertEquals(test.getYearCount(), 0);
+        assertEquals(test.findOffsetIndex(0), -1);
+        assertEquals(test.findOffsetIndex(Long.MIN_VALUE), -1);
+        assertEquals(test.findOffsetIndex(Long.MAX_VALUE), -1);
+    }
+
+    //-----------------------------------------------------------------------
+    private static ZoneOffsetTransitionRule[] lastRules(ZoneRules rules) {
+        List<ZoneOffsetTransitionRule> list = rules.getTransitionRules();
+        return list.toArray(new ZoneOffsetTransitionRule[list.size()]);
+    }
+
+    private static ZoneOffset expectedOffset(ZoneOffsetTransitionRule[] lastRules, long epochSec, ZoneOffset lastOffset) {
+        int year = OffsetDateTime.ofEpochSecond(epochSec, lastOffset).getYear();
+        ZoneOffsetTransition trans = null;
+        for (ZoneOffsetTransitionRule rule : lastRules) {
+            trans = rule.createTransition(year);
+            if (epochSec < trans.getInstant().getEpochSecond()) {
+                return trans.getOffsetBefore();
+            }
+        }
+        return trans.getOffsetAfter();
+    }
+
+}
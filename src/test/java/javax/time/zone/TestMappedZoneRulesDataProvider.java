@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test MappedZoneRulesDataProvider.
+ */
+@Test(groups="implementation")
+public class TestMappedZoneRulesDataProvider {
+
+    private File file;
+    private MappedZoneRulesDataProvider test;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        file = File.createTempFile("ZoneRules", ".dat");
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("javax/time/calendar/zone/ZoneRules.dat");
+                OutputStream out = new FileOutputStream(file)) {
+            byte[] bytes = new byte[8192];
+            int count;
+            while ((count = in.read(bytes)) >= 0) {
+                out.write(bytes, 0, count);
+            }
+        }
+        test = new MappedZoneRulesDataProvider(file);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        test = null;
+        file.delete();
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_groupAndRegions() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        assertEquals(test.getGroupID(), "TZDB");
+        assertEquals(test.getVersions().size(), group.getAvailableVersionIDs().size());
+        assertTrue(test.getRegionIDs().contains("Europe/London"));
+    }
+
+    public void test_rulesMatchRegisteredProvider() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        for (ZoneRulesVersion version : test.getVersions()) {
+            String versionID = version.getVersionID();
+            assertEquals(version.getRegionIDs(), group.getRegionIDs(versionID), versionID);
+            for (String regionID : version.getRegionIDs()) {
+                assertTrue(version.isRegionID(regionID));
+                assertEquals(version.getZoneRules(regionID), group.getRules(regionID, versionID), regionID + '#' + versionID);
+            }
+        }
+    }
+
+    public void test_version1Format() throws Exception {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        String[] versionArray = {"2008i", "2009b"};
+        String[] regionArray = group.getRegionIDs("2009b").toArray(new String[0]);
+        Arrays.sort(regionArray);
+        List<ZoneRules> rulesList = new ArrayList<ZoneRules>();
+        File v1 = File.createTempFile("ZoneRules", ".dat");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new FileOutputStream(v1))) {
+                out.writeByte(1);
+                out.writeUTF("TZDB");
+                out.writeShort(versionArray.length);
+                for (String version : versionArray) {
+                    out.writeUTF(version);
+                }
+                out.writeShort(regionArray.length);
+                for (String regionID : regionArray) {
+                    out.writeUTF(regionID);
+                }
+                for (String version : versionArray) {
+                    Set<String> versionRegions = new TreeSet<String>(group.getRegionIDs(version));
+                    out.writeShort(versionRegions.size());
+                    for (String regionID : versionRegions) {
+                        ZoneRules rules = group.getRules(regionID, version);
+                        if (rulesList.contains(rules) == false) {
+                            rulesList.add(rules);
+                        }
+                        out.writeShort(Arrays.binarySearch(regionArray, regionID));
+                        out.writeShort(rulesList.indexOf(rules));
+                    }
+                }
+                out.writeShort(rulesList.size());
+                for (ZoneRules rules : rulesList) {
+                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                    DataOutputStream dataos = new DataOutputStream(baos);
+                    Ser.write(rules, dataos);
+                    dataos.close();
+                    out.writeShort(baos.size());
+                    out.write(baos.toByteArray());
+                }
+            }
+            MappedZoneRulesDataProvider provider = new MappedZoneRulesDataProvider(v1);
+            assertEquals(provider.getGroupID(), "TZDB");
+            assertEquals(provider.getVersions().size(), 2);
+            for (ZoneRulesVersion version : provider.getVersions()) {
+                String versionID = version.getVersionID();
+                assertEquals(version.getRegionIDs(), group.getRegionIDs(versionID), versionID);
+                for (String regionID : version.getRegionIDs()) {
+                    assertEquals(version.getZoneRules(regionID), group.getRules(regionID, versionID), regionID + '#' + versionID);
+                }
+                assertNull(version.getZoneRules("Europe/Lon"));
+            }
+        } finally {
+            v1.delete();
+        }
+    }
+
+    public void test_rulesCached() {
+        ZoneRulesVersion version = test.getVersions().iterator().next();
+        ZoneRules rules = version.getZoneRules("Europe/London");
+        assertSame(version.getZoneRules("Europe/London"), rules);
+    }
+
+    public void test_unknownRegion() {
+        ZoneRulesVersion version = test.getVersions().iterator().next();
+        assertFalse(version.isRegionID("Europe/Lon"));
+        assertFalse(version.isRegionID("Zzz/Unknown"));
+        assertNull(version.getZoneRules("Europe/Lon"));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_badFormat() throws Exception {
+        File bad = File.createTempFile("ZoneRules", ".dat");
+        try {
+            try (OutputStream out = new FileOutputStream(bad)) {
+                out.write(new byte[] {9, 0, 0});
+            }
+            new MappedZoneRulesDataProvider(bad);
+        } finally {
+            bad.delete();
+        }
+    }
+
+}
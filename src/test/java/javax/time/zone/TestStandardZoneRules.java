@@ -33,6 +33,7 @@ package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -43,8 +44,12 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
 
 import javax.time.DateTimeException;
 import javax.time.DayOfWeek;
@@ -60,6 +65,7 @@ import javax.time.ZoneId;
 import javax.time.ZoneOffset;
 import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 /**
@@ -970,6 +976,186 @@ public class TestStandardZoneRules {
         assertEquals(europeLondon().toString().endsWith("]"), true);
     }
 
+    //-----------------------------------------------------------------------
+    // getOffsetSeconds(long[],int[]) / toEpochSeconds(long[],long[])
+    //-----------------------------------------------------------------------
+    @DataProvider(name="allZones")
+    Object[][] data_allZones() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        String version = group.getLatestVersionID();
+        List<Object[]> list = new ArrayList<Object[]>();
+        for (String regionID : new TreeSet<String>(group.getRegionIDs(version))) {
+            ZoneRules rules = group.getRules(regionID, version);
+            if (rules instanceof StandardZoneRules) {
+                list.add(new Object[] {regionID, rules});
+            }
+        }
+        return list.toArray(new Object[list.size()][]);
+    }
+
+    @Test(dataProvider="allZones")
+    public void test_getOffsetSeconds_bulk(String regionID, ZoneRules test) {
+        long[] epochSecs = bulkInput(test);
+        int[] offsetSecs = new int[epochSecs.length];
+        test.getOffsetSeconds(epochSecs, offsetSecs);
+        for (int i = 0; i < epochSecs.length; i++) {
+            assertEquals(offsetSecs[i], test.getOffset(Instant.ofEpochSecond(epochSecs[i])).getTotalSeconds(), regionID + " " + epochSecs[i]);
+        }
+        shuffle(epochSecs);
+        test.getOffsetSeconds(epochSecs, offsetSecs);
+        for (int i = 0; i < epochSecs.length; i++) {
+            assertEquals(offsetSecs[i], test.getOffset(Instant.ofEpochSecond(epochSecs[i])).getTotalSeconds(), regionID + " " + epochSecs[i]);
+        }
+    }
+
+    @Test(dataProvider="allZones")
+    public void test_toEpochSeconds_bulk(String regionID, ZoneRules test) {
+        long[] localEpochSecs = bulkInput(test);
+        long[] epochSecs = new long[localEpochSecs.length];
+        test.toEpochSeconds(localEpochSecs, epochSecs);
+        for (int i = 0; i < localEpochSecs.length; i++) {
+            assertEquals(epochSecs[i], expectedEpochSecond(test, localEpochSecs[i]), regionID + " " + localEpochSecs[i]);
+        }
+        shuffle(localEpochSecs);
+        test.toEpochSeconds(localEpochSecs, epochSecs);
+        for (int i = 0; i < localEpochSecs.length; i++) {
+            assertEquals(epochSecs[i], expectedEpochSecond(test, localEpochSecs[i]), regionID + " " + localEpochSecs[i]);
+        }
+    }
+
+    public void test_getOffsetSeconds_bulk_sameArrayLength() {
+        StandardZoneRules test = europeLondon();
+        long[] epochSecs = {
+            OffsetDateTime.of(2008, 1, 1, 12, 0, ZoneOffset.UTC).toEpochSecond(),
+            OffsetDateTime.of(2008, 7, 1, 12, 0, ZoneOffset.UTC).toEpochSecond(),
+            OffsetDateTime.of(2208, 7, 1, 12, 0, ZoneOffset.UTC).toEpochSecond(),
+        };
+        int[] offsetSecs = new int[4];
+        offsetSecs[3] = 99;
+        test.getOffsetSeconds(epochSecs, offsetSecs);
+        assertEquals(offsetSecs[0], 0);
+        assertEquals(offsetSecs[1], 3600);
+        assertEquals(offsetSecs[2], 3600);
+        assertEquals(offsetSecs[3], 99);
+    }
+
+    public void test_toEpochSeconds_bulk_gapOverlap() {
+        StandardZoneRules test = europeLondon();
+        long gap = LocalDateTime.of(2008, 3, 30, 1, 30).atOffset(ZoneOffset.UTC).toEpochSecond();
+        long overlap = LocalDateTime.of(2008, 10, 26, 1, 30).atOffset(ZoneOffset.UTC).toEpochSecond();
+        long[] secs = {gap, overlap};
+        test.toEpochSeconds(secs, secs);
+        assertEquals(secs[0], gap - 1800);
+        assertEquals(secs[1], overlap - 3600);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_getOffsetSeconds_bulk_shortOutput() {
+        europeLondon().getOffsetSeconds(new long[2], new int[1]);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_toEpochSeconds_bulk_shortOutput() {
+        europeLondon().toEpochSeconds(new long[2], new long[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_getOffsetSeconds_bulk_null() {
+        europeLondon().getOffsetSeconds(null, new int[1]);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class)
+    public void test_toEpochSeconds_bulk_null() {
+        europeLondon().toEpochSeconds(new long[1], null);
+    }
+
+    private long[] bulkInput(ZoneRules rules) {
+        // a sorted sweep of 1850 to 2150, plus the seconds around each transition
+        List<Long> list = new ArrayList<Long>();
+        long start = OffsetDateTime.ofMidnight(1850, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        long end = OffsetDateTime.ofMidnight(2150, 1, 1, ZoneOffset.UTC).toEpochSecond();
+        for (long epochSec = start; epochSec < end; epochSec += 5 * 86400 + 3 * 3600 + 17) {
+            list.add(epochSec);
+        }
+        List<ZoneOffsetTransition> transitions = new ArrayList<ZoneOffsetTransition>(rules.getTransitions());
+        for (int year = 1990; year < 2050; year++) {
+            for (ZoneOffsetTransitionRule rule : rules.getTransitionRules()) {
+                transitions.add(rule.createTransition(year));
+            }
+        }
+        for (ZoneOffsetTransition trans : transitions) {
+            long epochSec = trans.getInstant().getEpochSecond();
+            for (long delta : new long[] {-7201, -3601, -3600, -1801, -1800, -1, 0, 1, 1799, 1800, 3599, 3600, 7200}) {
+                list.add(epochSec + delta);
+            }
+        }
+        long[] array = new long[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        Arrays.sort(array);
+        return array;
+    }
+
+    private void shuffle(long[] array) {
+        Random random = new Random(2041);
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    private long expectedEpochSecond(ZoneRules rules, long localEpochSec) {
+        LocalDateTime dt = OffsetDateTime.ofEpochSecond(localEpochSec, ZoneOffset.UTC).toLocalDateTime();
+        ZoneOffsetInfo info = rules.getOffsetInfo(dt);
+        if (info.isTransition() == false) {
+            return localEpochSec - info.getOffset().getTotalSeconds();
+        }
+        if (info.getTransition().isGap()) {
+            return info.getTransition().getInstant().getEpochSecond();
+        }
+        return localEpochSec - info.getTransition().getOffsetBefore().getTotalSeconds();
+    }
+
+    //-----------------------------------------------------------------------
+    // getOffsetInfo(LocalDateTime)
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_getOffsetInfo_normalSharesInstance() {
+        ZoneRules test = europeLondon();
+        LocalDateTime[] dts = {
+            LocalDateTime.of(1800, 6, 30, 12, 0),
+            LocalDateTime.of(1990, 6, 30, 12, 0),
+            LocalDateTime.of(2012, 6, 30, 12, 0),
+            LocalDateTime.of(2250, 6, 30, 12, 0),
+        };
+        for (LocalDateTime dt : dts) {
+            assertSame(test.getOffsetInfo(dt), test.getOffsetInfo(dt.plusHours(1)));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_getOffsetInfo_consistentWithGetOffset() {
+        for (String id : new String[] {"Europe/London", "America/New_York", "Australia/Sydney", "Asia/Kathmandu", "America/Sao_Paulo"}) {
+            ZoneRules test = ZoneId.of(id).getRules();
+            for (long localSecs = -5000000000L; localSecs < 9000000000L; localSecs += 1800 * 7 + 60) {
+                LocalDateTime dt = OffsetDateTime.ofEpochSecond(localSecs, ZoneOffset.UTC).toLocalDateTime();
+                ZoneOffsetInfo info = test.getOffsetInfo(dt);
+                if (info.isTransition()) {
+                    ZoneOffsetTransition trans = info.getTransition();
+                    long before = trans.getInstant().getEpochSecond() + trans.getOffsetBefore().getTotalSeconds();
+                    long after = trans.getInstant().getEpochSecond() + trans.getOffsetAfter().getTotalSeconds();
+                    assertTrue(localSecs >= Math.min(before, after) && localSecs < Math.max(before, after), id + " " + dt);
+                } else {
+                    ZoneOffset offset = info.getOffset();
+                    assertEquals(test.getOffset(Instant.ofEpochSecond(localSecs - offset.getTotalSeconds())), offset, id + " " + dt);
+                }
+            }
+        }
+    }
+
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
     //-----------------------------------------------------------------------
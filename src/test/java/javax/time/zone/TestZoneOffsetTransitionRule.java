@@ -31,6 +31,8 @@
  */
 package javax.time.zone;
 
+import static javax.time.calendrical.DateTimeAdjusters.nextOrCurrent;
+import static javax.time.calendrical.DateTimeAdjusters.previousOrCurrent;
 import static org.testng.Assert.assertEquals;
 
 import java.io.ByteArrayInputStream;
@@ -38,10 +40,15 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 
+import javax.time.DateTimeException;
+import javax.time.DateTimes;
 import javax.time.DayOfWeek;
+import javax.time.LocalDate;
+import javax.time.LocalDateTime;
 import javax.time.LocalTime;
 import javax.time.Month;
 import javax.time.OffsetDateTime;
+import javax.time.ZoneId;
 import javax.time.ZoneOffset;
 import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
 
@@ -287,6 +294,91 @@ public class TestZoneOffsetTransitionRule {
         assertEquals(test.createTransition(2000), trans);
     }
 
+    //-----------------------------------------------------------------------
+    // createTransitionEpochSecond() / createTransitionLocalEpochSecond()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_createTransitionEpochSecond_matchesCreateTransition() {
+        for (int dom : new int[] {-28, -7, -1, 1, 8, 15, 24, 28, 30, 31}) {
+            for (DayOfWeek dow : new DayOfWeek[] {null, DayOfWeek.MONDAY, DayOfWeek.SUNDAY}) {
+                for (TimeDefinition defn : TimeDefinition.values()) {
+                    for (boolean endOfDay : new boolean[] {false, true}) {
+                        ZoneOffsetTransitionRule test = new ZoneOffsetTransitionRule(
+                                Month.OCTOBER, dom, dow, endOfDay ? LocalTime.MIDNIGHT : TIME_0100, endOfDay, defn,
+                                ZoneOffset.ofHours(1), OFFSET_0300, OFFSET_0200);
+                        for (int year = -2000; year <= 3000; year += 7) {
+                            assertCreateTransition(test, year);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_createTransitionEpochSecond_tzdbRules() {
+        for (String id : ZoneRulesGroup.getParsableIDs()) {
+            for (ZoneOffsetTransitionRule test : ZoneId.of(id).getRules().getTransitionRules()) {
+                for (int year = 1600; year <= 2400; year++) {
+                    assertCreateTransition(test, year);
+                }
+            }
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_createTransitionEpochSecond_february29() {
+        ZoneOffsetTransitionRule test = new ZoneOffsetTransitionRule(
+                Month.FEBRUARY, 29, null, TIME_0100, false, TimeDefinition.UTC,
+                OFFSET_0200, OFFSET_0200, OFFSET_0300);
+        assertCreateTransition(test, 2012);
+        try {
+            test.createTransitionEpochSecond(2011);
+            throw new AssertionError("Expected DateTimeException");
+        } catch (DateTimeException ex) {
+            // expected
+        }
+    }
+
+    @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
+    public void test_createTransitionEpochSecond_invalidYear() {
+        ZoneOffsetTransitionRule test = new ZoneOffsetTransitionRule(
+                Month.MARCH, 20, DayOfWeek.SUNDAY, TIME_0100, false, TimeDefinition.WALL,
+                OFFSET_0200, OFFSET_0200, OFFSET_0300);
+        test.createTransitionEpochSecond(Integer.MAX_VALUE);
+    }
+
+    private static void assertCreateTransition(ZoneOffsetTransitionRule test, int year) {
+        OffsetDateTime expected = createDateTimeBefore(test, year);
+        assertEquals(test.createTransitionEpochSecond(year), expected.toEpochSecond());
+        assertEquals(test.createTransitionLocalEpochSecond(year), expected.toEpochSecond() + expected.getOffset().getTotalSeconds());
+        assertEquals(test.createTransition(year).getDateTimeBefore(), expected);
+    }
+
+    /**
+     * Creates the date-time before the transition by adjusting dates.
+     */
+    private static OffsetDateTime createDateTimeBefore(ZoneOffsetTransitionRule rule, int year) {
+        LocalDate date;
+        int dom = rule.getDayOfMonthIndicator();
+        if (dom < 0) {
+            date = LocalDate.of(year, rule.getMonth(), rule.getMonth().length(DateTimes.isLeapYear(year)) + 1 + dom);
+            if (rule.getDayOfWeek() != null) {
+                date = date.with(previousOrCurrent(rule.getDayOfWeek()));
+            }
+        } else {
+            date = LocalDate.of(year, rule.getMonth(), dom);
+            if (rule.getDayOfWeek() != null) {
+                date = date.with(nextOrCurrent(rule.getDayOfWeek()));
+            }
+        }
+        if (rule.isMidnightEndOfDay()) {
+            date = date.plusDays(1);
+        }
+        LocalDateTime localDT = LocalDateTime.of(date, rule.getLocalTime());
+        return rule.getTimeDefinition().createDateTime(localDT, rule.getStandardOffset(), rule.getOffsetBefore());
+    }
+
     //-----------------------------------------------------------------------
     // equals()
     //-----------------------------------------------------------------------
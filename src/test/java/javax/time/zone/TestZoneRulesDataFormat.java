@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.time.DayOfWeek;
+import javax.time.LocalDateTime;
+import javax.time.LocalTime;
+import javax.time.Month;
+import javax.time.Year;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.zone.ZoneOffsetTransitionRule.TimeDefinition;
+
+import org.testng.annotations.Test;
+
+/**
+ * Test ZoneRulesDataFormat.
+ */
+@Test(groups="implementation")
+public class TestZoneRulesDataFormat {
+
+    private static final String[] VERSIONS = {"2010a", "2010b"};
+    private static final String[] REGIONS = {"Africa/Abidjan", "Europe/London", "Europe/Paris"};
+    private static final short[][] LINKS = {{0, 1, -1}, {0, 2, 1}};
+    private static final byte[][] RULES = {{1}, {2, 3, 4, 5, 6, 7, 8, 9, 10}, {11, 12}};
+
+    private static final ZoneRulesDataFormat.RuleLoader NO_LOADER = new ZoneRulesDataFormat.RuleLoader() {
+        @Override
+        public ZoneRules loadRule(int index) {
+            fail("Base rules should not be loaded");
+            return null;
+        }
+    };
+
+    private ByteBuffer write() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        ZoneRulesDataFormat.write(out, "TZDB", VERSIONS, REGIONS, LINKS, RULES);
+        out.close();
+        return ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_roundTrip() throws Exception {
+        ByteBuffer buffer = write();
+        ZoneRulesDataFormat test = ZoneRulesDataFormat.read(buffer);
+        assertEquals(buffer.get(0), ZoneRulesDataFormat.VERSION_2);
+        assertEquals(test.getGroupID(), "TZDB");
+        assertEquals(Arrays.asList(test.getVersionIDs()), Arrays.asList(VERSIONS));
+        assertEquals(Arrays.asList(test.getRegionIDs()), Arrays.asList(REGIONS));
+        assertEquals(test.getRuleCount(), RULES.length);
+        for (int i = 0; i < VERSIONS.length; i++) {
+            for (int j = 0; j < REGIONS.length; j++) {
+                assertEquals(buffer.getShort(test.getLinkPosition(i) + j * 2), LINKS[i][j]);
+            }
+        }
+        for (int i = 0; i < RULES.length; i++) {
+            int position = test.getRulePosition(i);
+            assertEquals((position - 4) % 8, 0);
+            assertEquals(test.getRuleLength(i), RULES[i].length);
+            byte[] bytes = Arrays.copyOfRange(buffer.array(), position, position + RULES[i].length);
+            assertEquals(Arrays.equals(bytes, RULES[i]), true);
+        }
+    }
+
+    public void test_readDoesNotAlterBuffer() throws Exception {
+        ByteBuffer buffer = write();
+        ZoneRulesDataFormat.read(buffer);
+        assertEquals(buffer.position(), 0);
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_read_version1() throws Exception {
+        ZoneRulesDataFormat.read(ByteBuffer.wrap(new byte[] {1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}));
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_read_truncated() throws Exception {
+        ByteBuffer buffer = write();
+        ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.limit() - 4));
+        ZoneRulesDataFormat.read(truncated);
+    }
+
+    public void test_roundTrip_version3() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        ZoneRulesDataFormat.write(out, ZoneRulesDataFormat.VERSION_3, "TZDB", VERSIONS, REGIONS, LINKS, RULES);
+        out.close();
+        ByteBuffer buffer = ByteBuffer.wrap(baos.toByteArray());
+        ZoneRulesDataFormat test = ZoneRulesDataFormat.read(buffer);
+        assertEquals(test.getFormatVersion(), ZoneRulesDataFormat.VERSION_3);
+        assertEquals(test.getRuleCount(), RULES.length);
+        assertEquals(test.getRuleLength(1), RULES[1].length);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class)
+    public void test_write_badVersion() throws Exception {
+        ZoneRulesDataFormat.write(new DataOutputStream(new ByteArrayOutputStream()), 1, "TZDB", VERSIONS, REGIONS, LINKS, RULES);
+    }
+
+    //-----------------------------------------------------------------------
+    // compact rules
+    //-----------------------------------------------------------------------
+    private static byte[] writeRule(StandardZoneRules rules, int baseIndex, StandardZoneRules base) throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        ZoneRulesDataFormat.writeRule(out, rules, baseIndex, base);
+        out.close();
+        return baos.toByteArray();
+    }
+
+    private static ZoneRules readRule(byte[] bytes, ZoneRulesDataFormat.RuleLoader loader) throws Exception {
+        return ZoneRulesDataFormat.readRule(new DataInputStream(new ByteArrayInputStream(bytes)), loader);
+    }
+
+    private static ZoneRulesBuilder builder() {
+        ZoneRulesBuilder b = new ZoneRulesBuilder();
+        b.addWindow(ZoneOffset.ofHoursMinutes(0, 15), LocalDateTime.of(1920, 1, 1, 0, 0), TimeDefinition.WALL);
+        b.addWindow(ZoneOffset.ofHours(1), LocalDateTime.of(1950, 1, 1, 0, 0), TimeDefinition.WALL);
+        b.setFixedSavingsToWindow(3600);
+        b.addWindow(ZoneOffset.ofHours(1), LocalDateTime.of(1960, 1, 1, 0, 0), TimeDefinition.WALL);
+        return b;
+    }
+
+    public void test_rule_noBase() throws Exception {
+        for (String regionID : new String[] {"Europe/London", "America/New_York", "Asia/Kolkata", "Africa/Abidjan"}) {
+            StandardZoneRules rules = (StandardZoneRules) ZoneId.of(regionID).getRules();
+            ZoneRules test = readRule(writeRule(rules, -1, null), NO_LOADER);
+            assertEquals(test, rules, regionID);
+        }
+    }
+
+    public void test_rule_base() throws Exception {
+        final StandardZoneRules base = (StandardZoneRules) builder().addWindowForever(ZoneOffset.ofHours(1)).toRules("Test");
+        StandardZoneRules rules = (StandardZoneRules) builder()
+                .addWindow(ZoneOffset.ofHours(2), LocalDateTime.of(1970, 1, 1, 0, 0), TimeDefinition.WALL)
+                .addWindowForever(ZoneOffset.ofHours(1))
+                .addRuleToWindow(1980, Year.MAX_YEAR, Month.MARCH, -1, DayOfWeek.SUNDAY, LocalTime.of(1, 0), false, TimeDefinition.UTC, 3600)
+                .addRuleToWindow(1980, Year.MAX_YEAR, Month.OCTOBER, -1, DayOfWeek.SUNDAY, LocalTime.of(1, 0), false, TimeDefinition.UTC, 0)
+                .toRules("Test");
+        assertEquals(rules.countSharedTransitions(base), base.countSharedTransitions(base));
+        assertTrue(rules.countSharedTransitions(base) > 0);
+        byte[] bytes = writeRule(rules, 6, base);
+        assertTrue(bytes.length < writeRule(rules, -1, null).length);
+        ZoneRules test = readRule(bytes, new ZoneRulesDataFormat.RuleLoader() {
+            @Override
+            public ZoneRules loadRule(int index) {
+                assertEquals(index, 6);
+                return base;
+            }
+        });
+        assertEquals(test, rules);
+    }
+
+    public void test_rule_baseNotShared() throws Exception {
+        StandardZoneRules base = (StandardZoneRules) ZoneId.of("Europe/London").getRules();
+        StandardZoneRules rules = (StandardZoneRules) ZoneId.of("Asia/Tokyo").getRules();
+        assertEquals(rules.countSharedTransitions(base), 0);
+        assertEquals(readRule(writeRule(rules, 3, base), NO_LOADER), rules);
+    }
+
+    @Test(expectedExceptions=StreamCorruptedException.class)
+    public void test_rule_baseInvalid() throws Exception {
+        final StandardZoneRules base = (StandardZoneRules) builder().addWindowForever(ZoneOffset.ofHours(1)).toRules("Test");
+        StandardZoneRules rules = (StandardZoneRules) builder().addWindowForever(ZoneOffset.ofHours(2)).toRules("Test");
+        byte[] bytes = writeRule(rules, 0, base);
+        readRule(bytes, new ZoneRulesDataFormat.RuleLoader() {
+            @Override
+            public ZoneRules loadRule(int index) {
+                return ZoneId.of(ZoneOffset.UTC).getRules();
+            }
+        });
+    }
+
+    //-----------------------------------------------------------------------
+    public void test_epochSecDelta() throws Exception {
+        long[] deltas = {0, 1, -1, 900, -900, 899, 3600 * 24 * 183, 86401, Long.MAX_VALUE / 4, Long.MIN_VALUE / 4};
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        for (long delta : deltas) {
+            Ser.writeEpochSecDelta(delta, out);
+        }
+        out.close();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+        for (long delta : deltas) {
+            assertEquals(Ser.readEpochSecDelta(in), delta);
+        }
+        assertEquals(in.available(), 0);
+    }
+
+    public void test_epochSecDelta_halfYearInThreeBytes() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Ser.writeEpochSecDelta(3600L * 24 * 366, new DataOutputStream(baos));
+        assertEquals(baos.size(), 3);
+    }
+
+}
@@ -32,15 +32,21 @@
 package javax.time.zone;
 
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 
 import javax.time.DateTimeException;
 import javax.time.DayOfWeek;
+import javax.time.Duration;
+import javax.time.Instant;
 import javax.time.Month;
 import javax.time.OffsetDateTime;
 import javax.time.TestZoneId;
@@ -127,6 +133,16 @@ public class TestZoneRulesGroup {
         ZoneRulesGroup.getParsableIDs().add("Europe/Lon");
     }
 
+    @Test(groups={"implementation"})
+    public void test_getParsableIDs_snapshot() {
+        Set<String> before = ZoneRulesGroup.getParsableIDs();
+        assertSame(ZoneRulesGroup.getParsableIDs(), before);
+        ZoneRulesGroup.registerProvider(new MockRegistryProvider("SNAPSHOTMOCK", "1", "Snap/Shot"));
+        assertEquals(before.contains("SNAPSHOTMOCK:Snap/Shot"), false);
+        assertEquals(ZoneRulesGroup.getParsableIDs().contains("SNAPSHOTMOCK:Snap/Shot"), true);
+        assertEquals(ZoneRulesGroup.getParsableIDs().contains("Snap/Shot"), false);
+    }
+
     //-----------------------------------------------------------------------
     // registerProvider()
     //-----------------------------------------------------------------------
@@ -175,6 +191,148 @@ public class TestZoneRulesGroup {
         }
     }
 
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_registerProvider_generationIncrements() {
+        int generation = ZoneRulesGroup.getGeneration();
+        ZoneRulesGroup.registerProvider(new MockRegistryProvider("GENMOCK", "1", "Gen/One"));
+        assertEquals(ZoneRulesGroup.getGeneration(), generation + 1);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_registerProvider_failureNotPublished() {
+        ZoneRulesGroup.registerProvider(new MockRegistryProvider("FAILMOCK", "1", "Fail/One"));
+        int generation = ZoneRulesGroup.getGeneration();
+        Set<String> ids = ZoneRulesGroup.getParsableIDs();
+        try {
+            ZoneRulesGroup.registerProvider(new MockRegistryProvider("FAILMOCK", "1", "Fail/Two"));
+            fail("Duplicate version should have been rejected");
+        } catch (DateTimeException ex) {
+            // expected
+        }
+        assertEquals(ZoneRulesGroup.getGeneration(), generation);
+        assertSame(ZoneRulesGroup.getParsableIDs(), ids);
+        assertEquals(ZoneRulesGroup.getGroup("FAILMOCK").isValidRegionID("Fail/Two"), false);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_registerProvider_concurrent() throws Exception {
+        final int count = 32;
+        int generation = ZoneRulesGroup.getGeneration();
+        final CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < count; i++) {
+            final String versionID = Integer.toString(i);
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    ZoneRulesGroup.registerProvider(new MockRegistryProvider("CONCURRENTMOCK", versionID, "Concurrent/" + versionID));
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        latch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(ZoneRulesGroup.getGeneration() - generation >= count, true);
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("CONCURRENTMOCK");
+        assertEquals(group.getAvailableVersionIDs().size(), count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(group.isValidRules("Concurrent/" + i, Integer.toString(i)), true);
+            assertEquals(ZoneRulesGroup.getParsableIDs().contains("CONCURRENTMOCK:Concurrent/" + i), true);
+        }
+    }
+
+    static class MockRegistryProvider implements ZoneRulesDataProvider {
+        private final String groupID;
+        private final String versionID;
+        private final String regionID;
+        MockRegistryProvider(String groupID, String versionID, String regionID) {
+            this.groupID = groupID;
+            this.versionID = versionID;
+            this.regionID = regionID;
+        }
+        public String getGroupID() {
+            return groupID;
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return versionID;
+                }
+                public boolean isRegionID(String id) {
+                    return regionID.equals(id);
+                }
+                public Set<String> getRegionIDs() {
+                    return Collections.singleton(regionID);
+                }
+                public ZoneRules getZoneRules(String id) {
+                    return ZoneId.of(ZoneOffset.ofHours(1)).getRules();
+                }
+            };
+            return Collections.singleton(version);
+        }
+        public Set<String> getRegionIDs() {
+            return Collections.singleton(regionID);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"implementation"})
+    public void test_registerProvider_generationAndZoneIdRules() {
+        int generation = ZoneRulesGroup.getGeneration();
+        ZoneRulesGroup.registerProvider(new MockVersionedProvider("1", ZoneOffset.ofHours(1)));
+        assertEquals(ZoneRulesGroup.getGeneration() == generation, false);
+        ZoneId zone = ZoneId.of("CACHEMOCK:Cached");
+        ZoneRules rules = zone.getRules();
+        assertEquals(rules.getOffset(Instant.EPOCH), ZoneOffset.ofHours(1));
+        assertSame(zone.getRules(), rules);
+        
+        generation = ZoneRulesGroup.getGeneration();
+        ZoneRulesGroup.registerProvider(new MockVersionedProvider("2", ZoneOffset.ofHours(2)));
+        assertEquals(ZoneRulesGroup.getGeneration() == generation, false);
+        assertEquals(zone.getRules().getOffset(Instant.EPOCH), ZoneOffset.ofHours(2));
+    }
+
+    static class MockVersionedProvider implements ZoneRulesDataProvider {
+        private final String versionID;
+        private final ZoneOffset offset;
+        MockVersionedProvider(String versionID, ZoneOffset offset) {
+            this.versionID = versionID;
+            this.offset = offset;
+        }
+        public String getGroupID() {
+            return "CACHEMOCK";
+        }
+        public Set<ZoneRulesVersion> getVersions() {
+            ZoneRulesVersion version = new ZoneRulesVersion() {
+                public String getVersionID() {
+                    return versionID;
+                }
+                public boolean isRegionID(String regionID) {
+                    return regionID.equals("Cached");
+                }
+                public Set<String> getRegionIDs() {
+                    return new HashSet<String>(Arrays.asList("Cached"));
+                }
+                public ZoneRules getZoneRules(String regionID) {
+                    return ZoneId.of(offset).getRules();
+                }
+            };
+            return new HashSet<ZoneRulesVersion>(Arrays.asList(version));
+        }
+        public Set<String> getRegionIDs() {
+            return new HashSet<String>(Arrays.asList("Cached"));
+        }
+    }
+
     //-----------------------------------------------------------------------
     @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
     public void test_registerProvider_invalidGroupID() {
@@ -586,6 +744,67 @@ public class TestZoneRulesGroup {
         ZoneRulesGroup.registerProvider(new MockProvider());
     }
 
+    //-----------------------------------------------------------------------
+    // preloadRules()
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_preloadRules() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        Duration test = group.preloadRules();
+        assertEquals(test.isNegative(), false);
+        String versionID = group.getLatestVersionID();
+        ZoneRules rules = group.getRules("Europe/London", versionID);
+        assertSame(group.getRules("Europe/London", versionID), rules);
+    }
+
+    @Test(groups={"tck"})
+    public void test_preloadRules_regions() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        Duration test = group.preloadRules("2008i", Arrays.asList("Europe/London", "Europe/Paris", "America/New_York"));
+        assertEquals(test.isNegative(), false);
+    }
+
+    @Test(groups={"tck"})
+    public void test_preloadRules_allVersions() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        for (String versionID : group.getAvailableVersionIDs()) {
+            group.preloadRules(versionID, group.getRegionIDs(versionID));
+        }
+    }
+
+    @Test(groups={"tck"})
+    public void test_preloadRules_empty() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        Duration test = group.preloadRules(group.getLatestVersionID(), Collections.<String>emptySet());
+        assertEquals(test.isNegative(), false);
+    }
+
+    @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
+    public void test_preloadRules_unknownRegion() {
+        ZoneRulesGroup group = ZoneRulesGroup.getGroup("TZDB");
+        group.preloadRules(group.getLatestVersionID(), Arrays.asList("Europe/London", "Europe/Lon"));
+    }
+
+    @Test(expectedExceptions=DateTimeException.class, groups={"tck"})
+    public void test_preloadRules_unknownVersion() {
+        ZoneRulesGroup.getGroup("TZDB").preloadRules("2008x", Arrays.asList("Europe/London"));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_preloadRules_nullVersion() {
+        ZoneRulesGroup.getGroup("TZDB").preloadRules(null, Arrays.asList("Europe/London"));
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_preloadRules_nullRegions() {
+        ZoneRulesGroup.getGroup("TZDB").preloadRules("2008i", null);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_preloadRules_nullRegion() {
+        ZoneRulesGroup.getGroup("TZDB").preloadRules("2008i", Arrays.asList("Europe/London", null));
+    }
+
     //-----------------------------------------------------------------------
     // equals()
     //-----------------------------------------------------------------------
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2012, Stephen Colebourne & Michael Nascimento Santos
+ *
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *  * Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ *
+ *  * Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ *  * Neither the name of JSR-310 nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package javax.time.zone;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import javax.time.Instant;
+import javax.time.LocalDateTime;
+import javax.time.ZoneId;
+import javax.time.ZoneOffset;
+import javax.time.zone.ZoneTransitionCache.Policy;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Test ZoneTransitionCache.
+ */
+@Test
+public class TestZoneTransitionCache {
+
+    private static ZoneOffsetTransitionRule[] rules() {
+        List<ZoneOffsetTransitionRule> list = ZoneId.of("Europe/London").getRules().getTransitionRules();
+        return list.toArray(new ZoneOffsetTransitionRule[list.size()]);
+    }
+
+    @DataProvider(name="policies")
+    Object[][] data_policies() {
+        return new Object[][] {
+            {Policy.DIRECT_MAPPED},
+            {Policy.LEAST_RECENTLY_USED},
+        };
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(dataProvider="policies", groups={"tck"})
+    public void test_getTransitions_hitAndMiss(Policy policy) {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(policy, 4, 2100, true);
+        ZoneOffsetTransition[] first = test.getTransitions(2012, rules);
+        assertEquals(first.length, rules.length);
+        assertEquals(first[0], rules[0].createTransition(2012));
+        assertEquals(test.getHitCount(), 0);
+        assertEquals(test.getMissCount(), 1);
+        assertSame(test.getTransitions(2012, rules), first);
+        assertEquals(test.getHitCount(), 1);
+        assertEquals(test.getMissCount(), 1);
+    }
+
+    @Test(dataProvider="policies", groups={"tck"})
+    public void test_getTransitions_afterMaxYear(Policy policy) {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(policy, 4, 2050, true);
+        assertEquals(test.getMaxYear(), 2050);
+        test.getTransitions(2050, rules);
+        test.getTransitions(2050, rules);
+        test.getTransitions(2051, rules);
+        ZoneOffsetTransition[] trans = test.getTransitions(2051, rules);
+        assertEquals(trans[0], rules[0].createTransition(2051));
+        assertEquals(test.getHitCount(), 1);
+        assertEquals(test.getMissCount(), 3);
+    }
+
+    @Test(dataProvider="policies", groups={"tck"})
+    public void test_getTransitions_bounded(Policy policy) {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(policy, 4, 2100);
+        for (int year = 2000; year < 2030; year++) {
+            test.getTransitions(year, rules);
+        }
+        int cached = 0;
+        for (int year = 2000; year < 2030; year++) {
+            if (test.lookup(year) != null) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= 4 && cached > 0);
+        assertNotNull(test.lookup(2029));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_directMapped_consecutiveYearsRetained() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.DIRECT_MAPPED, 30, 2100, true);
+        for (int year = 2012; year < 2044; year++) {
+            test.getTransitions(year, rules);
+        }
+        for (int year = 2012; year < 2044; year++) {
+            test.getTransitions(year, rules);
+        }
+        assertEquals(test.getMissCount(), 32);
+        assertEquals(test.getHitCount(), 32);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_directMapped_capacityRoundedUp() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.DIRECT_MAPPED, 100, 2200, true);
+        assertEquals(test.toString(), "ZoneTransitionCache[DIRECT_MAPPED,128]");
+        for (int year = 2000; year < 2128; year++) {
+            test.getTransitions(year, rules);
+        }
+        for (int year = 2000; year < 2128; year++) {
+            assertNotNull(test.lookup(year));
+        }
+    }
+
+    @Test(groups={"implementation"})
+    public void test_directMapped_slotCount() {
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount(1), 1);
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount(3), 4);
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount(64), 64);
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount((1 << 29) + 1), ZoneTransitionCache.MAX_CAPACITY);
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount(ZoneTransitionCache.MAX_CAPACITY), ZoneTransitionCache.MAX_CAPACITY);
+        assertEquals(ZoneTransitionCache.DirectMappedCache.slotCount(Integer.MAX_VALUE), ZoneTransitionCache.MAX_CAPACITY);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_leastRecentlyUsed_evictsOldest() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.LEAST_RECENTLY_USED, 2, 2100);
+        test.getTransitions(2010, rules);
+        test.getTransitions(2011, rules);
+        test.getTransitions(2010, rules);
+        test.getTransitions(2012, rules);
+        assertNotNull(test.lookup(2010));
+        assertNull(test.lookup(2011));
+        assertNotNull(test.lookup(2012));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_leastRecentlyUsed_evictionOrder() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.LEAST_RECENTLY_USED, 3, 2100);
+        test.getTransitions(2010, rules);
+        test.getTransitions(2011, rules);
+        test.getTransitions(2012, rules);
+        test.getTransitions(2010, rules);
+        test.getTransitions(2013, rules);  // evicts 2011
+        test.getTransitions(2012, rules);
+        test.getTransitions(2014, rules);  // evicts 2010
+        assertNull(test.lookup(2010));
+        assertNull(test.lookup(2011));
+        assertNotNull(test.lookup(2012));
+        assertNotNull(test.lookup(2013));
+        assertNotNull(test.lookup(2014));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_leastRecentlyUsed_capacityLimited() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.LEAST_RECENTLY_USED, ZoneTransitionCache.MAX_CAPACITY, 2100);
+        assertEquals(test.toString(), "ZoneTransitionCache[LEAST_RECENTLY_USED," + ZoneTransitionCache.MAX_LRU_CAPACITY + "]");
+        int start = 2100 - ZoneTransitionCache.MAX_LRU_CAPACITY;
+        for (int year = start; year <= 2100; year++) {
+            test.getTransitions(year, rules);
+        }
+        assertNull(test.lookup(start));
+        assertNotNull(test.lookup(start + 1));
+        assertNotNull(test.lookup(2100));
+        assertEquals(ZoneTransitionCache.of(Policy.LEAST_RECENTLY_USED, 5, 2100).toString(), "ZoneTransitionCache[LEAST_RECENTLY_USED,5]");
+    }
+
+    @Test(groups={"tck"})
+    public void test_none() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(Policy.NONE, 1, 2100, true);
+        test.getTransitions(2012, rules);
+        test.getTransitions(2012, rules);
+        assertEquals(test.getHitCount(), 0);
+        assertEquals(test.getMissCount(), 2);
+    }
+
+    @Test(dataProvider="policies", groups={"tck"})
+    public void test_getTransitions_statisticsNotRecorded(Policy policy) {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.of(policy, 4, 2100);
+        assertEquals(test.isRecordingStatistics(), false);
+        ZoneOffsetTransition[] first = test.getTransitions(2012, rules);
+        assertSame(test.getTransitions(2012, rules), first);
+        assertEquals(test.getHitCount(), 0);
+        assertEquals(test.getMissCount(), 0);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_ofDefault() {
+        ZoneOffsetTransitionRule[] rules = rules();
+        ZoneTransitionCache test = ZoneTransitionCache.ofDefault();
+        assertEquals(test.getMaxYear(), 2099);
+        assertEquals(test.isRecordingStatistics(), false);
+        test.getTransitions(2099, rules);
+        test.getTransitions(2100, rules);
+        assertNotNull(test.lookup(2099));
+        assertNull(test.lookup(2100));
+    }
+
+    @Test(groups={"implementation"})
+    public void test_defaultPolicy() {
+        assertEquals(ZoneTransitionCache.defaultPolicy(null), Policy.DIRECT_MAPPED);
+        assertEquals(ZoneTransitionCache.defaultPolicy("LEAST_RECENTLY_USED"), Policy.LEAST_RECENTLY_USED);
+        assertEquals(ZoneTransitionCache.defaultPolicy("Unknown"), Policy.DIRECT_MAPPED);
+    }
+
+    @Test(groups={"implementation"})
+    public void test_defaultCapacity() {
+        assertEquals(ZoneTransitionCache.defaultCapacity(64), 64);
+        assertEquals(ZoneTransitionCache.defaultCapacity(100), 100);
+        assertEquals(ZoneTransitionCache.defaultCapacity(0), 1);
+        assertEquals(ZoneTransitionCache.defaultCapacity(Integer.MAX_VALUE), ZoneTransitionCache.MAX_CAPACITY);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void test_of_invalidCapacity() {
+        ZoneTransitionCache.of(Policy.DIRECT_MAPPED, 0, 2100);
+    }
+
+    @Test(expectedExceptions=IllegalArgumentException.class, groups={"tck"})
+    public void test_of_capacityTooLarge() {
+        ZoneTransitionCache.of(Policy.DIRECT_MAPPED, (1 << 30) + 1, 2100);
+    }
+
+    @Test(expectedExceptions=NullPointerException.class, groups={"tck"})
+    public void test_of_nullPolicy() {
+        ZoneTransitionCache.of(null, 4, 2100);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test(groups={"tck"})
+    public void test_getCache() {
+        assertNotNull(ZoneTransitionCache.getCache(ZoneId.of("Europe/London").getRules()));
+        assertNull(ZoneTransitionCache.getCache(ZoneId.of("Asia/Tokyo").getRules()));
+        assertNull(ZoneTransitionCache.getCache(ZoneOffset.ofHours(1).toZoneId().getRules()));
+    }
+
+    @Test(groups={"tck"})
+    public void test_withCache() {
+        ZoneRules base = ZoneId.of("Europe/London").getRules();
+        ZoneTransitionCache cache = ZoneTransitionCache.of(Policy.LEAST_RECENTLY_USED, 8, 2200, true);
+        ZoneRules test = ZoneTransitionCache.withCache(base, cache);
+        assertEquals(test, base);
+        assertSame(ZoneTransitionCache.getCache(test), cache);
+        assertSame(ZoneTransitionCache.withCache(test, cache), test);
+        LocalDateTime ldt = LocalDateTime.of(2150, 7, 1, 12, 0);
+        assertEquals(test.getOffsetInfo(ldt), base.getOffsetInfo(ldt));
+        Instant instant = ldt.atOffset(ZoneOffset.ofHours(1)).toInstant();
+        assertEquals(test.nextTransition(instant), base.nextTransition(instant));
+        assertEquals(test.nextTransition(instant), base.nextTransition(instant));
+        assertTrue(cache.getHitCount() > 0);
+    }
+
+    @Test(groups={"tck"})
+    public void test_withCache_noLastRules() {
+        ZoneRules base = ZoneId.of("Asia/Tokyo").getRules();
+        assertSame(ZoneTransitionCache.withCache(base, ZoneTransitionCache.of(Policy.NONE, 1, 2100)), base);
+    }
+
+}